@@ -54,8 +54,11 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthLoginResult loginResult = authService.login(request);
+    public ResponseEntity<LoginResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        AuthLoginResult loginResult = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, buildRefreshCookie(loginResult.refreshToken()).toString())
                 .body(loginResult.response());
@@ -79,8 +82,11 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletRequest request) {
-        authService.logout(extractRefreshToken(request));
+    public ResponseEntity<Void> logout(
+            HttpServletRequest request,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorizationHeader
+    ) {
+        authService.logout(extractRefreshToken(request), authorizationHeader);
         return ResponseEntity.noContent()
                 .header(HttpHeaders.SET_COOKIE, buildExpiredRefreshCookie().toString())
                 .build();
@@ -1,14 +1,63 @@
 package org.example.domain.auth.repository;
 
 import org.example.domain.auth.entity.AuthRefreshToken;
+import org.example.domain.user.entity.PortalUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface AuthRefreshTokenRepository extends JpaRepository<AuthRefreshToken, Long> {
 
-    Optional<AuthRefreshToken> findByTokenHashAndRevokedAtIsNull(String tokenHash);
+    // 유효한 토큰 행의 해시와 만료 시각을 그 자리에서 바꾼다. 동시에 같은 토큰으로 회전하면 한쪽만 1을 받는다.
+    @Modifying
+    @Query(value = """
+            UPDATE auth_refresh_tokens
+            SET token_hash = :nextTokenHash, expires_at = :expiresAt
+            WHERE token_hash = :tokenHash AND revoked_at IS NULL AND expires_at > :now
+            """, nativeQuery = true)
+    int rotate(
+            @Param("tokenHash") String tokenHash,
+            @Param("nextTokenHash") String nextTokenHash,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("now") LocalDateTime now
+    );
 
-    List<AuthRefreshToken> findByUserIdAndRevokedAtIsNull(Long userId);
+    @Query("""
+            select u
+            from AuthRefreshToken t
+            join PortalUser u on u.id = t.userId
+            where t.tokenHash = :tokenHash
+            """)
+    Optional<PortalUser> findUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("""
+            update AuthRefreshToken t
+            set t.revokedAt = :now
+            where t.tokenHash = :tokenHash and t.revokedAt is null
+            """)
+    int revokeByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update AuthRefreshToken t
+            set t.revokedAt = :now
+            where t.userId = :userId and t.revokedAt is null
+            """)
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM auth_refresh_tokens WHERE expires_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM auth_refresh_tokens WHERE revoked_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteRevoked(@Param("before") LocalDateTime before, @Param("limit") int limit);
 }
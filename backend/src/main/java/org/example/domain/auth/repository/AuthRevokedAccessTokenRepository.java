@@ -0,0 +1,66 @@
+package org.example.domain.auth.repository;
+
+import org.example.domain.auth.entity.AuthRevokedAccessToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuthRevokedAccessTokenRepository extends JpaRepository<AuthRevokedAccessToken, Long> {
+
+    // 같은 토큰으로 로그아웃이 겹쳐도 한 행만 남긴다.
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO auth_revoked_access_tokens (jti, user_id, expires_at)
+            VALUES (:jti, :userId, :expiresAt)
+            """, nativeQuery = true)
+    int insertIgnore(
+            @Param("jti") String jti,
+            @Param("userId") Long userId,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    // afterId 이후에 추가된, 아직 만료되지 않은 폐기 토큰.
+    @Query("""
+            select r.id as id, r.jti as jti, r.expiresAt as expiresAt
+            from AuthRevokedAccessToken r
+            where r.id > :afterId and r.expiresAt > :now
+            order by r.id asc
+            """)
+    List<RevokedTokenProjection> findActiveAfter(
+            @Param("afterId") Long afterId,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 최근 추가분. 커밋 순서가 id 순서와 다를 수 있어 id 대신 생성 시각 구간으로 읽는다.
+    // created_at 은 DB 가 채우므로 구간도 DB 시계(NOW)로 잡아 앱 서버와의 시계·시간대 차이에 흔들리지 않게 한다.
+    @Query(value = """
+            SELECT id AS id, jti AS jti, expires_at AS expiresAt
+            FROM auth_revoked_access_tokens
+            WHERE created_at >= NOW(6) - INTERVAL :lookbackSeconds SECOND
+              AND expires_at > :now
+            """, nativeQuery = true)
+    List<RevokedTokenProjection> findActiveCreatedWithin(
+            @Param("lookbackSeconds") long lookbackSeconds,
+            @Param("now") LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM auth_revoked_access_tokens WHERE expires_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    interface RevokedTokenProjection {
+        Long getId();
+
+        String getJti();
+
+        LocalDateTime getExpiresAt();
+    }
+}
@@ -10,11 +10,11 @@ import org.example.domain.auth.dto.SignupResponse;
 public interface AuthService {
     SignupResponse signup(SignupRequest request);
 
-    AuthLoginResult login(LoginRequest request);
+    AuthLoginResult login(LoginRequest request, String clientIp);
 
     LoginResponse me(String authorizationHeader);
 
     AuthRefreshResult refresh(String refreshToken);
 
-    void logout(String refreshToken);
+    void logout(String refreshToken, String authorizationHeader);
 }
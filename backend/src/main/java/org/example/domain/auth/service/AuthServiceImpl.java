@@ -16,12 +16,20 @@ import org.example.domain.team.repository.TeamRepository;
 import org.example.domain.team.repository.UserTeamRepository;
 import org.example.domain.user.entity.PortalUser;
 import org.example.domain.user.repository.PortalUserRepository;
+import org.example.global.security.AccessTokenRevocationList;
+import org.example.global.security.AuthenticatedUser;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.LoginThrottle;
+import org.example.global.security.PasswordHashingService;
+import org.example.global.security.RequestPrincipal;
+import org.example.global.security.TeamClaims;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.nio.charset.StandardCharsets;
@@ -42,43 +50,59 @@ import java.security.SecureRandom;
 public class AuthServiceImpl implements AuthService {
 
     private static final String DEFAULT_ROLE = "DEVELOPER";
+    private static final int DEFAULT_TEAM_CLAIMS_MAX_TEAMS = 50;
 
     private final PortalUserRepository portalUserRepository;
     private final TeamRepository teamRepository;
     private final UserTeamRepository userTeamRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginThrottle loginThrottle;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthRefreshTokenRepository authRefreshTokenRepository;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final TransactionTemplate transactionTemplate;
     private final long refreshTokenExpireSeconds;
+    private final int teamClaimsMaxTeams;
     private final SecureRandom secureRandom = new SecureRandom();
 
     public AuthServiceImpl(
             PortalUserRepository portalUserRepository,
             TeamRepository teamRepository,
             UserTeamRepository userTeamRepository,
-            PasswordEncoder passwordEncoder,
+            PasswordHashingService passwordHashingService,
+            LoginThrottle loginThrottle,
             JwtTokenProvider jwtTokenProvider,
             AuthRefreshTokenRepository authRefreshTokenRepository,
-            @Value("${app.jwt.refresh-token-expire-seconds:1209600}") Long refreshTokenExpireSeconds
+            AccessTokenRevocationList accessTokenRevocationList,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.jwt.refresh-token-expire-seconds:1209600}") Long refreshTokenExpireSeconds,
+            @Value("${app.jwt.team-claims.max-teams:50}") Integer teamClaimsMaxTeams
     ) {
         this.portalUserRepository = portalUserRepository;
         this.teamRepository = teamRepository;
         this.userTeamRepository = userTeamRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.loginThrottle = loginThrottle;
         this.jwtTokenProvider = jwtTokenProvider;
         this.authRefreshTokenRepository = authRefreshTokenRepository;
+        this.accessTokenRevocationList = accessTokenRevocationList;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         if (refreshTokenExpireSeconds == null || refreshTokenExpireSeconds <= 0) {
             this.refreshTokenExpireSeconds = 1209600L;
         } else {
             this.refreshTokenExpireSeconds = refreshTokenExpireSeconds;
         }
+        // 0 이하면 팀 클레임을 싣지 않는다.
+        this.teamClaimsMaxTeams = teamClaimsMaxTeams == null ? DEFAULT_TEAM_CLAIMS_MAX_TEAMS : teamClaimsMaxTeams;
     }
 
+    // 해시를 먼저 만들고 저장만 짧은 트랜잭션으로 해, 해시 대기 동안 DB 커넥션을 잡지 않는다.
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest request) {
         validateSignupRequest(request);
         String normalizedEmail = request.email().trim().toLowerCase(Locale.ROOT);
+        String role = normalizeRole(request.role());
 
         if (portalUserRepository.existsByEmail(normalizedEmail)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다.");
@@ -87,37 +111,54 @@ public class AuthServiceImpl implements AuthService {
         PortalUser user = new PortalUser();
         user.setName(request.name().trim());
         user.setEmail(normalizedEmail);
-        user.setPasswordHash(passwordEncoder.encode(request.password()));
-        user.setRole(normalizeRole(request.role()));
+        user.setPasswordHash(passwordHashingService.encode(request.password()));
+        user.setRole(role);
         user.setIsActive(true);
 
-        PortalUser savedUser = portalUserRepository.save(user);
+        PortalUser savedUser = transactionTemplate.execute(status -> portalUserRepository.save(user));
 
         return new SignupResponse(savedUser.getId(), savedUser.getEmail());
     }
 
+    // 비밀번호 해시(최대 수 초) 동안 DB 커넥션을 잡지 않도록 조회·검증·기록을 각각 짧은 트랜잭션으로 나눈다.
     @Override
-    @Transactional
-    public AuthLoginResult login(LoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthLoginResult login(LoginRequest request, String clientIp) {
         if (request == null || isBlank(request.email()) || isBlank(request.password())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이메일과 비밀번호를 입력해주세요.");
         }
 
-        PortalUser user = portalUserRepository.findByEmail(request.email().trim().toLowerCase(Locale.ROOT))
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다."));
-
-        validateActiveUser(user);
+        String normalizedEmail = request.email().trim().toLowerCase(Locale.ROOT);
+        PortalUser user = portalUserRepository.findByEmail(normalizedEmail).orElse(null);
+        // 실패는 실제 계정 id 로만 센다. 없는 이메일로 카운터를 채워 다른 계정의 잠금을 밀어낼 수 없게 한다.
+        String throttleKey = user == null ? null : "login:" + user.getId();
+        // 잠긴 계정·IP 는 비밀번호 해시 전에 거절한다.
+        loginThrottle.checkAttempt(throttleKey, clientIp);
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (user == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
-        user.setLastLoginAt(LocalDateTime.now());
-        portalUserRepository.save(user);
+        validateActiveUser(user);
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
-        String refreshToken = issueRefreshToken(user.getId());
-        return new AuthLoginResult(toLoginResponse(user, accessToken), refreshToken);
+        if (!passwordHashingService.matches(request.password(), user.getPasswordHash())) {
+            loginThrottle.recordFailure(throttleKey);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+        loginThrottle.recordSuccess(throttleKey);
+
+        LocalDateTime loginAt = LocalDateTime.now();
+        String refreshToken = transactionTemplate.execute(status -> {
+            portalUserRepository.updateLastLoginAt(user.getId(), loginAt);
+            return issueRefreshToken(user.getId());
+        });
+        user.setLastLoginAt(loginAt);
+
+        List<UserTeam> memberships = userTeamRepository.findByUserId(user.getId());
+        String accessToken = jwtTokenProvider.createAccessToken(
+                user.getId(), user.getEmail(), user.getRole(), toTeamClaims(user, memberships)
+        );
+        return new AuthLoginResult(toLoginResponse(user, accessToken, memberships), refreshToken);
     }
 
     @Override
@@ -129,7 +170,7 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."));
 
         validateActiveUser(user);
-        return toLoginResponse(user, accessToken);
+        return toLoginResponse(user, accessToken, userTeamRepository.findByUserId(userId));
     }
 
     @Override
@@ -139,39 +180,67 @@ public class AuthServiceImpl implements AuthService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 필요합니다.");
         }
 
-        String tokenHash = hashToken(refreshToken);
-        AuthRefreshToken tokenRow = authRefreshTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다."));
-
+        // 유효한 행이면 조건부 UPDATE 한 번으로 새 토큰으로 교체한다. 만료·폐기됐거나 동시에 먼저 회전됐으면 0건이다.
         LocalDateTime now = LocalDateTime.now();
-        if (tokenRow.getExpiresAt() == null || tokenRow.getExpiresAt().isBefore(now)) {
-            tokenRow.setRevokedAt(now);
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 만료되었습니다.");
+        String nextRefreshToken = generateRefreshTokenValue();
+        String nextTokenHash = hashToken(nextRefreshToken);
+        int rotated = authRefreshTokenRepository.rotate(
+                hashToken(refreshToken), nextTokenHash, now.plusSeconds(refreshTokenExpireSeconds), now
+        );
+        if (rotated == 0) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
         }
 
-        PortalUser user = portalUserRepository.findById(tokenRow.getUserId())
+        // 비활성 사용자면 예외로 롤백되어 회전도 취소된다.
+        PortalUser user = authRefreshTokenRepository.findUserByTokenHash(nextTokenHash)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다."));
         validateActiveUser(user);
 
-        tokenRow.setRevokedAt(now);
-        String nextRefreshToken = issueRefreshToken(user.getId());
-        String nextAccessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
+        String nextAccessToken = jwtTokenProvider.createAccessToken(
+                user.getId(), user.getEmail(), user.getRole(), toTeamClaims(user, userTeamRepository.findByUserId(user.getId()))
+        );
 
         return new AuthRefreshResult(nextAccessToken, nextRefreshToken);
     }
 
     @Override
     @Transactional
-    public void logout(String refreshToken) {
+    public void logout(String refreshToken, String authorizationHeader) {
+        revokeAccessToken(authorizationHeader);
         if (isBlank(refreshToken)) {
             return;
         }
-        String tokenHash = hashToken(refreshToken);
-        authRefreshTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash)
-                .ifPresent(row -> row.setRevokedAt(LocalDateTime.now()));
+        authRefreshTokenRepository.revokeByTokenHash(hashToken(refreshToken), LocalDateTime.now());
     }
 
-    private LoginResponse toLoginResponse(PortalUser user, String accessToken) {
+    // 로그아웃한 access token 은 만료 전이라도 더는 쓰지 못하게 한다.
+    private void revokeAccessToken(String authorizationHeader) {
+        AuthenticatedUser principal = RequestPrincipal.get();
+        if (principal == null && !isBlank(authorizationHeader)) {
+            try {
+                principal = jwtTokenProvider.authenticate(extractBearerToken(authorizationHeader));
+            } catch (ResponseStatusException ex) {
+                // 이미 만료됐거나 폐기된 토큰이면 더 할 일이 없다.
+                return;
+            }
+        }
+        accessTokenRevocationList.revoke(principal);
+    }
+
+    // 팀이 너무 많으면 토큰이 커지므로 클레임 없이 발급하고, 팀 접근은 멤버십 캐시로 확인한다.
+    private TeamClaims toTeamClaims(PortalUser user, List<UserTeam> memberships) {
+        if (teamClaimsMaxTeams <= 0 || user.getMembershipVersion() == null || memberships.size() > teamClaimsMaxTeams) {
+            return null;
+        }
+
+        Map<Long, String> roles = new HashMap<>();
+        for (UserTeam membership : memberships) {
+            roles.put(membership.getTeamId(), membership.getTeamRole());
+        }
+        return new TeamClaims(user.getMembershipVersion(), roles);
+    }
+
+    private LoginResponse toLoginResponse(PortalUser user, String accessToken, List<UserTeam> memberships) {
         AuthUserResponse userResponse = new AuthUserResponse(
                 user.getId(),
                 user.getName(),
@@ -180,12 +249,12 @@ public class AuthServiceImpl implements AuthService {
                 user.getSlackUserId()
         );
 
-        List<AuthTeamResponse> teams = loadTeams(user.getId());
+        List<AuthTeamResponse> teams = loadTeams(memberships);
         return new LoginResponse(accessToken, userResponse, teams);
     }
 
     private String issueRefreshToken(Long userId) {
-        revokeActiveRefreshTokens(userId);
+        authRefreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
 
         String refreshTokenValue = generateRefreshTokenValue();
         String refreshTokenHash = hashToken(refreshTokenValue);
@@ -200,14 +269,6 @@ public class AuthServiceImpl implements AuthService {
         return refreshTokenValue;
     }
 
-    private void revokeActiveRefreshTokens(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        List<AuthRefreshToken> activeTokens = authRefreshTokenRepository.findByUserIdAndRevokedAtIsNull(userId);
-        for (AuthRefreshToken token : activeTokens) {
-            token.setRevokedAt(now);
-        }
-    }
-
     private String generateRefreshTokenValue() {
         byte[] randomBytes = new byte[48];
         secureRandom.nextBytes(randomBytes);
@@ -224,8 +285,7 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
-    private List<AuthTeamResponse> loadTeams(Long userId) {
-        List<UserTeam> memberships = userTeamRepository.findByUserId(userId);
+    private List<AuthTeamResponse> loadTeams(List<UserTeam> memberships) {
         if (memberships.isEmpty()) {
             return List.of();
         }
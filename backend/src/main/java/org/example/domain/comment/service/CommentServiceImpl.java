@@ -1,6 +1,7 @@
 package org.example.domain.comment.service;
 
 import org.example.domain.documentIndex.repository.DocumentIndexRepository;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.comment.dto.CommentCreateRequest;
 import org.example.domain.comment.dto.CommentDetailResponse;
 import org.example.domain.comment.dto.CommentListResponse;
@@ -8,6 +9,7 @@ import org.example.domain.comment.dto.CommentUpdateRequest;
 import org.example.domain.comment.entity.Comment;
 import org.example.domain.comment.mapper.CommentMapper;
 import org.example.domain.comment.repository.CommentRepository;
+import org.example.domain.notification.dto.NotificationCommand;
 import org.example.domain.notification.service.NotificationEventService;
 import org.example.domain.user.entity.PortalUser;
 import org.example.domain.user.repository.PortalUserRepository;
@@ -50,17 +52,20 @@ public class CommentServiceImpl implements CommentService {
     private final DocumentIndexRepository documentIndexRepository;
     private final NotificationEventService notificationEventService;
     private final PortalUserRepository portalUserRepository;
+    private final DocumentBacklinkService documentBacklinkService;
 
     public CommentServiceImpl(
             CommentRepository commentRepository,
             @Nullable DocumentIndexRepository documentIndexRepository,
             NotificationEventService notificationEventService,
-            PortalUserRepository portalUserRepository
+            PortalUserRepository portalUserRepository,
+            @Nullable DocumentBacklinkService documentBacklinkService
     ) {
         this.commentRepository = commentRepository;
         this.documentIndexRepository = documentIndexRepository;
         this.notificationEventService = notificationEventService;
         this.portalUserRepository = portalUserRepository;
+        this.documentBacklinkService = documentBacklinkService;
     }
 
     @Override
@@ -95,6 +100,7 @@ public class CommentServiceImpl implements CommentService {
         entity.setContent(request.content().trim());
 
         Comment saved = commentRepository.save(entity);
+        syncBacklinks(saved);
         fireMentionNotifications(saved);
         return saved.getId();
     }
@@ -113,6 +119,7 @@ public class CommentServiceImpl implements CommentService {
         ensureRefAccessible(entity.getRefType(), entity.getRefId());
         CommentMapper.applyUpdate(entity, request);
         entity.setContent(request.content().trim());
+        syncBacklinks(entity);
     }
 
     @Override
@@ -121,6 +128,24 @@ public class CommentServiceImpl implements CommentService {
         Comment entity = getCommentOrThrow(id);
         ensureRefAccessible(entity.getRefType(), entity.getRefId());
         commentRepository.delete(entity);
+        if (documentBacklinkService != null) {
+            documentBacklinkService.deleteCommentLinks(entity.getId());
+        }
+    }
+
+    // 요청의 팀 컨텍스트가 아니라 댓글이 달린 문서의 팀 기준으로 참조를 저장한다.
+    private void syncBacklinks(Comment comment) {
+        if (documentBacklinkService == null || documentIndexRepository == null) {
+            return;
+        }
+        documentIndexRepository.findTeamIdByRefTypeAndRefId(comment.getRefType(), comment.getRefId())
+                .ifPresent(teamId -> documentBacklinkService.syncCommentLinks(
+                        comment.getId(),
+                        comment.getRefType(),
+                        comment.getRefId(),
+                        teamId,
+                        comment.getContent()
+                ));
     }
 
     private void fireMentionNotifications(Comment comment) {
@@ -134,19 +159,21 @@ public class CommentServiceImpl implements CommentService {
                 .orElse("누군가");
         String title = authorName + " 님이 댓글에서 회원님을 언급했습니다.";
 
+        List<NotificationCommand> commands = new ArrayList<>();
         for (Long mentionedUserId : mentionedUserIds) {
             if (mentionedUserId.equals(comment.getAuthorId())) {
                 continue; // 자기 자신 멘션은 알림 생략
             }
-            notificationEventService.create(
+            commands.add(new NotificationCommand(
                     mentionedUserId,
                     "멘션",
                     title,
                     displayContent,
                     comment.getRefType(),
                     comment.getRefId()
-            );
+            ));
         }
+        notificationEventService.createAll(commands);
     }
 
     /** @[name](id) → @name 으로 변환 */
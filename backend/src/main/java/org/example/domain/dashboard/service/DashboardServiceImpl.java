@@ -14,6 +14,7 @@ import org.example.domain.user.repository.PortalUserRepository;
 import org.example.domain.workRequest.entity.WorkRequest;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.RequestPrincipal;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.springframework.data.domain.Pageable;
@@ -289,6 +290,10 @@ public class DashboardServiceImpl implements DashboardService {
         if (currentUserId != null && currentUserId > 0) {
             return currentUserId;
         }
+        Long principalUserId = RequestPrincipal.currentUserId();
+        if (principalUserId != null) {
+            return principalUserId;
+        }
 
         String accessToken = extractBearerToken(authorizationHeader);
         if (accessToken == null) {
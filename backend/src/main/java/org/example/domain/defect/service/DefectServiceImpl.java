@@ -11,11 +11,16 @@ import org.example.domain.defect.dto.DefectUpdateRequest;
 import org.example.domain.defect.entity.Defect;
 import org.example.domain.defect.mapper.DefectMapper;
 import org.example.domain.defect.repository.DefectRepository;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
+import org.example.domain.notification.dto.NotificationCommand;
 import org.example.domain.notification.service.NotificationEventService;
+import org.example.global.scheduler.DeadlineReminderEngine;
+import org.example.global.scheduler.DeadlineReminderItem;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.example.global.util.DocumentNoGenerator;
+import org.example.global.util.TransactionCallbacks;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -27,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Locale;
 
 @Service
@@ -40,6 +46,8 @@ public class DefectServiceImpl implements DefectService {
     private final DocumentNoGenerator documentNoGenerator;
     private final NotificationEventService notificationEventService;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
+    private final DeadlineReminderEngine deadlineReminderEngine;
     private final ActivityLogService activityLogService;
 
     public DefectServiceImpl(
@@ -47,13 +55,17 @@ public class DefectServiceImpl implements DefectService {
             DocumentNoGenerator documentNoGenerator,
             NotificationEventService notificationEventService,
             DocumentIndexSyncService documentIndexSyncService,
-            @Nullable ActivityLogService activityLogService
+            @Nullable ActivityLogService activityLogService,
+            @Nullable DocumentBacklinkService documentBacklinkService,
+            @Nullable DeadlineReminderEngine deadlineReminderEngine
     ) {
         this.defectRepository = defectRepository;
         this.documentNoGenerator = documentNoGenerator;
         this.notificationEventService = notificationEventService;
         this.documentIndexSyncService = documentIndexSyncService;
         this.activityLogService = activityLogService;
+        this.documentBacklinkService = documentBacklinkService;
+        this.deadlineReminderEngine = deadlineReminderEngine;
     }
 
     @Override
@@ -98,6 +110,8 @@ public class DefectServiceImpl implements DefectService {
 
         Defect saved = defectRepository.save(entity);
         syncDocumentIndex(saved);
+        scheduleDeadlineReminder(saved);
+        syncBacklinks(saved);
         recordCreated(saved);
         notifyAssigneeAssigned(saved);
         return saved.getId();
@@ -138,6 +152,8 @@ public class DefectServiceImpl implements DefectService {
             normalizeRelatedRef(entity, request.relatedRefType(), request.relatedRefId());
         }
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
+        syncBacklinks(entity);
         recordUpdated(entity);
         recordAssigneeChanged(entity, previousAssigneeId);
         recordStatusChanged(entity, previousStatus);
@@ -156,6 +172,8 @@ public class DefectServiceImpl implements DefectService {
         recordDeleted(entity);
         defectRepository.delete(entity);
         deleteDocumentIndex(entity);
+        cancelDeadlineReminder(entity);
+        deleteBacklinks(entity);
     }
 
     @Override
@@ -175,6 +193,7 @@ public class DefectServiceImpl implements DefectService {
             entity.setStatusNote(normalizeNullable(request.statusNote()));
         }
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
         recordStatusChanged(entity, previousStatus);
 
         notifyStatusChanged(entity, previousStatus);
@@ -350,14 +369,11 @@ public class DefectServiceImpl implements DefectService {
 
         String message = entity.getDefectNo() + " 상태가 '" + currentStatus + "'(으)로 변경되었습니다.";
 
-        // 보고자 알림
-        notificationEventService.create(entity.getReporterId(), "상태변경", "결함 상태 변경", message, REF_TYPE_DEFECT, entity.getId());
-
-        // 담당자가 보고자와 다를 경우 추가 알림
-        Long assigneeId = entity.getAssigneeId();
-        if (assigneeId != null && !assigneeId.equals(entity.getReporterId())) {
-            notificationEventService.create(assigneeId, "상태변경", "결함 상태 변경", message, REF_TYPE_DEFECT, entity.getId());
-        }
+        // 보고자·담당자 알림 (같은 사람이면 한 번만 발송된다)
+        notificationEventService.createAll(List.of(
+                new NotificationCommand(entity.getReporterId(), "상태변경", "결함 상태 변경", message, REF_TYPE_DEFECT, entity.getId()),
+                new NotificationCommand(entity.getAssigneeId(), "상태변경", "결함 상태 변경", message, REF_TYPE_DEFECT, entity.getId())
+        ));
     }
 
     private void recordCreated(Defect entity) {
@@ -435,6 +451,31 @@ public class DefectServiceImpl implements DefectService {
         }
     }
 
+    // 커밋 후 마감 리마인더를 다시 예약한다. 종료 상태·마감 변경은 엔진이 판단한다.
+    private void scheduleDeadlineReminder(Defect entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        DeadlineReminderItem item = new DeadlineReminderItem(
+                REF_TYPE_DEFECT,
+                entity.getId(),
+                entity.getDefectNo(),
+                entity.getTitle(),
+                entity.getAssigneeId(),
+                entity.getDeadline(),
+                entity.getStatus()
+        );
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.schedule(item));
+    }
+
+    private void cancelDeadlineReminder(Defect entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        Long id = entity.getId();
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.cancel(REF_TYPE_DEFECT, id));
+    }
+
     private void syncDocumentIndex(Defect entity) {
         if (documentIndexSyncService == null) {
             return;
@@ -459,4 +500,26 @@ public class DefectServiceImpl implements DefectService {
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(Defect entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                REF_TYPE_DEFECT,
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getDescription(),
+                entity.getExpectedBehavior(),
+                entity.getActualBehavior()
+        );
+    }
+
+    private void deleteBacklinks(Defect entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks(REF_TYPE_DEFECT, entity.getId());
+    }
 }
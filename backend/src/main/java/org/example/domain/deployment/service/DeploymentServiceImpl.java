@@ -2,6 +2,7 @@ package org.example.domain.deployment.service;
 
 import org.example.domain.activityLog.service.ActivityLogCreateCommand;
 import org.example.domain.activityLog.service.ActivityLogService;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
 import org.example.domain.defect.entity.Defect;
 import org.example.domain.defect.repository.DefectRepository;
@@ -31,9 +32,12 @@ import org.example.domain.testScenario.entity.TestScenario;
 import org.example.domain.testScenario.repository.TestScenarioRepository;
 import org.example.domain.workRequest.entity.WorkRequest;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
+import org.example.global.scheduler.DeadlineReminderEngine;
+import org.example.global.scheduler.DeadlineReminderItem;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.example.global.util.DocumentNoGenerator;
+import org.example.global.util.TransactionCallbacks;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -72,6 +76,8 @@ public class DeploymentServiceImpl implements DeploymentService {
     private final DocumentNoGenerator documentNoGenerator;
     private final NotificationEventService notificationEventService;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
+    private final DeadlineReminderEngine deadlineReminderEngine;
     private final ActivityLogService activityLogService;
 
     public DeploymentServiceImpl(
@@ -85,7 +91,9 @@ public class DeploymentServiceImpl implements DeploymentService {
             DocumentNoGenerator documentNoGenerator,
             NotificationEventService notificationEventService,
             DocumentIndexSyncService documentIndexSyncService,
-            @Nullable ActivityLogService activityLogService
+            @Nullable ActivityLogService activityLogService,
+            @Nullable DocumentBacklinkService documentBacklinkService,
+            @Nullable DeadlineReminderEngine deadlineReminderEngine
     ) {
         this.deploymentRepository = deploymentRepository;
         this.deploymentRelatedRefRepository = deploymentRelatedRefRepository;
@@ -98,6 +106,8 @@ public class DeploymentServiceImpl implements DeploymentService {
         this.notificationEventService = notificationEventService;
         this.documentIndexSyncService = documentIndexSyncService;
         this.activityLogService = activityLogService;
+        this.documentBacklinkService = documentBacklinkService;
+        this.deadlineReminderEngine = deadlineReminderEngine;
     }
 
     @Override
@@ -140,6 +150,8 @@ public class DeploymentServiceImpl implements DeploymentService {
 
         Deployment saved = deploymentRepository.save(deployment);
         syncDocumentIndex(saved);
+        scheduleDeadlineReminder(saved);
+        syncBacklinks(saved);
 
         if (request.relatedRefs() != null) {
             persistRelatedRefs(saved.getId(), request.relatedRefs());
@@ -199,6 +211,8 @@ public class DeploymentServiceImpl implements DeploymentService {
             persistSteps(id, request.steps());
         }
         syncDocumentIndex(deployment);
+        scheduleDeadlineReminder(deployment);
+        syncBacklinks(deployment);
         recordUpdated(deployment);
         recordManagerChanged(deployment, previousManagerId);
         recordStatusChanged(deployment, previousStatus);
@@ -217,6 +231,8 @@ public class DeploymentServiceImpl implements DeploymentService {
         deploymentStepRepository.deleteByDeploymentId(id);
         deploymentRepository.delete(deployment);
         deleteDocumentIndex(deployment);
+        cancelDeadlineReminder(deployment);
+        deleteBacklinks(deployment);
     }
 
     @Override
@@ -231,6 +247,7 @@ public class DeploymentServiceImpl implements DeploymentService {
         deployment.setStatus(normalizeStatus(request.status()));
         deployment.setStatusNote(normalizeNullable(request.statusNote()));
         syncDocumentIndex(deployment);
+        scheduleDeadlineReminder(deployment);
         recordStatusChanged(deployment, previousStatus);
 
         notifyStatusChanged(deployment, previousStatus);
@@ -722,6 +739,31 @@ public class DeploymentServiceImpl implements DeploymentService {
     private record RefMetadata(String refNo, String title) {
     }
 
+    // 커밋 후 마감 리마인더를 다시 예약한다. 종료 상태·마감 변경은 엔진이 판단한다.
+    private void scheduleDeadlineReminder(Deployment entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        DeadlineReminderItem item = new DeadlineReminderItem(
+                REF_TYPE_DEPLOYMENT,
+                entity.getId(),
+                entity.getDeployNo(),
+                entity.getTitle(),
+                entity.getManagerId(),
+                entity.getScheduledAt(),
+                entity.getStatus()
+        );
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.schedule(item));
+    }
+
+    private void cancelDeadlineReminder(Deployment entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        Long id = entity.getId();
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.cancel(REF_TYPE_DEPLOYMENT, id));
+    }
+
     private void syncDocumentIndex(Deployment entity) {
         if (documentIndexSyncService == null) {
             return;
@@ -746,4 +788,25 @@ public class DeploymentServiceImpl implements DeploymentService {
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(Deployment entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                REF_TYPE_DEPLOYMENT,
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getOverview(),
+                entity.getRollbackPlan()
+        );
+    }
+
+    private void deleteBacklinks(Deployment entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks(REF_TYPE_DEPLOYMENT, entity.getId());
+    }
 }
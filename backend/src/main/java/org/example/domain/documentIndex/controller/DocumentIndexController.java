@@ -1,9 +1,13 @@
 package org.example.domain.documentIndex.controller;
 
-import org.example.domain.documentIndex.dto.DocumentIndexSearchItemResponse;
+import org.example.domain.documentIndex.dto.DocumentBacklinkResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveRequest;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexSearchResponse;
 import org.example.domain.documentIndex.service.DocumentIndexService;
-import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,7 +25,7 @@ public class DocumentIndexController {
     }
 
     @GetMapping("/search")
-    public Page<DocumentIndexSearchItemResponse> search(
+    public DocumentIndexSearchResponse search(
             @RequestParam(required = false) String q,
             @RequestParam(required = false) List<String> types,
             @RequestParam(required = false) Long teamId,
@@ -30,4 +34,18 @@ public class DocumentIndexController {
     ) {
         return documentIndexService.search(q, types, teamId, page, size);
     }
+
+    @GetMapping("/backlinks")
+    public List<DocumentBacklinkResponse> backlinks(
+            @RequestParam String refType,
+            @RequestParam Long refId,
+            @RequestParam(required = false) Long teamId
+    ) {
+        return documentIndexService.findBacklinks(refType, refId, teamId);
+    }
+
+    @PostMapping("/resolve")
+    public DocumentIndexResolveResponse resolve(@RequestBody DocumentIndexResolveRequest request) {
+        return documentIndexService.resolve(request);
+    }
 }
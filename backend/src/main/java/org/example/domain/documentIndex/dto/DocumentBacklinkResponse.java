@@ -0,0 +1,11 @@
+package org.example.domain.documentIndex.dto;
+
+public record DocumentBacklinkResponse(
+        String refType,
+        Long refId,
+        String docNo,
+        String title,
+        String status,
+        Long commentId
+) {
+}
@@ -0,0 +1,9 @@
+package org.example.domain.documentIndex.dto;
+
+import java.util.Map;
+
+public record DocumentIndexFacetResponse(
+        Map<String, Long> refTypes,
+        Map<String, Long> statuses
+) {
+}
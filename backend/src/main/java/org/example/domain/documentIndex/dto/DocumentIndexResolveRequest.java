@@ -0,0 +1,16 @@
+package org.example.domain.documentIndex.dto;
+
+import java.util.List;
+
+public record DocumentIndexResolveRequest(
+        Long teamId,
+        List<String> docNos,
+        List<RefKey> refs
+) {
+
+    public record RefKey(
+            String refType,
+            Long refId
+    ) {
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.domain.documentIndex.dto;
+
+import java.util.List;
+
+public record DocumentIndexResolveResponse(
+        List<DocumentIndexSearchItemResponse> items,
+        List<String> missingDocNos,
+        List<DocumentIndexResolveRequest.RefKey> missingRefs
+) {
+}
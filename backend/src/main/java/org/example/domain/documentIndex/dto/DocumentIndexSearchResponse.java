@@ -0,0 +1,13 @@
+package org.example.domain.documentIndex.dto;
+
+import java.util.List;
+
+public record DocumentIndexSearchResponse(
+        List<DocumentIndexSearchItemResponse> content,
+        int number,
+        int size,
+        long totalElements,
+        int totalPages,
+        DocumentIndexFacetResponse facets
+) {
+}
@@ -0,0 +1,118 @@
+package org.example.domain.documentIndex.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "doc_backlinks")
+public class DocumentBacklink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "source_ref_type", nullable = false, length = 30)
+    private String sourceRefType;
+
+    @Column(name = "source_ref_id", nullable = false)
+    private Long sourceRefId;
+
+    @Column(name = "source_comment_id")
+    private Long sourceCommentId;
+
+    @Column(name = "target_ref_type", nullable = false, length = 30)
+    private String targetRefType;
+
+    @Column(name = "target_ref_id", nullable = false)
+    private Long targetRefId;
+
+    @Column(name = "target_doc_no", nullable = false, length = 20)
+    private String targetDocNo;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public DocumentBacklink() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public String getSourceRefType() {
+        return sourceRefType;
+    }
+
+    public void setSourceRefType(String sourceRefType) {
+        this.sourceRefType = sourceRefType;
+    }
+
+    public Long getSourceRefId() {
+        return sourceRefId;
+    }
+
+    public void setSourceRefId(Long sourceRefId) {
+        this.sourceRefId = sourceRefId;
+    }
+
+    public Long getSourceCommentId() {
+        return sourceCommentId;
+    }
+
+    public void setSourceCommentId(Long sourceCommentId) {
+        this.sourceCommentId = sourceCommentId;
+    }
+
+    public String getTargetRefType() {
+        return targetRefType;
+    }
+
+    public void setTargetRefType(String targetRefType) {
+        this.targetRefType = targetRefType;
+    }
+
+    public Long getTargetRefId() {
+        return targetRefId;
+    }
+
+    public void setTargetRefId(Long targetRefId) {
+        this.targetRefId = targetRefId;
+    }
+
+    public String getTargetDocNo() {
+        return targetDocNo;
+    }
+
+    public void setTargetDocNo(String targetDocNo) {
+        this.targetDocNo = targetDocNo;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.domain.documentIndex.repository;
+
+import org.example.domain.documentIndex.entity.DocumentBacklink;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface DocumentBacklinkRepository extends JpaRepository<DocumentBacklink, Long> {
+
+    @Modifying
+    @Query("""
+            delete from DocumentBacklink b
+            where b.sourceRefType = :refType
+              and b.sourceRefId = :refId
+              and b.sourceCommentId is null
+            """)
+    int deleteDocumentLinks(@Param("refType") String refType, @Param("refId") Long refId);
+
+    @Modifying
+    @Query("delete from DocumentBacklink b where b.sourceCommentId = :commentId")
+    int deleteCommentLinks(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("""
+            delete from DocumentBacklink b
+            where (b.sourceRefType = :refType and b.sourceRefId = :refId)
+               or (b.targetRefType = :refType and b.targetRefId = :refId)
+            """)
+    int deleteAllByRef(@Param("refType") String refType, @Param("refId") Long refId);
+
+    @Query("""
+            select b.sourceRefType as sourceRefType,
+                   b.sourceRefId as sourceRefId,
+                   b.sourceCommentId as sourceCommentId,
+                   d.docNo as sourceDocNo,
+                   d.title as sourceTitle,
+                   d.status as sourceStatus
+            from DocumentBacklink b
+            left join DocumentIndex d
+              on d.teamId = b.teamId and d.refType = b.sourceRefType and d.refId = b.sourceRefId
+            where b.teamId = :teamId
+              and b.targetRefType = :refType
+              and b.targetRefId = :refId
+            order by b.id desc
+            """)
+    List<BacklinkProjection> findBacklinks(
+            @Param("teamId") Long teamId,
+            @Param("refType") String refType,
+            @Param("refId") Long refId
+    );
+
+    interface BacklinkProjection {
+        String getSourceRefType();
+
+        Long getSourceRefId();
+
+        Long getSourceCommentId();
+
+        String getSourceDocNo();
+
+        String getSourceTitle();
+
+        String getSourceStatus();
+    }
+}
@@ -3,12 +3,39 @@ package org.example.domain.documentIndex.repository;
 import org.example.domain.documentIndex.entity.DocumentIndex;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface DocumentIndexRepository extends JpaRepository<DocumentIndex, Long>, JpaSpecificationExecutor<DocumentIndex> {
 
     Optional<DocumentIndex> findByTeamIdAndRefTypeAndRefId(Long teamId, String refType, Long refId);
 
+    @Query("select d.teamId from DocumentIndex d where d.refType = :refType and d.refId = :refId")
+    Optional<Long> findTeamIdByRefTypeAndRefId(@Param("refType") String refType, @Param("refId") Long refId);
+
     void deleteByTeamIdAndRefTypeAndRefId(Long teamId, String refType, Long refId);
+
+    List<DocumentIndex> findByTeamIdAndDocNoIn(Long teamId, Collection<String> docNos);
+
+    @Query("""
+            select d.refType as refType, d.status as status, count(d.id) as documentCount
+            from DocumentIndex d
+            where d.teamId = :teamId
+              and (:q is null or lower(d.docNo) like lower(concat('%', :q, '%'))
+                   or lower(d.title) like lower(concat('%', :q, '%')))
+            group by d.refType, d.status
+            """)
+    List<FacetCountProjection> countFacets(@Param("teamId") Long teamId, @Param("q") String q);
+
+    interface FacetCountProjection {
+        String getRefType();
+
+        String getStatus();
+
+        long getDocumentCount();
+    }
 }
@@ -0,0 +1,111 @@
+package org.example.domain.documentIndex.service;
+
+import org.example.domain.documentIndex.entity.DocumentBacklink;
+import org.example.domain.documentIndex.entity.DocumentIndex;
+import org.example.domain.documentIndex.repository.DocumentBacklinkRepository;
+import org.example.domain.documentIndex.repository.DocumentIndexRepository;
+import org.example.global.util.DocumentNoScanner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+public class DocumentBacklinkService {
+
+    private static final int MAX_LINKS_PER_SOURCE = 200;
+    private static final DocumentNoScanner SCANNER = new DocumentNoScanner(
+            List.of("WR", "TK", "TS", "DF", "DP", "MN", "ID", "KB")
+    );
+
+    private final DocumentBacklinkRepository documentBacklinkRepository;
+    private final DocumentIndexRepository documentIndexRepository;
+
+    public DocumentBacklinkService(
+            DocumentBacklinkRepository documentBacklinkRepository,
+            DocumentIndexRepository documentIndexRepository
+    ) {
+        this.documentBacklinkRepository = documentBacklinkRepository;
+        this.documentIndexRepository = documentIndexRepository;
+    }
+
+    // 문서 본문에서 추출한 참조를 통째로 교체한다. 댓글에서 온 참조는 건드리지 않는다.
+    @Transactional
+    public void syncDocumentLinks(String refType, Long refId, Long teamId, String... texts) {
+        if (refId == null || teamId == null || isBlank(refType)) {
+            return;
+        }
+
+        String normalizedRefType = normalizeRefType(refType);
+        documentBacklinkRepository.deleteDocumentLinks(normalizedRefType, refId);
+        saveLinks(teamId, normalizedRefType, refId, null, texts);
+    }
+
+    @Transactional
+    public void syncCommentLinks(Long commentId, String refType, Long refId, Long teamId, String content) {
+        if (commentId == null || refId == null || teamId == null || isBlank(refType)) {
+            return;
+        }
+
+        documentBacklinkRepository.deleteCommentLinks(commentId);
+        saveLinks(teamId, normalizeRefType(refType), refId, commentId, content);
+    }
+
+    @Transactional
+    public void deleteCommentLinks(Long commentId) {
+        if (commentId == null) {
+            return;
+        }
+        documentBacklinkRepository.deleteCommentLinks(commentId);
+    }
+
+    // 문서 삭제 시 해당 문서가 출처이거나 대상인 참조를 모두 정리한다.
+    @Transactional
+    public void deleteAllLinks(String refType, Long refId) {
+        if (refId == null || isBlank(refType)) {
+            return;
+        }
+        documentBacklinkRepository.deleteAllByRef(normalizeRefType(refType), refId);
+    }
+
+    private void saveLinks(Long teamId, String sourceRefType, Long sourceRefId, Long sourceCommentId, String... texts) {
+        Set<String> docNos = SCANNER.scan(texts);
+        if (docNos.isEmpty()) {
+            return;
+        }
+
+        List<String> lookup = docNos.stream().limit(MAX_LINKS_PER_SOURCE).toList();
+        List<DocumentBacklink> rows = new ArrayList<>();
+        for (DocumentIndex target : documentIndexRepository.findByTeamIdAndDocNoIn(teamId, lookup)) {
+            if (Objects.equals(target.getRefType(), sourceRefType) && Objects.equals(target.getRefId(), sourceRefId)) {
+                continue;
+            }
+
+            DocumentBacklink row = new DocumentBacklink();
+            row.setTeamId(teamId);
+            row.setSourceRefType(sourceRefType);
+            row.setSourceRefId(sourceRefId);
+            row.setSourceCommentId(sourceCommentId);
+            row.setTargetRefType(target.getRefType());
+            row.setTargetRefId(target.getRefId());
+            row.setTargetDocNo(target.getDocNo());
+            rows.add(row);
+        }
+
+        if (!rows.isEmpty()) {
+            documentBacklinkRepository.saveAll(rows);
+        }
+    }
+
+    private String normalizeRefType(String rawRefType) {
+        return rawRefType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
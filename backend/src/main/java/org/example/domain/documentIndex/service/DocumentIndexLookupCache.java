@@ -0,0 +1,114 @@
+package org.example.domain.documentIndex.service;
+
+import org.example.domain.documentIndex.dto.DocumentIndexSearchItemResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 문서번호 일괄 조회용 팀별 LRU 캐시.
+ * docNo 키와 refType:refId 키가 같은 항목을 가리키며, 인덱스 갱신 시 두 키를 함께 비운다.
+ * 다중 인스턴스 환경에서 다른 노드의 갱신은 TTL 경과 후 반영된다.
+ */
+@Component
+public class DocumentIndexLookupCache {
+
+    static final int MAX_TEAMS = 256;
+    static final int MAX_ENTRIES_PER_TEAM = 1024;
+    static final long TTL_MILLIS = 60_000L;
+
+    private final Clock clock;
+    private final Map<Long, TeamEntries> teams = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TeamEntries> eldest) {
+            return size() > MAX_TEAMS;
+        }
+    };
+
+    public DocumentIndexLookupCache() {
+        this(Clock.systemUTC());
+    }
+
+    DocumentIndexLookupCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    public synchronized DocumentIndexSearchItemResponse getByDocNo(Long teamId, String docNo) {
+        return get(teamId, docNoKey(docNo));
+    }
+
+    public synchronized DocumentIndexSearchItemResponse getByRef(Long teamId, String refType, Long refId) {
+        return get(teamId, refKey(refType, refId));
+    }
+
+    public synchronized void put(Long teamId, DocumentIndexSearchItemResponse item) {
+        if (teamId == null || item == null || item.docNo() == null || item.refType() == null || item.refId() == null) {
+            return;
+        }
+        TeamEntries entries = teams.computeIfAbsent(teamId, ignored -> new TeamEntries());
+        CachedItem cached = new CachedItem(item, clock.millis() + TTL_MILLIS);
+        entries.put(docNoKey(item.docNo()), cached);
+        entries.put(refKey(item.refType(), item.refId()), cached);
+    }
+
+    public synchronized void evict(Long teamId, String refType, Long refId, String docNo) {
+        TeamEntries entries = teams.get(teamId);
+        if (entries == null) {
+            return;
+        }
+        if (refType != null && refId != null) {
+            CachedItem removed = entries.remove(refKey(refType, refId));
+            if (removed != null) {
+                entries.remove(docNoKey(removed.item().docNo()));
+            }
+        }
+        if (docNo != null) {
+            CachedItem removed = entries.remove(docNoKey(docNo));
+            if (removed != null) {
+                entries.remove(refKey(removed.item().refType(), removed.item().refId()));
+            }
+        }
+    }
+
+    private DocumentIndexSearchItemResponse get(Long teamId, String key) {
+        TeamEntries entries = teams.get(teamId);
+        if (entries == null) {
+            return null;
+        }
+        CachedItem cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= clock.millis()) {
+            entries.remove(key);
+            return null;
+        }
+        return cached.item();
+    }
+
+    private static String docNoKey(String docNo) {
+        return "D:" + docNo.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String refKey(String refType, Long refId) {
+        return "R:" + refType.trim().toUpperCase(Locale.ROOT) + ":" + refId;
+    }
+
+    private record CachedItem(DocumentIndexSearchItemResponse item, long expiresAt) {
+    }
+
+    private static final class TeamEntries extends LinkedHashMap<String, CachedItem> {
+
+        private TeamEntries() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedItem> eldest) {
+            return size() > MAX_ENTRIES_PER_TEAM;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package org.example.domain.documentIndex.service;
 
-import org.example.domain.documentIndex.dto.DocumentIndexSearchItemResponse;
-import org.springframework.data.domain.Page;
+import org.example.domain.documentIndex.dto.DocumentBacklinkResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveRequest;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexSearchResponse;
 
 import java.util.List;
 
 public interface DocumentIndexService {
 
-    Page<DocumentIndexSearchItemResponse> search(String query, List<String> types, Long teamId, int page, int size);
+    DocumentIndexSearchResponse search(String query, List<String> types, Long teamId, int page, int size);
+
+    List<DocumentBacklinkResponse> findBacklinks(String refType, Long refId, Long teamId);
+
+    DocumentIndexResolveResponse resolve(DocumentIndexResolveRequest request);
 }
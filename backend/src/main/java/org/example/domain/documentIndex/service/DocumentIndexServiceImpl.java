@@ -1,8 +1,17 @@
 package org.example.domain.documentIndex.service;
 
+import jakarta.persistence.criteria.Predicate;
+import org.example.domain.documentIndex.dto.DocumentBacklinkResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexFacetResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveRequest;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveRequest.RefKey;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveResponse;
 import org.example.domain.documentIndex.dto.DocumentIndexSearchItemResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexSearchResponse;
 import org.example.domain.documentIndex.entity.DocumentIndex;
+import org.example.domain.documentIndex.repository.DocumentBacklinkRepository;
 import org.example.domain.documentIndex.repository.DocumentIndexRepository;
+import org.example.domain.documentIndex.repository.DocumentIndexRepository.FacetCountProjection;
 import org.example.global.team.TeamScopeUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -13,16 +22,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @Transactional(readOnly = true)
 public class DocumentIndexServiceImpl implements DocumentIndexService {
 
     private static final int MAX_PAGE_SIZE = 100;
-    private static final Set<String> ALLOWED_REF_TYPES = Set.of(
+    static final int MAX_RESOLVE_KEYS = 300;
+    // 탭 표시 순서와 동일하게 유지한다.
+    private static final List<String> ALLOWED_REF_TYPES = List.of(
             "WORK_REQUEST",
             "TECH_TASK",
             "TEST_SCENARIO",
@@ -34,13 +50,21 @@ public class DocumentIndexServiceImpl implements DocumentIndexService {
     );
 
     private final DocumentIndexRepository documentIndexRepository;
+    private final DocumentBacklinkRepository documentBacklinkRepository;
+    private final DocumentIndexLookupCache documentIndexLookupCache;
 
-    public DocumentIndexServiceImpl(DocumentIndexRepository documentIndexRepository) {
+    public DocumentIndexServiceImpl(
+            DocumentIndexRepository documentIndexRepository,
+            DocumentBacklinkRepository documentBacklinkRepository,
+            DocumentIndexLookupCache documentIndexLookupCache
+    ) {
         this.documentIndexRepository = documentIndexRepository;
+        this.documentBacklinkRepository = documentBacklinkRepository;
+        this.documentIndexLookupCache = documentIndexLookupCache;
     }
 
     @Override
-    public Page<DocumentIndexSearchItemResponse> search(String query, List<String> types, Long teamId, int page, int size) {
+    public DocumentIndexSearchResponse search(String query, List<String> types, Long teamId, int page, int size) {
         Long scopedTeamId = TeamScopeUtil.requireTeamId(teamId);
         List<String> normalizedTypes = normalizeTypes(types);
         String keyword = normalizeKeyword(query);
@@ -58,14 +82,148 @@ public class DocumentIndexServiceImpl implements DocumentIndexService {
                 .and(byKeyword(keyword))
                 .and(byTypes(normalizedTypes));
 
-        return documentIndexRepository.findAll(spec, pageable)
-                .map(item -> new DocumentIndexSearchItemResponse(
-                        item.getRefType(),
-                        item.getRefId(),
-                        item.getDocNo(),
-                        item.getTitle(),
-                        item.getStatus()
-                ));
+        Page<DocumentIndexSearchItemResponse> result = documentIndexRepository.findAll(spec, pageable)
+                .map(this::toItem);
+
+        return new DocumentIndexSearchResponse(
+                result.getContent(),
+                result.getNumber(),
+                result.getSize(),
+                result.getTotalElements(),
+                result.getTotalPages(),
+                buildFacets(scopedTeamId, keyword, normalizedTypes)
+        );
+    }
+
+    @Override
+    public List<DocumentBacklinkResponse> findBacklinks(String refType, Long refId, Long teamId) {
+        Long scopedTeamId = TeamScopeUtil.requireTeamId(teamId);
+        if (refType == null || refType.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "refType은 필수입니다.");
+        }
+        if (refId == null || refId <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "refId는 필수입니다.");
+        }
+        String normalizedRefType = validateAndReturnRefType(refType.trim().toUpperCase(Locale.ROOT));
+
+        return documentBacklinkRepository.findBacklinks(scopedTeamId, normalizedRefType, refId).stream()
+                .filter(row -> row.getSourceDocNo() != null)
+                .map(row -> new DocumentBacklinkResponse(
+                        row.getSourceRefType(),
+                        row.getSourceRefId(),
+                        row.getSourceDocNo(),
+                        row.getSourceTitle(),
+                        row.getSourceStatus(),
+                        row.getSourceCommentId()
+                ))
+                .toList();
+    }
+
+    @Override
+    public DocumentIndexResolveResponse resolve(DocumentIndexResolveRequest request) {
+        if (request == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회할 문서가 없습니다.");
+        }
+        Long scopedTeamId = TeamScopeUtil.requireTeamId(request.teamId());
+        Set<String> docNos = normalizeDocNos(request.docNos());
+        Set<RefKey> refs = normalizeRefs(request.refs());
+        if (docNos.size() + refs.size() > MAX_RESOLVE_KEYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 문서는 " + MAX_RESOLVE_KEYS + "건 이하입니다.");
+        }
+
+        // 캐시에 없는 키만 모아 팀 단위 1회 조회로 채운다.
+        Map<String, DocumentIndexSearchItemResponse> byDocNo = new LinkedHashMap<>();
+        Map<RefKey, DocumentIndexSearchItemResponse> byRef = new LinkedHashMap<>();
+        List<String> missedDocNos = new ArrayList<>();
+        List<RefKey> missedRefs = new ArrayList<>();
+
+        for (String docNo : docNos) {
+            DocumentIndexSearchItemResponse cached = documentIndexLookupCache.getByDocNo(scopedTeamId, docNo);
+            if (cached != null) {
+                byDocNo.put(docNo, cached);
+            } else {
+                missedDocNos.add(docNo);
+            }
+        }
+        for (RefKey ref : refs) {
+            DocumentIndexSearchItemResponse cached = documentIndexLookupCache.getByRef(scopedTeamId, ref.refType(), ref.refId());
+            if (cached != null) {
+                byRef.put(ref, cached);
+            } else {
+                missedRefs.add(ref);
+            }
+        }
+
+        if (!missedDocNos.isEmpty() || !missedRefs.isEmpty()) {
+            List<DocumentIndex> rows = documentIndexRepository.findAll(
+                    byTeam(scopedTeamId).and(byDocNosOrRefs(missedDocNos, missedRefs))
+            );
+            for (DocumentIndex row : rows) {
+                DocumentIndexSearchItemResponse item = toItem(row);
+                documentIndexLookupCache.put(scopedTeamId, item);
+                String rowDocNo = row.getDocNo() == null ? null : row.getDocNo().toUpperCase(Locale.ROOT);
+                if (rowDocNo != null && docNos.contains(rowDocNo)) {
+                    byDocNo.putIfAbsent(rowDocNo, item);
+                }
+                RefKey rowRef = new RefKey(row.getRefType(), row.getRefId());
+                if (refs.contains(rowRef)) {
+                    byRef.putIfAbsent(rowRef, item);
+                }
+            }
+        }
+
+        Map<String, DocumentIndexSearchItemResponse> items = new LinkedHashMap<>();
+        List<String> missingDocNos = new ArrayList<>();
+        List<RefKey> missingRefs = new ArrayList<>();
+        for (String docNo : docNos) {
+            DocumentIndexSearchItemResponse item = byDocNo.get(docNo);
+            if (item == null) {
+                missingDocNos.add(docNo);
+            } else {
+                items.putIfAbsent(item.refType() + ":" + item.refId(), item);
+            }
+        }
+        for (RefKey ref : refs) {
+            DocumentIndexSearchItemResponse item = byRef.get(ref);
+            if (item == null) {
+                missingRefs.add(ref);
+            } else {
+                items.putIfAbsent(item.refType() + ":" + item.refId(), item);
+            }
+        }
+
+        return new DocumentIndexResolveResponse(List.copyOf(items.values()), missingDocNos, missingRefs);
+    }
+
+    // refType 집계는 types 필터와 무관하게(탭 카운트), status 집계는 선택된 types 범위에서 계산한다.
+    private DocumentIndexFacetResponse buildFacets(Long teamId, String keyword, List<String> types) {
+        Map<String, Long> refTypeCounts = new LinkedHashMap<>();
+        ALLOWED_REF_TYPES.forEach(refType -> refTypeCounts.put(refType, 0L));
+        Map<String, Long> statusCounts = new TreeMap<>();
+
+        for (FacetCountProjection row : documentIndexRepository.countFacets(teamId, keyword)) {
+            if (row.getRefType() == null) {
+                continue;
+            }
+            refTypeCounts.merge(row.getRefType(), row.getDocumentCount(), Long::sum);
+
+            boolean inSelectedTypes = types.isEmpty() || types.contains(row.getRefType());
+            if (inSelectedTypes && row.getStatus() != null) {
+                statusCounts.merge(row.getStatus(), row.getDocumentCount(), Long::sum);
+            }
+        }
+
+        return new DocumentIndexFacetResponse(refTypeCounts, statusCounts);
+    }
+
+    private DocumentIndexSearchItemResponse toItem(DocumentIndex row) {
+        return new DocumentIndexSearchItemResponse(
+                row.getRefType(),
+                row.getRefId(),
+                row.getDocNo(),
+                row.getTitle(),
+                row.getStatus()
+        );
     }
 
     private Specification<DocumentIndex> byTeam(Long teamId) {
@@ -86,6 +244,54 @@ public class DocumentIndexServiceImpl implements DocumentIndexService {
         };
     }
 
+    // docNo IN (...) OR (refType = ? AND refId IN (...)) 형태로 묶어 uq_di_team_doc_no, uq_di_team_ref 인덱스를 타게 한다.
+    private Specification<DocumentIndex> byDocNosOrRefs(List<String> docNos, List<RefKey> refs) {
+        Map<String, List<Long>> refIdsByType = new LinkedHashMap<>();
+        for (RefKey ref : refs) {
+            refIdsByType.computeIfAbsent(ref.refType(), ignored -> new ArrayList<>()).add(ref.refId());
+        }
+
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (!docNos.isEmpty()) {
+                predicates.add(root.get("docNo").in(docNos));
+            }
+            refIdsByType.forEach((refType, refIds) -> predicates.add(builder.and(
+                    builder.equal(root.get("refType"), refType),
+                    root.get("refId").in(refIds)
+            )));
+            return builder.or(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private Set<String> normalizeDocNos(List<String> rawDocNos) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (rawDocNos == null) {
+            return normalized;
+        }
+        for (String docNo : rawDocNos) {
+            if (docNo != null && !docNo.isBlank()) {
+                normalized.add(docNo.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    private Set<RefKey> normalizeRefs(List<RefKey> rawRefs) {
+        Set<RefKey> normalized = new LinkedHashSet<>();
+        if (rawRefs == null) {
+            return normalized;
+        }
+        for (RefKey ref : rawRefs) {
+            if (ref == null || ref.refType() == null || ref.refType().isBlank() || ref.refId() == null || ref.refId() <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "refs 항목에는 refType, refId가 필요합니다.");
+            }
+            String refType = validateAndReturnRefType(ref.refType().trim().toUpperCase(Locale.ROOT));
+            normalized.add(new RefKey(refType, ref.refId()));
+        }
+        return normalized;
+    }
+
     private Specification<DocumentIndex> byTypes(List<String> types) {
         if (types == null || types.isEmpty()) {
             return null;
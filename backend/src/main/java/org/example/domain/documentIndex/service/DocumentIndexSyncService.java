@@ -2,6 +2,8 @@ package org.example.domain.documentIndex.service;
 
 import org.example.domain.documentIndex.entity.DocumentIndex;
 import org.example.domain.documentIndex.repository.DocumentIndexRepository;
+import org.example.global.util.TransactionCallbacks;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +25,14 @@ public class DocumentIndexSyncService {
     );
 
     private final DocumentIndexRepository documentIndexRepository;
+    private final DocumentIndexLookupCache documentIndexLookupCache;
 
-    public DocumentIndexSyncService(DocumentIndexRepository documentIndexRepository) {
+    public DocumentIndexSyncService(
+            DocumentIndexRepository documentIndexRepository,
+            @Nullable DocumentIndexLookupCache documentIndexLookupCache
+    ) {
         this.documentIndexRepository = documentIndexRepository;
+        this.documentIndexLookupCache = documentIndexLookupCache;
     }
 
     @Transactional
@@ -50,6 +57,7 @@ public class DocumentIndexSyncService {
         row.setStatus(normalizeNullable(status));
 
         documentIndexRepository.save(row);
+        evictLookup(teamId, normalizedRefType, refId, row.getDocNo());
     }
 
     @Transactional
@@ -64,6 +72,14 @@ public class DocumentIndexSyncService {
         }
 
         documentIndexRepository.deleteByTeamIdAndRefTypeAndRefId(teamId, normalizedRefType, refId);
+        evictLookup(teamId, normalizedRefType, refId, null);
+    }
+
+    // 커밋 전에 지우면 동시 조회가 커밋 전 행을 다시 캐시할 수 있으므로 커밋 후에 지운다.
+    private void evictLookup(Long teamId, String refType, Long refId, String docNo) {
+        if (documentIndexLookupCache != null) {
+            TransactionCallbacks.afterCommit(() -> documentIndexLookupCache.evict(teamId, refType, refId, docNo));
+        }
     }
 
     private String normalizeRefType(String rawRefType) {
@@ -36,6 +36,7 @@ import org.example.domain.workRequest.entity.WorkRequestRelatedRef;
 import org.example.domain.workRequest.repository.WorkRequestRelatedRefRepository;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.RequestPrincipal;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.example.global.util.DocumentNoGenerator;
@@ -1543,6 +1544,11 @@ public class FlowChainService {
     }
 
     private Long resolveUserIdFromAuthorizationHeader() {
+        Long principalUserId = RequestPrincipal.currentUserId();
+        if (principalUserId != null) {
+            return principalUserId;
+        }
+
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes == null) {
             return null;
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.domain.comment.repository.CommentRepository;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
 import org.example.domain.notification.service.NotificationEventService;
 import org.example.domain.idea.dto.ProjectIdeaCreateRequest;
@@ -26,6 +27,7 @@ import org.example.domain.idea.repository.ProjectIdeaRepository;
 import org.example.domain.user.entity.PortalUser;
 import org.example.domain.user.repository.PortalUserRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.RequestPrincipal;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.example.global.util.DocumentNoGenerator;
@@ -33,6 +35,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -60,6 +63,7 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
     private final ObjectMapper objectMapper;
     private final NotificationEventService notificationEventService;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
 
     public ProjectIdeaServiceImpl(
             ProjectIdeaRepository projectIdeaRepository,
@@ -71,7 +75,8 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
             DocumentNoGenerator documentNoGenerator,
             ObjectMapper objectMapper,
             NotificationEventService notificationEventService,
-            DocumentIndexSyncService documentIndexSyncService
+            DocumentIndexSyncService documentIndexSyncService,
+            @Nullable DocumentBacklinkService documentBacklinkService
     ) {
         this.projectIdeaRepository = projectIdeaRepository;
         this.projectIdeaRelatedRefRepository = projectIdeaRelatedRefRepository;
@@ -83,6 +88,7 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
         this.objectMapper = objectMapper;
         this.notificationEventService = notificationEventService;
         this.documentIndexSyncService = documentIndexSyncService;
+        this.documentBacklinkService = documentBacklinkService;
     }
 
     @Override
@@ -151,6 +157,7 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
 
         ProjectIdea saved = projectIdeaRepository.save(entity);
         syncDocumentIndex(saved);
+        syncBacklinks(saved);
         return saved.getId();
     }
 
@@ -191,6 +198,7 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
             entity.setContent(request.content().trim());
         }
         syncDocumentIndex(entity);
+        syncBacklinks(entity);
 
         notifyStatusChanged(entity, previousStatus);
     }
@@ -204,6 +212,7 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
         ideaVoteRepository.deleteByIdeaId(id);
         projectIdeaRepository.delete(entity);
         deleteDocumentIndex(entity);
+        deleteBacklinks(entity);
     }
 
     @Override
@@ -434,6 +443,11 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
     }
 
     private Long extractUserId(String authorizationHeader) {
+        Long principalUserId = RequestPrincipal.currentUserId();
+        if (principalUserId != null) {
+            return principalUserId;
+        }
+
         if (isBlank(authorizationHeader)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authorization 헤더가 필요합니다.");
         }
@@ -519,4 +533,24 @@ public class ProjectIdeaServiceImpl implements ProjectIdeaService {
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(ProjectIdea entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                REF_TYPE_PROJECT_IDEA,
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getContent()
+        );
+    }
+
+    private void deleteBacklinks(ProjectIdea entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks(REF_TYPE_PROJECT_IDEA, entity.getId());
+    }
 }
@@ -3,6 +3,7 @@ package org.example.domain.knowledgeBase.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
 import org.example.domain.knowledgeBase.dto.KnowledgeBaseArticleCreateRequest;
 import org.example.domain.knowledgeBase.dto.KnowledgeBaseArticleDetailResponse;
@@ -24,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -42,19 +44,22 @@ public class KnowledgeBaseArticleServiceImpl implements KnowledgeBaseArticleServ
     private final DocumentNoGenerator documentNoGenerator;
     private final ObjectMapper objectMapper;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
 
     public KnowledgeBaseArticleServiceImpl(
             KnowledgeBaseArticleRepository knowledgeBaseArticleRepository,
             KnowledgeBaseRelatedRefRepository knowledgeBaseRelatedRefRepository,
             DocumentNoGenerator documentNoGenerator,
             ObjectMapper objectMapper,
-            DocumentIndexSyncService documentIndexSyncService
+            DocumentIndexSyncService documentIndexSyncService,
+            @Nullable DocumentBacklinkService documentBacklinkService
     ) {
         this.knowledgeBaseArticleRepository = knowledgeBaseArticleRepository;
         this.knowledgeBaseRelatedRefRepository = knowledgeBaseRelatedRefRepository;
         this.documentNoGenerator = documentNoGenerator;
         this.objectMapper = objectMapper;
         this.documentIndexSyncService = documentIndexSyncService;
+        this.documentBacklinkService = documentBacklinkService;
     }
 
     @Override
@@ -95,6 +100,7 @@ public class KnowledgeBaseArticleServiceImpl implements KnowledgeBaseArticleServ
 
         KnowledgeBaseArticle saved = knowledgeBaseArticleRepository.save(entity);
         syncDocumentIndex(saved);
+        syncBacklinks(saved);
         return saved.getId();
     }
 
@@ -133,6 +139,7 @@ public class KnowledgeBaseArticleServiceImpl implements KnowledgeBaseArticleServ
             entity.setContent(request.content().trim());
         }
         syncDocumentIndex(entity);
+        syncBacklinks(entity);
     }
 
     @Override
@@ -143,6 +150,7 @@ public class KnowledgeBaseArticleServiceImpl implements KnowledgeBaseArticleServ
         knowledgeBaseRelatedRefRepository.deleteByArticleId(id);
         knowledgeBaseArticleRepository.delete(entity);
         deleteDocumentIndex(entity);
+        deleteBacklinks(entity);
     }
 
     @Override
@@ -403,4 +411,25 @@ public class KnowledgeBaseArticleServiceImpl implements KnowledgeBaseArticleServ
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(KnowledgeBaseArticle entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                "KNOWLEDGE_BASE",
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getSummary(),
+                entity.getContent()
+        );
+    }
+
+    private void deleteBacklinks(KnowledgeBaseArticle entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks("KNOWLEDGE_BASE", entity.getId());
+    }
 }
@@ -3,6 +3,7 @@ package org.example.domain.meetingNote.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
 import org.example.domain.defect.entity.Defect;
 import org.example.domain.defect.repository.DefectRepository;
@@ -41,6 +42,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -75,6 +77,7 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
     private final DocumentNoGenerator documentNoGenerator;
     private final ObjectMapper objectMapper;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
 
     public MeetingNoteServiceImpl(
             MeetingNoteRepository meetingNoteRepository,
@@ -89,7 +92,8 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
             KnowledgeBaseArticleRepository knowledgeBaseArticleRepository,
             DocumentNoGenerator documentNoGenerator,
             ObjectMapper objectMapper,
-            DocumentIndexSyncService documentIndexSyncService
+            DocumentIndexSyncService documentIndexSyncService,
+            @Nullable DocumentBacklinkService documentBacklinkService
     ) {
         this.meetingNoteRepository = meetingNoteRepository;
         this.meetingActionItemRepository = meetingActionItemRepository;
@@ -104,6 +108,7 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
         this.documentNoGenerator = documentNoGenerator;
         this.objectMapper = objectMapper;
         this.documentIndexSyncService = documentIndexSyncService;
+        this.documentBacklinkService = documentBacklinkService;
     }
 
     @Override
@@ -155,6 +160,7 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
 
         MeetingNote saved = meetingNoteRepository.save(entity);
         syncDocumentIndex(saved);
+        syncBacklinks(saved);
 
         if (request.actionItems() != null) {
             persistActionItems(saved.getId(), request.actionItems());
@@ -204,6 +210,7 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
             persistRelatedRefs(id, request.relatedRefs());
         }
         syncDocumentIndex(entity);
+        syncBacklinks(entity);
     }
 
     @Override
@@ -216,6 +223,7 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
         meetingNoteRelatedRefRepository.deleteByMeetingNoteId(id);
         meetingNoteRepository.delete(entity);
         deleteDocumentIndex(entity);
+        deleteBacklinks(entity);
     }
 
     @Override
@@ -597,4 +605,24 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(MeetingNote entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                "MEETING_NOTE",
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getContent()
+        );
+    }
+
+    private void deleteBacklinks(MeetingNote entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks("MEETING_NOTE", entity.getId());
+    }
 }
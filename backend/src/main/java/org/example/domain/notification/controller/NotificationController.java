@@ -4,10 +4,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.example.domain.notification.dto.NotificationCreateRequest;
 import org.example.domain.notification.dto.NotificationDetailResponse;
 import org.example.domain.notification.dto.NotificationListResponse;
+import org.example.domain.notification.dto.NotificationScrollResponse;
 import org.example.domain.notification.dto.NotificationUnreadCountsResponse;
 import org.example.domain.notification.dto.NotificationUpdateRequest;
+import org.example.domain.notification.realtime.NotificationRealtimeService;
 import org.example.domain.notification.service.NotificationService;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.RequestPrincipal;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,10 +34,16 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final NotificationRealtimeService notificationRealtimeService;
 
-    public NotificationController(NotificationService notificationService, JwtTokenProvider jwtTokenProvider) {
+    public NotificationController(
+            NotificationService notificationService,
+            JwtTokenProvider jwtTokenProvider,
+            NotificationRealtimeService notificationRealtimeService
+    ) {
         this.notificationService = notificationService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.notificationRealtimeService = notificationRealtimeService;
     }
 
     @GetMapping
@@ -47,6 +56,18 @@ public class NotificationController {
         return notificationService.findPage(userId, read, page, size);
     }
 
+    // 무한 스크롤용 커서 조회 (전체 건수를 세지 않는다)
+    @GetMapping("/scroll")
+    public NotificationScrollResponse getNotificationScroll(
+            @RequestParam(required = false) Boolean read,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request
+    ) {
+        Long userId = extractUserIdFromToken(request);
+        return notificationService.findScroll(userId, read, beforeId, size);
+    }
+
     @GetMapping("/unread-counts")
     public NotificationUnreadCountsResponse getUnreadCounts(HttpServletRequest request) {
         Long userId = extractUserIdFromToken(request);
@@ -76,9 +97,11 @@ public class NotificationController {
     @PatchMapping("/{id}/read")
     public ResponseEntity<Void> updateReadState(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "true") boolean read
+            @RequestParam(defaultValue = "true") boolean read,
+            HttpServletRequest request
     ) {
         notificationService.updateReadState(id, read);
+        publishUnreadCounts(request);
         return ResponseEntity.noContent().build();
     }
 
@@ -89,6 +112,7 @@ public class NotificationController {
     ) {
         Long userId = extractUserIdFromToken(request);
         notificationService.updateAllReadState(userId, read);
+        notificationRealtimeService.publishUnreadCountsAfterCommit(userId);
         return ResponseEntity.noContent().build();
     }
 
@@ -101,16 +125,39 @@ public class NotificationController {
     ) {
         Long userId = extractUserIdFromToken(request);
         notificationService.updateReadStateByRef(userId, refType, refId, read);
+        notificationRealtimeService.publishUnreadCountsAfterCommit(userId);
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteNotification(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteNotification(@PathVariable Long id, HttpServletRequest request) {
         notificationService.delete(id);
+        publishUnreadCounts(request);
         return ResponseEntity.noContent().build();
     }
 
+    // 토큰이 있는 요청만 다른 탭으로 카운트를 전파한다.
+    private void publishUnreadCounts(HttpServletRequest request) {
+        Long userId = RequestPrincipal.currentUserId();
+        if (userId == null) {
+            String authorization = request.getHeader("Authorization");
+            if (authorization == null || !authorization.startsWith("Bearer ")) {
+                return;
+            }
+            try {
+                userId = jwtTokenProvider.extractUserId(authorization.substring(7).trim());
+            } catch (RuntimeException ex) {
+                return;
+            }
+        }
+        notificationRealtimeService.publishUnreadCountsAfterCommit(userId);
+    }
+
     private Long extractUserIdFromToken(HttpServletRequest request) {
+        Long principalUserId = RequestPrincipal.currentUserId();
+        if (principalUserId != null) {
+            return principalUserId;
+        }
         String authorization = request.getHeader("Authorization");
         if (authorization == null || !authorization.startsWith("Bearer ")) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authorization 헤더가 필요합니다.");
@@ -0,0 +1,11 @@
+package org.example.domain.notification.dto;
+
+public record NotificationCommand(
+        Long userId,
+        String type,
+        String title,
+        String message,
+        String refType,
+        Long refId
+) {
+}
@@ -0,0 +1,10 @@
+package org.example.domain.notification.dto;
+
+import java.util.List;
+
+public record NotificationScrollResponse(
+        List<NotificationListResponse> items,
+        Long nextBeforeId,
+        boolean hasNext
+) {
+}
@@ -41,6 +41,12 @@ public class Notification {
     @Column(name = "slack_sent", nullable = false)
     private Boolean slackSent;
 
+    @Column(name = "coalesced_count", nullable = false)
+    private Integer coalescedCount;
+
+    @Column(name = "digest_pending", nullable = false)
+    private Boolean digestPending;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -126,4 +132,20 @@ public class Notification {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Integer getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public void setCoalescedCount(Integer coalescedCount) {
+        this.coalescedCount = coalescedCount;
+    }
+
+    public Boolean getDigestPending() {
+        return digestPending;
+    }
+
+    public void setDigestPending(Boolean digestPending) {
+        this.digestPending = digestPending;
+    }
 }
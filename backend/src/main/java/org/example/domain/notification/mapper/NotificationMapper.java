@@ -5,6 +5,7 @@ import org.example.domain.notification.dto.NotificationDetailResponse;
 import org.example.domain.notification.dto.NotificationListResponse;
 import org.example.domain.notification.dto.NotificationUpdateRequest;
 import org.example.domain.notification.entity.Notification;
+import org.example.domain.notification.entity.NotificationArchive;
 
 public final class NotificationMapper {
 
@@ -21,6 +22,8 @@ public final class NotificationMapper {
         entity.setRefId(request.refId());
         entity.setIsRead(false);
         entity.setSlackSent(request.slackSent() != null && request.slackSent());
+        entity.setCoalescedCount(1);
+        entity.setDigestPending(false);
         return entity;
     }
 
@@ -77,4 +80,34 @@ public final class NotificationMapper {
                 entity.getCreatedAt()
         );
     }
+
+    public static NotificationListResponse toListResponse(NotificationArchive entity) {
+        return new NotificationListResponse(
+                entity.getId(),
+                entity.getUserId(),
+                entity.getType(),
+                entity.getTitle(),
+                entity.getMessage(),
+                entity.getRefType(),
+                entity.getRefId(),
+                entity.getIsRead(),
+                entity.getSlackSent(),
+                entity.getCreatedAt()
+        );
+    }
+
+    public static NotificationDetailResponse toDetailResponse(NotificationArchive entity) {
+        return new NotificationDetailResponse(
+                entity.getId(),
+                entity.getUserId(),
+                entity.getType(),
+                entity.getTitle(),
+                entity.getMessage(),
+                entity.getRefType(),
+                entity.getRefId(),
+                entity.getIsRead(),
+                entity.getSlackSent(),
+                entity.getCreatedAt()
+        );
+    }
 }
@@ -0,0 +1,11 @@
+package org.example.domain.notification.realtime;
+
+import org.example.domain.notification.dto.NotificationDetailResponse;
+import org.example.domain.notification.dto.NotificationUnreadCountsResponse;
+
+public record NotificationPushMessage(
+        String event,
+        NotificationDetailResponse notification,
+        NotificationUnreadCountsResponse unreadCounts
+) {
+}
@@ -0,0 +1,91 @@
+package org.example.domain.notification.realtime;
+
+import org.example.domain.notification.dto.NotificationDetailResponse;
+import org.example.domain.notification.service.NotificationService;
+import org.example.global.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+@Service
+public class NotificationRealtimeService {
+
+    public static final String USER_DESTINATION = "/queue/notifications";
+    static final String EVENT_CREATED = "CREATED";
+    static final String EVENT_UPDATED = "UPDATED";
+    static final String EVENT_COUNTS = "COUNTS";
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRealtimeService.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final NotificationService notificationService;
+
+    public NotificationRealtimeService(
+            SimpMessagingTemplate messagingTemplate,
+            SimpUserRegistry simpUserRegistry,
+            NotificationService notificationService
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.simpUserRegistry = simpUserRegistry;
+        this.notificationService = notificationService;
+    }
+
+    // 롤백된 알림은 전송되지 않도록 커밋 이후에 전송한다.
+    public void publishCreatedAfterCommit(Long userId, Long notificationId) {
+        TransactionCallbacks.afterCommit(() -> publishCreated(userId, notificationId));
+    }
+
+    // 기존 알림에 변경이 병합된 경우
+    public void publishUpdatedAfterCommit(Long userId, Long notificationId) {
+        TransactionCallbacks.afterCommit(() -> publishNotification(EVENT_UPDATED, userId, notificationId));
+    }
+
+    public void publishUnreadCountsAfterCommit(Long userId) {
+        TransactionCallbacks.afterCommit(() -> publishUnreadCounts(userId));
+    }
+
+    void publishCreated(Long userId, Long notificationId) {
+        publishNotification(EVENT_CREATED, userId, notificationId);
+    }
+
+    // 카운트는 publishUnreadCounts 와 같은 이유로 DB 에서 다시 집계한다.
+    private void publishNotification(String event, Long userId, Long notificationId) {
+        if (!isConnected(userId) || notificationId == null) {
+            return;
+        }
+        try {
+            NotificationDetailResponse notification = notificationService.findById(notificationId);
+            send(userId, new NotificationPushMessage(
+                    event,
+                    notification,
+                    notificationService.refreshUnreadCounts(userId)
+            ));
+        } catch (RuntimeException ex) {
+            log.warn("알림 실시간 전송에 실패했습니다. userId={}, notificationId={}", userId, notificationId, ex);
+        }
+    }
+
+    // 푸시한 카운트는 탭에 그대로 표시되므로, 다른 인스턴스의 변경이 빠졌을 수 있는 캐시 대신 DB 에서 다시 집계한다.
+    void publishUnreadCounts(Long userId) {
+        if (!isConnected(userId)) {
+            return;
+        }
+        try {
+            send(userId, new NotificationPushMessage(EVENT_COUNTS, null, notificationService.refreshUnreadCounts(userId)));
+        } catch (RuntimeException ex) {
+            log.warn("알림 카운트 실시간 전송에 실패했습니다. userId={}", userId, ex);
+        }
+    }
+
+    // 접속 중인 세션이 없으면 조회/전송 비용을 쓰지 않는다.
+    private boolean isConnected(Long userId) {
+        return userId != null && simpUserRegistry.getUser(String.valueOf(userId)) != null;
+    }
+
+    private void send(Long userId, NotificationPushMessage message) {
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), USER_DESTINATION, message);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.domain.notification.repository;
+
+import org.example.domain.notification.entity.NotificationArchive;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    List<NotificationArchive> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Limit limit);
+
+    @Query("select count(a.id) from NotificationArchive a where (:userId is null or a.userId = :userId)")
+    long countByOptionalUserId(@Param("userId") Long userId);
+
+    @Query("""
+            select a.id from NotificationArchive a
+            where (:userId is null or a.userId = :userId)
+            order by a.id desc
+            """)
+    List<Long> findIds(@Param("userId") Long userId, Limit limit);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO notifications_archive
+                (id, user_id, type, title, message, ref_type, ref_id, is_read, slack_sent, coalesced_count, created_at)
+            SELECT id, user_id, type, title, message, ref_type, ref_id, is_read, slack_sent, coalesced_count, created_at
+            FROM notifications
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int copyFromNotifications(@Param("ids") Collection<Long> ids);
+
+    // 보관된 알림을 미읽음으로 되돌릴 때 같은 id 로 hot 테이블에 복원한다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO notifications
+                (id, user_id, type, title, message, ref_type, ref_id, is_read, slack_sent, coalesced_count, created_at)
+            SELECT id, user_id, type, title, message, ref_type, ref_id, 0, slack_sent, coalesced_count, created_at
+            FROM notifications_archive
+            WHERE id = :id
+            """, nativeQuery = true)
+    int restoreAsUnread(@Param("id") Long id);
+}
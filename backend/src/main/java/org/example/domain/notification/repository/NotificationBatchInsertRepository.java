@@ -0,0 +1,88 @@
+package org.example.domain.notification.repository;
+
+import org.example.domain.notification.entity.Notification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 다건 저장용 JDBC 배치 insert.
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 배치로 묶지 못하므로 팬아웃 경로는 이 저장소를 사용한다.
+ */
+@Repository
+public class NotificationBatchInsertRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (user_id, type, title, message, ref_type, ref_id, is_read, slack_sent)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationBatchInsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 입력 순서와 같은 순서로 생성된 id 를 돌려준다.
+    public List<Long> insertAll(List<Notification> notifications) {
+        List<Long> ids = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + BATCH_SIZE, notifications.size()));
+            ids.addAll(insertChunk(chunk));
+        }
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<Notification> chunk) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = chunk.get(i);
+                        ps.setLong(1, notification.getUserId());
+                        ps.setString(2, notification.getType());
+                        ps.setString(3, notification.getTitle());
+                        ps.setString(4, notification.getMessage());
+                        ps.setString(5, notification.getRefType());
+                        if (notification.getRefId() == null) {
+                            ps.setNull(6, Types.BIGINT);
+                        } else {
+                            ps.setLong(6, notification.getRefId());
+                        }
+                        ps.setBoolean(7, Boolean.TRUE.equals(notification.getIsRead()));
+                        ps.setBoolean(8, Boolean.TRUE.equals(notification.getSlackSent()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("Generated key count mismatch: expected " + chunk.size() + ", got " + keys.size());
+        }
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            Object value = key.values().iterator().next();
+            ids.add(((Number) value).longValue());
+        }
+        return ids;
+    }
+}
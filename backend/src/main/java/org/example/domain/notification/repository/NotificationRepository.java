@@ -1,12 +1,20 @@
 package org.example.domain.notification.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.domain.notification.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -16,9 +24,89 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Page<Notification> findByIsReadOrderByIdDesc(Boolean isRead, Pageable pageable);
 
-    long countByUserIdAndIsReadFalse(Long userId);
+    // 커서 조회는 count 쿼리 없이 limit 만큼만 읽는다.
+    List<Notification> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Limit limit);
+
+    List<Notification> findByUserIdAndIsReadAndIdLessThanOrderByIdDesc(Long userId, Boolean isRead, Long beforeId, Limit limit);
+
+    // 보관 테이블과 id 순으로 병합해 페이징할 때 쓰는 id 목록과 건수.
+    @Query("""
+            select n.id from Notification n
+            where (:userId is null or n.userId = :userId)
+              and (:isRead is null or n.isRead = :isRead)
+            order by n.id desc
+            """)
+    List<Long> findIds(@Param("userId") Long userId, @Param("isRead") Boolean isRead, Limit limit);
 
-    long countByUserIdAndIsReadFalseAndRefType(Long userId, String refType);
+    @Query("""
+            select count(n.id) from Notification n
+            where (:userId is null or n.userId = :userId)
+              and (:isRead is null or n.isRead = :isRead)
+            """)
+    long countByOptionalFilters(@Param("userId") Long userId, @Param("isRead") Boolean isRead);
+
+    // Slack outbox 워커(트랜잭션 밖)에서 호출된다.
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.slackSent = true where n.id = :id")
+    int markSlackSent(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.slackSent = true where n.id in :ids")
+    int markSlackSentByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 병합 대상: 같은 사용자·유형·대상의 미읽음 알림 중 창(window) 안에 생성된 가장 최근 건
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select n from Notification n
+            where n.userId = :userId
+              and n.isRead = false
+              and n.type = :type
+              and n.refType = :refType
+              and n.refId = :refId
+              and n.createdAt >= :since
+            order by n.id desc
+            """)
+    List<Notification> findCoalesceTargetsForUpdate(
+            @Param("userId") Long userId,
+            @Param("type") String type,
+            @Param("refType") String refType,
+            @Param("refId") Long refId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    List<Notification> findByDigestPendingTrueOrderByIdAsc(Pageable pageable);
+
+    // 보관 이동 대상: 읽은 지 오래된 알림. 이동이 끝날 때까지 행을 잠가 읽음 상태 변경과 경합하지 않게 한다.
+    @Query(value = """
+            SELECT id FROM notifications
+            WHERE is_read = 1
+              AND digest_pending = 0
+              AND created_at < :cutoff
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Notification n set n.digestPending = false where n.id in :ids")
+    int clearDigestPending(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select n.refType as refType, count(n.id) as unreadCount
+            from Notification n
+            where n.userId = :userId
+              and n.isRead = false
+            group by n.refType
+            """)
+    List<UnreadCountProjection> countUnreadGroupByRefType(@Param("userId") Long userId);
 
     @Modifying
     @Query("update Notification n set n.isRead = :isRead where n.userId = :userId")
@@ -27,4 +115,10 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Modifying
     @Query("update Notification n set n.isRead = :isRead where n.userId = :userId and n.refType = :refType and n.refId = :refId and n.isRead = false")
     int updateReadStateByUserIdAndRefTypeAndRefId(@Param("userId") Long userId, @Param("refType") String refType, @Param("refId") Long refId, @Param("isRead") boolean isRead);
+
+    interface UnreadCountProjection {
+        String getRefType();
+
+        long getUnreadCount();
+    }
 }
@@ -0,0 +1,54 @@
+package org.example.domain.notification.service;
+
+import org.example.domain.notification.repository.NotificationArchiveRepository;
+import org.example.domain.notification.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 읽은 지 보존 기간이 지난 알림을 notifications_archive 로 청크 단위 이동한다.
+ * 청크마다 트랜잭션을 끊어 잠금 범위와 undo 로그를 작게 유지한다.
+ */
+@Component
+public class NotificationArchiver {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final int readRetentionDays;
+    private final int chunkSize;
+
+    public NotificationArchiver(
+            NotificationRepository notificationRepository,
+            NotificationArchiveRepository notificationArchiveRepository,
+            @Value("${app.notification.retention.read-days:90}") int readRetentionDays,
+            @Value("${app.notification.retention.chunk-size:1000}") int chunkSize
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.notificationArchiveRepository = notificationArchiveRepository;
+        this.readRetentionDays = Math.max(readRetentionDays, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    public LocalDateTime cutoff(LocalDateTime now) {
+        return now.minusDays(readRetentionDays);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    // 한 청크를 복사 후 삭제한다. 옮긴 건수를 돌려준다.
+    @Transactional
+    public int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = notificationRepository.lockArchivableIds(cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        notificationArchiveRepository.copyFromNotifications(ids);
+        return notificationRepository.deleteByIdIn(ids);
+    }
+}
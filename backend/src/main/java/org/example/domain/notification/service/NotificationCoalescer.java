@@ -0,0 +1,176 @@
+package org.example.domain.notification.service;
+
+import org.example.domain.notification.dto.NotificationCommand;
+import org.example.domain.notification.entity.Notification;
+import org.example.domain.notification.repository.NotificationRepository;
+import org.example.global.slack.SlackNotificationItem;
+import org.example.global.slack.SlackNotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 사용자·유형·대상(refType, refId)의 알림이 창(window) 안에 다시 발생하면
+ * 새 행을 만들지 않고 기존 미읽음 알림에 변경 요약으로 합친다.
+ * 합쳐진 변경은 즉시 Slack 으로 보내지 않고 digest 로 주기적으로 요약 발송한다.
+ * digest 가 꺼져 있으면 병합된 변경이 Slack 에 닿을 길이 없으므로 병합도 하지 않는다.
+ */
+@Component
+public class NotificationCoalescer {
+
+    static final int MAX_SUMMARY_LINES = 5;
+    static final String MORE_PREFIX = "… 외 ";
+    private static final int DIGEST_BATCH_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final SlackNotificationService slackNotificationService;
+    private final boolean enabled;
+    private final Duration window;
+    private final Set<String> types;
+    private final boolean digestEnabled;
+    private final Clock clock;
+
+    @Autowired
+    public NotificationCoalescer(
+            NotificationRepository notificationRepository,
+            SlackNotificationService slackNotificationService,
+            @Value("${app.notification.coalesce.enabled:true}") boolean enabled,
+            @Value("${app.notification.coalesce.window-minutes:10}") long windowMinutes,
+            @Value("${app.notification.coalesce.types:상태변경}") String types,
+            @Value("${app.notification.coalesce.digest-enabled:true}") boolean digestEnabled
+    ) {
+        this(notificationRepository, slackNotificationService, enabled, windowMinutes, types, digestEnabled, Clock.systemDefaultZone());
+    }
+
+    NotificationCoalescer(
+            NotificationRepository notificationRepository,
+            SlackNotificationService slackNotificationService,
+            boolean enabled,
+            long windowMinutes,
+            String types,
+            boolean digestEnabled,
+            Clock clock
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.slackNotificationService = slackNotificationService;
+        this.enabled = enabled && digestEnabled && windowMinutes > 0;
+        this.window = Duration.ofMinutes(Math.max(windowMinutes, 0L));
+        this.types = types == null ? Set.of() : Arrays.stream(types.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.digestEnabled = digestEnabled;
+        this.clock = clock;
+    }
+
+    public boolean isDigestEnabled() {
+        return digestEnabled;
+    }
+
+    public boolean supports(NotificationCommand command) {
+        return enabled
+                && command != null
+                && command.userId() != null
+                && command.refType() != null
+                && command.refId() != null
+                && command.type() != null
+                && types.contains(command.type().trim());
+    }
+
+    /**
+     * 합칠 대상이 있으면 병합 후 그 알림 id 를, 없으면 null 을 돌려준다.
+     */
+    @Transactional
+    public Long tryMerge(NotificationCommand command) {
+        if (!supports(command)) {
+            return null;
+        }
+
+        LocalDateTime since = LocalDateTime.now(clock).minus(window);
+        List<Notification> targets = notificationRepository.findCoalesceTargetsForUpdate(
+                command.userId(),
+                command.type().trim(),
+                command.refType().trim(),
+                command.refId(),
+                since,
+                PageRequest.of(0, 1)
+        );
+        if (targets.isEmpty()) {
+            return null;
+        }
+
+        Notification target = targets.get(0);
+        int count = (target.getCoalescedCount() == null ? 1 : target.getCoalescedCount()) + 1;
+        target.setCoalescedCount(count);
+        target.setMessage(mergeMessage(target.getMessage(), command.message(), count));
+        target.setDigestPending(true);
+        return target.getId();
+    }
+
+    /**
+     * 병합 이후 아직 Slack 에 알리지 않은 알림을 묶어 한 메시지로 적재한다.
+     */
+    @Transactional
+    public int flushDigest() {
+        if (!digestEnabled) {
+            return 0;
+        }
+
+        List<Notification> pending = notificationRepository.findByDigestPendingTrueOrderByIdAsc(
+                PageRequest.of(0, DIGEST_BATCH_SIZE));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<SlackNotificationItem> items = new ArrayList<>(pending.size());
+        List<Long> ids = new ArrayList<>(pending.size());
+        for (Notification notification : pending) {
+            ids.add(notification.getId());
+            items.add(new SlackNotificationItem(
+                    notification.getId(),
+                    notification.getType(),
+                    notification.getTitle() + " (" + notification.getCoalescedCount() + "건)",
+                    notification.getMessage(),
+                    notification.getRefType(),
+                    notification.getRefId()
+            ));
+        }
+        slackNotificationService.sendAll(items);
+        notificationRepository.clearDigestPending(ids);
+        return pending.size();
+    }
+
+    // 최신 변경이 맨 위에 오도록 최근 MAX_SUMMARY_LINES 줄만 남기고 나머지는 건수로 요약한다.
+    static String mergeMessage(String previous, String latest, int count) {
+        List<String> lines = new ArrayList<>();
+        if (latest != null && !latest.isBlank()) {
+            lines.add(latest.trim());
+        }
+        if (previous != null) {
+            for (String line : previous.split("\n")) {
+                if (!line.isBlank() && !line.startsWith(MORE_PREFIX)) {
+                    lines.add(line);
+                }
+            }
+        }
+
+        List<String> kept = lines.size() > MAX_SUMMARY_LINES ? lines.subList(0, MAX_SUMMARY_LINES) : lines;
+        StringBuilder builder = new StringBuilder(String.join("\n", kept));
+        int omitted = count - kept.size();
+        if (omitted > 0) {
+            builder.append('\n').append(MORE_PREFIX).append(omitted).append("건");
+        }
+        return builder.toString();
+    }
+}
@@ -1,15 +1,25 @@
 package org.example.domain.notification.service;
 
+import org.example.domain.notification.dto.NotificationCommand;
 import org.example.domain.notification.dto.NotificationCreateRequest;
-import org.example.domain.user.entity.UserPreference;
-import org.example.domain.user.repository.UserPreferenceRepository;
+import org.example.domain.notification.realtime.NotificationRealtimeService;
+import org.example.domain.user.service.UserNotificationFlags;
+import org.example.domain.user.service.UserNotificationPreferenceCache;
+import org.example.global.slack.SlackNotificationItem;
 import org.example.global.slack.SlackNotificationService;
 import org.example.global.team.TeamRequestContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 @Service
 public class NotificationEventService {
@@ -17,17 +27,23 @@ public class NotificationEventService {
     private static final Logger log = LoggerFactory.getLogger(NotificationEventService.class);
 
     private final NotificationService notificationService;
-    private final UserPreferenceRepository userPreferenceRepository;
+    private final UserNotificationPreferenceCache userNotificationPreferenceCache;
     private final SlackNotificationService slackNotificationService;
+    private final NotificationRealtimeService notificationRealtimeService;
+    private final NotificationCoalescer notificationCoalescer;
 
     public NotificationEventService(
             NotificationService notificationService,
-            UserPreferenceRepository userPreferenceRepository,
-            SlackNotificationService slackNotificationService
+            UserNotificationPreferenceCache userNotificationPreferenceCache,
+            SlackNotificationService slackNotificationService,
+            @Nullable NotificationRealtimeService notificationRealtimeService,
+            @Nullable NotificationCoalescer notificationCoalescer
     ) {
         this.notificationService = notificationService;
-        this.userPreferenceRepository = userPreferenceRepository;
+        this.userNotificationPreferenceCache = userNotificationPreferenceCache;
         this.slackNotificationService = slackNotificationService;
+        this.notificationRealtimeService = notificationRealtimeService;
+        this.notificationCoalescer = notificationCoalescer;
     }
 
     public void create(
@@ -46,7 +62,10 @@ public class NotificationEventService {
         }
 
         try {
-            notificationService.create(new NotificationCreateRequest(
+            if (mergeIntoRecent(new NotificationCommand(userId, type, title, message, refType, refId))) {
+                return;
+            }
+            Long notificationId = notificationService.create(new NotificationCreateRequest(
                     userId,
                     type,
                     title,
@@ -55,31 +74,141 @@ public class NotificationEventService {
                     refId,
                     false
             ));
-            slackNotificationService.send(type, title, message, refType, refId);
+            if (notificationRealtimeService != null) {
+                notificationRealtimeService.publishCreatedAfterCommit(userId, notificationId);
+            }
+            slackNotificationService.send(notificationId, type, title, message, refType, refId);
         } catch (RuntimeException ex) {
             log.warn("알림 생성에 실패했습니다. userId={}, type={}, refType={}, refId={}", userId, type, refType, refId, ex);
         }
     }
 
-    private boolean isEnabled(Long userId, String type) {
-        UserPreference preference = userPreferenceRepository.findById(userId).orElse(null);
-        if (preference == null) {
-            // 기존 사용자 호환성을 위해 환경설정이 없으면 알림을 허용한다.
-            return true;
+    /**
+     * 여러 수신자에게 한 번에 알림을 보낸다.
+     * 같은 수신자·유형·대상의 중복은 제거하고, 수신 설정은 일괄 조회, 저장은 JDBC 배치 insert,
+     * Slack 은 채널 메시지 하나로 묶어 적재한다.
+     */
+    public void createAll(List<NotificationCommand> commands) {
+        try {
+            createAllOrThrow(commands);
+        } catch (RuntimeException ex) {
+            log.warn("알림 일괄 생성에 실패했습니다. size={}", commands.size(), ex);
+        }
+    }
+
+    /**
+     * createAll 과 같지만 저장 실패를 삼키지 않고 던진다.
+     * 호출자가 같은 트랜잭션에서 남긴 발송 이력을 함께 롤백해야 할 때 쓴다.
+     */
+    public void createAllOrThrow(List<NotificationCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return;
+        }
+
+        Map<List<Object>, NotificationCommand> distinct = new LinkedHashMap<>();
+        for (NotificationCommand command : commands) {
+            if (command != null && command.userId() != null) {
+                distinct.putIfAbsent(Arrays.asList(command.userId(), command.type(), command.refType(), command.refId()), command);
+            }
+        }
+        if (distinct.isEmpty()) {
+            return;
         }
 
+        Map<Long, UserNotificationFlags> flagsByUser = userNotificationPreferenceCache.getAll(
+                distinct.values().stream().map(NotificationCommand::userId).toList());
+        List<NotificationCommand> targets = new ArrayList<>();
+        for (NotificationCommand command : distinct.values()) {
+            if (isEnabled(flagsByUser.get(command.userId()), resolveCategory(command.type()))) {
+                targets.add(command);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        targets.removeIf(this::mergeIntoRecent);
+        if (targets.isEmpty()) {
+            return;
+        }
+        List<Long> notificationIds = notificationService.createAll(targets.stream()
+                .map(command -> new NotificationCreateRequest(
+                        command.userId(),
+                        command.type(),
+                        command.title(),
+                        command.message(),
+                        command.refType(),
+                        command.refId(),
+                        false
+                ))
+                .toList());
+
+        List<SlackNotificationItem> slackItems = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            NotificationCommand command = targets.get(i);
+            Long notificationId = notificationIds.get(i);
+            if (notificationRealtimeService != null) {
+                notificationRealtimeService.publishCreatedAfterCommit(command.userId(), notificationId);
+            }
+            slackItems.add(new SlackNotificationItem(
+                    notificationId,
+                    command.type(),
+                    command.title(),
+                    command.message(),
+                    command.refType(),
+                    command.refId()
+            ));
+        }
+        slackNotificationService.sendAll(slackItems);
+    }
+
+    // 최근 같은 대상 알림에 병합되었으면 true (새 행·Slack 발송 없음)
+    private boolean mergeIntoRecent(NotificationCommand command) {
+        if (notificationCoalescer == null || !notificationCoalescer.supports(command)) {
+            return false;
+        }
+        Long mergedId = notificationCoalescer.tryMerge(command);
+        if (mergedId == null) {
+            return false;
+        }
+        if (notificationRealtimeService != null) {
+            notificationRealtimeService.publishUpdatedAfterCommit(command.userId(), mergedId);
+        }
+        return true;
+    }
+
+    // 여러 사용자에게 같은 유형의 알림을 보낼 때 수신 설정을 한 번에 조회한다.
+    public Map<Long, Boolean> isEnabled(Collection<Long> userIds, String type) {
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return result;
+        }
         NotificationCategory category = resolveCategory(type);
-        if (category == null) {
+        Map<Long, UserNotificationFlags> flagsByUser = userNotificationPreferenceCache.getAll(userIds);
+        for (Long userId : userIds) {
+            if (userId != null) {
+                result.put(userId, isEnabled(flagsByUser.get(userId), category));
+            }
+        }
+        return result;
+    }
+
+    private boolean isEnabled(Long userId, String type) {
+        return isEnabled(userNotificationPreferenceCache.get(userId), resolveCategory(type));
+    }
+
+    private boolean isEnabled(UserNotificationFlags flags, NotificationCategory category) {
+        if (flags == null || category == null) {
             return true;
         }
 
         return switch (category) {
-            case ASSIGN -> Boolean.TRUE.equals(preference.getNotifyAssign());
-            case COMMENT -> Boolean.TRUE.equals(preference.getNotifyComment());
-            case DEADLINE -> Boolean.TRUE.equals(preference.getNotifyDeadline());
-            case STATUS -> Boolean.TRUE.equals(preference.getNotifyStatus());
-            case DEPLOY -> Boolean.TRUE.equals(preference.getNotifyDeploy());
-            case MENTION -> Boolean.TRUE.equals(preference.getNotifyMention());
+            case ASSIGN -> flags.assign();
+            case COMMENT -> flags.comment();
+            case DEADLINE -> flags.deadline();
+            case STATUS -> flags.status();
+            case DEPLOY -> flags.deploy();
+            case MENTION -> flags.mention();
         };
     }
 
@@ -3,18 +3,25 @@ package org.example.domain.notification.service;
 import org.example.domain.notification.dto.NotificationCreateRequest;
 import org.example.domain.notification.dto.NotificationDetailResponse;
 import org.example.domain.notification.dto.NotificationListResponse;
+import org.example.domain.notification.dto.NotificationScrollResponse;
 import org.example.domain.notification.dto.NotificationUnreadCountsResponse;
 import org.example.domain.notification.dto.NotificationUpdateRequest;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 public interface NotificationService {
 
     Page<NotificationListResponse> findPage(Long userId, Boolean isRead, int page, int size);
 
+    NotificationScrollResponse findScroll(Long userId, Boolean isRead, Long beforeId, int size);
+
     NotificationDetailResponse findById(Long id);
 
     Long create(NotificationCreateRequest request);
 
+    List<Long> createAll(List<NotificationCreateRequest> requests);
+
     void update(Long id, NotificationUpdateRequest request);
 
     void updateReadState(Long id, boolean isRead);
@@ -25,5 +32,8 @@ public interface NotificationService {
 
     NotificationUnreadCountsResponse findUnreadCounts(Long userId);
 
+    // 캐시를 거치지 않고 DB 에서 다시 집계하고, 이 인스턴스의 캐시도 그 값으로 맞춘다.
+    NotificationUnreadCountsResponse refreshUnreadCounts(Long userId);
+
     void delete(Long id);
 }
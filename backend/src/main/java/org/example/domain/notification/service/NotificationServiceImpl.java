@@ -3,12 +3,20 @@ package org.example.domain.notification.service;
 import org.example.domain.notification.dto.NotificationCreateRequest;
 import org.example.domain.notification.dto.NotificationDetailResponse;
 import org.example.domain.notification.dto.NotificationListResponse;
+import org.example.domain.notification.dto.NotificationScrollResponse;
 import org.example.domain.notification.dto.NotificationUnreadCountsResponse;
 import org.example.domain.notification.dto.NotificationUpdateRequest;
 import org.example.domain.notification.entity.Notification;
+import org.example.domain.notification.entity.NotificationArchive;
 import org.example.domain.notification.mapper.NotificationMapper;
+import org.example.domain.notification.repository.NotificationArchiveRepository;
+import org.example.domain.notification.repository.NotificationBatchInsertRepository;
 import org.example.domain.notification.repository.NotificationRepository;
+import org.example.domain.notification.repository.NotificationRepository.UnreadCountProjection;
+import org.example.global.util.TransactionCallbacks;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -16,41 +24,153 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @Transactional(readOnly = true)
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchInsertRepository notificationBatchInsertRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
 
-    public NotificationServiceImpl(NotificationRepository notificationRepository) {
+    public NotificationServiceImpl(
+            NotificationRepository notificationRepository,
+            NotificationBatchInsertRepository notificationBatchInsertRepository,
+            NotificationArchiveRepository notificationArchiveRepository,
+            NotificationUnreadCounter notificationUnreadCounter
+    ) {
         this.notificationRepository = notificationRepository;
+        this.notificationBatchInsertRepository = notificationBatchInsertRepository;
+        this.notificationArchiveRepository = notificationArchiveRepository;
+        this.notificationUnreadCounter = notificationUnreadCounter;
     }
 
     @Override
     public Page<NotificationListResponse> findPage(Long userId, Boolean isRead, int page, int size) {
         PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
 
+        // archive 에는 읽은 알림만 있으므로 미읽음 조회는 hot 테이블만 본다.
+        if (Boolean.FALSE.equals(isRead)) {
+            return findHotPage(userId, isRead, pageable).map(NotificationMapper::toListResponse);
+        }
+        return mergeWithArchive(userId, isRead, pageable);
+    }
+
+    private Page<Notification> findHotPage(Long userId, Boolean isRead, PageRequest pageable) {
         if (userId != null && isRead != null) {
-            return notificationRepository.findByUserIdAndIsReadOrderByIdDesc(userId, isRead, pageable)
-                    .map(NotificationMapper::toListResponse);
+            return notificationRepository.findByUserIdAndIsReadOrderByIdDesc(userId, isRead, pageable);
         }
         if (userId != null) {
-            return notificationRepository.findByUserIdOrderByIdDesc(userId, pageable)
-                    .map(NotificationMapper::toListResponse);
+            return notificationRepository.findByUserIdOrderByIdDesc(userId, pageable);
         }
         if (isRead != null) {
-            return notificationRepository.findByIsReadOrderByIdDesc(isRead, pageable)
-                    .map(NotificationMapper::toListResponse);
+            return notificationRepository.findByIsReadOrderByIdDesc(isRead, pageable);
         }
+        return notificationRepository.findAll(pageable);
+    }
 
-        return notificationRepository.findAll(pageable)
-                .map(NotificationMapper::toListResponse);
+    // 두 테이블의 id 를 같은 기준(id 역순)으로 병합해 페이징한다. 보관돼도 id 는 그대로라 행이 옮겨져도 순서와 페이지 경계가 바뀌지 않는다.
+    // offset+size 개의 id 만 읽으므로(인덱스만 사용) 깊은 페이지일수록 비용이 늘어난다. 긴 목록은 findScroll 을 쓴다.
+    private Page<NotificationListResponse> mergeWithArchive(Long userId, Boolean isRead, PageRequest pageable) {
+        long archiveTotal = notificationArchiveRepository.countByOptionalUserId(userId);
+        if (archiveTotal == 0) {
+            return findHotPage(userId, isRead, pageable).map(NotificationMapper::toListResponse);
+        }
+        long hotTotal = notificationRepository.countByOptionalFilters(userId, isRead);
+        long total = hotTotal + archiveTotal;
+        if (pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Limit window = Limit.of(Math.toIntExact(Math.min(pageable.getOffset() + pageable.getPageSize(), total)));
+        List<Long> hotIds = notificationRepository.findIds(userId, isRead, window);
+        List<Long> archiveIds = notificationArchiveRepository.findIds(userId, window);
+
+        // (id, 보관 여부)를 id 역순으로 병합한 뒤 이번 페이지 구간만 남긴다.
+        List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+        List<Long> pageHotIds = new ArrayList<>();
+        List<Long> pageArchiveIds = new ArrayList<>();
+        int hotIndex = 0;
+        int archiveIndex = 0;
+        long position = 0;
+        while (pageIds.size() < pageable.getPageSize() && (hotIndex < hotIds.size() || archiveIndex < archiveIds.size())) {
+            boolean takeHot = archiveIndex >= archiveIds.size()
+                    || (hotIndex < hotIds.size() && hotIds.get(hotIndex) > archiveIds.get(archiveIndex));
+            Long id = takeHot ? hotIds.get(hotIndex++) : archiveIds.get(archiveIndex++);
+            if (position++ < pageable.getOffset()) {
+                continue;
+            }
+            pageIds.add(id);
+            (takeHot ? pageHotIds : pageArchiveIds).add(id);
+        }
+
+        Map<Long, NotificationListResponse> byId = new HashMap<>();
+        notificationRepository.findAllById(pageHotIds)
+                .forEach(entity -> byId.put(entity.getId(), NotificationMapper.toListResponse(entity)));
+        notificationArchiveRepository.findAllById(pageArchiveIds)
+                .forEach(archived -> byId.putIfAbsent(archived.getId(), NotificationMapper.toListResponse(archived)));
+
+        List<NotificationListResponse> content = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            NotificationListResponse row = byId.get(id);
+            if (row != null) {
+                content.add(row);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public NotificationScrollResponse findScroll(Long userId, Boolean isRead, Long beforeId, int size) {
+        if (userId == null || userId <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId는 필수입니다.");
+        }
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~" + MAX_SCROLL_SIZE + " 사이여야 합니다.");
+        }
+
+        long cursor = beforeId == null ? Long.MAX_VALUE : beforeId;
+        // 다음 페이지 존재 여부는 한 건 더 읽어서 판단한다.
+        Limit limit = Limit.of(size + 1);
+
+        List<Notification> hot = isRead == null
+                ? notificationRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, limit)
+                : notificationRepository.findByUserIdAndIsReadAndIdLessThanOrderByIdDesc(userId, isRead, cursor, limit);
+        // 보관 테이블도 원래 id 를 유지하므로 두 결과를 id 역순으로 병합하면 커서가 그대로 이어진다.
+        List<NotificationArchive> archived = Boolean.FALSE.equals(isRead)
+                ? List.of()
+                : notificationArchiveRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, limit);
+
+        List<NotificationListResponse> merged = new ArrayList<>(size + 1);
+        int hotIndex = 0;
+        int archiveIndex = 0;
+        while (merged.size() <= size && (hotIndex < hot.size() || archiveIndex < archived.size())) {
+            boolean takeHot = archiveIndex >= archived.size()
+                    || (hotIndex < hot.size() && hot.get(hotIndex).getId() > archived.get(archiveIndex).getId());
+            merged.add(takeHot
+                    ? NotificationMapper.toListResponse(hot.get(hotIndex++))
+                    : NotificationMapper.toListResponse(archived.get(archiveIndex++)));
+        }
+
+        boolean hasNext = merged.size() > size;
+        List<NotificationListResponse> items = hasNext ? merged.subList(0, size) : merged;
+        Long nextBeforeId = hasNext ? items.get(items.size() - 1).id() : null;
+        return new NotificationScrollResponse(List.copyOf(items), nextBeforeId, hasNext);
     }
 
     @Override
     public NotificationDetailResponse findById(Long id) {
-        Notification entity = getNotificationOrThrow(id);
-        return NotificationMapper.toDetailResponse(entity);
+        return notificationRepository.findById(id)
+                .map(NotificationMapper::toDetailResponse)
+                .or(() -> notificationArchiveRepository.findById(id).map(NotificationMapper::toDetailResponse))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "알림을 찾을 수 없습니다."));
     }
 
     @Override
@@ -58,13 +178,40 @@ public class NotificationServiceImpl implements NotificationService {
     public Long create(NotificationCreateRequest request) {
         validateCreateRequest(request);
 
-        Notification entity = NotificationMapper.fromCreateRequest(request);
-        entity.setType(request.type().trim());
-        entity.setTitle(request.title().trim());
-        entity.setMessage(normalizeNullable(request.message()));
-        entity.setRefType(normalizeNullable(request.refType()));
+        Notification saved = notificationRepository.save(toEntity(request));
+        if (!Boolean.TRUE.equals(saved.getIsRead())) {
+            adjustUnreadAfterCommit(saved.getUserId(), saved.getRefType(), 1);
+        }
+        return saved.getId();
+    }
+
+    @Override
+    @Transactional
+    public List<Long> createAll(List<NotificationCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+
+        List<Notification> entities = new ArrayList<>(requests.size());
+        for (NotificationCreateRequest request : requests) {
+            validateCreateRequest(request);
+            entities.add(toEntity(request));
+        }
+
+        List<Long> ids = notificationBatchInsertRepository.insertAll(entities);
 
-        return notificationRepository.save(entity).getId();
+        // 미읽음 카운터는 사용자·분류별로 합산해 한 번씩만 증감한다.
+        Map<Long, Map<String, Long>> unreadDeltas = new HashMap<>();
+        for (Notification entity : entities) {
+            if (!Boolean.TRUE.equals(entity.getIsRead())) {
+                String refType = entity.getRefType() == null ? NotificationUnreadCounter.NO_REF_TYPE : entity.getRefType();
+                unreadDeltas.computeIfAbsent(entity.getUserId(), key -> new HashMap<>())
+                        .merge(refType, 1L, Long::sum);
+            }
+        }
+        unreadDeltas.forEach((userId, deltas) -> deltas.forEach((refType, delta) ->
+                adjustUnreadAfterCommit(userId, refType, delta)));
+        return ids;
     }
 
     @Override
@@ -97,13 +244,38 @@ public class NotificationServiceImpl implements NotificationService {
         if (request.refType() != null) {
             entity.setRefType(normalizeNullable(request.refType()));
         }
+
+        // 읽음 여부나 분류가 바뀔 수 있는 일반 수정은 증감 대신 다시 집계한다.
+        if (request.isRead() != null || request.refType() != null) {
+            invalidateUnreadAfterCommit(entity.getUserId());
+        }
     }
 
     @Override
     @Transactional
     public void updateReadState(Long id, boolean isRead) {
-        Notification entity = getNotificationOrThrow(id);
+        Notification entity = notificationRepository.findById(id).orElse(null);
+        if (entity == null) {
+            updateArchivedReadState(id, isRead);
+            return;
+        }
+        boolean wasRead = Boolean.TRUE.equals(entity.getIsRead());
         entity.setIsRead(isRead);
+        if (wasRead != isRead) {
+            adjustUnreadAfterCommit(entity.getUserId(), entity.getRefType(), isRead ? -1 : 1);
+        }
+    }
+
+    // 보관된 알림은 항상 읽음이므로 읽음 처리는 그대로 두고, 미읽음 처리는 같은 id 로 hot 테이블에 되돌린다.
+    private void updateArchivedReadState(Long id, boolean isRead) {
+        NotificationArchive archived = notificationArchiveRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "알림을 찾을 수 없습니다."));
+        if (isRead) {
+            return;
+        }
+        notificationArchiveRepository.restoreAsUnread(id);
+        notificationArchiveRepository.delete(archived);
+        adjustUnreadAfterCommit(archived.getUserId(), archived.getRefType(), 1);
     }
 
     @Override
@@ -113,6 +285,11 @@ public class NotificationServiceImpl implements NotificationService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId는 필수입니다.");
         }
         notificationRepository.updateReadStateByUserId(userId, isRead);
+        if (isRead) {
+            TransactionCallbacks.afterCommit(() -> notificationUnreadCounter.reset(userId));
+        } else {
+            invalidateUnreadAfterCommit(userId);
+        }
     }
 
     @Override
@@ -127,31 +304,88 @@ public class NotificationServiceImpl implements NotificationService {
         if (refId == null || refId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "refId는 필수입니다.");
         }
-        notificationRepository.updateReadStateByUserIdAndRefTypeAndRefId(userId, refType, refId, isRead);
+        int updated = notificationRepository.updateReadStateByUserIdAndRefTypeAndRefId(userId, refType, refId, isRead);
+        if (updated > 0) {
+            if (isRead) {
+                adjustUnreadAfterCommit(userId, refType, -updated);
+            } else {
+                invalidateUnreadAfterCommit(userId);
+            }
+        }
     }
 
     @Override
     public NotificationUnreadCountsResponse findUnreadCounts(Long userId) {
+        validateUserId(userId);
+        return toUnreadCountsResponse(notificationUnreadCounter.get(userId, this::loadUnreadCounts));
+    }
+
+    @Override
+    public NotificationUnreadCountsResponse refreshUnreadCounts(Long userId) {
+        validateUserId(userId);
+        return toUnreadCountsResponse(notificationUnreadCounter.reload(userId, this::loadUnreadCounts));
+    }
+
+    private NotificationUnreadCountsResponse toUnreadCountsResponse(Map<String, Long> counts) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+
+        return new NotificationUnreadCountsResponse(
+                total,
+                counts.getOrDefault("WORK_REQUEST", 0L),
+                counts.getOrDefault("TECH_TASK", 0L),
+                counts.getOrDefault("TEST_SCENARIO", 0L),
+                counts.getOrDefault("DEFECT", 0L),
+                counts.getOrDefault("DEPLOYMENT", 0L),
+                counts.getOrDefault("PROJECT_IDEA", 0L)
+        );
+    }
+
+    private void validateUserId(Long userId) {
         if (userId == null || userId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId는 필수입니다.");
         }
-
-        long total = notificationRepository.countByUserIdAndIsReadFalse(userId);
-        long workRequest = notificationRepository.countByUserIdAndIsReadFalseAndRefType(userId, "WORK_REQUEST");
-        long techTask = notificationRepository.countByUserIdAndIsReadFalseAndRefType(userId, "TECH_TASK");
-        long testScenario = notificationRepository.countByUserIdAndIsReadFalseAndRefType(userId, "TEST_SCENARIO");
-        long defect = notificationRepository.countByUserIdAndIsReadFalseAndRefType(userId, "DEFECT");
-        long deployment = notificationRepository.countByUserIdAndIsReadFalseAndRefType(userId, "DEPLOYMENT");
-        long idea = notificationRepository.countByUserIdAndIsReadFalseAndRefType(userId, "PROJECT_IDEA");
-
-        return new NotificationUnreadCountsResponse(total, workRequest, techTask, testScenario, defect, deployment, idea);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
-        Notification entity = getNotificationOrThrow(id);
+        Notification entity = notificationRepository.findById(id).orElse(null);
+        if (entity == null) {
+            // 보관된 알림(항상 읽음)은 카운터 변동 없이 삭제한다.
+            notificationArchiveRepository.delete(notificationArchiveRepository.findById(id)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "알림을 찾을 수 없습니다.")));
+            return;
+        }
         notificationRepository.delete(entity);
+        if (!Boolean.TRUE.equals(entity.getIsRead())) {
+            adjustUnreadAfterCommit(entity.getUserId(), entity.getRefType(), -1);
+        }
+    }
+
+    private Map<String, Long> loadUnreadCounts(Long userId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (UnreadCountProjection row : notificationRepository.countUnreadGroupByRefType(userId)) {
+            String key = row.getRefType() == null ? NotificationUnreadCounter.NO_REF_TYPE : row.getRefType();
+            counts.merge(key, row.getUnreadCount(), Long::sum);
+        }
+        return counts;
+    }
+
+    private void adjustUnreadAfterCommit(Long userId, String refType, long delta) {
+        TransactionCallbacks.afterCommit(() -> notificationUnreadCounter.adjust(userId, refType, delta));
+    }
+
+    private void invalidateUnreadAfterCommit(Long userId) {
+        TransactionCallbacks.afterCommit(() -> notificationUnreadCounter.invalidate(userId));
+    }
+
+    private Notification toEntity(NotificationCreateRequest request) {
+        Notification entity = NotificationMapper.fromCreateRequest(request);
+        entity.setType(request.type().trim());
+        entity.setTitle(request.title().trim());
+        entity.setMessage(normalizeNullable(request.message()));
+        entity.setRefType(normalizeNullable(request.refType()));
+        return entity;
     }
 
     private Notification getNotificationOrThrow(Long id) {
@@ -0,0 +1,138 @@
+package org.example.domain.notification.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용자별 미읽음 알림 수(refType별) 캐시.
+ * 최초 조회 시 GROUP BY 한 번으로 채우고, 이후에는 알림 생성/읽음/삭제 커밋 시 증감으로 유지한다.
+ * 증감 누락(다른 인스턴스에서의 변경, 조회와 커밋 경합)은 reconcile 주기가 지난 뒤 다음 조회에서 DB 값으로 다시 맞춘다.
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    static final String NO_REF_TYPE = "";
+
+    private final int maxUsers;
+    private final long reconcileMillis;
+    private final Clock clock;
+
+    private final Map<Long, Entry> entries;
+    // 시드 조회 중 증감이 들어오면 해당 시드 결과는 버린다.
+    private final Map<Long, Long> loadingTokens = new HashMap<>();
+    private long tokenSequence;
+
+    @Autowired
+    public NotificationUnreadCounter(
+            @Value("${app.notification.unread-cache.max-users:10000}") int maxUsers,
+            @Value("${app.notification.unread-cache.reconcile-seconds:300}") long reconcileSeconds
+    ) {
+        this(maxUsers, reconcileSeconds, Clock.systemUTC());
+    }
+
+    NotificationUnreadCounter(int maxUsers, long reconcileSeconds, Clock clock) {
+        this.maxUsers = Math.max(maxUsers, 1);
+        this.reconcileMillis = Math.max(reconcileSeconds, 1L) * 1000L;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > NotificationUnreadCounter.this.maxUsers;
+            }
+        };
+    }
+
+    public Map<String, Long> get(Long userId, Function<Long, Map<String, Long>> loader) {
+        return load(userId, loader, false);
+    }
+
+    // 실시간 푸시처럼 다른 인스턴스의 변경까지 반영돼야 하는 경로는 캐시 나이와 관계없이 DB 값으로 다시 채운다.
+    public Map<String, Long> reload(Long userId, Function<Long, Map<String, Long>> loader) {
+        return load(userId, loader, true);
+    }
+
+    private Map<String, Long> load(Long userId, Function<Long, Map<String, Long>> loader, boolean force) {
+        long token;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (!force && entry != null && clock.millis() - entry.loadedAt < reconcileMillis) {
+                return Map.copyOf(entry.counts);
+            }
+            token = ++tokenSequence;
+            loadingTokens.put(userId, token);
+        }
+
+        Map<String, Long> loaded;
+        try {
+            loaded = loader.apply(userId);
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                loadingTokens.remove(userId, token);
+            }
+            throw ex;
+        }
+
+        synchronized (this) {
+            if (loadingTokens.remove(userId, token)) {
+                entries.put(userId, new Entry(new HashMap<>(loaded), clock.millis()));
+            }
+        }
+        return Map.copyOf(loaded);
+    }
+
+    public synchronized void adjust(Long userId, String refType, long delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        loadingTokens.remove(userId);
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return;
+        }
+        String key = refType == null ? NO_REF_TYPE : refType;
+        long next = entry.counts.getOrDefault(key, 0L) + delta;
+        if (next < 0) {
+            // 음수가 나오면 캐시가 어긋난 것이므로 다음 조회에서 다시 채운다.
+            entries.remove(userId);
+            return;
+        }
+        entry.counts.put(key, next);
+    }
+
+    public synchronized void reset(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        loadingTokens.remove(userId);
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.counts.clear();
+        }
+    }
+
+    public synchronized void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        loadingTokens.remove(userId);
+        entries.remove(userId);
+    }
+
+    private static final class Entry {
+
+        private final Map<String, Long> counts;
+        private final long loadedAt;
+
+        private Entry(Map<String, Long> counts, long loadedAt) {
+            this.counts = counts;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
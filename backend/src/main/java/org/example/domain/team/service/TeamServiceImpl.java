@@ -12,6 +12,9 @@ import org.example.domain.team.repository.UserTeamRepository;
 import org.example.domain.user.entity.PortalUser;
 import org.example.domain.user.repository.PortalUserRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.RequestPrincipal;
+import org.example.global.team.TeamMembershipCache;
+import org.example.global.util.TransactionCallbacks;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,17 +40,20 @@ public class TeamServiceImpl implements TeamService {
     private final UserTeamRepository userTeamRepository;
     private final PortalUserRepository portalUserRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TeamMembershipCache teamMembershipCache;
 
     public TeamServiceImpl(
             TeamRepository teamRepository,
             UserTeamRepository userTeamRepository,
             PortalUserRepository portalUserRepository,
-            JwtTokenProvider jwtTokenProvider
+            JwtTokenProvider jwtTokenProvider,
+            TeamMembershipCache teamMembershipCache
     ) {
         this.teamRepository = teamRepository;
         this.userTeamRepository = userTeamRepository;
         this.portalUserRepository = portalUserRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.teamMembershipCache = teamMembershipCache;
     }
 
     @Override
@@ -99,6 +105,7 @@ public class TeamServiceImpl implements TeamService {
         membership.setTeamId(savedTeam.getId());
         membership.setTeamRole(OWNER_ROLE);
         userTeamRepository.save(membership);
+        invalidateMembership(userId, savedTeam.getId());
 
         return toResponse(savedTeam, OWNER_ROLE);
     }
@@ -126,6 +133,7 @@ public class TeamServiceImpl implements TeamService {
         membership.setTeamId(team.getId());
         membership.setTeamRole(MEMBER_ROLE);
         userTeamRepository.save(membership);
+        invalidateMembership(userId, team.getId());
 
         return toResponse(team, MEMBER_ROLE);
     }
@@ -190,6 +198,7 @@ public class TeamServiceImpl implements TeamService {
         }
 
         targetMembership.setTeamRole(normalizedRole);
+        invalidateMembership(userId, teamId);
     }
 
     @Override
@@ -212,6 +221,14 @@ public class TeamServiceImpl implements TeamService {
         }
 
         userTeamRepository.deleteByUserIdAndTeamId(userId, teamId);
+        invalidateMembership(userId, teamId);
+    }
+
+    // 멤버십 변경은 커밋된 뒤 캐시에서 지워야 다른 요청이 이전 상태를 다시 채우지 않는다.
+    // 버전은 같은 트랜잭션에서 올려, 이전 팀 클레임을 가진 토큰이 갱신되도록 한다.
+    private void invalidateMembership(Long userId, Long teamId) {
+        portalUserRepository.incrementMembershipVersion(userId);
+        TransactionCallbacks.afterCommit(() -> teamMembershipCache.invalidate(userId, teamId));
     }
 
     private TeamResponse toResponse(Team team, String teamRole) {
@@ -269,6 +286,11 @@ public class TeamServiceImpl implements TeamService {
     }
 
     private Long extractUserId(String authorizationHeader) {
+        Long principalUserId = RequestPrincipal.currentUserId();
+        if (principalUserId != null) {
+            return principalUserId;
+        }
+
         if (isBlank(authorizationHeader)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authorization 헤더가 필요합니다.");
         }
@@ -3,7 +3,9 @@ package org.example.domain.techTask.service;
 import jakarta.persistence.EntityNotFoundException;
 import org.example.domain.activityLog.service.ActivityLogCreateCommand;
 import org.example.domain.activityLog.service.ActivityLogService;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
+import org.example.domain.notification.dto.NotificationCommand;
 import org.example.domain.notification.service.NotificationEventService;
 import org.example.domain.techTask.dto.TechTaskCreateRequest;
 import org.example.domain.techTask.dto.TechTaskDetailResponse;
@@ -25,9 +27,12 @@ import org.example.domain.techTask.repository.TechTaskRelatedRefRepository;
 import org.example.domain.techTask.repository.TechTaskRepository;
 import org.example.domain.workRequest.entity.WorkRequest;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
+import org.example.global.scheduler.DeadlineReminderEngine;
+import org.example.global.scheduler.DeadlineReminderItem;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.example.global.util.DocumentNoGenerator;
+import org.example.global.util.TransactionCallbacks;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -59,6 +64,8 @@ public class TechTaskServiceImpl implements TechTaskService {
     private final DocumentNoGenerator documentNoGenerator;
     private final NotificationEventService notificationEventService;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
+    private final DeadlineReminderEngine deadlineReminderEngine;
     private final ActivityLogService activityLogService;
 
     public TechTaskServiceImpl(
@@ -69,7 +76,9 @@ public class TechTaskServiceImpl implements TechTaskService {
             DocumentNoGenerator documentNoGenerator,
             NotificationEventService notificationEventService,
             DocumentIndexSyncService documentIndexSyncService,
-            @Nullable ActivityLogService activityLogService
+            @Nullable ActivityLogService activityLogService,
+            @Nullable DocumentBacklinkService documentBacklinkService,
+            @Nullable DeadlineReminderEngine deadlineReminderEngine
     ) {
         this.techTaskRepository = techTaskRepository;
         this.techTaskRelatedRefRepository = techTaskRelatedRefRepository;
@@ -79,6 +88,8 @@ public class TechTaskServiceImpl implements TechTaskService {
         this.notificationEventService = notificationEventService;
         this.documentIndexSyncService = documentIndexSyncService;
         this.activityLogService = activityLogService;
+        this.documentBacklinkService = documentBacklinkService;
+        this.deadlineReminderEngine = deadlineReminderEngine;
     }
 
     @Override
@@ -119,6 +130,8 @@ public class TechTaskServiceImpl implements TechTaskService {
 
         TechTask saved = techTaskRepository.save(entity);
         syncDocumentIndex(saved);
+        scheduleDeadlineReminder(saved);
+        syncBacklinks(saved);
         recordCreated(saved);
         notifyAssigneeAssigned(saved);
         return saved.getId();
@@ -136,6 +149,8 @@ public class TechTaskServiceImpl implements TechTaskService {
 
         TechTaskMapper.applyUpdate(entity, request);
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
+        syncBacklinks(entity);
         recordUpdated(entity);
         recordAssigneeChanged(entity, previousAssigneeId);
         recordStatusChanged(entity, previousStatus);
@@ -154,6 +169,8 @@ public class TechTaskServiceImpl implements TechTaskService {
 
         techTaskRepository.delete(entity);
         deleteDocumentIndex(entity);
+        cancelDeadlineReminder(entity);
+        deleteBacklinks(entity);
     }
 
     @Override
@@ -169,6 +186,7 @@ public class TechTaskServiceImpl implements TechTaskService {
         String previousStatus = entity.getStatus();
         entity.setStatus(request.status().trim());
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
         recordStatusChanged(entity, previousStatus);
 
         notifyStatusChanged(entity, previousStatus);
@@ -459,14 +477,11 @@ public class TechTaskServiceImpl implements TechTaskService {
 
         String message = entity.getTaskNo() + " 상태가 '" + currentStatus + "'(으)로 변경되었습니다.";
 
-        // 등록자 알림
-        notificationEventService.create(entity.getRegistrantId(), "상태변경", "기술과제 상태 변경", message, REF_TYPE_TECH_TASK, entity.getId());
-
-        // 담당자가 등록자와 다를 경우 추가 알림
-        Long assigneeId = entity.getAssigneeId();
-        if (assigneeId != null && !assigneeId.equals(entity.getRegistrantId())) {
-            notificationEventService.create(assigneeId, "상태변경", "기술과제 상태 변경", message, REF_TYPE_TECH_TASK, entity.getId());
-        }
+        // 등록자·담당자 알림 (같은 사람이면 한 번만 발송된다)
+        notificationEventService.createAll(List.of(
+                new NotificationCommand(entity.getRegistrantId(), "상태변경", "기술과제 상태 변경", message, REF_TYPE_TECH_TASK, entity.getId()),
+                new NotificationCommand(entity.getAssigneeId(), "상태변경", "기술과제 상태 변경", message, REF_TYPE_TECH_TASK, entity.getId())
+        ));
     }
 
     private void recordCreated(TechTask entity) {
@@ -547,6 +562,31 @@ public class TechTaskServiceImpl implements TechTaskService {
     private record RefMetadata(String refNo, String title) {
     }
 
+    // 커밋 후 마감 리마인더를 다시 예약한다. 종료 상태·마감 변경은 엔진이 판단한다.
+    private void scheduleDeadlineReminder(TechTask entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        DeadlineReminderItem item = new DeadlineReminderItem(
+                REF_TYPE_TECH_TASK,
+                entity.getId(),
+                entity.getTaskNo(),
+                entity.getTitle(),
+                entity.getAssigneeId(),
+                entity.getDeadline(),
+                entity.getStatus()
+        );
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.schedule(item));
+    }
+
+    private void cancelDeadlineReminder(TechTask entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        Long id = entity.getId();
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.cancel(REF_TYPE_TECH_TASK, id));
+    }
+
     private void syncDocumentIndex(TechTask entity) {
         if (documentIndexSyncService == null) {
             return;
@@ -571,4 +611,25 @@ public class TechTaskServiceImpl implements TechTaskService {
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(TechTask entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                REF_TYPE_TECH_TASK,
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getCurrentIssue(),
+                entity.getSolution()
+        );
+    }
+
+    private void deleteBacklinks(TechTask entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks(REF_TYPE_TECH_TASK, entity.getId());
+    }
 }
@@ -15,6 +15,13 @@ public interface TestScenarioRepository extends JpaRepository<TestScenario, Long
 
     Page<TestScenario> findByTeamId(Long teamId, Pageable pageable);
 
-    @Query("SELECT e FROM TestScenario e WHERE e.deadline = :date AND e.status NOT IN :excluded AND e.assigneeId IS NOT NULL")
-    List<TestScenario> findActiveByDeadline(@Param("date") LocalDate date, @Param("excluded") List<String> excluded);
+    // 마감 리마인더 로더가 기간 내 미완료 항목을 id 순 청크(keyset)로 나눠 읽는다.
+    @Query("SELECT e FROM TestScenario e WHERE e.deadline BETWEEN :from AND :to AND e.status NOT IN :excluded AND e.assigneeId IS NOT NULL AND e.id > :afterId ORDER BY e.id ASC")
+    List<TestScenario> findActiveByDeadlineBetween(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("excluded") List<String> excluded,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 }
@@ -5,7 +5,9 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.domain.activityLog.service.ActivityLogCreateCommand;
 import org.example.domain.activityLog.service.ActivityLogService;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
+import org.example.domain.notification.dto.NotificationCommand;
 import org.example.domain.notification.service.NotificationEventService;
 import org.example.domain.testScenario.dto.TestScenarioCreateRequest;
 import org.example.domain.testScenario.dto.TestScenarioDetailResponse;
@@ -22,9 +24,12 @@ import org.example.domain.testScenario.entity.TestScenarioRelatedRef;
 import org.example.domain.testScenario.mapper.TestScenarioMapper;
 import org.example.domain.testScenario.repository.TestScenarioRelatedRefRepository;
 import org.example.domain.testScenario.repository.TestScenarioRepository;
+import org.example.global.scheduler.DeadlineReminderEngine;
+import org.example.global.scheduler.DeadlineReminderItem;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.example.global.util.DocumentNoGenerator;
+import org.example.global.util.TransactionCallbacks;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -57,6 +62,8 @@ public class TestScenarioServiceImpl implements TestScenarioService {
     private final DocumentNoGenerator documentNoGenerator;
     private final NotificationEventService notificationEventService;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
+    private final DeadlineReminderEngine deadlineReminderEngine;
     private final ActivityLogService activityLogService;
     private final ObjectMapper objectMapper;
 
@@ -67,7 +74,9 @@ public class TestScenarioServiceImpl implements TestScenarioService {
             NotificationEventService notificationEventService,
             DocumentIndexSyncService documentIndexSyncService,
             @Nullable ActivityLogService activityLogService,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            @Nullable DocumentBacklinkService documentBacklinkService,
+            @Nullable DeadlineReminderEngine deadlineReminderEngine
     ) {
         this.testScenarioRepository = testScenarioRepository;
         this.testScenarioRelatedRefRepository = testScenarioRelatedRefRepository;
@@ -76,6 +85,8 @@ public class TestScenarioServiceImpl implements TestScenarioService {
         this.documentIndexSyncService = documentIndexSyncService;
         this.activityLogService = activityLogService;
         this.objectMapper = objectMapper;
+        this.documentBacklinkService = documentBacklinkService;
+        this.deadlineReminderEngine = deadlineReminderEngine;
     }
 
     @Override
@@ -119,6 +130,8 @@ public class TestScenarioServiceImpl implements TestScenarioService {
 
         TestScenario saved = testScenarioRepository.save(entity);
         syncDocumentIndex(saved);
+        scheduleDeadlineReminder(saved);
+        syncBacklinks(saved);
         recordCreated(saved);
         notifyAssigneeAssigned(saved);
         return saved.getId();
@@ -156,6 +169,8 @@ public class TestScenarioServiceImpl implements TestScenarioService {
             entity.setSteps(defaultIfBlank(request.steps(), "[]"));
         }
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
+        syncBacklinks(entity);
         recordUpdated(entity);
         recordAssigneeChanged(entity, previousAssigneeId);
         recordStatusChanged(entity, previousStatus);
@@ -175,6 +190,8 @@ public class TestScenarioServiceImpl implements TestScenarioService {
         testScenarioRelatedRefRepository.deleteByTestScenarioId(id);
         testScenarioRepository.delete(entity);
         deleteDocumentIndex(entity);
+        cancelDeadlineReminder(entity);
+        deleteBacklinks(entity);
     }
 
     @Override
@@ -194,6 +211,7 @@ public class TestScenarioServiceImpl implements TestScenarioService {
             entity.setStatusNote(normalizeNullable(request.statusNote()));
         }
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
         recordStatusChanged(entity, previousStatus);
 
         notifyStatusChanged(entity, previousStatus);
@@ -233,6 +251,7 @@ public class TestScenarioServiceImpl implements TestScenarioService {
         }
 
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
         recordExecutionUpdated(entity, previousSteps, previousActualResult, previousExecutedAt);
     }
 
@@ -548,14 +567,11 @@ public class TestScenarioServiceImpl implements TestScenarioService {
 
         String message = entity.getScenarioNo() + " 상태가 '" + currentStatus + "'(으)로 변경되었습니다.";
 
-        // 작성자 알림
-        notificationEventService.create(entity.getCreatedBy(), "상태변경", "테스트 시나리오 상태 변경", message, REF_TYPE_TEST_SCENARIO, entity.getId());
-
-        // 담당자가 작성자와 다를 경우 추가 알림
-        Long assigneeId = entity.getAssigneeId();
-        if (assigneeId != null && !assigneeId.equals(entity.getCreatedBy())) {
-            notificationEventService.create(assigneeId, "상태변경", "테스트 시나리오 상태 변경", message, REF_TYPE_TEST_SCENARIO, entity.getId());
-        }
+        // 작성자·담당자 알림 (같은 사람이면 한 번만 발송된다)
+        notificationEventService.createAll(List.of(
+                new NotificationCommand(entity.getCreatedBy(), "상태변경", "테스트 시나리오 상태 변경", message, REF_TYPE_TEST_SCENARIO, entity.getId()),
+                new NotificationCommand(entity.getAssigneeId(), "상태변경", "테스트 시나리오 상태 변경", message, REF_TYPE_TEST_SCENARIO, entity.getId())
+        ));
     }
 
     private void recordCreated(TestScenario entity) {
@@ -656,6 +672,31 @@ public class TestScenarioServiceImpl implements TestScenarioService {
         }
     }
 
+    // 커밋 후 마감 리마인더를 다시 예약한다. 종료 상태·마감 변경은 엔진이 판단한다.
+    private void scheduleDeadlineReminder(TestScenario entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        DeadlineReminderItem item = new DeadlineReminderItem(
+                REF_TYPE_TEST_SCENARIO,
+                entity.getId(),
+                entity.getScenarioNo(),
+                entity.getTitle(),
+                entity.getAssigneeId(),
+                entity.getDeadline(),
+                entity.getStatus()
+        );
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.schedule(item));
+    }
+
+    private void cancelDeadlineReminder(TestScenario entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        Long id = entity.getId();
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.cancel(REF_TYPE_TEST_SCENARIO, id));
+    }
+
     private void syncDocumentIndex(TestScenario entity) {
         if (documentIndexSyncService == null) {
             return;
@@ -680,4 +721,27 @@ public class TestScenarioServiceImpl implements TestScenarioService {
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(TestScenario entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                REF_TYPE_TEST_SCENARIO,
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getDescription(),
+                entity.getPrecondition(),
+                entity.getExpectedResult(),
+                entity.getActualResult()
+        );
+    }
+
+    private void deleteBacklinks(TestScenario entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks(REF_TYPE_TEST_SCENARIO, entity.getId());
+    }
 }
@@ -41,6 +41,10 @@ public class PortalUser {
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
+    // TeamServiceImpl 이 쿼리로만 올린다. 엔티티 저장이 이전 값으로 덮어쓰지 않도록 읽기 전용으로 둔다.
+    @Column(name = "membership_version", insertable = false, updatable = false)
+    private Long membershipVersion;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -122,6 +126,14 @@ public class PortalUser {
         this.lastLoginAt = lastLoginAt;
     }
 
+    public Long getMembershipVersion() {
+        return membershipVersion;
+    }
+
+    public void setMembershipVersion(Long membershipVersion) {
+        this.membershipVersion = membershipVersion;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -2,7 +2,12 @@ package org.example.domain.user.repository;
 
 import org.example.domain.user.entity.PortalUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface PortalUserRepository extends JpaRepository<PortalUser, Long> {
@@ -11,4 +16,25 @@ public interface PortalUserRepository extends JpaRepository<PortalUser, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByEmailAndIdNot(String email, Long id);
+
+    @Query("select u.membershipVersion from PortalUser u where u.id = :userId")
+    Optional<Long> findMembershipVersionById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE users SET membership_version = membership_version + 1 WHERE id = :userId", nativeQuery = true)
+    int incrementMembershipVersion(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update PortalUser u set u.lastLoginAt = :loginAt where u.id = :userId")
+    int updateLastLoginAt(@Param("userId") Long userId, @Param("loginAt") LocalDateTime loginAt);
+
+    // 비밀번호 확인은 트랜잭션 밖에서 하므로, 그 사이 다른 요청이 바꾸지 않았을 때만 교체한다.
+    @Transactional
+    @Modifying
+    @Query("update PortalUser u set u.passwordHash = :newHash where u.id = :userId and u.passwordHash = :currentHash")
+    int updatePasswordHash(
+            @Param("userId") Long userId,
+            @Param("currentHash") String currentHash,
+            @Param("newHash") String newHash
+    );
 }
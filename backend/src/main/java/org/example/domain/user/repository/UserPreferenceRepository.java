@@ -2,6 +2,41 @@ package org.example.domain.user.repository;
 
 import org.example.domain.user.entity.UserPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserPreferenceRepository extends JpaRepository<UserPreference, Long> {
+
+    // photo_url(LONGTEXT)을 읽지 않도록 알림 설정 컬럼만 조회한다.
+    @Query("""
+            select p.userId as userId,
+                   p.notifyAssign as notifyAssign,
+                   p.notifyComment as notifyComment,
+                   p.notifyDeadline as notifyDeadline,
+                   p.notifyStatus as notifyStatus,
+                   p.notifyDeploy as notifyDeploy,
+                   p.notifyMention as notifyMention
+            from UserPreference p
+            where p.userId in :userIds
+            """)
+    List<NotificationFlagsProjection> findNotificationFlagsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    interface NotificationFlagsProjection {
+        Long getUserId();
+
+        Boolean getNotifyAssign();
+
+        Boolean getNotifyComment();
+
+        Boolean getNotifyDeadline();
+
+        Boolean getNotifyStatus();
+
+        Boolean getNotifyDeploy();
+
+        Boolean getNotifyMention();
+    }
 }
@@ -0,0 +1,17 @@
+package org.example.domain.user.service;
+
+/**
+ * 알림 발송 판단에 필요한 환경설정 값만 담는다(프로필 사진 등 큰 컬럼은 캐시하지 않는다).
+ */
+public record UserNotificationFlags(
+        boolean assign,
+        boolean comment,
+        boolean deadline,
+        boolean status,
+        boolean deploy,
+        boolean mention
+) {
+
+    // 기존 사용자 호환성을 위해 환경설정 행이 없으면 모든 알림을 허용한다.
+    public static final UserNotificationFlags ALL_ENABLED = new UserNotificationFlags(true, true, true, true, true, true);
+}
@@ -0,0 +1,128 @@
+package org.example.domain.user.service;
+
+import org.example.domain.user.repository.UserPreferenceRepository;
+import org.example.domain.user.repository.UserPreferenceRepository.NotificationFlagsProjection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 알림 수신 설정 캐시.
+ * 미스가 난 사용자만 모아 IN 조회 1회로 채우고, 설정 변경 커밋 시 UserSettingsServiceImpl 이 무효화한다.
+ * 다른 인스턴스에서의 변경은 TTL 경과 후 반영된다.
+ */
+@Component
+public class UserNotificationPreferenceCache {
+
+    private final UserPreferenceRepository userPreferenceRepository;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Long, CachedFlags> entries;
+    // 조회 도중 무효화가 있었다면 그 결과는 캐시에 넣지 않는다.
+    private long invalidationCount;
+
+    @Autowired
+    public UserNotificationPreferenceCache(
+            UserPreferenceRepository userPreferenceRepository,
+            @Value("${app.notification.preference-cache.max-users:10000}") int maxEntries,
+            @Value("${app.notification.preference-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this(userPreferenceRepository, maxEntries, ttlSeconds, Clock.systemUTC());
+    }
+
+    UserNotificationPreferenceCache(
+            UserPreferenceRepository userPreferenceRepository,
+            int maxEntries,
+            long ttlSeconds,
+            Clock clock
+    ) {
+        this.userPreferenceRepository = userPreferenceRepository;
+        this.maxEntries = Math.max(maxEntries, 1);
+        this.ttlMillis = Math.max(ttlSeconds, 1L) * 1000L;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedFlags> eldest) {
+                return size() > UserNotificationPreferenceCache.this.maxEntries;
+            }
+        };
+    }
+
+    public UserNotificationFlags get(Long userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    public Map<Long, UserNotificationFlags> getAll(Collection<Long> userIds) {
+        Map<Long, UserNotificationFlags> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        Set<Long> distinctIds = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                distinctIds.add(userId);
+            }
+        }
+
+        long now = clock.millis();
+        long observedInvalidations;
+        synchronized (this) {
+            observedInvalidations = invalidationCount;
+            for (Long userId : distinctIds) {
+                CachedFlags cached = entries.get(userId);
+                if (cached != null && cached.expiresAt > now) {
+                    result.put(userId, cached.flags);
+                } else {
+                    misses.add(userId);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, UserNotificationFlags> loaded = new HashMap<>();
+        for (NotificationFlagsProjection row : userPreferenceRepository.findNotificationFlagsByUserIdIn(misses)) {
+            loaded.put(row.getUserId(), new UserNotificationFlags(
+                    Boolean.TRUE.equals(row.getNotifyAssign()),
+                    Boolean.TRUE.equals(row.getNotifyComment()),
+                    Boolean.TRUE.equals(row.getNotifyDeadline()),
+                    Boolean.TRUE.equals(row.getNotifyStatus()),
+                    Boolean.TRUE.equals(row.getNotifyDeploy()),
+                    Boolean.TRUE.equals(row.getNotifyMention())
+            ));
+        }
+
+        long expiresAt = clock.millis() + ttlMillis;
+        synchronized (this) {
+            boolean cacheable = observedInvalidations == invalidationCount;
+            for (Long userId : misses) {
+                UserNotificationFlags flags = loaded.getOrDefault(userId, UserNotificationFlags.ALL_ENABLED);
+                if (cacheable) {
+                    entries.put(userId, new CachedFlags(flags, expiresAt));
+                }
+                result.put(userId, flags);
+            }
+        }
+        return result;
+    }
+
+    public synchronized void invalidate(Long userId) {
+        if (userId != null) {
+            invalidationCount++;
+            entries.remove(userId);
+        }
+    }
+
+    private record CachedFlags(UserNotificationFlags flags, long expiresAt) {
+    }
+}
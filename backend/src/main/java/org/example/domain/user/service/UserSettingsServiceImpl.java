@@ -10,9 +10,14 @@ import org.example.domain.user.entity.UserPreference;
 import org.example.domain.user.repository.PortalUserRepository;
 import org.example.domain.user.repository.UserPreferenceRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.LoginThrottle;
+import org.example.global.security.PasswordHashingService;
+import org.example.global.security.RequestPrincipal;
+import org.example.global.util.TransactionCallbacks;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -37,19 +42,25 @@ public class UserSettingsServiceImpl implements UserSettingsService {
 
     private final PortalUserRepository portalUserRepository;
     private final UserPreferenceRepository userPreferenceRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginThrottle loginThrottle;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserNotificationPreferenceCache userNotificationPreferenceCache;
 
     public UserSettingsServiceImpl(
             PortalUserRepository portalUserRepository,
             UserPreferenceRepository userPreferenceRepository,
-            PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider
+            PasswordHashingService passwordHashingService,
+            LoginThrottle loginThrottle,
+            JwtTokenProvider jwtTokenProvider,
+            @Nullable UserNotificationPreferenceCache userNotificationPreferenceCache
     ) {
         this.portalUserRepository = portalUserRepository;
         this.userPreferenceRepository = userPreferenceRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.loginThrottle = loginThrottle;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userNotificationPreferenceCache = userNotificationPreferenceCache;
     }
 
     @Override
@@ -82,12 +93,15 @@ public class UserSettingsServiceImpl implements UserSettingsService {
         preference.setAvatarColor(normalizeAvatarColor(request.avatarColor()));
         preference.setPhotoUrl(normalizePhotoUrl(request.photoUrl()));
         userPreferenceRepository.save(preference);
+        // 환경설정 행이 처음 생성되면 기본값(상태변경/멘션 꺼짐)이 적용되므로 알림 설정 캐시도 비운다.
+        invalidateNotificationPreference(user.getId());
 
         return toProfileResponse(user, preference);
     }
 
+    // 비밀번호 해시 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 검증하고 조건부 UPDATE 한 번으로 교체한다.
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changeMyPassword(String authorizationHeader, UserPasswordUpdateRequest request) {
         if (request == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "비밀번호 변경 요청 본문이 비어 있습니다.");
@@ -101,11 +115,16 @@ public class UserSettingsServiceImpl implements UserSettingsService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "현재 비밀번호와 새 비밀번호를 입력해주세요.");
         }
 
-        if (!passwordEncoder.matches(currentPassword, user.getPasswordHash())) {
+        // 탈취된 토큰으로 현재 비밀번호를 대입하지 못하도록 로그인과 같은 실패 한도를 둔다.
+        String throttleKey = "password:" + user.getId();
+        loginThrottle.checkAttempt(throttleKey, null);
+        if (!passwordHashingService.matches(currentPassword, user.getPasswordHash())) {
+            loginThrottle.recordFailure(throttleKey);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "현재 비밀번호가 올바르지 않습니다.");
         }
+        loginThrottle.recordSuccess(throttleKey);
 
-        if (passwordEncoder.matches(newPassword, user.getPasswordHash())) {
+        if (passwordHashingService.matches(newPassword, user.getPasswordHash())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "새 비밀번호가 현재 비밀번호와 같습니다.");
         }
 
@@ -113,8 +132,11 @@ public class UserSettingsServiceImpl implements UserSettingsService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "새 비밀번호는 영문 대소문자와 숫자를 포함해 8자 이상이어야 합니다.");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
-        portalUserRepository.save(user);
+        int updated = portalUserRepository.updatePasswordHash(
+                user.getId(), user.getPasswordHash(), passwordHashingService.encode(newPassword));
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "비밀번호가 다른 요청에서 변경되었습니다. 다시 시도해주세요.");
+        }
     }
 
     @Override
@@ -144,9 +166,16 @@ public class UserSettingsServiceImpl implements UserSettingsService {
         preference.setRowCount(normalizeRowCount(request.display().rowCount()));
 
         UserPreference savedPreference = userPreferenceRepository.save(preference);
+        invalidateNotificationPreference(user.getId());
         return toPreferencesResponse(savedPreference);
     }
 
+    private void invalidateNotificationPreference(Long userId) {
+        if (userNotificationPreferenceCache != null) {
+            TransactionCallbacks.afterCommit(() -> userNotificationPreferenceCache.invalidate(userId));
+        }
+    }
+
     private UserProfileResponse toProfileResponse(PortalUser user, UserPreference preference) {
         return new UserProfileResponse(
                 user.getName(),
@@ -224,6 +253,11 @@ public class UserSettingsServiceImpl implements UserSettingsService {
     }
 
     private Long extractUserId(String authorizationHeader) {
+        Long principalUserId = RequestPrincipal.currentUserId();
+        if (principalUserId != null) {
+            return principalUserId;
+        }
+
         if (isBlank(authorizationHeader)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authorization 헤더가 필요합니다.");
         }
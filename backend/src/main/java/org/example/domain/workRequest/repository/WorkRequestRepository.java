@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,16 @@ public interface WorkRequestRepository extends JpaRepository<WorkRequest, Long>,
 
     Optional<WorkRequest> findByRequestNo(String requestNo);
 
-    @Query("SELECT e FROM WorkRequest e WHERE e.deadline = :date AND e.status NOT IN :excluded AND e.assigneeId IS NOT NULL")
-    List<WorkRequest> findActiveByDeadline(@Param("date") LocalDate date, @Param("excluded") List<String> excluded);
+    // GitHub 웹훅이 payload 의 문서번호들을 한 번에 조회한다.
+    List<WorkRequest> findByRequestNoIn(Collection<String> requestNos);
+
+    // 마감 리마인더 로더가 기간 내 미완료 항목을 id 순 청크(keyset)로 나눠 읽는다.
+    @Query("SELECT e FROM WorkRequest e WHERE e.deadline BETWEEN :from AND :to AND e.status NOT IN :excluded AND e.assigneeId IS NOT NULL AND e.id > :afterId ORDER BY e.id ASC")
+    List<WorkRequest> findActiveByDeadlineBetween(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("excluded") List<String> excluded,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 }
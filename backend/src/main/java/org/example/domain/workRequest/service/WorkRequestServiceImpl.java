@@ -3,7 +3,9 @@ package org.example.domain.workRequest.service;
 import jakarta.persistence.EntityNotFoundException;
 import org.example.domain.activityLog.service.ActivityLogCreateCommand;
 import org.example.domain.activityLog.service.ActivityLogService;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.example.domain.documentIndex.service.DocumentIndexSyncService;
+import org.example.domain.notification.dto.NotificationCommand;
 import org.example.domain.notification.service.NotificationEventService;
 import org.example.domain.workRequest.dto.WorkRequestCreateRequest;
 import org.example.domain.workRequest.dto.WorkRequestDetailResponse;
@@ -20,9 +22,12 @@ import org.example.domain.workRequest.mapper.WorkRequestMapper;
 import org.example.domain.workRequest.repository.WorkRequestQueryRepository;
 import org.example.domain.workRequest.repository.WorkRequestRelatedRefRepository;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
+import org.example.global.scheduler.DeadlineReminderEngine;
+import org.example.global.scheduler.DeadlineReminderItem;
 import org.example.global.team.TeamRequestContext;
 import org.example.global.team.TeamScopeUtil;
 import org.example.global.util.DocumentNoGenerator;
+import org.example.global.util.TransactionCallbacks;
 import org.springframework.http.HttpStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -53,6 +58,8 @@ public class WorkRequestServiceImpl implements WorkRequestService {
     private final DocumentNoGenerator documentNoGenerator;
     private final NotificationEventService notificationEventService;
     private final DocumentIndexSyncService documentIndexSyncService;
+    private final DocumentBacklinkService documentBacklinkService;
+    private final DeadlineReminderEngine deadlineReminderEngine;
     private final ActivityLogService activityLogService;
 
     public WorkRequestServiceImpl(
@@ -62,7 +69,9 @@ public class WorkRequestServiceImpl implements WorkRequestService {
             DocumentNoGenerator documentNoGenerator,
             NotificationEventService notificationEventService,
             DocumentIndexSyncService documentIndexSyncService,
-            @Nullable ActivityLogService activityLogService
+            @Nullable ActivityLogService activityLogService,
+            @Nullable DocumentBacklinkService documentBacklinkService,
+            @Nullable DeadlineReminderEngine deadlineReminderEngine
     ) {
         this.workRequestRepository = workRequestRepository;
         this.workRequestQueryRepository = workRequestQueryRepository;
@@ -71,6 +80,8 @@ public class WorkRequestServiceImpl implements WorkRequestService {
         this.notificationEventService = notificationEventService;
         this.documentIndexSyncService = documentIndexSyncService;
         this.activityLogService = activityLogService;
+        this.documentBacklinkService = documentBacklinkService;
+        this.deadlineReminderEngine = deadlineReminderEngine;
     }
 
     @Override
@@ -111,6 +122,8 @@ public class WorkRequestServiceImpl implements WorkRequestService {
 
         WorkRequest saved = workRequestRepository.save(entity);
         syncDocumentIndex(saved);
+        scheduleDeadlineReminder(saved);
+        syncBacklinks(saved);
         recordCreated(saved);
         notifyAssigneeAssigned(saved);
         return saved.getId();
@@ -128,6 +141,8 @@ public class WorkRequestServiceImpl implements WorkRequestService {
 
         WorkRequestMapper.applyUpdate(entity, request);
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
+        syncBacklinks(entity);
         recordUpdated(entity);
         recordAssigneeChanged(entity, previousAssigneeId);
         recordStatusChanged(entity, previousStatus);
@@ -167,6 +182,7 @@ public class WorkRequestServiceImpl implements WorkRequestService {
         }
 
         syncDocumentIndex(entity);
+        scheduleDeadlineReminder(entity);
         recordStatusChanged(entity, previousStatus);
         notifyStatusChanged(entity, previousStatus);
     }
@@ -182,6 +198,8 @@ public class WorkRequestServiceImpl implements WorkRequestService {
         workRequestRelatedRefRepository.deleteByWorkRequestId(id);
         workRequestRepository.delete(entity);
         deleteDocumentIndex(entity);
+        cancelDeadlineReminder(entity);
+        deleteBacklinks(entity);
     }
 
     @Override
@@ -413,14 +431,11 @@ public class WorkRequestServiceImpl implements WorkRequestService {
 
         String message = entity.getRequestNo() + " 상태가 '" + currentStatus + "'(으)로 변경되었습니다.";
 
-        // 요청자 알림
-        notificationEventService.create(entity.getRequesterId(), "상태변경", "업무요청 상태 변경", message, REF_TYPE_WORK_REQUEST, entity.getId());
-
-        // 담당자가 요청자와 다를 경우 추가 알림
-        Long assigneeId = entity.getAssigneeId();
-        if (assigneeId != null && !assigneeId.equals(entity.getRequesterId())) {
-            notificationEventService.create(assigneeId, "상태변경", "업무요청 상태 변경", message, REF_TYPE_WORK_REQUEST, entity.getId());
-        }
+        // 요청자·담당자 알림 (같은 사람이면 한 번만 발송된다)
+        notificationEventService.createAll(List.of(
+                new NotificationCommand(entity.getRequesterId(), "상태변경", "업무요청 상태 변경", message, REF_TYPE_WORK_REQUEST, entity.getId()),
+                new NotificationCommand(entity.getAssigneeId(), "상태변경", "업무요청 상태 변경", message, REF_TYPE_WORK_REQUEST, entity.getId())
+        ));
     }
 
     private void recordCreated(WorkRequest entity) {
@@ -498,6 +513,31 @@ public class WorkRequestServiceImpl implements WorkRequestService {
         }
     }
 
+    // 커밋 후 마감 리마인더를 다시 예약한다. 종료 상태·마감 변경은 엔진이 판단한다.
+    private void scheduleDeadlineReminder(WorkRequest entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        DeadlineReminderItem item = new DeadlineReminderItem(
+                REF_TYPE_WORK_REQUEST,
+                entity.getId(),
+                entity.getRequestNo(),
+                entity.getTitle(),
+                entity.getAssigneeId(),
+                entity.getDeadline(),
+                entity.getStatus()
+        );
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.schedule(item));
+    }
+
+    private void cancelDeadlineReminder(WorkRequest entity) {
+        if (deadlineReminderEngine == null) {
+            return;
+        }
+        Long id = entity.getId();
+        TransactionCallbacks.afterCommit(() -> deadlineReminderEngine.cancel(REF_TYPE_WORK_REQUEST, id));
+    }
+
     private void syncDocumentIndex(WorkRequest entity) {
         if (documentIndexSyncService == null) {
             return;
@@ -522,4 +562,24 @@ public class WorkRequestServiceImpl implements WorkRequestService {
                 entity.getTeamId()
         );
     }
+
+    private void syncBacklinks(WorkRequest entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.syncDocumentLinks(
+                REF_TYPE_WORK_REQUEST,
+                entity.getId(),
+                entity.getTeamId(),
+                entity.getTitle(),
+                entity.getDescription()
+        );
+    }
+
+    private void deleteBacklinks(WorkRequest entity) {
+        if (documentBacklinkService == null) {
+            return;
+        }
+        documentBacklinkService.deleteAllLinks(REF_TYPE_WORK_REQUEST, entity.getId());
+    }
 }
@@ -0,0 +1,46 @@
+package org.example.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * 문서번호 블록 예약 전용 커넥션 풀. app.document-no.segment-prefixes 가 있을 때만 만든다.
+ * DataSource 빈을 하나 더 등록하면 Boot 의 기본 풀 자동 구성이 빠지므로, 같은 설정으로 본 풀을 @Primary 로 함께 등록한다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.document-no.segment-prefixes:}'.trim().isEmpty()")
+public class DocumentNoSegmentDataSourceConfig {
+
+    public static final String SEGMENT_DATA_SOURCE = "documentNoSegmentDataSource";
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // spring.datasource.hikari.* (타임아웃, 검증 쿼리 등)를 그대로 따르고 풀 이름·크기만 바꾼다.
+    @Bean(SEGMENT_DATA_SOURCE)
+    public HikariDataSource documentNoSegmentDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${app.document-no.segment-pool-size:2}") int poolSize
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("document-no-segment");
+        dataSource.setMaximumPoolSize(Math.max(poolSize, 1));
+        dataSource.setMinimumIdle(0);
+        return dataSource;
+    }
+}
@@ -49,7 +49,8 @@ public class WebCorsConfig implements WebMvcConfigurer {
                         "/api/auth/**",
                         "/api/teams/**",
                         "/api/users/me/**",
-                        "/api/notifications/**"
+                        "/api/notifications/**",
+                        "/api/system/**"
                 );
     }
 }
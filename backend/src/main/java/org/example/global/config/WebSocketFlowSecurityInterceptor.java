@@ -1,9 +1,9 @@
 package org.example.global.config;
 
-import org.example.domain.team.repository.UserTeamRepository;
 import org.example.domain.workRequest.entity.WorkRequest;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.team.TeamMembershipCache;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageDeliveryException;
@@ -26,18 +26,20 @@ public class WebSocketFlowSecurityInterceptor implements ChannelInterceptor {
     private static final String SESSION_USER_ID_KEY = "wsUserId";
     private static final String SESSION_TEAM_ID_KEY = "wsTeamId";
     private static final Pattern FLOW_UI_TOPIC_PATTERN = Pattern.compile("^/topic/work-requests/(\\d+)/flow-ui$");
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String QUEUE_DESTINATION_PREFIX = "/queue/";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserTeamRepository userTeamRepository;
+    private final TeamMembershipCache teamMembershipCache;
     private final WorkRequestRepository workRequestRepository;
 
     public WebSocketFlowSecurityInterceptor(
             JwtTokenProvider jwtTokenProvider,
-            UserTeamRepository userTeamRepository,
+            TeamMembershipCache teamMembershipCache,
             WorkRequestRepository workRequestRepository
     ) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userTeamRepository = userTeamRepository;
+        this.teamMembershipCache = teamMembershipCache;
         this.workRequestRepository = workRequestRepository;
     }
 
@@ -62,6 +64,18 @@ public class WebSocketFlowSecurityInterceptor implements ChannelInterceptor {
             return message;
         }
 
+        if (destination.startsWith(QUEUE_DESTINATION_PREFIX)) {
+            // 사용자 큐는 /user/queue/** 로만 구독할 수 있다(세션 id 추측 구독 방지).
+            throw new MessageDeliveryException("큐 대상은 직접 구독할 수 없습니다.");
+        }
+
+        if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            if (!(accessor.getUser() instanceof WebSocketUserPrincipal)) {
+                throw new MessageDeliveryException("개인 알림 구독에는 CONNECT 시 인증 토큰이 필요합니다.");
+            }
+            return message;
+        }
+
         Matcher matcher = FLOW_UI_TOPIC_PATTERN.matcher(destination);
         if (!matcher.matches()) {
             return message;
@@ -76,7 +90,7 @@ public class WebSocketFlowSecurityInterceptor implements ChannelInterceptor {
             throw new MessageDeliveryException("현재 팀으로는 이 워크플로우를 구독할 수 없습니다.");
         }
 
-        boolean teamMember = userTeamRepository.existsByUserIdAndTeamId(context.userId(), context.teamId());
+        boolean teamMember = teamMembershipCache.isMember(context.userId(), context.teamId());
         if (!teamMember) {
             throw new MessageDeliveryException("현재 팀에 접근 권한이 없습니다.");
         }
@@ -86,6 +100,11 @@ public class WebSocketFlowSecurityInterceptor implements ChannelInterceptor {
 
     private void cacheSessionContextFromHeaders(StompHeaderAccessor accessor) {
         Long userId = extractUserId(accessor.getFirstNativeHeader(HEADER_AUTHORIZATION), false);
+        if (userId != null) {
+            // CONNECT에서 지정한 사용자는 이후 프레임과 /user 대상 라우팅에 그대로 사용된다.
+            accessor.setUser(new WebSocketUserPrincipal(userId));
+        }
+
         Long teamId = extractTeamId(accessor.getFirstNativeHeader(HEADER_TEAM_ID), false);
         if (userId == null || teamId == null) {
             return;
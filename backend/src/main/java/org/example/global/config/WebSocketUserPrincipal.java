@@ -0,0 +1,14 @@
+package org.example.global.config;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 사용자. 이름은 userId 문자열이며 /user/{userId}/queue/** 라우팅 키로 쓰인다.
+ */
+public record WebSocketUserPrincipal(Long userId) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.global.github;
+
+import org.example.global.github.entity.GitHubRepoTeamMapping;
+import org.example.global.github.repository.GitHubRepoTeamMappingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 repository → team 매핑 스냅샷.
+ * 웹훅마다 매핑 테이블을 조회하지 않도록 전체 활성 매핑을 한 번에 읽어 두고 refresh 주기마다 다시 읽는다.
+ * 스냅샷에 없는 저장소는 단건 조회로 확인해 새 매핑은 바로 반영하고, 없으면 다음 갱신까지 미매핑으로 기억한다.
+ * 매핑을 바꾸는 API 는 없고 테이블을 직접 수정하므로, 비활성화·삭제·팀 변경은 최대 refresh 주기만큼 늦게 반영된다.
+ */
+@Component
+public class GitHubRepoTeamMappingCache {
+
+    private final GitHubRepoTeamMappingRepository gitHubRepoTeamMappingRepository;
+    private final long refreshMillis;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public GitHubRepoTeamMappingCache(
+            GitHubRepoTeamMappingRepository gitHubRepoTeamMappingRepository,
+            @Value("${app.github.mapping-cache.refresh-seconds:60}") long refreshSeconds
+    ) {
+        this(gitHubRepoTeamMappingRepository, refreshSeconds, Clock.systemUTC());
+    }
+
+    GitHubRepoTeamMappingCache(
+            GitHubRepoTeamMappingRepository gitHubRepoTeamMappingRepository,
+            long refreshSeconds,
+            Clock clock
+    ) {
+        this.gitHubRepoTeamMappingRepository = gitHubRepoTeamMappingRepository;
+        this.refreshMillis = Math.max(refreshSeconds, 1L) * 1000L;
+        this.clock = clock;
+    }
+
+    public Long findTeamId(String repositoryFullName) {
+        if (repositoryFullName == null || repositoryFullName.isBlank()) {
+            return null;
+        }
+        String key = repositoryFullName.trim();
+        Snapshot current = currentSnapshot();
+        Long teamId = current.teamIds().get(key);
+        if (teamId != null || current.unmapped().contains(key)) {
+            return teamId;
+        }
+
+        Long found = gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue(key)
+                .map(GitHubRepoTeamMapping::getTeamId)
+                .orElse(null);
+        if (found == null) {
+            current.unmapped().add(key);
+        } else {
+            // 갱신 이후 추가된 매핑이므로 다음 조회에서 전체를 다시 읽는다.
+            snapshot = null;
+        }
+        return found;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        long now = clock.millis();
+        if (current != null && now < current.expiresAt()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && now < current.expiresAt()) {
+                return current;
+            }
+            Map<String, Long> teamIds = new HashMap<>();
+            for (GitHubRepoTeamMapping mapping : gitHubRepoTeamMappingRepository.findByActiveTrue()) {
+                if (mapping.getRepositoryFullName() != null && mapping.getTeamId() != null) {
+                    teamIds.put(mapping.getRepositoryFullName().trim(), mapping.getTeamId());
+                }
+            }
+            current = new Snapshot(Map.copyOf(teamIds), ConcurrentHashMap.newKeySet(), now + refreshMillis);
+            snapshot = current;
+            return current;
+        }
+    }
+
+    private record Snapshot(Map<String, Long> teamIds, Set<String> unmapped, long expiresAt) {
+    }
+}
@@ -13,14 +13,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class GitHubWebhookController {
 
     private final GitHubWebhookSignatureVerifier signatureVerifier;
-    private final GitHubWebhookService gitHubWebhookService;
+    private final GitHubWebhookDispatcher gitHubWebhookDispatcher;
 
     public GitHubWebhookController(
             GitHubWebhookSignatureVerifier signatureVerifier,
-            GitHubWebhookService gitHubWebhookService
+            GitHubWebhookDispatcher gitHubWebhookDispatcher
     ) {
         this.signatureVerifier = signatureVerifier;
-        this.gitHubWebhookService = gitHubWebhookService;
+        this.gitHubWebhookDispatcher = gitHubWebhookDispatcher;
     }
 
     @PostMapping("/github")
@@ -38,7 +38,8 @@ public class GitHubWebhookController {
             return ResponseEntity.badRequest().build();
         }
 
-        gitHubWebhookService.handleEvent(deliveryId, eventType, body);
-        return ResponseEntity.ok().build();
+        // GitHub 응답 제한 시간 안에 답하도록 저장만 하고 처리는 워커에 맡긴다.
+        gitHubWebhookDispatcher.receive(deliveryId, eventType, body);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
     }
 }
@@ -0,0 +1,162 @@
+package org.example.global.github;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 웹훅 수신과 처리를 분리한다. 컨트롤러는 RECEIVED 저장 후 바로 응답하고,
+ * 고정 크기 워커 풀이 큐에서 꺼내 처리한다. 큐가 가득 차거나 재시작으로 남은 RECEIVED 건은 주기적으로 다시 넣는다.
+ */
+@Component
+public class GitHubWebhookDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubWebhookDispatcher.class);
+
+    private final GitHubWebhookService gitHubWebhookService;
+    private final ThreadPoolExecutor executor;
+    private final long staleSeconds;
+    private final int sweepBatchSize;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong totalQueueWaitMs = new AtomicLong();
+    private final AtomicLong totalProcessMs = new AtomicLong();
+    private final AtomicLong maxProcessMs = new AtomicLong();
+
+    public GitHubWebhookDispatcher(
+            GitHubWebhookService gitHubWebhookService,
+            @Value("${app.github.worker.threads:4}") int threads,
+            @Value("${app.github.worker.queue-capacity:500}") int queueCapacity,
+            @Value("${app.github.worker.stale-seconds:60}") long staleSeconds,
+            @Value("${app.github.worker.sweep-batch-size:100}") int sweepBatchSize
+    ) {
+        this.gitHubWebhookService = gitHubWebhookService;
+        this.staleSeconds = Math.max(staleSeconds, 1L);
+        this.sweepBatchSize = Math.max(sweepBatchSize, 1);
+        int poolSize = Math.max(threads, 1);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "github-webhook-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 서명 검증이 끝난 웹훅을 저장하고 워커 큐에 넣는다. 저장까지만 요청 스레드에서 한다.
+     */
+    public void receive(String deliveryId, String eventType, String payload) {
+        Long id = gitHubWebhookService.receive(deliveryId, eventType, payload);
+        if (id != null) {
+            accepted.incrementAndGet();
+            enqueue(id);
+        }
+    }
+
+    // 큐가 가득 차면 RECEIVED 로 남겨 두고 sweep 에서 다시 넣는다.
+    boolean enqueue(Long id) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> process(id, enqueuedAt));
+            return true;
+        } catch (RejectedExecutionException ex) {
+            rejected.incrementAndGet();
+            log.warn("GitHub webhook 워커 큐가 가득 차 처리를 미룹니다. id={}, queueDepth={}", id, executor.getQueue().size());
+            return false;
+        }
+    }
+
+    private void process(Long id, long enqueuedAt) {
+        long startedAt = System.nanoTime();
+        totalQueueWaitMs.addAndGet((startedAt - enqueuedAt) / 1_000_000L);
+        try {
+            switch (gitHubWebhookService.processReceived(id)) {
+                case PROCESSED -> succeeded.incrementAndGet();
+                case FAILED -> failed.incrementAndGet();
+                case SKIPPED -> skipped.incrementAndGet();
+            }
+        } catch (RuntimeException ex) {
+            failed.incrementAndGet();
+            log.warn("GitHub webhook 워커 처리 실패. id={}", id, ex);
+        } finally {
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000L;
+            totalProcessMs.addAndGet(elapsedMs);
+            maxProcessMs.accumulateAndGet(elapsedMs, Math::max);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.github.worker.sweep-delay-ms:30000}")
+    public void sweepStaleReceived() {
+        int room = executor.getQueue().remainingCapacity();
+        if (room <= 0) {
+            return;
+        }
+        List<Long> ids = gitHubWebhookService.findStaleReceivedIds(
+                LocalDateTime.now().minusSeconds(staleSeconds),
+                Math.min(room, sweepBatchSize)
+        );
+        int requeued = 0;
+        for (Long id : ids) {
+            if (!enqueue(id)) {
+                break;
+            }
+            requeued++;
+        }
+        if (requeued > 0) {
+            log.info("GitHub webhook 미처리 건을 다시 큐에 넣었습니다. requeued={}", requeued);
+        }
+    }
+
+    public GitHubWebhookWorkerStats stats() {
+        long completed = succeeded.get() + failed.get() + skipped.get();
+        return new GitHubWebhookWorkerStats(
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                accepted.get(),
+                rejected.get(),
+                succeeded.get(),
+                failed.get(),
+                skipped.get(),
+                completed == 0 ? 0L : totalQueueWaitMs.get() / completed,
+                completed == 0 ? 0L : totalProcessMs.get() / completed,
+                maxProcessMs.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
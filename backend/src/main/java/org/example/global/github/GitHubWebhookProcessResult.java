@@ -0,0 +1,10 @@
+package org.example.global.github;
+
+/**
+ * 워커가 delivery 하나를 처리한 결과. SKIPPED 는 다른 워커·인스턴스가 먼저 선점했거나 행이 없어 처리하지 않은 경우다.
+ */
+public enum GitHubWebhookProcessResult {
+    PROCESSED,
+    FAILED,
+    SKIPPED
+}
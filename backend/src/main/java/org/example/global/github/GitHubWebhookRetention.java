@@ -0,0 +1,141 @@
+package org.example.global.github;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.global.github.entity.GitHubWebhookDeliveryStatus;
+import org.example.global.github.repository.GitHubWebhookDeliveryRepository;
+import org.example.global.github.repository.GitHubWebhookDeliveryRepository.PayloadProjection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SUCCESS delivery 의 저장 공간을 회수한다.
+ * 처리 후 일정 시간이 지나면 원본 payload 를 처리에 쓰는 필드만 남긴 JSON 으로 줄이고,
+ * 보존 기간이 지나면 행을 청크 단위로 삭제한다. DEAD_LETTER 는 재처리를 위해 원본 그대로 둔다.
+ */
+@Component
+public class GitHubWebhookRetention {
+
+    // 압축 후에도 남기는 필드. 처리 로직과 운영 조회에 쓰는 값만 둔다.
+    private static final List<String> ROOT_FIELDS = List.of("action", "ref", "before", "after");
+    private static final List<String> PULL_REQUEST_FIELDS = List.of("number", "html_url", "title", "merged", "merged_at");
+
+    private final GitHubWebhookDeliveryRepository gitHubWebhookDeliveryRepository;
+    private final ObjectMapper objectMapper;
+    private final long compactAfterHours;
+    private final int successRetentionDays;
+    private final int chunkSize;
+
+    public GitHubWebhookRetention(
+            GitHubWebhookDeliveryRepository gitHubWebhookDeliveryRepository,
+            ObjectMapper objectMapper,
+            @Value("${app.github.retention.compact-after-hours:24}") long compactAfterHours,
+            @Value("${app.github.retention.success-days:30}") int successRetentionDays,
+            @Value("${app.github.retention.chunk-size:200}") int chunkSize
+    ) {
+        this.gitHubWebhookDeliveryRepository = gitHubWebhookDeliveryRepository;
+        this.objectMapper = objectMapper;
+        this.compactAfterHours = Math.max(compactAfterHours, 0L);
+        this.successRetentionDays = Math.max(successRetentionDays, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    public LocalDateTime compactCutoff(LocalDateTime now) {
+        return now.minusHours(compactAfterHours);
+    }
+
+    public LocalDateTime purgeCutoff(LocalDateTime now) {
+        return now.minusDays(successRetentionDays);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    // 한 청크의 payload 를 줄인다. 처리한 행 수와 줄어든 바이트 수를 돌려준다.
+    @Transactional
+    public ChunkResult compactChunk(LocalDateTime processedBefore) {
+        List<PayloadProjection> rows = gitHubWebhookDeliveryRepository.findCompactable(
+                GitHubWebhookDeliveryStatus.SUCCESS,
+                processedBefore,
+                PageRequest.of(0, chunkSize)
+        );
+        long reclaimedBytes = 0L;
+        for (PayloadProjection row : rows) {
+            String compacted = compact(row.getPayloadJson());
+            gitHubWebhookDeliveryRepository.compactPayload(row.getId(), compacted);
+            reclaimedBytes += Math.max(byteLength(row.getPayloadJson()) - byteLength(compacted), 0L);
+        }
+        return new ChunkResult(rows.size(), reclaimedBytes);
+    }
+
+    // 보존 기간이 지난 SUCCESS delivery 한 청크를 삭제한다.
+    @Transactional
+    public ChunkResult purgeChunk(LocalDateTime processedBefore) {
+        List<Long> ids = gitHubWebhookDeliveryRepository.findIdsByStatusAndProcessedAtBefore(
+                GitHubWebhookDeliveryStatus.SUCCESS,
+                processedBefore,
+                PageRequest.of(0, chunkSize)
+        );
+        if (ids.isEmpty()) {
+            return new ChunkResult(0, 0L);
+        }
+        long reclaimedBytes = gitHubWebhookDeliveryRepository.sumPayloadBytes(ids);
+        int deleted = gitHubWebhookDeliveryRepository.deleteByIdIn(ids);
+        return new ChunkResult(deleted, reclaimedBytes);
+    }
+
+    // 원본이 JSON 이 아니면 비운다. payload_hash 는 그대로 두므로 같은 delivery 재전송은 계속 중복으로 걸러진다.
+    String compact(String payload) {
+        ObjectNode compacted = objectMapper.createObjectNode();
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(payload == null ? "" : payload);
+        } catch (JsonProcessingException ex) {
+            return "{}";
+        }
+        if (root == null || !root.isObject()) {
+            return "{}";
+        }
+
+        copyFields(root, compacted, ROOT_FIELDS);
+        JsonNode repository = root.path("repository").path("full_name");
+        if (repository.isTextual()) {
+            compacted.putObject("repository").set("full_name", repository);
+        }
+        JsonNode pullRequest = root.path("pull_request");
+        if (pullRequest.isObject()) {
+            ObjectNode compactedPullRequest = compacted.putObject("pull_request");
+            copyFields(pullRequest, compactedPullRequest, PULL_REQUEST_FIELDS);
+            JsonNode headRef = pullRequest.path("head").path("ref");
+            if (headRef.isTextual()) {
+                compactedPullRequest.putObject("head").set("ref", headRef);
+            }
+        }
+        return compacted.toString();
+    }
+
+    private void copyFields(JsonNode source, ObjectNode target, List<String> fields) {
+        for (String field : fields) {
+            JsonNode value = source.get(field);
+            if (value != null && value.isValueNode() && !value.isNull()) {
+                target.set(field, value);
+            }
+        }
+    }
+
+    private long byteLength(String value) {
+        return value == null ? 0L : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    public record ChunkResult(int rows, long reclaimedBytes) {
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.global.github;
+
+import org.example.global.github.GitHubWebhookRetention.ChunkResult;
+import org.example.global.scheduler.SchedulerLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 매일 새벽, 처리 끝난 웹훅 delivery 의 payload 를 줄이고 보존 기간이 지난 건을 삭제한다.
+ */
+@Component
+public class GitHubWebhookRetentionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubWebhookRetentionScheduler.class);
+
+    static final String LOCK_NAME = "github-webhook-retention";
+
+    private final GitHubWebhookRetention gitHubWebhookRetention;
+    private final SchedulerLockService schedulerLockService;
+    private final boolean enabled;
+    private final int maxChunksPerRun;
+
+    public GitHubWebhookRetentionScheduler(
+            GitHubWebhookRetention gitHubWebhookRetention,
+            SchedulerLockService schedulerLockService,
+            @Value("${app.github.retention.enabled:true}") boolean enabled,
+            @Value("${app.github.retention.max-chunks-per-run:100}") int maxChunksPerRun
+    ) {
+        this.gitHubWebhookRetention = gitHubWebhookRetention;
+        this.schedulerLockService = schedulerLockService;
+        this.enabled = enabled;
+        this.maxChunksPerRun = Math.max(maxChunksPerRun, 1);
+    }
+
+    @Scheduled(cron = "${app.github.retention.cron:0 0 4 * * *}")
+    public void runRetention() {
+        if (!enabled) {
+            return;
+        }
+        schedulerLockService.runExclusively(LOCK_NAME, Duration.ofHours(2), Duration.ofMinutes(5), this::retain);
+    }
+
+    // 압축·삭제한 행 수 합계를 돌려준다.
+    int retain() {
+        LocalDateTime now = LocalDateTime.now();
+        Totals compacted = drain("payload 압축", gitHubWebhookRetention::compactChunk, gitHubWebhookRetention.compactCutoff(now));
+        Totals purged = drain("SUCCESS 삭제", gitHubWebhookRetention::purgeChunk, gitHubWebhookRetention.purgeCutoff(now));
+        if (compacted.rows() > 0 || purged.rows() > 0) {
+            log.info("GitHub webhook 보존 정리 완료. compacted={}, purged={}, reclaimedBytes={}",
+                    compacted.rows(), purged.rows(), compacted.reclaimedBytes() + purged.reclaimedBytes());
+        }
+        return (int) (compacted.rows() + purged.rows());
+    }
+
+    private Totals drain(String step, Function<LocalDateTime, ChunkResult> chunk, LocalDateTime cutoff) {
+        long rows = 0L;
+        long reclaimedBytes = 0L;
+        try {
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                ChunkResult result = chunk.apply(cutoff);
+                rows += result.rows();
+                reclaimedBytes += result.reclaimedBytes();
+                if (result.rows() < gitHubWebhookRetention.getChunkSize()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("GitHub webhook {} 실패. rows={}", step, rows, ex);
+        }
+        return new Totals(rows, reclaimedBytes);
+    }
+
+    private record Totals(long rows, long reclaimedBytes) {
+    }
+}
@@ -1,19 +1,85 @@
 package org.example.global.github;
 
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재시도 대상 delivery 를 인스턴스마다 N 개 워커가 병렬로 처리한다.
+ * 워커는 SKIP LOCKED 로 작은 배치를 선점하므로 인스턴스 간 잠금 없이도 같은 건을 두 번 처리하지 않는다.
+ */
 @Component
 public class GitHubWebhookRetryScheduler {
 
+    private static final Logger log = LoggerFactory.getLogger(GitHubWebhookRetryScheduler.class);
+
     private final GitHubWebhookService gitHubWebhookService;
+    private final int workers;
+    private final ExecutorService executor;
 
-    public GitHubWebhookRetryScheduler(GitHubWebhookService gitHubWebhookService) {
+    public GitHubWebhookRetryScheduler(
+            GitHubWebhookService gitHubWebhookService,
+            @Value("${app.github.retry.workers:2}") int workers
+    ) {
         this.gitHubWebhookService = gitHubWebhookService;
+        this.workers = Math.max(workers, 1);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "github-webhook-retry-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    // 워커마다 선점할 대상이 없을 때까지 배치를 반복하고, 모두 끝나야 다음 주기를 시작한다.
     @Scheduled(fixedDelayString = "${app.github.retry.fixed-delay-ms:60000}")
     public void retryFailedDeliveries() {
-        gitHubWebhookService.retryFailedDeliveries();
+        List<Callable<Integer>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(this::drain);
+        }
+
+        int claimed = 0;
+        try {
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                claimed += future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.warn("GitHub webhook 재시도 워커 실패", ex.getCause());
+        }
+        if (claimed > 0) {
+            log.info("GitHub webhook 재시도 완료. workers={}, claimed={}", workers, claimed);
+        }
+    }
+
+    private int drain() {
+        int total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int claimed = gitHubWebhookService.retryFailedDeliveries();
+            if (claimed == 0) {
+                break;
+            }
+            total += claimed;
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 }
@@ -22,10 +22,9 @@ import org.example.domain.workRequest.dto.WorkRequestStatusUpdateRequest;
 import org.example.domain.workRequest.entity.WorkRequest;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
 import org.example.domain.workRequest.service.WorkRequestService;
-import org.example.global.github.entity.GitHubRepoTeamMapping;
 import org.example.global.github.entity.GitHubWebhookDelivery;
 import org.example.global.github.entity.GitHubWebhookDeliveryStatus;
-import org.example.global.github.repository.GitHubRepoTeamMappingRepository;
+import org.example.global.github.repository.GitHubWebhookDeliveryClaimRepository;
 import org.example.global.github.repository.GitHubWebhookDeliveryRepository;
 import org.example.global.team.TeamRequestContext;
 import org.slf4j.Logger;
@@ -38,12 +37,18 @@ import org.springframework.stereotype.Service;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -53,6 +58,9 @@ public class GitHubWebhookService {
     private static final Logger log = LoggerFactory.getLogger(GitHubWebhookService.class);
 
     private static final String EVENT_PULL_REQUEST = "pull_request";
+    private static final String EVENT_PUSH = "push";
+    private static final int SHORT_SHA_LENGTH = 7;
+    private static final int MAX_NOTE_SHAS = 3;
 
     private static final Pattern DOC_NO_PATTERN = Pattern.compile("\\b([A-Za-z]{2,3}-\\d{1,9})\\b");
     private static final Pattern CLOSE_KEYWORD_PATTERN = Pattern.compile("\\b(close[sd]?|fix(?:e[sd])?|resolve[sd]?)\\b", Pattern.CASE_INSENSITIVE);
@@ -74,13 +82,15 @@ public class GitHubWebhookService {
     private final DefectService defectService;
     private final DeploymentService deploymentService;
     private final ActivityLogService activityLogService;
-    private final GitHubRepoTeamMappingRepository gitHubRepoTeamMappingRepository;
+    private final GitHubRepoTeamMappingCache gitHubRepoTeamMappingCache;
     private final GitHubWebhookDeliveryRepository gitHubWebhookDeliveryRepository;
+    private final GitHubWebhookDeliveryClaimRepository gitHubWebhookDeliveryClaimRepository;
 
     private final int maxRetryAttempts;
     private final int retryBatchSize;
     private final long retryBaseSeconds;
     private final long retryMaxSeconds;
+    private final long leaseSeconds;
 
     public GitHubWebhookService(
             ObjectMapper objectMapper,
@@ -94,12 +104,14 @@ public class GitHubWebhookService {
             DefectService defectService,
             DeploymentService deploymentService,
             ActivityLogService activityLogService,
-            GitHubRepoTeamMappingRepository gitHubRepoTeamMappingRepository,
+            GitHubRepoTeamMappingCache gitHubRepoTeamMappingCache,
             GitHubWebhookDeliveryRepository gitHubWebhookDeliveryRepository,
+            GitHubWebhookDeliveryClaimRepository gitHubWebhookDeliveryClaimRepository,
             @Value("${app.github.retry.max-attempts:5}") int maxRetryAttempts,
-            @Value("${app.github.retry.batch-size:20}") int retryBatchSize,
+            @Value("${app.github.retry.batch-size:5}") int retryBatchSize,
             @Value("${app.github.retry.base-seconds:30}") long retryBaseSeconds,
-            @Value("${app.github.retry.max-seconds:1800}") long retryMaxSeconds
+            @Value("${app.github.retry.max-seconds:1800}") long retryMaxSeconds,
+            @Value("${app.github.retry.lease-seconds:300}") long leaseSeconds
     ) {
         this.objectMapper = objectMapper;
         this.workRequestRepository = workRequestRepository;
@@ -112,64 +124,82 @@ public class GitHubWebhookService {
         this.defectService = defectService;
         this.deploymentService = deploymentService;
         this.activityLogService = activityLogService;
-        this.gitHubRepoTeamMappingRepository = gitHubRepoTeamMappingRepository;
+        this.gitHubRepoTeamMappingCache = gitHubRepoTeamMappingCache;
         this.gitHubWebhookDeliveryRepository = gitHubWebhookDeliveryRepository;
+        this.gitHubWebhookDeliveryClaimRepository = gitHubWebhookDeliveryClaimRepository;
         this.maxRetryAttempts = Math.max(1, maxRetryAttempts);
         this.retryBatchSize = Math.max(1, retryBatchSize);
         this.retryBaseSeconds = Math.max(1L, retryBaseSeconds);
         this.retryMaxSeconds = Math.max(this.retryBaseSeconds, retryMaxSeconds);
+        this.leaseSeconds = Math.max(1L, leaseSeconds);
     }
 
-    public void handleEvent(String deliveryId, String eventType, String payload) {
+    /**
+     * 웹훅을 RECEIVED 로 저장만 하고, 워커가 처리할 delivery id 를 돌려준다.
+     * 이미 처리됐거나 처리중인 delivery(GitHub 재전송 포함)면 null.
+     */
+    public Long receive(String deliveryId, String eventType, String payload) {
         if (isBlank(deliveryId) || isBlank(eventType) || isBlank(payload)) {
-            return;
+            return null;
         }
 
-        String normalizedDeliveryId = deliveryId.trim();
-        String normalizedEventType = eventType.trim();
         String normalizedPayload = payload.trim();
         String payloadHash = sha256Hex(normalizedPayload);
-
-        GitHubWebhookDelivery delivery = findOrCreateDelivery(normalizedDeliveryId, normalizedEventType, normalizedPayload, payloadHash);
+        GitHubWebhookDelivery delivery = findOrCreateDelivery(deliveryId.trim(), eventType.trim(), normalizedPayload, payloadHash);
         if (!isProcessable(delivery, payloadHash)) {
-            return;
+            return null;
         }
-
-        processDelivery(delivery, normalizedEventType, normalizedPayload, payloadHash);
+        return delivery.getId();
     }
 
-    // 테스트/백워드 호환용: deliveryId가 없는 경우 payload 해시 기반 synthetic id를 사용한다.
-    public void handleEvent(String eventType, String payload) {
-        if (isBlank(eventType) || isBlank(payload)) {
-            return;
+    /**
+     * RECEIVED/FAILED delivery 를 PROCESSING(임대 포함)으로 선점한 뒤 처리한다.
+     * 다른 워커나 인스턴스가 먼저 선점했으면 처리하지 않고 SKIPPED.
+     */
+    public GitHubWebhookProcessResult processReceived(Long id) {
+        if (id == null) {
+            return GitHubWebhookProcessResult.SKIPPED;
         }
-        String syntheticDeliveryId = "synthetic-" + sha256Hex(eventType.trim() + "|" + payload.trim());
-        handleEvent(syntheticDeliveryId, eventType, payload);
-    }
-
-    public void retryFailedDeliveries() {
-        LocalDateTime now = LocalDateTime.now();
-        List<GitHubWebhookDelivery> deliveries = gitHubWebhookDeliveryRepository
-                .findByStatusAndNextRetryAtLessThanEqualOrderByNextRetryAtAscIdAsc(
-                        GitHubWebhookDeliveryStatus.FAILED,
-                        now,
-                        PageRequest.of(0, retryBatchSize)
-                );
-
-        for (GitHubWebhookDelivery delivery : deliveries) {
-            if (delivery == null || delivery.getId() == null) {
-                continue;
-            }
-
-            GitHubWebhookDelivery latest = gitHubWebhookDeliveryRepository.findById(delivery.getId()).orElse(null);
-            if (latest == null || latest.getStatus() != GitHubWebhookDeliveryStatus.FAILED) {
+        if (!gitHubWebhookDeliveryClaimRepository.claim(id, leaseSeconds)) {
+            return GitHubWebhookProcessResult.SKIPPED;
+        }
+        GitHubWebhookDelivery delivery = gitHubWebhookDeliveryRepository.findById(id).orElse(null);
+        if (delivery == null) {
+            return GitHubWebhookProcessResult.SKIPPED;
+        }
+        return processDelivery(delivery, delivery.getEventType(), delivery.getPayloadJson(), delivery.getPayloadHash())
+                ? GitHubWebhookProcessResult.PROCESSED
+                : GitHubWebhookProcessResult.FAILED;
+    }
+
+    // 재시작이나 큐 포화로 워커에 넘어가지 못하고 남은 RECEIVED delivery id.
+    public List<Long> findStaleReceivedIds(LocalDateTime receivedBefore, int limit) {
+        return gitHubWebhookDeliveryRepository.findIdsByStatusAndCreatedAtBefore(
+                GitHubWebhookDeliveryStatus.RECEIVED,
+                receivedBefore,
+                PageRequest.of(0, Math.max(limit, 1))
+        );
+    }
+
+    /**
+     * 재시도 대상(재시도 시각이 된 FAILED, 임대가 만료된 PROCESSING)을 작은 배치로 선점해 처리한다.
+     * 선점한 건수를 돌려주며, 0 이면 지금 가져갈 대상이 없다.
+     */
+    public int retryFailedDeliveries() {
+        List<Long> claimedIds = gitHubWebhookDeliveryClaimRepository.claimRetryBatch(LocalDateTime.now(), retryBatchSize, leaseSeconds);
+        for (Long id : claimedIds) {
+            GitHubWebhookDelivery latest = gitHubWebhookDeliveryRepository.findById(id).orElse(null);
+            if (latest == null) {
                 continue;
             }
-            if (latest.getNextRetryAt() != null && latest.getNextRetryAt().isAfter(now)) {
+            // 처리 중 워커가 죽어 임대가 만료되기를 반복한 건은 더 시도하지 않는다.
+            if (zeroIfNull(latest.getAttemptCount()) >= maxRetryAttempts) {
+                markDeadLetter(latest, "처리 임대 만료로 최대 시도 횟수를 초과했습니다.");
                 continue;
             }
             processDelivery(latest, latest.getEventType(), latest.getPayloadJson(), latest.getPayloadHash());
         }
+        return claimedIds.size();
     }
 
     private GitHubWebhookDelivery findOrCreateDelivery(
@@ -222,7 +252,7 @@ public class GitHubWebhookService {
         return true;
     }
 
-    private void processDelivery(GitHubWebhookDelivery delivery, String eventType, String payload, String payloadHash) {
+    private boolean processDelivery(GitHubWebhookDelivery delivery, String eventType, String payload, String payloadHash) {
         markProcessing(delivery, eventType, payload, payloadHash);
 
         try {
@@ -235,14 +265,16 @@ public class GitHubWebhookService {
             if (mappedTeamId == null) {
                 markSuccess(delivery);
                 log.warn("GitHub repository-team 매핑이 없어 이벤트를 건너뜁니다. repository={}, deliveryId={}", repository, delivery.getDeliveryId());
-                return;
+                return true;
             }
 
             handleSupportedEvent(eventType, root, mappedTeamId);
             markSuccess(delivery);
+            return true;
         } catch (Exception ex) {
             markFailure(delivery, ex);
             log.warn("GitHub webhook 처리 실패. deliveryId={}", delivery.getDeliveryId(), ex);
+            return false;
         }
     }
 
@@ -254,6 +286,9 @@ public class GitHubWebhookService {
         delivery.setAttemptCount(zeroIfNull(delivery.getAttemptCount()) + 1);
         delivery.setLastError(null);
         delivery.setNextRetryAt(null);
+        if (delivery.getLeaseUntil() == null) {
+            delivery.setLeaseUntil(LocalDateTime.now().plusSeconds(leaseSeconds));
+        }
         gitHubWebhookDeliveryRepository.save(delivery);
     }
 
@@ -267,26 +302,33 @@ public class GitHubWebhookService {
         delivery.setStatus(GitHubWebhookDeliveryStatus.SUCCESS);
         delivery.setLastError(null);
         delivery.setNextRetryAt(null);
+        delivery.setLeaseUntil(null);
         delivery.setProcessedAt(LocalDateTime.now());
         gitHubWebhookDeliveryRepository.save(delivery);
     }
 
     private void markFailure(GitHubWebhookDelivery delivery, Exception ex) {
         int attempts = zeroIfNull(delivery.getAttemptCount());
-        delivery.setLastError(truncateError(ex));
-
         if (attempts >= maxRetryAttempts) {
-            delivery.setStatus(GitHubWebhookDeliveryStatus.DEAD_LETTER);
-            delivery.setNextRetryAt(null);
-            gitHubWebhookDeliveryRepository.save(delivery);
+            markDeadLetter(delivery, truncateError(ex));
             return;
         }
 
+        delivery.setLastError(truncateError(ex));
+        delivery.setLeaseUntil(null);
         delivery.setStatus(GitHubWebhookDeliveryStatus.FAILED);
         delivery.setNextRetryAt(LocalDateTime.now().plusSeconds(computeBackoffSeconds(attempts)));
         gitHubWebhookDeliveryRepository.save(delivery);
     }
 
+    private void markDeadLetter(GitHubWebhookDelivery delivery, String error) {
+        delivery.setStatus(GitHubWebhookDeliveryStatus.DEAD_LETTER);
+        delivery.setLastError(error);
+        delivery.setNextRetryAt(null);
+        delivery.setLeaseUntil(null);
+        gitHubWebhookDeliveryRepository.save(delivery);
+    }
+
     private long computeBackoffSeconds(int attempts) {
         long exponent = Math.max(0, attempts - 1);
         long backoff = retryBaseSeconds;
@@ -300,16 +342,14 @@ public class GitHubWebhookService {
     }
 
     private Long resolveMappedTeamId(String repositoryFullName) {
-        if (isBlank(repositoryFullName)) {
-            return null;
-        }
-
-        return gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue(repositoryFullName.trim())
-                .map(GitHubRepoTeamMapping::getTeamId)
-                .orElse(null);
+        return gitHubRepoTeamMappingCache.findTeamId(repositoryFullName);
     }
 
     private void handleSupportedEvent(String eventType, JsonNode root, Long mappedTeamId) {
+        if (EVENT_PUSH.equals(eventType)) {
+            handlePush(root, mappedTeamId);
+            return;
+        }
         if (!EVENT_PULL_REQUEST.equals(eventType)) {
             return;
         }
@@ -339,14 +379,14 @@ public class GitHubWebhookService {
         String body = text(pullRequest.path("body"));
 
         Set<String> docNos = extractDocNos(joinTexts(branchName, title, body));
+        Map<String, TechTask> techTasks = resolveTechTasks(docNos);
         Set<Long> linkedTaskIds = new LinkedHashSet<>();
         for (String docNo : docNos) {
-            Optional<TechTask> techTaskOptional = resolveTechTask(docNo);
-            if (techTaskOptional.isEmpty()) {
+            TechTask techTask = techTasks.get(docNo);
+            if (techTask == null) {
                 continue;
             }
 
-            TechTask techTask = techTaskOptional.get();
             if (techTask.getId() == null || !linkedTaskIds.add(techTask.getId())) {
                 continue;
             }
@@ -382,12 +422,98 @@ public class GitHubWebhookService {
             return;
         }
 
+        String baseNote = isBlank(prNo)
+                ? "GitHub PR 머지로 자동 완료 처리"
+                : "GitHub PR #" + prNo + " 머지로 자동 완료 처리";
+        String statusNote = isBlank(repository) ? baseNote : baseNote + " (" + repository + ")";
+
+        Map<String, StatusTarget> targets = resolveStatusTargets(closeTargets);
+        Set<String> completed = new LinkedHashSet<>();
         for (String docNo : closeTargets) {
-            resolveStatusTarget(docNo).ifPresent(target -> completeTarget(target, repository, prNo, mappedTeamId));
+            StatusTarget target = targets.get(docNo);
+            if (target != null && completed.add(target.refType() + ":" + target.refId())) {
+                completeTarget(target, statusNote, mappedTeamId);
+            }
         }
     }
 
-    private void completeTarget(StatusTarget target, String repository, String prNo, Long mappedTeamId) {
+    /**
+     * 기본 브랜치 push 의 커밋 메시지에서 close 키워드가 붙은 문서번호를 모아 완료 처리한다.
+     * 커밋 수와 관계없이 추출은 한 번에, 조회는 유형별 한 번에 하고, 문서마다 상태 변경은 한 번(트랜잭션 하나)만 한다.
+     */
+    private void handlePush(JsonNode root, Long mappedTeamId) {
+        if (root.path("deleted").asBoolean(false)) {
+            return;
+        }
+        String repository = text(root.path("repository").path("full_name"));
+        String ref = text(root.path("ref"));
+        String defaultBranch = text(root.path("repository").path("default_branch"));
+        if (defaultBranch != null && !("refs/heads/" + defaultBranch).equals(ref)) {
+            return;
+        }
+
+        Map<String, Set<String>> shasByDocNo = new LinkedHashMap<>();
+        JsonNode commits = root.path("commits");
+        if (commits.isArray() && !commits.isEmpty()) {
+            for (JsonNode commit : commits) {
+                collectCommitCloseTargets(commit, shasByDocNo);
+            }
+        } else {
+            collectCommitCloseTargets(root.path("head_commit"), shasByDocNo);
+        }
+        if (shasByDocNo.isEmpty()) {
+            return;
+        }
+
+        String branch = ref != null && ref.startsWith("refs/heads/") ? ref.substring("refs/heads/".length()) : ref;
+        Map<String, StatusTarget> targets = resolveStatusTargets(shasByDocNo.keySet());
+        Map<String, StatusTarget> uniqueTargets = new LinkedHashMap<>();
+        Map<String, Set<String>> shasByTarget = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : shasByDocNo.entrySet()) {
+            StatusTarget target = targets.get(entry.getKey());
+            if (target == null) {
+                continue;
+            }
+            String key = target.refType() + ":" + target.refId();
+            uniqueTargets.putIfAbsent(key, target);
+            shasByTarget.computeIfAbsent(key, ignored -> new LinkedHashSet<>()).addAll(entry.getValue());
+        }
+        uniqueTargets.forEach((key, target) ->
+                completeTarget(target, pushStatusNote(shasByTarget.get(key), repository, branch), mappedTeamId));
+    }
+
+    private void collectCommitCloseTargets(JsonNode commit, Map<String, Set<String>> shasByDocNo) {
+        if (commit == null || !commit.isObject()) {
+            return;
+        }
+        String message = text(commit.path("message"));
+        if (message == null) {
+            return;
+        }
+        String sha = text(commit.path("id"));
+        String shortSha = sha == null ? null : sha.substring(0, Math.min(sha.length(), SHORT_SHA_LENGTH));
+        for (String docNo : extractCloseTargets(message)) {
+            Set<String> shas = shasByDocNo.computeIfAbsent(docNo, ignored -> new LinkedHashSet<>());
+            if (shortSha != null) {
+                shas.add(shortSha);
+            }
+        }
+    }
+
+    private String pushStatusNote(Set<String> shas, String repository, String branch) {
+        StringBuilder note = new StringBuilder("GitHub 커밋");
+        if (shas != null && !shas.isEmpty()) {
+            note.append(' ').append(String.join(", ", shas.stream().limit(MAX_NOTE_SHAS).toList()));
+            if (shas.size() > MAX_NOTE_SHAS) {
+                note.append(" 외 ").append(shas.size() - MAX_NOTE_SHAS).append("건");
+            }
+        }
+        note.append(" push로 자동 완료 처리");
+        String location = joinTexts(repository, branch);
+        return isBlank(location) ? note.toString() : note + " (" + location + ")";
+    }
+
+    private void completeTarget(StatusTarget target, String statusNote, Long mappedTeamId) {
         if (target == null || STATUS_DONE.equals(target.currentStatus())) {
             return;
         }
@@ -397,11 +523,6 @@ public class GitHubWebhookService {
             return;
         }
 
-        String baseNote = isBlank(prNo)
-                ? "GitHub PR 머지로 자동 완료 처리"
-                : "GitHub PR #" + prNo + " 머지로 자동 완료 처리";
-        final String statusNote = isBlank(repository) ? baseNote : baseNote + " (" + repository + ")";
-
         runWithTeamScope(mappedTeamId, () -> {
             switch (target.refType()) {
                 case REF_TYPE_WORK_REQUEST ->
@@ -418,7 +539,7 @@ public class GitHubWebhookService {
             }
         });
 
-        log.info("GitHub PR 머지 자동 완료 처리. refType={}, refId={}", target.refType(), target.refId());
+        log.info("GitHub 자동 완료 처리. refType={}, refId={}", target.refType(), target.refId());
     }
 
     private void runWithTeamScope(Long teamId, Runnable runnable) {
@@ -436,72 +557,105 @@ public class GitHubWebhookService {
         }
     }
 
-    private Optional<StatusTarget> resolveStatusTarget(String docNo) {
-        ParsedDocNo parsed = parseDocNo(docNo);
-        if (parsed == null) {
-            return Optional.empty();
+    // 문서번호를 유형별로 묶어 유형마다 IN 조회 한 번(+ id 폴백 한 번)으로 찾는다.
+    private Map<String, StatusTarget> resolveStatusTargets(Collection<String> docNos) {
+        Map<String, List<ParsedDocNo>> byPrefix = new LinkedHashMap<>();
+        for (String docNo : docNos) {
+            ParsedDocNo parsed = parseDocNo(docNo);
+            if (parsed != null) {
+                String prefix = "TT".equals(parsed.prefix()) ? "TK" : parsed.prefix();
+                byPrefix.computeIfAbsent(prefix, ignored -> new ArrayList<>()).add(parsed);
+            }
         }
 
-        return switch (parsed.prefix()) {
-            case "WR" -> resolveWorkRequest(parsed).map(item ->
-                    new StatusTarget(REF_TYPE_WORK_REQUEST, item.getId(), item.getTeamId(), item.getStatus())
-            );
-            case "TK", "TT" -> resolveTechTask(parsed.normalized()).map(item ->
-                    new StatusTarget(REF_TYPE_TECH_TASK, item.getId(), item.getTeamId(), item.getStatus())
-            );
-            case "DF" -> resolveDefect(parsed).map(item ->
-                    new StatusTarget(REF_TYPE_DEFECT, item.getId(), item.getTeamId(), item.getStatus())
-            );
-            case "DP" -> resolveDeployment(parsed).map(item ->
-                    new StatusTarget(REF_TYPE_DEPLOYMENT, item.getId(), item.getTeamId(), item.getStatus())
-            );
-            default -> Optional.empty();
-        };
+        Map<String, StatusTarget> result = new LinkedHashMap<>();
+        resolveBatch("WR", byPrefix.get("WR"), workRequestRepository::findByRequestNoIn, WorkRequest::getRequestNo,
+                workRequestRepository::findAllById, WorkRequest::getId)
+                .forEach((docNo, item) -> result.put(docNo,
+                        new StatusTarget(REF_TYPE_WORK_REQUEST, item.getId(), item.getTeamId(), item.getStatus())));
+        resolveBatch("TK", byPrefix.get("TK"), techTaskRepository::findByTaskNoIn, TechTask::getTaskNo,
+                techTaskRepository::findAllById, TechTask::getId)
+                .forEach((docNo, item) -> result.put(docNo,
+                        new StatusTarget(REF_TYPE_TECH_TASK, item.getId(), item.getTeamId(), item.getStatus())));
+        resolveBatch("DF", byPrefix.get("DF"), defectRepository::findByDefectNoIn, Defect::getDefectNo,
+                defectRepository::findAllById, Defect::getId)
+                .forEach((docNo, item) -> result.put(docNo,
+                        new StatusTarget(REF_TYPE_DEFECT, item.getId(), item.getTeamId(), item.getStatus())));
+        resolveBatch("DP", byPrefix.get("DP"), deploymentRepository::findByDeployNoIn, Deployment::getDeployNo,
+                deploymentRepository::findAllById, Deployment::getId)
+                .forEach((docNo, item) -> result.put(docNo,
+                        new StatusTarget(REF_TYPE_DEPLOYMENT, item.getId(), item.getTeamId(), item.getStatus())));
+        return result;
     }
 
-    private Optional<WorkRequest> resolveWorkRequest(ParsedDocNo parsed) {
-        for (String candidate : buildDocNoCandidates("WR", parsed)) {
-            Optional<WorkRequest> found = workRequestRepository.findByRequestNo(candidate);
-            if (found.isPresent()) {
-                return found;
+    private Map<String, TechTask> resolveTechTasks(Collection<String> docNos) {
+        List<ParsedDocNo> parsedList = new ArrayList<>();
+        for (String docNo : docNos) {
+            ParsedDocNo parsed = parseDocNo(docNo);
+            if (parsed != null && ("TK".equals(parsed.prefix()) || "TT".equals(parsed.prefix()))) {
+                parsedList.add(parsed);
             }
         }
-        return workRequestRepository.findById(parsed.number());
-    }
-
-    private Optional<TechTask> resolveTechTask(String docNo) {
-        ParsedDocNo parsed = parseDocNo(docNo);
-        if (parsed == null || (!"TK".equals(parsed.prefix()) && !"TT".equals(parsed.prefix()))) {
-            return Optional.empty();
+        return resolveBatch("TK", parsedList, techTaskRepository::findByTaskNoIn, TechTask::getTaskNo,
+                techTaskRepository::findAllById, TechTask::getId);
+    }
+
+    /**
+     * 한 유형의 문서번호들을 후보 번호(원본/패딩 없음/3자리 패딩) IN 조회 한 번으로 찾고,
+     * 번호로 못 찾은 건만 모아 id 조회 한 번으로 폴백한다. 결과 키는 정규화된 문서번호.
+     */
+    private <T> Map<String, T> resolveBatch(
+            String canonicalPrefix,
+            List<ParsedDocNo> parsedList,
+            Function<Collection<String>, List<T>> findByDocNos,
+            Function<T, String> docNoOf,
+            Function<Collection<Long>, List<T>> findByIds,
+            Function<T, Long> idOf
+    ) {
+        if (parsedList == null || parsedList.isEmpty()) {
+            return Map.of();
         }
 
-        for (String candidate : buildDocNoCandidates("TK", parsed)) {
-            Optional<TechTask> found = techTaskRepository.findByTaskNo(candidate);
-            if (found.isPresent()) {
-                return found;
-            }
+        Set<String> candidates = new LinkedHashSet<>();
+        for (ParsedDocNo parsed : parsedList) {
+            candidates.addAll(buildDocNoCandidates(canonicalPrefix, parsed));
+        }
+        Map<String, T> byDocNo = new HashMap<>();
+        for (T item : findByDocNos.apply(candidates)) {
+            byDocNo.putIfAbsent(docNoOf.apply(item), item);
         }
-        return techTaskRepository.findById(parsed.number());
-    }
 
-    private Optional<Defect> resolveDefect(ParsedDocNo parsed) {
-        for (String candidate : buildDocNoCandidates("DF", parsed)) {
-            Optional<Defect> found = defectRepository.findByDefectNo(candidate);
-            if (found.isPresent()) {
-                return found;
+        Map<String, T> result = new LinkedHashMap<>();
+        Set<Long> fallbackIds = new LinkedHashSet<>();
+        for (ParsedDocNo parsed : parsedList) {
+            T found = null;
+            for (String candidate : buildDocNoCandidates(canonicalPrefix, parsed)) {
+                found = byDocNo.get(candidate);
+                if (found != null) {
+                    break;
+                }
+            }
+            if (found != null) {
+                result.put(parsed.normalized(), found);
+            } else {
+                fallbackIds.add(parsed.number());
             }
         }
-        return defectRepository.findById(parsed.number());
-    }
+        if (fallbackIds.isEmpty()) {
+            return result;
+        }
 
-    private Optional<Deployment> resolveDeployment(ParsedDocNo parsed) {
-        for (String candidate : buildDocNoCandidates("DP", parsed)) {
-            Optional<Deployment> found = deploymentRepository.findByDeployNo(candidate);
-            if (found.isPresent()) {
-                return found;
+        Map<Long, T> byId = new HashMap<>();
+        for (T item : findByIds.apply(fallbackIds)) {
+            byId.put(idOf.apply(item), item);
+        }
+        for (ParsedDocNo parsed : parsedList) {
+            T found = byId.get(parsed.number());
+            if (found != null) {
+                result.putIfAbsent(parsed.normalized(), found);
             }
         }
-        return deploymentRepository.findById(parsed.number());
+        return result;
     }
 
     private List<String> buildDocNoCandidates(String canonicalPrefix, ParsedDocNo parsed) {
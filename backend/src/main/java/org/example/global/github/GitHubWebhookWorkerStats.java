@@ -0,0 +1,19 @@
+package org.example.global.github;
+
+/**
+ * 웹훅 워커 풀 상태 스냅샷. 지연 값은 누적 평균/최대(ms)이다.
+ * skipped 는 다른 워커·인스턴스가 먼저 선점해 처리하지 않은 건으로, failed 와 따로 센다.
+ */
+public record GitHubWebhookWorkerStats(
+        int queueDepth,
+        int activeWorkers,
+        long accepted,
+        long rejected,
+        long succeeded,
+        long failed,
+        long skipped,
+        long avgQueueWaitMs,
+        long avgProcessMs,
+        long maxProcessMs
+) {
+}
@@ -39,6 +39,9 @@ public class GitHubWebhookDelivery {
     @Column(name = "payload_json", nullable = false, columnDefinition = "LONGTEXT")
     private String payloadJson;
 
+    @Column(name = "payload_compacted", nullable = false)
+    private boolean payloadCompacted;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private GitHubWebhookDeliveryStatus status;
@@ -52,6 +55,9 @@ public class GitHubWebhookDelivery {
     @Column(name = "next_retry_at")
     private LocalDateTime nextRetryAt;
 
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
 
@@ -120,6 +126,14 @@ public class GitHubWebhookDelivery {
         this.payloadJson = payloadJson;
     }
 
+    public boolean isPayloadCompacted() {
+        return payloadCompacted;
+    }
+
+    public void setPayloadCompacted(boolean payloadCompacted) {
+        this.payloadCompacted = payloadCompacted;
+    }
+
     public GitHubWebhookDeliveryStatus getStatus() {
         return status;
     }
@@ -152,6 +166,14 @@ public class GitHubWebhookDelivery {
         this.nextRetryAt = nextRetryAt;
     }
 
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
     public LocalDateTime getProcessedAt() {
         return processedAt;
     }
@@ -0,0 +1,83 @@
+package org.example.global.github.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 웹훅 delivery 선점(claim)용 JDBC 저장소.
+ * 선점한 행은 PROCESSING + lease_until 로 표시하고, 임대가 만료된 PROCESSING 행은 다른 워커가 다시 가져간다.
+ * 임대 시각은 인스턴스 간 시계 차이를 피하려고 DB 시계(NOW(3))로 계산한다.
+ */
+@Repository
+public class GitHubWebhookDeliveryClaimRepository {
+
+    private static final String SELECT_EXPIRED_LEASES_SQL = """
+            SELECT id FROM github_webhook_deliveries
+            WHERE status = 'PROCESSING'
+              AND lease_until < NOW(3)
+            ORDER BY lease_until ASC, id ASC
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String SELECT_DUE_FAILED_SQL = """
+            SELECT id FROM github_webhook_deliveries
+            WHERE status = 'FAILED'
+              AND next_retry_at <= ?
+            ORDER BY next_retry_at ASC, id ASC
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GitHubWebhookDeliveryClaimRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 수신 직후 워커가 한 건을 선점한다. 다른 워커가 먼저 가져갔으면 false.
+    public boolean claim(Long id, long leaseSeconds) {
+        return jdbcTemplate.update(
+                """
+                UPDATE github_webhook_deliveries
+                SET status = 'PROCESSING',
+                    lease_until = DATE_ADD(NOW(3), INTERVAL ? SECOND)
+                WHERE id = ?
+                  AND status IN ('RECEIVED', 'FAILED')
+                """,
+                leaseSeconds,
+                id
+        ) == 1;
+    }
+
+    /**
+     * 임대 만료된 PROCESSING 과 재시도 시각이 된 FAILED 를 최대 limit 건 선점한다.
+     * SKIP LOCKED 로 다른 워커가 잡고 있는 행은 건너뛰므로 워커·인스턴스를 늘려도 같은 행을 두 번 가져가지 않는다.
+     */
+    @Transactional
+    public List<Long> claimRetryBatch(LocalDateTime now, int limit, long leaseSeconds) {
+        List<Long> ids = new ArrayList<>(jdbcTemplate.queryForList(SELECT_EXPIRED_LEASES_SQL, Long.class, limit));
+        if (ids.size() < limit) {
+            ids.addAll(jdbcTemplate.queryForList(SELECT_DUE_FAILED_SQL, Long.class, now, limit - ids.size()));
+        }
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(leaseSeconds);
+        args.addAll(ids);
+        jdbcTemplate.update(
+                "UPDATE github_webhook_deliveries SET status = 'PROCESSING', lease_until = DATE_ADD(NOW(3), INTERVAL ? SECOND) "
+                        + "WHERE id IN (" + placeholders + ")",
+                args.toArray()
+        );
+        return ids;
+    }
+}
@@ -4,17 +4,67 @@ import org.example.global.github.entity.GitHubWebhookDelivery;
 import org.example.global.github.entity.GitHubWebhookDeliveryStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface GitHubWebhookDeliveryRepository extends JpaRepository<GitHubWebhookDelivery, Long> {
     Optional<GitHubWebhookDelivery> findByDeliveryId(String deliveryId);
 
-    List<GitHubWebhookDelivery> findByStatusAndNextRetryAtLessThanEqualOrderByNextRetryAtAscIdAsc(
-            GitHubWebhookDeliveryStatus status,
-            LocalDateTime nextRetryAt,
+    @Query("select d.id from GitHubWebhookDelivery d where d.status = :status and d.createdAt <= :before order by d.id asc")
+    List<Long> findIdsByStatusAndCreatedAtBefore(
+            @Param("status") GitHubWebhookDeliveryStatus status,
+            @Param("before") LocalDateTime before,
             Pageable pageable
     );
+
+    // 처리 후 보존 기간이 지났지만 아직 원본 payload 를 들고 있는 delivery.
+    @Query("""
+            select d.id as id, d.payloadJson as payloadJson
+            from GitHubWebhookDelivery d
+            where d.status = :status
+              and d.payloadCompacted = false
+              and d.processedAt < :before
+            order by d.id asc
+            """)
+    List<PayloadProjection> findCompactable(
+            @Param("status") GitHubWebhookDeliveryStatus status,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("update GitHubWebhookDelivery d set d.payloadJson = :payloadJson, d.payloadCompacted = true where d.id = :id")
+    int compactPayload(@Param("id") Long id, @Param("payloadJson") String payloadJson);
+
+    @Query("""
+            select d.id
+            from GitHubWebhookDelivery d
+            where d.status = :status
+              and d.processedAt < :before
+            order by d.id asc
+            """)
+    List<Long> findIdsByStatusAndProcessedAtBefore(
+            @Param("status") GitHubWebhookDeliveryStatus status,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT COALESCE(SUM(LENGTH(payload_json)), 0) FROM github_webhook_deliveries WHERE id IN (:ids)", nativeQuery = true)
+    long sumPayloadBytes(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from GitHubWebhookDelivery d where d.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface PayloadProjection {
+        Long getId();
+
+        String getPayloadJson();
+    }
 }
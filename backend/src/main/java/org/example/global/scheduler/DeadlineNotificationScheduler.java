@@ -1,34 +1,52 @@
 package org.example.global.scheduler;
 
+import jakarta.annotation.PreDestroy;
 import org.example.domain.defect.repository.DefectRepository;
 import org.example.domain.deployment.repository.DeploymentRepository;
-import org.example.domain.notification.service.NotificationEventService;
 import org.example.domain.techTask.repository.TechTaskRepository;
 import org.example.domain.testScenario.repository.TestScenarioRepository;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
- * 매일 오전 9시, 마감 3일 전인 미완료 항목의 담당자에게 마감임박 알림 발송
+ * 다가오는 마감(오늘 ~ horizon)을 DB 에서 읽어 DeadlineReminderEngine 에 적재한다.
+ * 기동 시와 매시 재적재해 다른 인스턴스에서 바뀐 일정도 반영하고, 사라진 예약은 정리한다.
+ * 발송 중복은 엔진의 발송 이력이 막으므로 잠금 없이 인스턴스마다 자기 메모리를 채운다.
+ * 다섯 도메인을 병렬로 id 순 청크 조회한다.
  */
 @Component
 public class DeadlineNotificationScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(DeadlineNotificationScheduler.class);
-    private static final int DAYS_BEFORE = 3;
 
     private final WorkRequestRepository workRequestRepository;
     private final TechTaskRepository techTaskRepository;
     private final TestScenarioRepository testScenarioRepository;
     private final DefectRepository defectRepository;
     private final DeploymentRepository deploymentRepository;
-    private final NotificationEventService notificationEventService;
+    private final DeadlineReminderEngine deadlineReminderEngine;
+    private final int chunkSize;
+    private final ExecutorService executor;
 
     public DeadlineNotificationScheduler(
             WorkRequestRepository workRequestRepository,
@@ -36,83 +54,153 @@ public class DeadlineNotificationScheduler {
             TestScenarioRepository testScenarioRepository,
             DefectRepository defectRepository,
             DeploymentRepository deploymentRepository,
-            NotificationEventService notificationEventService
+            DeadlineReminderEngine deadlineReminderEngine,
+            @Value("${app.scheduler.deadline.chunk-size:500}") int chunkSize
     ) {
         this.workRequestRepository = workRequestRepository;
         this.techTaskRepository = techTaskRepository;
         this.testScenarioRepository = testScenarioRepository;
         this.defectRepository = defectRepository;
         this.deploymentRepository = deploymentRepository;
-        this.notificationEventService = notificationEventService;
+        this.deadlineReminderEngine = deadlineReminderEngine;
+        this.chunkSize = Math.max(chunkSize, 1);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(5, runnable -> {
+            Thread thread = new Thread(runnable, "deadline-scan-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    @Scheduled(cron = "0 0 9 * * *")
-    public void checkDeadlines() {
-        LocalDate target = LocalDate.now().plusDays(DAYS_BEFORE);
-        log.info("마감임박 알림 체크 시작: target={}", target);
-
-        checkWorkRequests(target);
-        checkTechTasks(target);
-        checkTestScenarios(target);
-        checkDefects(target);
-        checkDeployments(target);
-
-        log.info("마감임박 알림 체크 완료");
-    }
-
-    private void checkWorkRequests(LocalDate target) {
-        var items = workRequestRepository.findActiveByDeadline(
-                target, List.of("완료", "반려"));
-        for (var item : items) {
-            notify(item.getAssigneeId(), "WORK_REQUEST", item.getId(),
-                    item.getRequestNo() + " '" + item.getTitle() + "' 마감일이 " + DAYS_BEFORE + "일 후입니다.");
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!deadlineReminderEngine.isEnabled()) {
+            return;
         }
+        deadlineReminderEngine.start();
+        reload();
     }
 
-    private void checkTechTasks(LocalDate target) {
-        var items = techTaskRepository.findActiveByDeadline(
-                target, List.of("완료", "반려"));
-        for (var item : items) {
-            notify(item.getAssigneeId(), "TECH_TASK", item.getId(),
-                    item.getTaskNo() + " '" + item.getTitle() + "' 마감일이 " + DAYS_BEFORE + "일 후입니다.");
+    @Scheduled(cron = "${app.deadline-reminder.reload-cron:0 5 * * * *}")
+    public void reloadHourly() {
+        if (deadlineReminderEngine.isEnabled()) {
+            reload();
         }
     }
 
-    private void checkTestScenarios(LocalDate target) {
-        var items = testScenarioRepository.findActiveByDeadline(
-                target, List.of("통과", "실패", "보류"));
-        for (var item : items) {
-            notify(item.getAssigneeId(), "TEST_SCENARIO", item.getId(),
-                    item.getScenarioNo() + " '" + item.getTitle() + "' 마감일이 " + DAYS_BEFORE + "일 후입니다.");
+    int reload() {
+        LocalDate from = deadlineReminderEngine.today();
+        LocalDate to = deadlineReminderEngine.horizonEnd();
+        long sinceGeneration = deadlineReminderEngine.currentGeneration();
+        Set<String> seenKeys = ConcurrentHashMap.newKeySet();
+
+        List<DomainScan<?>> scans = List.of(
+                new DomainScan<>("WORK_REQUEST",
+                        (afterId, page) -> workRequestRepository.findActiveByDeadlineBetween(from, to, closed("WORK_REQUEST"), afterId, page),
+                        item -> item.getId(),
+                        item -> new DeadlineReminderItem("WORK_REQUEST", item.getId(), item.getRequestNo(), item.getTitle(),
+                                item.getAssigneeId(), item.getDeadline(), item.getStatus())),
+                new DomainScan<>("TECH_TASK",
+                        (afterId, page) -> techTaskRepository.findActiveByDeadlineBetween(from, to, closed("TECH_TASK"), afterId, page),
+                        item -> item.getId(),
+                        item -> new DeadlineReminderItem("TECH_TASK", item.getId(), item.getTaskNo(), item.getTitle(),
+                                item.getAssigneeId(), item.getDeadline(), item.getStatus())),
+                new DomainScan<>("TEST_SCENARIO",
+                        (afterId, page) -> testScenarioRepository.findActiveByDeadlineBetween(from, to, closed("TEST_SCENARIO"), afterId, page),
+                        item -> item.getId(),
+                        item -> new DeadlineReminderItem("TEST_SCENARIO", item.getId(), item.getScenarioNo(), item.getTitle(),
+                                item.getAssigneeId(), item.getDeadline(), item.getStatus())),
+                new DomainScan<>("DEFECT",
+                        (afterId, page) -> defectRepository.findActiveByDeadlineBetween(from, to, closed("DEFECT"), afterId, page),
+                        item -> item.getId(),
+                        item -> new DeadlineReminderItem("DEFECT", item.getId(), item.getDefectNo(), item.getTitle(),
+                                item.getAssigneeId(), item.getDeadline(), item.getStatus())),
+                new DomainScan<>("DEPLOYMENT",
+                        (afterId, page) -> deploymentRepository.findActiveByScheduledAtBetween(from, to, closed("DEPLOYMENT"), afterId, page),
+                        item -> item.getId(),
+                        item -> new DeadlineReminderItem("DEPLOYMENT", item.getId(), item.getDeployNo(), item.getTitle(),
+                                item.getManagerId(), item.getScheduledAt(), item.getStatus()))
+        );
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(scans.size());
+        for (DomainScan<?> scan : scans) {
+            futures.add(CompletableFuture.supplyAsync(() -> scan(scan, seenKeys), executor));
         }
-    }
 
-    private void checkDefects(LocalDate target) {
-        var items = defectRepository.findActiveByDeadline(
-                target, List.of("완료", "재현불가", "보류"));
-        for (var item : items) {
-            notify(item.getAssigneeId(), "DEFECT", item.getId(),
-                    item.getDefectNo() + " '" + item.getTitle() + "' 마감일이 " + DAYS_BEFORE + "일 후입니다.");
+        int total = 0;
+        boolean complete = true;
+        for (CompletableFuture<Integer> future : futures) {
+            int loaded = future.join();
+            if (loaded < 0) {
+                complete = false;
+            } else {
+                total += loaded;
+            }
         }
-    }
 
-    private void checkDeployments(LocalDate target) {
-        var items = deploymentRepository.findActiveByScheduledAt(
-                target, List.of("완료", "실패", "롤백"));
-        for (var item : items) {
-            notify(item.getManagerId(), "DEPLOYMENT", item.getId(),
-                    item.getDeployNo() + " '" + item.getTitle() + "' 배포 예정일이 " + DAYS_BEFORE + "일 후입니다.");
+        // 한 도메인이라도 읽다 실패하면 정리하지 않는다. 남은 예약은 발송 이력/다음 재적재에서 걸러진다.
+        int removed = complete ? deadlineReminderEngine.retainOnly(seenKeys, sinceGeneration) : 0;
+        try {
+            deadlineReminderEngine.purgeLog(from);
+        } catch (RuntimeException ex) {
+            log.warn("마감 리마인더 발송 이력 정리 실패", ex);
         }
+        log.info("마감 리마인더 적재 완료: from={}, to={}, loaded={}, removed={}", from, to, total, removed);
+        return total;
     }
 
-    private void notify(Long userId, String refType, Long refId, String message) {
-        if (userId == null) {
-            return;
-        }
+    // 한 도메인을 청크 단위로 끝까지 읽어 엔진에 예약한다. 실패하면 -1 을 돌려주고 다른 도메인은 계속 진행한다.
+    private <T> int scan(DomainScan<T> scan, Set<String> seenKeys) {
+        long startedAt = System.nanoTime();
+        long afterId = 0L;
+        int loaded = 0;
         try {
-            notificationEventService.create(userId, "마감임박", "마감 " + DAYS_BEFORE + "일 전 알림", message, refType, refId);
+            while (true) {
+                List<T> chunk = scan.query().load(afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                for (T entity : chunk) {
+                    DeadlineReminderItem item = scan.toItem().apply(entity);
+                    deadlineReminderEngine.schedule(item);
+                    seenKeys.add(DeadlineReminderEngine.key(item.refType(), item.refId()));
+                    loaded++;
+                }
+
+                afterId = scan.idOf().applyAsLong(chunk.get(chunk.size() - 1));
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
         } catch (RuntimeException ex) {
-            log.warn("마감임박 알림 발송 실패. refType={}, refId={}", refType, refId, ex);
+            log.warn("마감 리마인더 적재 실패. refType={}, afterId={}", scan.refType(), afterId, ex);
+            return -1;
         }
+        log.debug("마감 리마인더 도메인 적재: refType={}, loaded={}, durationMs={}",
+                scan.refType(), loaded, (System.nanoTime() - startedAt) / 1_000_000L);
+        return loaded;
+    }
+
+    private static List<String> closed(String refType) {
+        return DeadlineReminderEngine.closedStatuses(refType);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface ChunkQuery<T> {
+        List<T> load(long afterId, Pageable pageable);
+    }
+
+    private record DomainScan<T>(
+            String refType,
+            ChunkQuery<T> query,
+            ToLongFunction<T> idOf,
+            Function<T, DeadlineReminderItem> toItem
+    ) {
     }
 }
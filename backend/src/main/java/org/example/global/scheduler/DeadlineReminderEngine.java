@@ -0,0 +1,456 @@
+package org.example.global.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import org.example.domain.notification.dto.NotificationCommand;
+import org.example.domain.notification.service.NotificationEventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 마감 리마인더를 메모리 DelayQueue 로 예약해 정해진 시각(D-7/D-3/D-1/H-2 등)에 발송한다.
+ * 테이블 스캔 없이 도메인 변경 시 즉시 다시 예약하고, 변경·취소된 예약은 세대(generation) 비교로 발송 시 버린다.
+ * 여러 인스턴스가 같은 예약을 가지므로 deadline_reminder_log 에 먼저 기록한 인스턴스만 발송한다.
+ * 다른 인스턴스의 변경은 재적재 전까지 메모리에 반영되지 않으므로, 기록 전에 DB 의 상태·마감·담당자를 다시 읽어 확인한다.
+ * 발송 이력과 알림은 한 트랜잭션으로 저장해, 알림 저장이 실패하면 이력도 남지 않고 다시 시도된다.
+ */
+@Component
+public class DeadlineReminderEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineReminderEngine.class);
+    static final String NOTIFICATION_TYPE = "마감임박";
+    private static final int MAX_FIRE_BATCH = 500;
+    private static final long RETRY_DELAY_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final Map<String, List<String>> CLOSED_STATUSES = Map.of(
+            "WORK_REQUEST", List.of("완료", "반려"),
+            "TECH_TASK", List.of("완료", "반려"),
+            "TEST_SCENARIO", List.of("통과", "실패", "보류"),
+            "DEFECT", List.of("완료", "재현불가", "보류"),
+            "DEPLOYMENT", List.of("완료", "실패", "롤백")
+    );
+    private static final Map<String, RefTable> REF_TABLES = Map.of(
+            "WORK_REQUEST", new RefTable("work_requests", "assignee_id", "deadline"),
+            "TECH_TASK", new RefTable("tech_tasks", "assignee_id", "deadline"),
+            "TEST_SCENARIO", new RefTable("test_scenarios", "assignee_id", "deadline"),
+            "DEFECT", new RefTable("defects", "assignee_id", "deadline"),
+            "DEPLOYMENT", new RefTable("deployments", "manager_id", "scheduled_at")
+    );
+
+    private final NotificationEventService notificationEventService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final List<ReminderOffset> offsets;
+    private final LocalTime notifyTime;
+    private final LocalTime dueTime;
+    private final int horizonDays;
+    private final Duration catchUp;
+    private final Clock clock;
+    private final DelayQueue<Reminder> queue = new DelayQueue<>();
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+    private Thread worker;
+
+    @Autowired
+    public DeadlineReminderEngine(
+            NotificationEventService notificationEventService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.deadline-reminder.enabled:true}") boolean enabled,
+            @Value("${app.deadline-reminder.offsets:D-7,D-3,D-1,H-2}") String offsets,
+            @Value("${app.deadline-reminder.notify-time:09:00}") String notifyTime,
+            @Value("${app.deadline-reminder.due-time:18:00}") String dueTime,
+            @Value("${app.deadline-reminder.horizon-days:7}") int horizonDays,
+            @Value("${app.deadline-reminder.catch-up-minutes:60}") long catchUpMinutes
+    ) {
+        this(notificationEventService, jdbcTemplate, transactionManager, enabled, offsets, notifyTime, dueTime, horizonDays, catchUpMinutes,
+                Clock.systemDefaultZone());
+    }
+
+    DeadlineReminderEngine(
+            NotificationEventService notificationEventService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            boolean enabled,
+            String offsets,
+            String notifyTime,
+            String dueTime,
+            int horizonDays,
+            long catchUpMinutes,
+            Clock clock
+    ) {
+        this.notificationEventService = notificationEventService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.offsets = ReminderOffset.parseAll(offsets);
+        this.enabled = enabled && !this.offsets.isEmpty();
+        this.notifyTime = LocalTime.parse(notifyTime.trim());
+        this.dueTime = LocalTime.parse(dueTime.trim());
+        this.horizonDays = Math.max(horizonDays, 1);
+        this.catchUp = Duration.ofMinutes(Math.max(catchUpMinutes, 0L));
+        this.clock = clock;
+    }
+
+    public static List<String> closedStatuses(String refType) {
+        return CLOSED_STATUSES.getOrDefault(refType, List.of());
+    }
+
+    static String key(String refType, Long refId) {
+        return refType + ":" + refId;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    // 예약을 유지하는 마감일 범위의 끝. 가장 긴 오프셋(D-7)이 오늘 발송될 마감일까지 포함한다.
+    public LocalDate horizonEnd() {
+        return today().plusDays(horizonDays);
+    }
+
+    public synchronized void start() {
+        if (!enabled || worker != null) {
+            return;
+        }
+        worker = new Thread(this::runWorker, "deadline-reminder");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    /**
+     * 항목을 (다시) 예약한다. 종료 상태·담당자 없음·범위 밖 마감이면 기존 예약을 취소한다.
+     * 내용이 같으면 기존 예약을 그대로 둔다.
+     */
+    public void schedule(DeadlineReminderItem item) {
+        if (!enabled || item == null || item.refId() == null) {
+            return;
+        }
+        String key = key(item.refType(), item.refId());
+        if (!isSchedulable(item)) {
+            entries.remove(key);
+            return;
+        }
+        entries.compute(key, (ignored, previous) -> {
+            if (previous != null && previous.item().equals(item)) {
+                return previous;
+            }
+            long generation = generations.incrementAndGet();
+            enqueue(key, generation, item.deadline());
+            return new Entry(item, generation);
+        });
+    }
+
+    public void cancel(String refType, Long refId) {
+        if (refId != null) {
+            entries.remove(key(refType, refId));
+        }
+    }
+
+    // 재적재 시작 시점의 세대. 이후 retainOnly 에서 그 사이 새로 예약된 항목은 지우지 않는다.
+    public long currentGeneration() {
+        return generations.get();
+    }
+
+    // 재적재에서 보이지 않은(다른 인스턴스에서 종료·삭제된) 예약을 정리한다.
+    public int retainOnly(Set<String> seenKeys, long sinceGeneration) {
+        int before = entries.size();
+        entries.entrySet().removeIf(entry -> entry.getValue().generation() <= sinceGeneration
+                && !seenKeys.contains(entry.getKey()));
+        return before - entries.size();
+    }
+
+    public int purgeLog(LocalDate before) {
+        return jdbcTemplate.update("DELETE FROM deadline_reminder_log WHERE deadline < ?", before);
+    }
+
+    int scheduledCount() {
+        return entries.size();
+    }
+
+    List<Reminder> pendingReminders() {
+        List<Reminder> pending = new ArrayList<>(queue);
+        pending.sort(Comparator.comparingLong(Reminder::fireAtMillis));
+        return pending;
+    }
+
+    private boolean isSchedulable(DeadlineReminderItem item) {
+        if (item.userId() == null || item.deadline() == null) {
+            return false;
+        }
+        if (item.status() != null && closedStatuses(item.refType()).contains(item.status())) {
+            return false;
+        }
+        return !item.deadline().isBefore(today()) && !item.deadline().isAfter(horizonEnd());
+    }
+
+    private void enqueue(String key, long generation, LocalDate deadline) {
+        long now = clock.millis();
+        long oldest = now - catchUp.toMillis();
+        for (ReminderOffset offset : offsets) {
+            long fireAt = offset.fireAt(deadline, notifyTime, dueTime).atZone(clock.getZone()).toInstant().toEpochMilli();
+            // 재시작 등으로 조금 지난 예약은 catch-up 범위 안에서만 보낸다. 중복은 발송 이력이 막는다.
+            if (fireAt > oldest) {
+                queue.add(new Reminder(key, generation, offset, fireAt, clock));
+            }
+        }
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Reminder> due = new ArrayList<>();
+                due.add(queue.take());
+                queue.drainTo(due, MAX_FIRE_BATCH - 1);
+                fire(due);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                log.warn("마감 리마인더 발송 실패", ex);
+            }
+        }
+    }
+
+    // 만기된 예약을 발송한다. 현재 세대가 아니거나 다른 인스턴스가 먼저 보낸 예약은 건너뛴다.
+    int fire(List<Reminder> due) {
+        List<Reminder> current = due.stream()
+                .filter(reminder -> {
+                    Entry entry = entries.get(reminder.key());
+                    return entry != null && entry.generation() == reminder.generation();
+                })
+                .toList();
+        if (current.isEmpty()) {
+            return 0;
+        }
+        try {
+            Integer sent = transactionTemplate.execute(status -> claimAndNotify(current));
+            return sent == null ? 0 : sent;
+        } catch (RuntimeException ex) {
+            // 이력까지 롤백되었으므로 잠시 뒤 다시 시도한다.
+            log.warn("마감 리마인더 발송 실패, 재시도 예약: count={}", current.size(), ex);
+            current.forEach(this::retryLater);
+            return 0;
+        }
+    }
+
+    private int claimAndNotify(List<Reminder> due) {
+        Map<String, RefState> latest = loadLatest(due);
+        List<NotificationCommand> commands = new ArrayList<>(due.size());
+        for (Reminder reminder : due) {
+            Entry entry = entries.get(reminder.key());
+            if (entry == null || entry.generation() != reminder.generation()) {
+                continue;
+            }
+            DeadlineReminderItem item = entry.item();
+            if (!matchesLatest(reminder.key(), entry, latest)) {
+                continue;
+            }
+            if (!claim(item, reminder.offset())) {
+                continue;
+            }
+            commands.add(command(item, reminder.offset()));
+        }
+        if (!commands.isEmpty()) {
+            notificationEventService.createAllOrThrow(commands);
+            log.info("마감 리마인더 발송: count={}", commands.size());
+        }
+        return commands.size();
+    }
+
+    // 발송 대상의 현재 상태를 refType 별 IN 조회 한 번으로 읽는다.
+    private Map<String, RefState> loadLatest(List<Reminder> due) {
+        Map<String, List<Long>> idsByRefType = due.stream()
+                .map(reminder -> entries.get(reminder.key()))
+                .filter(entry -> entry != null && REF_TABLES.containsKey(entry.item().refType()))
+                .map(Entry::item)
+                .collect(Collectors.groupingBy(DeadlineReminderItem::refType,
+                        Collectors.mapping(DeadlineReminderItem::refId, Collectors.toCollection(ArrayList::new))));
+        Map<String, RefState> latest = new HashMap<>();
+        idsByRefType.forEach((refType, ids) -> {
+            List<Long> distinctIds = ids.stream().distinct().toList();
+            RefTable table = REF_TABLES.get(refType);
+            String placeholders = String.join(",", Collections.nCopies(distinctIds.size(), "?"));
+            List<RefState> rows = jdbcTemplate.query(
+                    "SELECT id, " + table.userColumn() + " AS user_id, " + table.deadlineColumn() + " AS deadline, status"
+                            + " FROM " + table.name() + " WHERE id IN (" + placeholders + ")",
+                    (rs, rowNum) -> new RefState(
+                            rs.getLong("id"),
+                            rs.getObject("user_id", Long.class),
+                            rs.getObject("deadline", LocalDate.class),
+                            rs.getString("status")
+                    ),
+                    distinctIds.toArray()
+            );
+            rows.forEach(row -> latest.put(key(refType, row.id()), row));
+        });
+        return latest;
+    }
+
+    // 메모리 예약이 DB 와 다르면 발송하지 않는다. 삭제·종료는 취소하고, 마감·담당자 변경은 현재 값으로 다시 예약한다.
+    private boolean matchesLatest(String key, Entry entry, Map<String, RefState> latest) {
+        DeadlineReminderItem item = entry.item();
+        if (!REF_TABLES.containsKey(item.refType())) {
+            return true;
+        }
+        RefState row = latest.get(key);
+        if (row == null) {
+            entries.remove(key, entry);
+            return false;
+        }
+        boolean closed = row.status() != null && closedStatuses(item.refType()).contains(row.status());
+        if (!closed && Objects.equals(row.userId(), item.userId()) && Objects.equals(row.deadline(), item.deadline())) {
+            return true;
+        }
+        log.info("마감 리마인더 대상이 변경되어 다시 예약: key={}, status={}, userId={}, deadline={}",
+                key, row.status(), row.userId(), row.deadline());
+        schedule(new DeadlineReminderItem(item.refType(), item.refId(), item.docNo(), item.title(),
+                row.userId(), row.deadline(), row.status()));
+        return false;
+    }
+
+    // 원래 발송 시각이 catch-up 범위를 벗어나면 재시도하지 않는다.
+    private void retryLater(Reminder reminder) {
+        Entry entry = entries.get(reminder.key());
+        if (entry == null || entry.generation() != reminder.generation()) {
+            return;
+        }
+        long now = clock.millis();
+        long scheduledAt = reminder.offset().fireAt(entry.item().deadline(), notifyTime, dueTime)
+                .atZone(clock.getZone()).toInstant().toEpochMilli();
+        if (scheduledAt + catchUp.toMillis() > now) {
+            queue.add(new Reminder(reminder.key(), reminder.generation(), reminder.offset(), now + RETRY_DELAY_MILLIS, clock));
+        }
+    }
+
+    private boolean claim(DeadlineReminderItem item, ReminderOffset offset) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO deadline_reminder_log (ref_type, ref_id, deadline, offset_code) VALUES (?, ?, ?, ?)",
+                item.refType(),
+                item.refId(),
+                item.deadline(),
+                offset.code()
+        ) == 1;
+    }
+
+    private NotificationCommand command(DeadlineReminderItem item, ReminderOffset offset) {
+        boolean deployment = "DEPLOYMENT".equals(item.refType());
+        String subject = item.docNo() + " '" + item.title() + "' ";
+        String title;
+        String message;
+        if (offset.hours()) {
+            title = "마감 " + offset.amount() + "시간 전 알림";
+            message = subject + (deployment ? "배포 예정까지 " : "마감까지 ") + offset.amount() + "시간 남았습니다.";
+        } else if (offset.amount() == 0) {
+            title = "마감 당일 알림";
+            message = subject + (deployment ? "배포 예정일이 오늘입니다." : "마감일이 오늘입니다.");
+        } else {
+            title = "마감 " + offset.amount() + "일 전 알림";
+            message = subject + (deployment ? "배포 예정일이 " : "마감일이 ") + offset.amount() + "일 후입니다.";
+        }
+        return new NotificationCommand(item.userId(), NOTIFICATION_TYPE, title, message, item.refType(), item.refId());
+    }
+
+    private record Entry(DeadlineReminderItem item, long generation) {
+    }
+
+    private record RefTable(String name, String userColumn, String deadlineColumn) {
+    }
+
+    record RefState(Long id, Long userId, LocalDate deadline, String status) {
+    }
+
+    /**
+     * 마감 기준 발송 오프셋. D-n 은 마감 n일 전 notify-time 에, H-n 은 마감일 due-time 의 n시간 전에 발송한다.
+     */
+    record ReminderOffset(String code, boolean hours, int amount) {
+
+        static List<ReminderOffset> parseAll(String raw) {
+            if (raw == null || raw.isBlank()) {
+                return List.of();
+            }
+            return Arrays.stream(raw.split(","))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .map(ReminderOffset::parse)
+                    .distinct()
+                    .toList();
+        }
+
+        static ReminderOffset parse(String code) {
+            String normalized = code.toUpperCase();
+            if (normalized.length() < 3 || normalized.charAt(1) != '-'
+                    || (normalized.charAt(0) != 'D' && normalized.charAt(0) != 'H')) {
+                throw new IllegalArgumentException("잘못된 마감 리마인더 오프셋: " + code);
+            }
+            int amount;
+            try {
+                amount = Integer.parseInt(normalized.substring(2));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("잘못된 마감 리마인더 오프셋: " + code, ex);
+            }
+            if (amount < 0) {
+                throw new IllegalArgumentException("잘못된 마감 리마인더 오프셋: " + code);
+            }
+            return new ReminderOffset(normalized, normalized.charAt(0) == 'H', amount);
+        }
+
+        LocalDateTime fireAt(LocalDate deadline, LocalTime notifyTime, LocalTime dueTime) {
+            return hours()
+                    ? deadline.atTime(dueTime).minusHours(amount)
+                    : deadline.minusDays(amount).atTime(notifyTime);
+        }
+    }
+
+    record Reminder(String key, long generation, ReminderOffset offset, long fireAtMillis, Clock clock) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - clock.millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Reminder reminder) {
+                return Long.compare(fireAtMillis, reminder.fireAtMillis);
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
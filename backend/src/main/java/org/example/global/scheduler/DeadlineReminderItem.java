@@ -0,0 +1,17 @@
+package org.example.global.scheduler;
+
+import java.time.LocalDate;
+
+/**
+ * 마감 리마인더 대상 한 건의 스냅샷. 도메인 서비스가 변경 커밋 후 엔진에 넘기거나, 로더가 DB 에서 읽어 만든다.
+ */
+public record DeadlineReminderItem(
+        String refType,
+        Long refId,
+        String docNo,
+        String title,
+        Long userId,
+        LocalDate deadline,
+        String status
+) {
+}
@@ -0,0 +1,68 @@
+package org.example.global.scheduler;
+
+import org.example.domain.notification.service.NotificationArchiver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 매일 새벽, 읽은 지 오래된 알림을 archive 테이블로 옮긴다.
+ */
+@Component
+public class NotificationArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationArchiveScheduler.class);
+
+    static final String LOCK_NAME = "notification-archive";
+
+    private final NotificationArchiver notificationArchiver;
+    private final SchedulerLockService schedulerLockService;
+    private final boolean enabled;
+    private final int maxChunksPerRun;
+
+    public NotificationArchiveScheduler(
+            NotificationArchiver notificationArchiver,
+            SchedulerLockService schedulerLockService,
+            @Value("${app.notification.retention.enabled:true}") boolean enabled,
+            @Value("${app.notification.retention.max-chunks-per-run:100}") int maxChunksPerRun
+    ) {
+        this.notificationArchiver = notificationArchiver;
+        this.schedulerLockService = schedulerLockService;
+        this.enabled = enabled;
+        this.maxChunksPerRun = Math.max(maxChunksPerRun, 1);
+    }
+
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 3 * * *}")
+    public void archiveReadNotifications() {
+        if (!enabled) {
+            return;
+        }
+        schedulerLockService.runExclusively(LOCK_NAME, Duration.ofHours(2), Duration.ofMinutes(5), this::archive);
+    }
+
+    int archive() {
+        LocalDateTime cutoff = notificationArchiver.cutoff(LocalDateTime.now());
+        int total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int moved = notificationArchiver.archiveChunk(cutoff);
+                total += moved;
+                if (moved < notificationArchiver.getChunkSize()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("알림 보관 이동 실패. moved={}", total, ex);
+            return total;
+        }
+        if (total > 0) {
+            log.info("알림 보관 이동 완료: cutoff={}, moved={}", cutoff, total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.global.scheduler;
+
+import org.example.domain.notification.service.NotificationCoalescer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 병합된 알림의 Slack 요약(digest)을 주기적으로 발송한다. digest 가 꺼져 있으면 아무 일도 하지 않는다.
+ */
+@Component
+public class NotificationDigestScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDigestScheduler.class);
+
+    static final String LOCK_NAME = "notification-digest";
+
+    private final NotificationCoalescer notificationCoalescer;
+    private final SchedulerLockService schedulerLockService;
+
+    public NotificationDigestScheduler(
+            NotificationCoalescer notificationCoalescer,
+            SchedulerLockService schedulerLockService
+    ) {
+        this.notificationCoalescer = notificationCoalescer;
+        this.schedulerLockService = schedulerLockService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.coalesce.digest-interval-ms:600000}")
+    public void flushDigest() {
+        if (!notificationCoalescer.isDigestEnabled()) {
+            return;
+        }
+        try {
+            // 같은 digest 가 인스턴스마다 중복 발송되지 않도록 한 곳에서만 실행한다.
+            schedulerLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(5), Duration.ofSeconds(30),
+                    notificationCoalescer::flushDigest);
+        } catch (RuntimeException ex) {
+            log.warn("알림 digest 적재 실패", ex);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.global.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * scheduler_locks 테이블 기반의 단일 실행 잠금.
+ * 시각 비교는 모두 DB 시계(NOW(3))로 해서 인스턴스 간 시계 차이의 영향을 받지 않는다.
+ * 비정상 종료로 해제되지 않은 잠금은 lockAtMostFor 가 지나면 다른 인스턴스가 가져간다.
+ */
+@Component
+public class SchedulerLockService {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLockService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+
+    @Autowired
+    public SchedulerLockService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.scheduler.instance-id:}") String instanceId
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = instanceId == null || instanceId.isBlank() ? defaultInstanceId() : instanceId.trim();
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 잠금을 얻으면 작업을 실행하고 소요 시간/처리 건수를 기록한다. 다른 인스턴스가 실행 중이면 false.
+     * lockAtLeastFor 는 작업이 빨리 끝나도 그 시간 동안 잠금을 유지해, 시계가 조금 늦은 인스턴스의 같은 회차 실행을 막는다.
+     */
+    public boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, IntSupplier task) {
+        if (!tryAcquire(name, lockAtMostFor)) {
+            log.debug("스케줄 잠금 획득 실패(다른 인스턴스 실행 중). name={}", name);
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        int itemCount = 0;
+        String error = null;
+        try {
+            itemCount = task.getAsInt();
+            return true;
+        } catch (RuntimeException ex) {
+            error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+            throw ex;
+        } finally {
+            long durationMs = (System.nanoTime() - startedAt) / 1_000_000L;
+            release(name, lockAtLeastFor, durationMs, itemCount, error);
+            if (itemCount > 0 || error != null) {
+                log.info("스케줄 작업 종료. name={}, durationMs={}, items={}", name, durationMs, itemCount);
+            }
+        }
+    }
+
+    boolean tryAcquire(String name, Duration lockAtMostFor) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO scheduler_locks (name, locked_until) VALUES (?, NOW(3))",
+                name
+        );
+        int updated = jdbcTemplate.update(
+                """
+                UPDATE scheduler_locks
+                SET locked_by = ?,
+                    locked_at = NOW(3),
+                    locked_until = DATE_ADD(NOW(3), INTERVAL ? SECOND),
+                    last_started_at = NOW(3)
+                WHERE name = ?
+                  AND locked_until <= NOW(3)
+                """,
+                instanceId,
+                Math.max(lockAtMostFor.toSeconds(), 1L),
+                name
+        );
+        return updated == 1;
+    }
+
+    void release(String name, Duration lockAtLeastFor, long durationMs, int itemCount, String error) {
+        try {
+            jdbcTemplate.update(
+                    """
+                    UPDATE scheduler_locks
+                    SET locked_until = GREATEST(NOW(3), DATE_ADD(locked_at, INTERVAL ? SECOND)),
+                        last_finished_at = NOW(3),
+                        last_duration_ms = ?,
+                        last_item_count = ?,
+                        last_error = ?
+                    WHERE name = ?
+                      AND locked_by = ?
+                    """,
+                    Math.max(lockAtLeastFor.toSeconds(), 0L),
+                    durationMs,
+                    itemCount,
+                    error == null ? null : error.substring(0, Math.min(error.length(), 1000)),
+                    name,
+                    instanceId
+            );
+        } catch (RuntimeException ex) {
+            // 해제에 실패해도 lockAtMostFor 경과 후 자동으로 풀린다.
+            log.warn("스케줄 잠금 해제 실패. name={}", name, ex);
+        }
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.global.security;
+
+import org.example.domain.auth.repository.AuthRevokedAccessTokenRepository;
+import org.example.domain.auth.repository.AuthRevokedAccessTokenRepository.RevokedTokenProjection;
+import org.example.global.scheduler.SchedulerLockService;
+import org.example.global.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 access token(jti) 목록. 원본은 auth_revoked_access_tokens 이고, 인스턴스는 bloom filter + 정확 집합으로 복제해
+ * 요청마다 DB 를 조회하지 않는다. 같은 인스턴스의 폐기는 커밋 직후, 다른 인스턴스의 폐기는 다음 갱신 주기에 반영된다.
+ * 목록은 기동 시와 갱신 주기에만 적재하고, 적재 전에는 요청 스레드에서 DB 를 읽지 않고 503 으로 거절한다.
+ */
+@Component
+public class AccessTokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenRevocationList.class);
+
+    static final String PURGE_LOCK_NAME = "auth-revoked-access-token-purge";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int PURGE_BATCH_SIZE = 1000;
+    // 다른 인스턴스의 늦은 커밋을 덮도록 증분 조회 구간을 겹친다.
+    private static final Duration INCREMENTAL_OVERLAP = Duration.ofMinutes(1);
+
+    private final AuthRevokedAccessTokenRepository authRevokedAccessTokenRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final int expectedEntries;
+    private final long rebuildIntervalMillis;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded;
+    // 아래 두 필드는 this 로 보호한다.
+    private Instant lastRebuiltAt = Instant.EPOCH;
+    private Instant lastLoadedAt = Instant.EPOCH;
+
+    @Autowired
+    public AccessTokenRevocationList(
+            AuthRevokedAccessTokenRepository authRevokedAccessTokenRepository,
+            SchedulerLockService schedulerLockService,
+            @Value("${app.jwt.revocation.expected-entries:10000}") int expectedEntries,
+            @Value("${app.jwt.revocation.rebuild-interval-ms:600000}") long rebuildIntervalMillis
+    ) {
+        this(authRevokedAccessTokenRepository, schedulerLockService, expectedEntries, rebuildIntervalMillis, Clock.systemDefaultZone());
+    }
+
+    AccessTokenRevocationList(
+            AuthRevokedAccessTokenRepository authRevokedAccessTokenRepository,
+            SchedulerLockService schedulerLockService,
+            int expectedEntries,
+            long rebuildIntervalMillis,
+            Clock clock
+    ) {
+        this.authRevokedAccessTokenRepository = authRevokedAccessTokenRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.expectedEntries = Math.max(expectedEntries, 1);
+        this.rebuildIntervalMillis = Math.max(rebuildIntervalMillis, 1000L);
+        this.clock = clock;
+        this.snapshot = Snapshot.empty(this.expectedEntries);
+    }
+
+    /**
+     * 폐기된 토큰이면 true. 대부분 bloom filter 에서 끝난다.
+     * 아직 목록을 적재하지 못했으면 폐기 여부를 알 수 없으므로 503 으로 거절한다.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        if (!loaded) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "인증 정보를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        Snapshot current = snapshot;
+        return current.bloomFilter().mightContain(jti) && current.revoked().containsKey(jti);
+    }
+
+    /**
+     * 토큰을 폐기한다. 호출한 트랜잭션에 기록하고, 커밋되면 이 인스턴스 목록에 바로 넣는다.
+     * jti 가 없는 토큰(이전 버전 발급분)이나 이미 만료된 토큰은 기록하지 않고 false.
+     */
+    public boolean revoke(AuthenticatedUser user) {
+        if (user == null || user.tokenId() == null || user.expiresAt() == null) {
+            return false;
+        }
+        if (!user.expiresAt().isAfter(clock.instant())) {
+            return false;
+        }
+
+        authRevokedAccessTokenRepository.insertIgnore(user.tokenId(), user.userId(), toLocalDateTime(user.expiresAt()));
+        TransactionCallbacks.afterCommit(() -> add(user.tokenId(), user.expiresAt()));
+        return true;
+    }
+
+    // 기동 직후 목록을 적재한다. 실패하면 갱신 주기에 다시 시도한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("액세스 토큰 폐기 목록 초기 적재 실패. 갱신 주기에 다시 시도합니다.", ex);
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 폐기를 가져온다. 재구성 주기가 지났거나 bloom filter 가 가득 찼으면 만료분을 버리고 새로 만든다.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        Instant now = clock.instant();
+        Snapshot current = snapshot;
+        if (!loaded
+                || Duration.between(lastRebuiltAt, now).toMillis() >= rebuildIntervalMillis
+                || current.revoked().size() > current.bloomFilter().capacity()) {
+            rebuild(now);
+            return;
+        }
+
+        long lookbackSeconds = Duration.between(lastLoadedAt, now).plus(INCREMENTAL_OVERLAP).toSeconds() + 1;
+        List<RevokedTokenProjection> rows = authRevokedAccessTokenRepository.findActiveCreatedWithin(
+                lookbackSeconds,
+                toLocalDateTime(now)
+        );
+        for (RevokedTokenProjection row : rows) {
+            add(row.getJti(), toInstant(row.getExpiresAt()));
+        }
+        lastLoadedAt = now;
+    }
+
+    @Scheduled(cron = "${app.jwt.revocation.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        schedulerLockService.runExclusively(PURGE_LOCK_NAME, Duration.ofMinutes(10), Duration.ofMinutes(1), this::purge);
+    }
+
+    int purge() {
+        LocalDateTime before = toLocalDateTime(clock.instant());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = authRevokedAccessTokenRepository.deleteExpired(before, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted >= PURGE_BATCH_SIZE);
+        return total;
+    }
+
+    private synchronized void add(String jti, Instant expiresAt) {
+        Snapshot current = snapshot;
+        current.revoked().put(jti, expiresAt);
+        current.bloomFilter().put(jti);
+    }
+
+    // 만료되지 않은 행 전체로 새 스냅샷을 만들어 교체한다. refresh 에서만 호출되므로 add 와 겹치지 않는다.
+    private void rebuild(Instant now) {
+        LocalDateTime nowAt = toLocalDateTime(now);
+        ConcurrentHashMap<String, Instant> revoked = new ConcurrentHashMap<>();
+        long afterId = 0L;
+        List<RevokedTokenProjection> rows;
+        do {
+            rows = authRevokedAccessTokenRepository.findActiveAfter(afterId, nowAt, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (RevokedTokenProjection row : rows) {
+                revoked.put(row.getJti(), toInstant(row.getExpiresAt()));
+                afterId = row.getId();
+            }
+        } while (rows.size() >= LOAD_BATCH_SIZE);
+
+        JtiBloomFilter bloomFilter = JtiBloomFilter.create(Math.max(expectedEntries, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(bloomFilter::put);
+
+        int previousSize = snapshot.revoked().size();
+        snapshot = new Snapshot(bloomFilter, revoked);
+        lastRebuiltAt = now;
+        lastLoadedAt = now;
+        loaded = true;
+        if (previousSize != revoked.size()) {
+            log.info("액세스 토큰 폐기 목록 재구성. entries={}, bloomCapacity={}", revoked.size(), bloomFilter.capacity());
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, clock.getZone());
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant();
+    }
+
+    private record Snapshot(JtiBloomFilter bloomFilter, ConcurrentHashMap<String, Instant> revoked) {
+        static Snapshot empty(int expectedEntries) {
+            return new Snapshot(JtiBloomFilter.create(expectedEntries, FALSE_POSITIVE_RATE), new ConcurrentHashMap<>());
+        }
+    }
+}
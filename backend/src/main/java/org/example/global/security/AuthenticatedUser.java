@@ -0,0 +1,17 @@
+package org.example.global.security;
+
+import java.time.Instant;
+
+/**
+ * 검증을 마친 access token 의 클레임. tokenId 는 jti 로, 이를 넣기 전에 발급된 토큰이면 null.
+ * teams 는 팀 클레임 없이 발급된 토큰(팀이 너무 많거나 이전 버전)이면 null.
+ */
+public record AuthenticatedUser(
+        Long userId,
+        String email,
+        String role,
+        String tokenId,
+        Instant expiresAt,
+        TeamClaims teams
+) {
+}
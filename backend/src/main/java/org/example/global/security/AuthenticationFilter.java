@@ -0,0 +1,62 @@
+package org.example.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * Bearer 토큰을 요청당 한 번 검증해 RequestPrincipal 에 둔다.
+ * 토큰이 없거나 유효하지 않으면 그대로 통과시키고, 인증이 필요한 쪽에서 기존처럼 401 을 낸다.
+ */
+@Component
+@ConditionalOnBean(JwtTokenProvider.class)
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public AuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String accessToken = extractBearerToken(request.getHeader(HEADER_AUTHORIZATION));
+        if (accessToken != null) {
+            try {
+                RequestPrincipal.set(jwtTokenProvider.authenticate(accessToken));
+            } catch (ResponseStatusException ex) {
+                RequestPrincipal.clear();
+            }
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestPrincipal.clear();
+        }
+    }
+
+    private String extractBearerToken(String authorizationHeader) {
+        if (authorizationHeader == null || authorizationHeader.isBlank()) {
+            return null;
+        }
+        String[] split = authorizationHeader.trim().split("\\s+", 2);
+        if (split.length != 2 || !"Bearer".equalsIgnoreCase(split[0]) || split[1].isBlank()) {
+            return null;
+        }
+        return split[1].trim();
+    }
+}
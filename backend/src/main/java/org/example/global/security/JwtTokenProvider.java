@@ -1,9 +1,13 @@
 package org.example.global.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.example.global.util.BoundedLruMap;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -11,18 +15,46 @@ import org.springframework.web.server.ResponseStatusException;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_TEAMS = "teams";
+    private static final String CLAIM_TEAM_VERSION = "tmv";
+
     private final SecretKey signingKey;
     private final long accessTokenExpireSeconds;
+    private final JwtParser parser;
+    private final Clock clock;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    // 검증을 마친 토큰의 SHA-256 → 클레임. 토큰 원문은 보관하지 않고, 항목은 토큰 exp 까지만 쓴다.
+    private final BoundedLruMap<String, AuthenticatedUser> verifiedTokens;
 
+    @Autowired
     public JwtTokenProvider(
             @Value("${app.jwt.secret}") String jwtSecret,
-            @Value("${app.jwt.access-token-expire-seconds:3600}") long accessTokenExpireSeconds
+            @Value("${app.jwt.access-token-expire-seconds:3600}") long accessTokenExpireSeconds,
+            @Value("${app.jwt.claims-cache.max-entries:10000}") int maxCachedTokens,
+            AccessTokenRevocationList accessTokenRevocationList
+    ) {
+        this(jwtSecret, accessTokenExpireSeconds, maxCachedTokens, accessTokenRevocationList, Clock.systemUTC());
+    }
+
+    JwtTokenProvider(
+            String jwtSecret,
+            long accessTokenExpireSeconds,
+            int maxCachedTokens,
+            AccessTokenRevocationList accessTokenRevocationList,
+            Clock clock
     ) {
         if (jwtSecret == null || jwtSecret.length() < 32) {
             throw new IllegalStateException("JWT secret must be at least 32 characters.");
@@ -33,45 +65,124 @@ public class JwtTokenProvider {
 
         this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpireSeconds = accessTokenExpireSeconds;
+        this.clock = clock;
+        this.verifiedTokens = new BoundedLruMap<>(maxCachedTokens);
+        this.accessTokenRevocationList = accessTokenRevocationList;
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .clock(() -> Date.from(clock.instant()))
+                .build();
     }
 
     public String createAccessToken(Long userId, String email, String role) {
-        Instant now = Instant.now();
+        return createAccessToken(userId, email, role, null);
+    }
+
+    /**
+     * teams 가 있으면 팀 id → 팀 역할과 멤버십 버전을 함께 서명해, 팀 접근 확인을 토큰만으로 끝낼 수 있게 한다.
+     */
+    public String createAccessToken(Long userId, String email, String role, TeamClaims teams) {
+        Instant now = clock.instant();
         Instant expiredAt = now.plusSeconds(accessTokenExpireSeconds);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
                 .claim("email", email)
                 .claim("role", role)
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(expiredAt))
-                .signWith(signingKey)
-                .compact();
+                .expiration(Date.from(expiredAt));
+        if (teams != null) {
+            Map<String, String> roles = new HashMap<>();
+            teams.roles().forEach((teamId, teamRole) -> roles.put(String.valueOf(teamId), teamRole));
+            builder.claim(CLAIM_TEAMS, roles).claim(CLAIM_TEAM_VERSION, teams.version());
+        }
+        return builder.signWith(signingKey).compact();
     }
 
     public Long extractUserId(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return authenticate(accessToken).userId();
+    }
+
+    /**
+     * 토큰을 검증하고 클레임을 돌려준다. 같은 토큰은 만료 전까지 서명 검증과 파싱을 다시 하지 않지만,
+     * 폐기 여부는 캐시 적중 때도 매번 확인한다.
+     */
+    public AuthenticatedUser authenticate(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+        }
+
+        String digest = digest(accessToken);
+        AuthenticatedUser cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(clock.instant())) {
+                return rejectIfRevoked(cached);
+            }
+            verifiedTokens.remove(digest, cached);
+        }
+
+        AuthenticatedUser verified = toAuthenticatedUser(parseClaims(accessToken));
+        verifiedTokens.put(digest, verified);
+        return rejectIfRevoked(verified);
+    }
+
+    private AuthenticatedUser rejectIfRevoked(AuthenticatedUser user) {
+        if (accessTokenRevocationList.isRevoked(user.tokenId())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+        }
+        return user;
+    }
+
+    private AuthenticatedUser toAuthenticatedUser(Claims claims) {
         String subject = claims.getSubject();
-        if (subject == null || subject.isBlank()) {
+        Date expiration = claims.getExpiration();
+        if (subject == null || subject.isBlank() || expiration == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
         }
 
         try {
-            return Long.parseLong(subject);
+            return new AuthenticatedUser(
+                    Long.parseLong(subject),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    claims.getId(),
+                    expiration.toInstant(),
+                    parseTeamClaims(claims)
+            );
         } catch (NumberFormatException ex) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
         }
     }
 
+    private TeamClaims parseTeamClaims(Claims claims) {
+        Object rawTeams = claims.get(CLAIM_TEAMS);
+        Object rawVersion = claims.get(CLAIM_TEAM_VERSION);
+        if (!(rawTeams instanceof Map<?, ?> teams) || !(rawVersion instanceof Number version)) {
+            return null;
+        }
+
+        Map<Long, String> roles = new HashMap<>();
+        for (Map.Entry<?, ?> entry : teams.entrySet()) {
+            roles.put(Long.parseLong(String.valueOf(entry.getKey())), String.valueOf(entry.getValue()));
+        }
+        return new TeamClaims(version.longValue(), roles);
+    }
+
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith(signingKey)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            return parser.parseSignedClaims(accessToken).getPayload();
         } catch (JwtException | IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
         }
     }
+
+    private String digest(String accessToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 계산 실패", ex);
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package org.example.global.security;
+
+import org.example.global.util.BoundedLruMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+
+/**
+ * 비밀번호 확인 전에 계정별 실패 횟수와 IP별 시도 횟수를 고정 구간으로 세어, 한도를 넘으면 해시 없이 429 로 거절한다.
+ * 카운터는 인스턴스 메모리에만 있으므로 한도는 인스턴스당 기준이다.
+ * 계정 키는 실제 계정에 대해서만 넘겨야 한다. 상한을 넘으면 가장 오래 쓰지 않은 구간 하나만 밀어낸다.
+ */
+@Component
+public class LoginThrottle {
+
+    private final int accountMaxFailures;
+    private final long accountWindowMillis;
+    private final int ipMaxAttempts;
+    private final long ipWindowMillis;
+    private final Clock clock;
+    private final BoundedLruMap<String, Window> accountFailures;
+    private final BoundedLruMap<String, Window> ipAttempts;
+
+    @Autowired
+    public LoginThrottle(
+            @Value("${app.auth.login-throttle.account-max-failures:5}") int accountMaxFailures,
+            @Value("${app.auth.login-throttle.account-window-seconds:900}") long accountWindowSeconds,
+            @Value("${app.auth.login-throttle.ip-max-attempts:0}") int ipMaxAttempts,
+            @Value("${app.auth.login-throttle.ip-window-seconds:60}") long ipWindowSeconds,
+            @Value("${app.auth.login-throttle.max-entries:100000}") int maxEntries
+    ) {
+        this(accountMaxFailures, accountWindowSeconds, ipMaxAttempts, ipWindowSeconds, maxEntries, Clock.systemUTC());
+    }
+
+    LoginThrottle(
+            int accountMaxFailures,
+            long accountWindowSeconds,
+            int ipMaxAttempts,
+            long ipWindowSeconds,
+            int maxEntries,
+            Clock clock
+    ) {
+        this.accountMaxFailures = Math.max(accountMaxFailures, 1);
+        this.accountWindowMillis = Math.max(accountWindowSeconds, 1L) * 1000L;
+        // 0 이하면 IP 한도를 쓰지 않는다. 프록시 뒤에서는 server.forward-headers-strategy 로 실제 클라이언트 IP 를 받아야 한다.
+        this.ipMaxAttempts = ipMaxAttempts;
+        this.ipWindowMillis = Math.max(ipWindowSeconds, 1L) * 1000L;
+        this.accountFailures = new BoundedLruMap<>(maxEntries);
+        this.ipAttempts = new BoundedLruMap<>(maxEntries);
+        this.clock = clock;
+    }
+
+    /**
+     * 시도를 기록하고, 계정이 잠겼거나 IP 시도가 한도를 넘었으면 429. clientIp 가 없거나 IP 한도가 꺼져 있으면 보지 않는다.
+     */
+    public void checkAttempt(String accountKey, String clientIp) {
+        long now = clock.millis();
+        if (accountKey != null && count(accountFailures, accountKey, accountWindowMillis, now) >= accountMaxFailures) {
+            throw tooManyAttempts();
+        }
+        if (clientIp != null && ipMaxAttempts > 0 && increment(ipAttempts, clientIp, ipWindowMillis, now) > ipMaxAttempts) {
+            throw tooManyAttempts();
+        }
+    }
+
+    public void recordFailure(String accountKey) {
+        if (accountKey != null) {
+            increment(accountFailures, accountKey, accountWindowMillis, clock.millis());
+        }
+    }
+
+    public void recordSuccess(String accountKey) {
+        if (accountKey != null) {
+            accountFailures.remove(accountKey);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.login-throttle.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        long now = clock.millis();
+        accountFailures.removeIf(window -> window.isExpired(now, accountWindowMillis));
+        ipAttempts.removeIf(window -> window.isExpired(now, ipWindowMillis));
+    }
+
+    private int count(BoundedLruMap<String, Window> windows, String key, long windowMillis, long now) {
+        Window window = windows.get(key);
+        return window == null || window.isExpired(now, windowMillis) ? 0 : window.count();
+    }
+
+    private int increment(BoundedLruMap<String, Window> windows, String key, long windowMillis, long now) {
+        return windows.compute(key, (ignored, window) -> window == null || window.isExpired(now, windowMillis)
+                ? new Window(now, 1)
+                : new Window(window.startedAt(), window.count() + 1)).count();
+    }
+
+    private ResponseStatusException tooManyAttempts() {
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private record Window(long startedAt, int count) {
+        boolean isExpired(long now, long windowMillis) {
+            return now - startedAt >= windowMillis;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.global.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 같은 느린 비밀번호 해시를 전용 스레드에서 실행한다. 동시에 해시하는 수를 스레드 수로 묶고,
+ * 큐가 차거나 대기가 길어지면 바로 503 으로 돌려보내 로그인 폭주가 요청 스레드와 CPU 를 모두 점유하지 않게 한다.
+ */
+@Component
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final LongSupplier nanoClock;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    @Autowired
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.auth.password-hashing.threads:0}") int threads,
+            @Value("${app.auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.password-hashing.max-wait-ms:3000}") long maxWaitMillis
+    ) {
+        this(passwordEncoder, threads, queueCapacity, maxWaitMillis, System::nanoTime);
+    }
+
+    PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            int threads,
+            int queueCapacity,
+            long maxWaitMillis,
+            LongSupplier nanoClock
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitMillis = Math.max(maxWaitMillis, 1L);
+        this.nanoClock = nanoClock;
+
+        // 0 이하면 코어 수만큼. 해시는 CPU 작업이라 그 이상 늘려도 처리량이 늘지 않는다.
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public PasswordHashingStats stats() {
+        long completedCount = completed.get();
+        return new PasswordHashingStats(
+                executor.getCorePoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                completedCount,
+                rejected.get(),
+                timedOut.get(),
+                averageMillis(totalQueueWaitNanos.get(), completedCount),
+                maxQueueWaitNanos.get() / 1_000_000.0,
+                averageMillis(totalHashNanos.get(), completedCount)
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        long submittedAt = nanoClock.getAsLong();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = nanoClock.getAsLong();
+                try {
+                    return task.get();
+                } finally {
+                    recordCompletion(startedAt - submittedAt, nanoClock.getAsLong() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.incrementAndGet();
+            throw busy();
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            // 아직 큐에 있으면 실행되지 않고 버려진다.
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw busy();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", ex.getCause());
+        }
+    }
+
+    private void recordCompletion(long queueWaitNanos, long hashNanos) {
+        completed.incrementAndGet();
+        totalQueueWaitNanos.addAndGet(queueWaitNanos);
+        maxQueueWaitNanos.accumulateAndGet(queueWaitNanos, Math::max);
+        totalHashNanos.addAndGet(hashNanos);
+    }
+
+    private double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0.0 : totalNanos / 1_000_000.0 / count;
+    }
+
+    private ResponseStatusException busy() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.global.security;
+
+/**
+ * 비밀번호 해시 실행기 상태. 대기/해시 시간은 완료된 작업 기준 평균·최댓값(ms)이다.
+ */
+public record PasswordHashingStats(
+        int threads,
+        int active,
+        int queued,
+        long completed,
+        long rejected,
+        long timedOut,
+        double avgQueueWaitMillis,
+        double maxQueueWaitMillis,
+        double avgHashMillis
+) {
+}
@@ -0,0 +1,94 @@
+package org.example.global.security;
+
+import org.example.domain.auth.repository.AuthRefreshTokenRepository;
+import org.example.global.scheduler.SchedulerLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * 만료됐거나 폐기 후 보존 기간이 지난 refresh token 행을 LIMIT 단위로 나눠 삭제한다.
+ */
+@Component
+public class RefreshTokenPurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeScheduler.class);
+
+    static final String LOCK_NAME = "auth-refresh-token-purge";
+
+    private final AuthRefreshTokenRepository authRefreshTokenRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final int batchSize;
+    private final int maxChunksPerRun;
+    private final Duration revokedRetention;
+    private final Clock clock;
+
+    @Autowired
+    public RefreshTokenPurgeScheduler(
+            AuthRefreshTokenRepository authRefreshTokenRepository,
+            SchedulerLockService schedulerLockService,
+            @Value("${app.jwt.refresh-purge.batch-size:1000}") int batchSize,
+            @Value("${app.jwt.refresh-purge.max-chunks-per-run:100}") int maxChunksPerRun,
+            @Value("${app.jwt.refresh-purge.revoked-retention-hours:24}") long revokedRetentionHours
+    ) {
+        this(authRefreshTokenRepository, schedulerLockService, batchSize, maxChunksPerRun, revokedRetentionHours,
+                Clock.systemDefaultZone());
+    }
+
+    RefreshTokenPurgeScheduler(
+            AuthRefreshTokenRepository authRefreshTokenRepository,
+            SchedulerLockService schedulerLockService,
+            int batchSize,
+            int maxChunksPerRun,
+            long revokedRetentionHours,
+            Clock clock
+    ) {
+        this.authRefreshTokenRepository = authRefreshTokenRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxChunksPerRun = Math.max(maxChunksPerRun, 1);
+        this.revokedRetention = Duration.ofHours(Math.max(revokedRetentionHours, 0L));
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${app.jwt.refresh-purge.cron:0 45 * * * *}")
+    public void purgeStale() {
+        schedulerLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(30), Duration.ofMinutes(1), this::purge);
+    }
+
+    // 삭제한 행 수 합계를 돌려준다.
+    int purge() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int expired = drain("만료", authRefreshTokenRepository::deleteExpired, now);
+        int revoked = drain("폐기", authRefreshTokenRepository::deleteRevoked, now.minus(revokedRetention));
+        if (expired > 0 || revoked > 0) {
+            log.info("refresh token 정리 완료. expired={}, revoked={}", expired, revoked);
+        }
+        return expired + revoked;
+    }
+
+    // 청크마다 별도 트랜잭션으로 지워 잠금을 짧게 유지한다.
+    private int drain(String step, BiFunction<LocalDateTime, Integer, Integer> chunk, LocalDateTime before) {
+        int total = 0;
+        try {
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                int deleted = chunk.apply(before, batchSize);
+                total += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("refresh token {} 행 정리 실패. rows={}", step, total, ex);
+        }
+        return total;
+    }
+}
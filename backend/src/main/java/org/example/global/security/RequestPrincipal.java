@@ -0,0 +1,30 @@
+package org.example.global.security;
+
+/**
+ * 현재 요청에서 검증된 사용자. AuthenticationFilter 가 요청마다 한 번 채우고 요청이 끝나면 비운다.
+ * 서비스는 Authorization 헤더를 다시 파싱하지 않고 여기서 사용자 id 를 읽는다.
+ */
+public final class RequestPrincipal {
+
+    private static final ThreadLocal<AuthenticatedUser> CURRENT = new ThreadLocal<>();
+
+    private RequestPrincipal() {
+    }
+
+    public static void set(AuthenticatedUser user) {
+        CURRENT.set(user);
+    }
+
+    public static AuthenticatedUser get() {
+        return CURRENT.get();
+    }
+
+    public static Long currentUserId() {
+        AuthenticatedUser user = CURRENT.get();
+        return user == null ? null : user.userId();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
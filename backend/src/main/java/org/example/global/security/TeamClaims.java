@@ -0,0 +1,20 @@
+package org.example.global.security;
+
+import java.util.Map;
+
+/**
+ * access token 에 실린 팀 멤버십. version 이 사용자의 현재 membership_version 과 같을 때만 믿는다.
+ */
+public record TeamClaims(
+        long version,
+        Map<Long, String> roles
+) {
+
+    public TeamClaims {
+        roles = roles == null ? Map.of() : Map.copyOf(roles);
+    }
+
+    public boolean isMember(Long teamId) {
+        return teamId != null && roles.containsKey(teamId);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.global.slack;
+
+/**
+ * 묶음 발송(SlackNotificationService.sendAll)에 넘기는 알림 한 건.
+ */
+public record SlackNotificationItem(
+        Long notificationId,
+        String type,
+        String title,
+        String message,
+        String refType,
+        Long refId
+) {
+}
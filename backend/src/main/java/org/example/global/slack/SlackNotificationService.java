@@ -1,59 +1,134 @@
 package org.example.global.slack;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.global.slack.entity.SlackOutboxMessage;
+import org.example.global.slack.entity.SlackOutboxStatus;
+import org.example.global.slack.repository.SlackOutboxRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class SlackNotificationService {
 
     private static final Logger log = LoggerFactory.getLogger(SlackNotificationService.class);
-    private static final String SLACK_API_URL = "https://slack.com/api/chat.postMessage";
+    // Slack 은 메시지당 attachment 100개까지 허용하지만, 채널 가독성을 위해 그보다 적게 묶는다.
+    private static final int MAX_ATTACHMENTS = 20;
 
     private final String botToken;
     private final String channel;
     private final String portalUrl;
-    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final SlackOutboxRepository slackOutboxRepository;
 
     public SlackNotificationService(
             @Value("${app.slack.bot-token:}") String botToken,
             @Value("${app.slack.channel:}") String channel,
-            @Value("${app.slack.portal-url:}") String portalUrl
+            @Value("${app.slack.portal-url:}") String portalUrl,
+            ObjectMapper objectMapper,
+            SlackOutboxRepository slackOutboxRepository
     ) {
         this.botToken = botToken;
         this.channel = channel;
         this.portalUrl = portalUrl;
-        this.restTemplate = new RestTemplate();
+        this.objectMapper = objectMapper;
+        this.slackOutboxRepository = slackOutboxRepository;
     }
 
-    public void send(String type, String title, String message, String refType, Long refId) {
+    // 호출 트랜잭션 안에서 outbox 에 적재만 하고, 실제 발송은 SlackOutboxDispatcher 가 커밋 이후 비동기로 처리한다.
+    public void send(Long notificationId, String type, String title, String message, String refType, Long refId) {
         if (botToken == null || botToken.isBlank()) {
             return;
         }
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(botToken);
-
-            Map<String, Object> body = buildPayload(type, title, message, refType, refId);
-            restTemplate.postForObject(SLACK_API_URL, new HttpEntity<>(body, headers), String.class);
-        } catch (Exception ex) {
-            log.warn("Slack 메시지 발송 실패. type={}, title={}", type, title, ex);
+            Map<String, Object> body = buildPayload(List.of(buildAttachment(type, title, message, refType, refId)), null);
+            enqueue(notificationId, null, body);
+        } catch (JsonProcessingException ex) {
+            log.warn("Slack 메시지 적재 실패. type={}, title={}", type, title, ex);
         }
     }
 
-    private Map<String, Object> buildPayload(String type, String title, String message, String refType, Long refId) {
+    /**
+     * 여러 알림을 채널 메시지 하나로 묶어 적재한다.
+     * 수신자만 다른 같은 이벤트(요청자·담당자 동시 알림 등)는 채널에 한 번만 노출한다.
+     */
+    public void sendAll(List<SlackNotificationItem> items) {
+        if (botToken == null || botToken.isBlank() || items == null || items.isEmpty()) {
+            return;
+        }
+
+        Map<List<Object>, SlackNotificationItem> events = new LinkedHashMap<>();
+        List<Long> notificationIds = new ArrayList<>();
+        for (SlackNotificationItem item : items) {
+            events.putIfAbsent(Arrays.asList(item.type(), item.title(), item.message(), item.refType(), item.refId()), item);
+            if (item.notificationId() != null) {
+                notificationIds.add(item.notificationId());
+            }
+        }
+
+        try {
+            List<Map<String, Object>> attachments = new ArrayList<>();
+            for (SlackNotificationItem event : events.values()) {
+                if (attachments.size() == MAX_ATTACHMENTS) {
+                    break;
+                }
+                attachments.add(buildAttachment(event.type(), event.title(), event.message(), event.refType(), event.refId()));
+            }
+            int remaining = events.size() - attachments.size();
+            if (remaining > 0) {
+                Map<String, Object> more = new HashMap<>();
+                more.put("color", "#868E96");
+                more.put("text", "외 " + remaining + "건의 알림이 더 있습니다.");
+                attachments.add(more);
+            }
+            String text = events.size() > 1 ? "알림 " + events.size() + "건" : null;
+
+            Long firstId = notificationIds.isEmpty() ? null : notificationIds.get(0);
+            String joinedIds = notificationIds.size() > 1
+                    ? notificationIds.stream().map(String::valueOf).collect(Collectors.joining(","))
+                    : null;
+            enqueue(firstId, joinedIds, buildPayload(attachments, text));
+        } catch (JsonProcessingException ex) {
+            log.warn("Slack 묶음 메시지 적재 실패. size={}", items.size(), ex);
+        }
+    }
+
+    private void enqueue(Long notificationId, String notificationIds, Map<String, Object> body) throws JsonProcessingException {
+        SlackOutboxMessage outbox = new SlackOutboxMessage();
+        outbox.setNotificationId(notificationId);
+        outbox.setNotificationIds(notificationIds);
+        outbox.setChannel(channel == null ? "" : channel);
+        outbox.setPayloadJson(objectMapper.writeValueAsString(body));
+        outbox.setStatus(SlackOutboxStatus.PENDING);
+        outbox.setAttemptCount(0);
+        outbox.setNextAttemptAt(LocalDateTime.now());
+        slackOutboxRepository.save(outbox);
+    }
+
+    private Map<String, Object> buildPayload(List<Map<String, Object>> attachments, String text) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("channel", channel);
+        if (text != null) {
+            payload.put("text", text);
+        }
+        payload.put("attachments", attachments);
+        return payload;
+    }
+
+    private Map<String, Object> buildAttachment(String type, String title, String message, String refType, Long refId) {
         Map<String, Object> attachment = new HashMap<>();
 
         // 왼쪽 컬러 바
@@ -111,10 +186,7 @@ public class SlackNotificationService {
             attachment.put("actions", actions);
         }
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("channel", channel);
-        payload.put("attachments", List.of(attachment));
-        return payload;
+        return attachment;
     }
 
     private String buildPortalLink(String refType, Long refId) {
@@ -0,0 +1,320 @@
+package org.example.global.slack;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.example.domain.notification.repository.NotificationRepository;
+import org.example.global.slack.entity.SlackOutboxMessage;
+import org.example.global.slack.entity.SlackOutboxStatus;
+import org.example.global.slack.repository.SlackOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * slack_outbox 를 비우는 워커 풀.
+ * 스케줄러가 발송 가능한 건을 조건부 UPDATE로 선점(lease)한 뒤 워커에 넘기고,
+ * 워커는 채널 속도 제한을 통과한 건만 발송해 결과를 SENT/FAILED/DEAD_LETTER 로 기록하고,
+ * 통과하지 못한 건은 대기하지 않고 선점을 풀어 다시 예약한다.
+ */
+@Component
+public class SlackOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SlackOutboxDispatcher.class);
+    private static final List<SlackOutboxStatus> WAITING_STATUSES = List.of(SlackOutboxStatus.PENDING, SlackOutboxStatus.FAILED);
+    // 재시도해도 성공할 수 없는 Slack 오류 코드
+    private static final Set<String> PERMANENT_ERRORS = Set.of(
+            "invalid_auth",
+            "not_authed",
+            "account_inactive",
+            "token_revoked",
+            "channel_not_found",
+            "not_in_channel",
+            "is_archived",
+            "msg_too_long",
+            "no_text",
+            "invalid_arguments"
+    );
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final SlackOutboxRepository slackOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final SlackRateLimiter slackRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+    private final ThreadPoolExecutor workers;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final String apiUrl;
+    private final String botToken;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseSeconds;
+    private final long retryMaxSeconds;
+    private final long leaseSeconds;
+
+    public SlackOutboxDispatcher(
+            SlackOutboxRepository slackOutboxRepository,
+            NotificationRepository notificationRepository,
+            SlackRateLimiter slackRateLimiter,
+            ObjectMapper objectMapper,
+            @Value("${app.slack.api-url:https://slack.com/api/chat.postMessage}") String apiUrl,
+            @Value("${app.slack.bot-token:}") String botToken,
+            @Value("${app.slack.outbox.workers:4}") int workerCount,
+            @Value("${app.slack.outbox.batch-size:50}") int batchSize,
+            @Value("${app.slack.outbox.max-attempts:6}") int maxAttempts,
+            @Value("${app.slack.outbox.base-seconds:10}") long retryBaseSeconds,
+            @Value("${app.slack.outbox.max-seconds:1800}") long retryMaxSeconds,
+            @Value("${app.slack.outbox.lease-seconds:120}") long leaseSeconds,
+            @Value("${app.slack.outbox.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${app.slack.outbox.read-timeout-ms:5000}") int readTimeoutMs
+    ) {
+        this.slackOutboxRepository = slackOutboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.slackRateLimiter = slackRateLimiter;
+        this.objectMapper = objectMapper;
+        this.apiUrl = apiUrl;
+        this.botToken = botToken;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseSeconds = Math.max(1L, retryBaseSeconds);
+        this.retryMaxSeconds = Math.max(this.retryBaseSeconds, retryMaxSeconds);
+        this.leaseSeconds = Math.max(10L, leaseSeconds);
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Math.max(1, connectTimeoutMs));
+        requestFactory.setReadTimeout(Math.max(1, readTimeoutMs));
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        int threads = Math.max(1, workerCount);
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.batchSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slack-outbox-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    // 워커에 남은 여유만큼만 선점해 lease 만료 전에 처리되지 못하는 건을 만들지 않는다.
+    public int dispatchDue() {
+        if (isBlank(botToken)) {
+            return 0;
+        }
+        int available = batchSize - inFlight.get();
+        if (available <= 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidateIds = slackOutboxRepository.findDispatchableIds(
+                WAITING_STATUSES,
+                SlackOutboxStatus.SENDING,
+                now,
+                PageRequest.of(0, available)
+        );
+
+        int dispatched = 0;
+        for (Long id : candidateIds) {
+            int claimed = slackOutboxRepository.claim(
+                    id,
+                    WAITING_STATUSES,
+                    SlackOutboxStatus.SENDING,
+                    now,
+                    now.plusSeconds(leaseSeconds)
+            );
+            if (claimed != 1) {
+                continue;
+            }
+            inFlight.incrementAndGet();
+            workers.execute(() -> deliver(id));
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    void deliver(Long id) {
+        try {
+            SlackOutboxMessage message = slackOutboxRepository.findById(id).orElse(null);
+            if (message == null || message.getStatus() != SlackOutboxStatus.SENDING) {
+                return;
+            }
+            long waitMillis = slackRateLimiter.tryAcquire(message.getChannel());
+            if (waitMillis > 0) {
+                reschedule(message, waitMillis);
+                return;
+            }
+            DeliveryResult result = post(message.getPayloadJson());
+            if (result.ok()) {
+                markSent(message);
+                return;
+            }
+            if (result.retryAfterSeconds() > 0) {
+                slackRateLimiter.penalize(message.getChannel(), result.retryAfterSeconds());
+            }
+            markFailure(message, result);
+        } catch (RuntimeException ex) {
+            // 상태 기록 자체가 실패하면 lease 만료 후 다시 선점된다.
+            log.warn("Slack outbox 처리 실패. id={}", id, ex);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private DeliveryResult post(String payloadJson) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(botToken);
+
+        try {
+            String response = restTemplate.postForObject(apiUrl, new HttpEntity<>(payloadJson, headers), String.class);
+            JsonNode root = response == null ? null : objectMapper.readTree(response);
+            if (root != null && root.path("ok").asBoolean(false)) {
+                return DeliveryResult.success();
+            }
+            String error = root == null ? "empty_response" : root.path("error").asText("unknown_error");
+            return DeliveryResult.failure(error, PERMANENT_ERRORS.contains(error), 0L);
+        } catch (HttpStatusCodeException ex) {
+            HttpStatusCode status = ex.getStatusCode();
+            long retryAfter = parseRetryAfter(ex.getResponseHeaders());
+            boolean permanent = status.is4xxClientError() && status.value() != 429 && status.value() != 408;
+            return DeliveryResult.failure("HTTP " + status.value(), permanent, retryAfter);
+        } catch (Exception ex) {
+            return DeliveryResult.failure(ex.getClass().getSimpleName() + ": " + ex.getMessage(), false, 0L);
+        }
+    }
+
+    private void markSent(SlackOutboxMessage message) {
+        message.setStatus(SlackOutboxStatus.SENT);
+        message.setLastError(null);
+        message.setLockedUntil(null);
+        message.setSentAt(LocalDateTime.now());
+        slackOutboxRepository.save(message);
+        List<Long> notificationIds = parseNotificationIds(message.getNotificationIds());
+        if (!notificationIds.isEmpty()) {
+            notificationRepository.markSlackSentByIdIn(notificationIds);
+        } else if (message.getNotificationId() != null) {
+            notificationRepository.markSlackSent(message.getNotificationId());
+        }
+    }
+
+    private List<Long> parseNotificationIds(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String token : value.split(",")) {
+            try {
+                ids.add(Long.parseLong(token.trim()));
+            } catch (NumberFormatException ignored) {
+                // 손상된 값은 건너뛴다
+            }
+        }
+        return ids;
+    }
+
+    // lease 를 쥔 채 대기하면 lease 가 만료돼 다른 인스턴스가 같은 건을 다시 보낼 수 있으므로, 선점을 풀고 토큰이 생길 시각으로 재예약한다.
+    // 실제로 보내지 않았으므로 선점 때 올린 시도 횟수는 되돌린다.
+    private void reschedule(SlackOutboxMessage message, long waitMillis) {
+        int attempts = message.getAttemptCount() == null ? 0 : message.getAttemptCount();
+        message.setStatus(SlackOutboxStatus.PENDING);
+        message.setAttemptCount(Math.max(0, attempts - 1));
+        message.setLockedUntil(null);
+        message.setNextAttemptAt(LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(waitMillis)));
+        slackOutboxRepository.save(message);
+    }
+
+    private void markFailure(SlackOutboxMessage message, DeliveryResult result) {
+        int attempts = message.getAttemptCount() == null ? 0 : message.getAttemptCount();
+        message.setLastError(truncate(result.error()));
+        message.setLockedUntil(null);
+        if (result.permanent() || attempts >= maxAttempts) {
+            message.setStatus(SlackOutboxStatus.DEAD_LETTER);
+            slackOutboxRepository.save(message);
+            log.warn("Slack outbox 발송 포기. id={}, attempts={}, error={}", message.getId(), attempts, result.error());
+            return;
+        }
+        long delaySeconds = Math.max(computeBackoffSeconds(attempts), result.retryAfterSeconds());
+        message.setStatus(SlackOutboxStatus.FAILED);
+        message.setNextAttemptAt(LocalDateTime.now().plusSeconds(delaySeconds));
+        slackOutboxRepository.save(message);
+    }
+
+    private long computeBackoffSeconds(int attempts) {
+        long exponent = Math.max(0, attempts - 1);
+        long backoff = retryBaseSeconds;
+        for (int i = 0; i < exponent; i++) {
+            if (backoff >= retryMaxSeconds / 2) {
+                return retryMaxSeconds;
+            }
+            backoff *= 2;
+        }
+        return Math.min(backoff, retryMaxSeconds);
+    }
+
+    private long parseRetryAfter(HttpHeaders headers) {
+        if (headers == null) {
+            return 0L;
+        }
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (isBlank(value)) {
+            return 0L;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(value.trim()));
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+
+    private String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    private record DeliveryResult(boolean ok, String error, boolean permanent, long retryAfterSeconds) {
+
+        static DeliveryResult success() {
+            return new DeliveryResult(true, null, false, 0L);
+        }
+
+        static DeliveryResult failure(String error, boolean permanent, long retryAfterSeconds) {
+            return new DeliveryResult(false, error, permanent, retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.global.slack;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlackOutboxScheduler {
+
+    private final SlackOutboxDispatcher slackOutboxDispatcher;
+
+    public SlackOutboxScheduler(SlackOutboxDispatcher slackOutboxDispatcher) {
+        this.slackOutboxDispatcher = slackOutboxDispatcher;
+    }
+
+    @Scheduled(fixedDelayString = "${app.slack.outbox.poll-delay-ms:1000}")
+    public void dispatchDue() {
+        slackOutboxDispatcher.dispatchDue();
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.global.slack;
+
+import org.example.global.slack.repository.SlackChannelRateLimitRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채널별 발송 속도 제한. Slack chat.postMessage는 채널당 초당 1건 수준(짧은 버스트 허용)으로 제한된다.
+ * 상태는 slack_channel_rate_limits 한 행(GCRA 이론 시각)에 두고 조건부 UPDATE 로 차감하므로 인스턴스 수와 관계없이 채널 한도가 유지된다.
+ * 대기하지 않고 허용 여부와 남은 시간만 돌려주며, 대기는 호출 측이 outbox 재예약으로 처리한다.
+ */
+@Component
+public class SlackRateLimiter {
+
+    private static final String NO_CHANNEL = "";
+
+    private final SlackChannelRateLimitRepository slackChannelRateLimitRepository;
+    private final long intervalMicros;
+    private final long toleranceMicros;
+
+    public SlackRateLimiter(
+            SlackChannelRateLimitRepository slackChannelRateLimitRepository,
+            @Value("${app.slack.outbox.rate-per-second:1.0}") double permitsPerSecond,
+            @Value("${app.slack.outbox.burst:3}") int burst
+    ) {
+        double rate = permitsPerSecond > 0 ? permitsPerSecond : 1.0;
+        this.slackChannelRateLimitRepository = slackChannelRateLimitRepository;
+        this.intervalMicros = Math.max(1L, Math.round(TimeUnit.SECONDS.toMicros(1) / rate));
+        this.toleranceMicros = (Math.max(1, burst) - 1L) * intervalMicros;
+    }
+
+    /**
+     * 토큰을 얻으면 0, 아니면 다시 시도할 수 있을 때까지의 밀리초(1 이상).
+     */
+    public long tryAcquire(String channel) {
+        String key = channel == null ? NO_CHANNEL : channel;
+        if (slackChannelRateLimitRepository.tryAcquire(key, intervalMicros, toleranceMicros) == 1) {
+            return 0L;
+        }
+
+        Optional<Long> microsUntil = slackChannelRateLimitRepository.findMicrosUntilTheoretical(key);
+        if (microsUntil.isEmpty()) {
+            // 처음 보는 채널
+            slackChannelRateLimitRepository.insertIgnore(key);
+            if (slackChannelRateLimitRepository.tryAcquire(key, intervalMicros, toleranceMicros) == 1) {
+                return 0L;
+            }
+            return TimeUnit.MICROSECONDS.toMillis(intervalMicros) + 1L;
+        }
+        long waitMicros = microsUntil.get() - toleranceMicros;
+        return Math.max(1L, TimeUnit.MICROSECONDS.toMillis(waitMicros) + 1L);
+    }
+
+    // 429 Retry-After 동안은 어느 인스턴스에서도 해당 채널 토큰을 내주지 않는다.
+    public void penalize(String channel, long retryAfterSeconds) {
+        if (retryAfterSeconds <= 0) {
+            return;
+        }
+        String key = channel == null ? NO_CHANNEL : channel;
+        slackChannelRateLimitRepository.insertIgnore(key);
+        slackChannelRateLimitRepository.delay(key, TimeUnit.SECONDS.toMicros(retryAfterSeconds) + toleranceMicros);
+    }
+}
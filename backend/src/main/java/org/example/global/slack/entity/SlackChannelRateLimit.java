@@ -0,0 +1,37 @@
+package org.example.global.slack.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "slack_channel_rate_limits")
+public class SlackChannelRateLimit {
+
+    @Id
+    @Column(name = "channel", nullable = false, length = 100)
+    private String channel;
+
+    // 다음 발송이 버스트 없이 허용되는 이론상 시각
+    @Column(name = "theoretical_at", nullable = false)
+    private LocalDateTime theoreticalAt;
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public LocalDateTime getTheoreticalAt() {
+        return theoreticalAt;
+    }
+
+    public void setTheoreticalAt(LocalDateTime theoreticalAt) {
+        this.theoreticalAt = theoreticalAt;
+    }
+}
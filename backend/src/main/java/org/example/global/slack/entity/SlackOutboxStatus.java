@@ -0,0 +1,9 @@
+package org.example.global.slack.entity;
+
+public enum SlackOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED,
+    DEAD_LETTER
+}
@@ -0,0 +1,51 @@
+package org.example.global.slack.repository;
+
+import org.example.global.slack.entity.SlackChannelRateLimit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 시각은 인스턴스 간 시계 차이가 끼지 않도록 모두 DB 의 NOW(6) 기준으로 계산한다.
+public interface SlackChannelRateLimitRepository extends JpaRepository<SlackChannelRateLimit, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO slack_channel_rate_limits (channel, theoretical_at) VALUES (:channel, NOW(6))",
+            nativeQuery = true)
+    int insertIgnore(@Param("channel") String channel);
+
+    // 버스트 허용 범위 안이면 한 건을 차감(이론 시각을 한 간격 뒤로)하고 1, 아니면 0.
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE slack_channel_rate_limits
+            SET theoretical_at = GREATEST(theoretical_at, NOW(6)) + INTERVAL :intervalMicros MICROSECOND
+            WHERE channel = :channel
+              AND theoretical_at <= NOW(6) + INTERVAL :toleranceMicros MICROSECOND
+            """, nativeQuery = true)
+    int tryAcquire(
+            @Param("channel") String channel,
+            @Param("intervalMicros") long intervalMicros,
+            @Param("toleranceMicros") long toleranceMicros
+    );
+
+    @Query(value = """
+            SELECT GREATEST(TIMESTAMPDIFF(MICROSECOND, NOW(6), theoretical_at), 0)
+            FROM slack_channel_rate_limits
+            WHERE channel = :channel
+            """, nativeQuery = true)
+    Optional<Long> findMicrosUntilTheoretical(@Param("channel") String channel);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE slack_channel_rate_limits
+            SET theoretical_at = GREATEST(theoretical_at, NOW(6) + INTERVAL :delayMicros MICROSECOND)
+            WHERE channel = :channel
+            """, nativeQuery = true)
+    int delay(@Param("channel") String channel, @Param("delayMicros") long delayMicros);
+}
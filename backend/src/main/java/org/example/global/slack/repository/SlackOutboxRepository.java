@@ -0,0 +1,52 @@
+package org.example.global.slack.repository;
+
+import org.example.global.slack.entity.SlackOutboxMessage;
+import org.example.global.slack.entity.SlackOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SlackOutboxRepository extends JpaRepository<SlackOutboxMessage, Long> {
+
+    // 발송 대기/재시도 시각 도래 건 + lease가 만료된 SENDING 건(워커 중단 복구)
+    @Query("""
+            select m.id
+            from SlackOutboxMessage m
+            where (m.status in :waitingStatuses and m.nextAttemptAt <= :now)
+               or (m.status = :sendingStatus and m.lockedUntil < :now)
+            order by m.nextAttemptAt asc, m.id asc
+            """)
+    List<Long> findDispatchableIds(
+            @Param("waitingStatuses") Collection<SlackOutboxStatus> waitingStatuses,
+            @Param("sendingStatus") SlackOutboxStatus sendingStatus,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 조건부 UPDATE로 선점한다. 다른 인스턴스가 먼저 가져간 건은 0을 반환한다.
+    @Transactional
+    @Modifying
+    @Query("""
+            update SlackOutboxMessage m
+            set m.status = :sendingStatus,
+                m.lockedUntil = :lockedUntil,
+                m.attemptCount = m.attemptCount + 1
+            where m.id = :id
+              and ((m.status in :waitingStatuses and m.nextAttemptAt <= :now)
+                   or (m.status = :sendingStatus and m.lockedUntil < :now))
+            """)
+    int claim(
+            @Param("id") Long id,
+            @Param("waitingStatuses") Collection<SlackOutboxStatus> waitingStatuses,
+            @Param("sendingStatus") SlackOutboxStatus sendingStatus,
+            @Param("now") LocalDateTime now,
+            @Param("lockedUntil") LocalDateTime lockedUntil
+    );
+}
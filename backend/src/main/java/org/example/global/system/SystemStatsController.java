@@ -0,0 +1,68 @@
+package org.example.global.system;
+
+import org.example.global.github.GitHubWebhookDispatcher;
+import org.example.global.security.AuthenticatedUser;
+import org.example.global.security.PasswordHashingService;
+import org.example.global.security.RequestPrincipal;
+import org.example.global.team.TeamMembershipCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 운영 확인용 상태 조회. 역할(PM 등)은 가입 시 스스로 고를 수 있으므로 권한 근거로 쓰지 않고,
+ * app.system.admin-user-ids 에 등록한 사용자만 조회할 수 있다. 비어 있으면 아무도 조회할 수 없다.
+ */
+@RestController
+@RequestMapping("/api/system")
+public class SystemStatsController {
+
+    private final GitHubWebhookDispatcher gitHubWebhookDispatcher;
+    private final TeamMembershipCache teamMembershipCache;
+    private final PasswordHashingService passwordHashingService;
+    private final Set<Long> adminUserIds;
+
+    public SystemStatsController(
+            @Nullable GitHubWebhookDispatcher gitHubWebhookDispatcher,
+            @Nullable TeamMembershipCache teamMembershipCache,
+            @Nullable PasswordHashingService passwordHashingService,
+            @Value("${app.system.admin-user-ids:}") String adminUserIds
+    ) {
+        this.gitHubWebhookDispatcher = gitHubWebhookDispatcher;
+        this.teamMembershipCache = teamMembershipCache;
+        this.passwordHashingService = passwordHashingService;
+        this.adminUserIds = Arrays.stream(adminUserIds.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @GetMapping("/stats")
+    public SystemStatsResponse getStats() {
+        requireAdmin();
+        return new SystemStatsResponse(
+                gitHubWebhookDispatcher == null ? null : gitHubWebhookDispatcher.stats(),
+                teamMembershipCache == null ? null : teamMembershipCache.stats(),
+                passwordHashingService == null ? null : passwordHashingService.stats()
+        );
+    }
+
+    private void requireAdmin() {
+        AuthenticatedUser principal = RequestPrincipal.get();
+        if (principal == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        }
+        if (!adminUserIds.contains(principal.userId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "시스템 상태는 운영 관리자만 조회할 수 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.global.system;
+
+import org.example.global.github.GitHubWebhookWorkerStats;
+import org.example.global.security.PasswordHashingStats;
+import org.example.global.team.TeamMembershipCacheStats;
+
+/**
+ * 인스턴스 내부 구성요소 상태. 값은 응답한 인스턴스 기준이며, 구성요소가 없으면 null.
+ */
+public record SystemStatsResponse(
+        GitHubWebhookWorkerStats githubWebhookWorker,
+        TeamMembershipCacheStats teamMembershipCache,
+        PasswordHashingStats passwordHashing
+) {
+}
@@ -3,7 +3,10 @@ package org.example.global.team;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.domain.team.repository.UserTeamRepository;
+import org.example.global.security.AuthenticatedUser;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.RequestPrincipal;
+import org.example.global.security.TeamClaims;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -18,14 +21,14 @@ public class TeamAccessInterceptor implements HandlerInterceptor {
     private static final String HEADER_TEAM_ID = "X-Team-Id";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserTeamRepository userTeamRepository;
+    private final TeamMembershipCache teamMembershipCache;
 
     public TeamAccessInterceptor(
             JwtTokenProvider jwtTokenProvider,
-            UserTeamRepository userTeamRepository
+            TeamMembershipCache teamMembershipCache
     ) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userTeamRepository = userTeamRepository;
+        this.teamMembershipCache = teamMembershipCache;
     }
 
     @Override
@@ -39,7 +42,7 @@ public class TeamAccessInterceptor implements HandlerInterceptor {
         Long userId = extractUserId(authorizationHeader);
         Long teamId = extractTeamId(request.getHeader(HEADER_TEAM_ID), request.getParameter("teamId"));
 
-        if (!userTeamRepository.existsByUserIdAndTeamId(userId, teamId)) {
+        if (!isMember(userId, teamId)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "선택한 팀에 접근 권한이 없습니다.");
         }
 
@@ -57,7 +60,30 @@ public class TeamAccessInterceptor implements HandlerInterceptor {
         TeamRequestContext.clear();
     }
 
+    // 토큰에 팀 클레임이 있으면 버전만 확인하고 토큰으로 판단한다.
+    // 토큰 버전이 낮으면 401 로 토큰 갱신을 유도하고, 높으면 캐시가 낡은 것이므로 DB 에서 다시 읽어 비교한다.
+    private boolean isMember(Long userId, Long teamId) {
+        AuthenticatedUser principal = RequestPrincipal.get();
+        TeamClaims teams = principal == null ? null : principal.teams();
+        if (teams == null) {
+            return teamMembershipCache.isMember(userId, teamId);
+        }
+        long currentVersion = teamMembershipCache.membershipVersion(userId);
+        if (teams.version() > currentVersion) {
+            currentVersion = teamMembershipCache.reloadMembershipVersion(userId);
+        }
+        if (teams.version() != currentVersion) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "팀 정보가 변경되었습니다. 토큰을 갱신해주세요.");
+        }
+        return teams.isMember(teamId);
+    }
+
     private Long extractUserId(String authorizationHeader) {
+        Long principalUserId = RequestPrincipal.currentUserId();
+        if (principalUserId != null) {
+            return principalUserId;
+        }
+
         if (authorizationHeader == null || authorizationHeader.isBlank()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authorization 헤더가 필요합니다.");
         }
@@ -0,0 +1,145 @@
+package org.example.global.team;
+
+import org.example.domain.team.repository.UserTeamRepository;
+import org.example.domain.user.repository.PortalUserRepository;
+import org.example.global.util.BoundedLruMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (userId, teamId) 팀 멤버십 캐시. API 요청·웹소켓 구독마다 user_teams 를 조회하지 않도록 짧은 TTL 로 결과를 기억한다.
+ * 같은 인스턴스의 가입/제거/역할 변경은 TeamServiceImpl 이 커밋 후 무효화하고, 다른 인스턴스의 변경은 TTL 경과 후 반영된다.
+ * 토큰의 팀 클레임을 검증할 사용자별 membership_version 도 같은 TTL·무효화 규칙으로 기억한다.
+ */
+@Component
+public class TeamMembershipCache {
+
+    private final UserTeamRepository userTeamRepository;
+    private final PortalUserRepository portalUserRepository;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final BoundedLruMap<MembershipKey, CachedMembership> entries;
+    private final BoundedLruMap<Long, CachedVersion> versions;
+    // 조회 도중 무효화가 있었다면 그 결과는 캐시에 넣지 않는다.
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Autowired
+    public TeamMembershipCache(
+            UserTeamRepository userTeamRepository,
+            PortalUserRepository portalUserRepository,
+            @Value("${app.team.membership-cache.max-entries:50000}") int maxEntries,
+            @Value("${app.team.membership-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this(userTeamRepository, portalUserRepository, maxEntries, ttlSeconds, Clock.systemUTC());
+    }
+
+    TeamMembershipCache(
+            UserTeamRepository userTeamRepository,
+            PortalUserRepository portalUserRepository,
+            int maxEntries,
+            long ttlSeconds,
+            Clock clock
+    ) {
+        this.userTeamRepository = userTeamRepository;
+        this.portalUserRepository = portalUserRepository;
+        this.entries = new BoundedLruMap<>(maxEntries);
+        this.versions = new BoundedLruMap<>(maxEntries);
+        this.ttlMillis = Math.max(ttlSeconds, 1L) * 1000L;
+        this.clock = clock;
+    }
+
+    public boolean isMember(Long userId, Long teamId) {
+        if (userId == null || teamId == null) {
+            return false;
+        }
+
+        MembershipKey key = new MembershipKey(userId, teamId);
+        CachedMembership cached = entries.get(key);
+        if (cached != null && cached.expiresAt() > clock.millis()) {
+            hits.incrementAndGet();
+            return cached.member();
+        }
+
+        misses.incrementAndGet();
+        long observedInvalidations = invalidationCount.get();
+        boolean member = userTeamRepository.existsByUserIdAndTeamId(userId, teamId);
+        if (observedInvalidations == invalidationCount.get()) {
+            entries.put(key, new CachedMembership(member, clock.millis() + ttlMillis));
+        }
+        return member;
+    }
+
+    /**
+     * 사용자의 현재 membership_version. 사용자가 없으면 -1 이라 어떤 토큰 클레임과도 맞지 않는다.
+     */
+    public long membershipVersion(Long userId) {
+        if (userId == null) {
+            return -1L;
+        }
+
+        CachedVersion cached = versions.get(userId);
+        if (cached != null && cached.expiresAt() > clock.millis()) {
+            hits.incrementAndGet();
+            return cached.version();
+        }
+        return loadMembershipVersion(userId);
+    }
+
+    /**
+     * 캐시를 버리고 DB 에서 membership_version 을 다시 읽는다.
+     * 토큰이 캐시보다 새 버전을 들고 오면 다른 인스턴스에서 멤버십이 바뀐 뒤 재발급된 토큰이다.
+     */
+    public long reloadMembershipVersion(Long userId) {
+        if (userId == null) {
+            return -1L;
+        }
+        versions.remove(userId);
+        return loadMembershipVersion(userId);
+    }
+
+    private long loadMembershipVersion(Long userId) {
+        misses.incrementAndGet();
+        long observedInvalidations = invalidationCount.get();
+        long version = portalUserRepository.findMembershipVersionById(userId).orElse(-1L);
+        if (observedInvalidations == invalidationCount.get()) {
+            versions.put(userId, new CachedVersion(version, clock.millis() + ttlMillis));
+        }
+        return version;
+    }
+
+    public void invalidate(Long userId, Long teamId) {
+        if (userId == null || teamId == null) {
+            return;
+        }
+        invalidationCount.incrementAndGet();
+        entries.remove(new MembershipKey(userId, teamId));
+        versions.remove(userId);
+    }
+
+    public TeamMembershipCacheStats stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+        return new TeamMembershipCacheStats(
+                entries.size() + versions.size(),
+                hitCount,
+                missCount,
+                lookups == 0 ? 0.0 : (double) hitCount / lookups
+        );
+    }
+
+    private record MembershipKey(Long userId, Long teamId) {
+    }
+
+    private record CachedMembership(boolean member, long expiresAt) {
+    }
+
+    private record CachedVersion(long version, long expiresAt) {
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.global.team;
+
+/**
+ * 팀 멤버십 캐시 상태 스냅샷. hitRate 는 누적 적중률(0~1)이다.
+ */
+public record TeamMembershipCacheStats(
+        int size,
+        long hits,
+        long misses,
+        double hitRate
+) {
+}
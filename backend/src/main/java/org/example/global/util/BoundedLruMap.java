@@ -0,0 +1,56 @@
+package org.example.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * 항목 수 상한이 있는 스레드 안전 LRU 맵. 상한을 넘으면 가장 오래 쓰지 않은 항목 하나만 지워,
+ * 캐시 전체를 비워 원본 조회가 한꺼번에 몰리는 일이 없게 한다.
+ */
+public final class BoundedLruMap<K, V> {
+
+    private final LinkedHashMap<K, V> map;
+
+    public BoundedLruMap(int maxEntries) {
+        int limit = Math.max(maxEntries, 1);
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public synchronized V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        return map.compute(key, remapping);
+    }
+
+    public synchronized V remove(K key) {
+        return map.remove(key);
+    }
+
+    public synchronized boolean remove(K key, V value) {
+        return map.remove(key, value);
+    }
+
+    // 만료 항목 정리용. 지운 개수를 돌려준다.
+    public synchronized int removeIf(Predicate<? super V> predicate) {
+        int before = map.size();
+        map.values().removeIf(predicate);
+        return before - map.size();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
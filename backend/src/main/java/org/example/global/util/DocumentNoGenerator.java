@@ -1,47 +1,164 @@
 package org.example.global.util;
 
+import org.example.global.config.DocumentNoSegmentDataSourceConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+/**
+ * 문서번호 채번기.
+ * 기본은 호출자 트랜잭션 안에서 한 건씩 채번해 빈 번호 없이 순서대로 발급한다(롤백되면 번호도 되돌아간다).
+ * segment-prefixes 에 지정한 접두어만 hi/lo 방식으로, document_sequences 에서 blockSize 개 번호를 예약해 두고
+ * 메모리 카운터로 나눠 준다. 블록 예약은 채번 전용 작은 커넥션 풀(DocumentNoSegmentDataSourceConfig)에서 짧은 트랜잭션으로 끝내므로
+ * 호출자 커밋까지 시퀀스 행을 잠그지 않고, 호출자 풀의 커넥션을 하나 더 기다리지도 않는다.
+ * 대신 해당 접두어의 번호는 인스턴스마다 다른 블록에서 나오고, 롤백·재시작 시 남은 번호는 건너뛴다.
+ */
 @Component
 public class DocumentNoGenerator {
 
     private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate joinTransaction;
+    private final JdbcTemplate segmentJdbcTemplate;
+    private final TransactionTemplate segmentTransaction;
+    private final int blockSize;
+    private final Set<String> segmentPrefixes;
+    private final ConcurrentHashMap<String, Segment> segments = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Object> reserveLocks = new ConcurrentHashMap<>();
 
-    public DocumentNoGenerator(JdbcTemplate jdbcTemplate) {
+    @Autowired
+    public DocumentNoGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(DocumentNoSegmentDataSourceConfig.SEGMENT_DATA_SOURCE) ObjectProvider<DataSource> segmentDataSource,
+            @Value("${app.document-no.block-size:20}") int blockSize,
+            @Value("${app.document-no.segment-prefixes:}") String segmentPrefixes
+    ) {
+        this(jdbcTemplate, transactionManager, blockSize, segmentPrefixes, segmentDataSource.getIfAvailable());
+    }
+
+    // 블록 예약용 저장소를 따로 받는다. 테스트에서 별도 커넥션을 흉내 낼 때 쓴다.
+    DocumentNoGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate segmentJdbcTemplate,
+            PlatformTransactionManager segmentTransactionManager,
+            int blockSize,
+            String segmentPrefixes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.joinTransaction = new TransactionTemplate(transactionManager);
+        this.segmentJdbcTemplate = segmentJdbcTemplate;
+        this.segmentTransaction = new TransactionTemplate(segmentTransactionManager);
+        this.blockSize = Math.max(blockSize, 1);
+        this.segmentPrefixes = parsePrefixes(segmentPrefixes);
+    }
+
+    private DocumentNoGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            int blockSize,
+            String segmentPrefixes,
+            DataSource segmentDataSource
+    ) {
         this.jdbcTemplate = jdbcTemplate;
+        this.joinTransaction = new TransactionTemplate(transactionManager);
+        this.blockSize = Math.max(blockSize, 1);
+        this.segmentPrefixes = parsePrefixes(segmentPrefixes);
+        if (!this.segmentPrefixes.isEmpty() && segmentDataSource == null) {
+            throw new IllegalStateException("Document number segment data source is not configured.");
+        }
+        this.segmentJdbcTemplate = segmentDataSource == null ? null : new JdbcTemplate(segmentDataSource);
+        this.segmentTransaction = segmentDataSource == null
+                ? null
+                : new TransactionTemplate(new DataSourceTransactionManager(segmentDataSource));
     }
 
-    @Transactional
     public String next(String prefix) {
         String normalizedPrefix = normalizePrefix(prefix);
+        long next = segmentPrefixes.contains(normalizedPrefix)
+                ? nextFromSegment(normalizedPrefix)
+                : nextGapless(normalizedPrefix);
+        return normalizedPrefix + "-" + String.format("%03d", next);
+    }
+
+    // 호출자 트랜잭션에 참여하므로 커밋까지 시퀀스 행 잠금을 유지하고, 롤백되면 번호도 함께 되돌아간다.
+    private long nextGapless(String prefix) {
+        Long reserved = joinTransaction.execute(status -> reserve(jdbcTemplate, prefix, 1));
+        return requireReserved(prefix, reserved);
+    }
 
-        jdbcTemplate.update(
+    private long nextFromSegment(String prefix) {
+        while (true) {
+            Segment current = segments.get(prefix);
+            if (current != null) {
+                long value = current.next.getAndIncrement();
+                if (value <= current.last) {
+                    return value;
+                }
+            }
+            synchronized (reserveLocks.computeIfAbsent(prefix, ignored -> new Object())) {
+                // 다른 스레드가 먼저 새 블록을 받아 왔으면 그 블록에서 다시 꺼낸다.
+                if (segments.get(prefix) == current) {
+                    long last = requireReserved(prefix,
+                            segmentTransaction.execute(status -> reserve(segmentJdbcTemplate, prefix, blockSize)));
+                    segments.put(prefix, new Segment(last - blockSize + 1, last));
+                }
+            }
+        }
+    }
+
+    // count 개 번호를 예약하고 예약한 마지막 번호를 돌려준다.
+    private Long reserve(JdbcTemplate sequences, String prefix, int count) {
+        sequences.update(
                 "INSERT IGNORE INTO document_sequences (prefix, last_seq) VALUES (?, 0)",
-                normalizedPrefix
+                prefix
         );
 
-        Integer current = jdbcTemplate.queryForObject(
+        Integer current = sequences.queryForObject(
                 "SELECT last_seq FROM document_sequences WHERE prefix = ? FOR UPDATE",
                 Integer.class,
-                normalizedPrefix
+                prefix
         );
-
         if (current == null) {
-            throw new IllegalStateException("Failed to load document sequence for prefix: " + normalizedPrefix);
+            return null;
         }
 
-        int next = current + 1;
-        jdbcTemplate.update(
+        int last = current + count;
+        sequences.update(
                 "UPDATE document_sequences SET last_seq = ? WHERE prefix = ?",
-                next,
-                normalizedPrefix
+                last,
+                prefix
         );
+        return (long) last;
+    }
 
-        return normalizedPrefix + "-" + String.format("%03d", next);
+    private long requireReserved(String prefix, Long reserved) {
+        if (reserved == null) {
+            throw new IllegalStateException("Failed to load document sequence for prefix: " + prefix);
+        }
+        return reserved;
+    }
+
+    private static Set<String> parsePrefixes(String prefixes) {
+        return prefixes == null ? Set.of() : Arrays.stream(prefixes.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> value.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     private String normalizePrefix(String prefix) {
@@ -55,4 +172,14 @@ public class DocumentNoGenerator {
         }
         return normalized;
     }
+
+    private static final class Segment {
+        private final AtomicLong next;
+        private final long last;
+
+        private Segment(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
 }
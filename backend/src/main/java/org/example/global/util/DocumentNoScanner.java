@@ -0,0 +1,144 @@
+package org.example.global.util;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 본문에서 문서번호(WR-012, TK-44 등)를 한 번의 순회로 추출한다.
+ * 접두어 집합으로 만든 트라이를 단어 경계마다 따라가므로 접두어 수와 무관하게 본문 길이에 비례해 동작한다.
+ */
+public final class DocumentNoScanner {
+
+    private static final int MAX_DIGITS = 9;
+
+    private final Node root = new Node();
+
+    public DocumentNoScanner(Collection<String> prefixes) {
+        if (prefixes == null || prefixes.isEmpty()) {
+            throw new IllegalArgumentException("Document prefixes must not be empty.");
+        }
+        for (String prefix : prefixes) {
+            register(prefix);
+        }
+    }
+
+    public Set<String> scan(String... texts) {
+        LinkedHashSet<String> result = new LinkedHashSet<>();
+        if (texts == null) {
+            return result;
+        }
+        for (String text : texts) {
+            if (text != null && !text.isEmpty()) {
+                scanInto(text, result);
+            }
+        }
+        return result;
+    }
+
+    public static String toDocNo(String prefix, long number) {
+        return prefix + "-" + String.format("%03d", number);
+    }
+
+    private void register(String rawPrefix) {
+        if (rawPrefix == null || rawPrefix.isBlank()) {
+            throw new IllegalArgumentException("Document prefix must not be blank.");
+        }
+
+        String prefix = rawPrefix.trim().toUpperCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            int index = letterIndex(prefix.charAt(i));
+            if (index < 0) {
+                throw new IllegalArgumentException("Document prefix must consist of letters: " + rawPrefix);
+            }
+            if (node.children[index] == null) {
+                node.children[index] = new Node();
+            }
+            node = node.children[index];
+        }
+        node.prefix = prefix;
+    }
+
+    private void scanInto(String text, Set<String> result) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (i > 0 && isAsciiAlphanumeric(text.charAt(i - 1))) {
+                i++;
+                continue;
+            }
+
+            int matchedEnd = matchAt(text, i, result);
+            i = matchedEnd > i ? matchedEnd : i + 1;
+        }
+    }
+
+    private int matchAt(String text, int start, Set<String> result) {
+        int length = text.length();
+        Node node = root;
+        int position = start;
+        while (position < length) {
+            int index = letterIndex(text.charAt(position));
+            if (index < 0 || node.children[index] == null) {
+                return start;
+            }
+            node = node.children[index];
+            position++;
+
+            if (node.prefix != null && position < length && text.charAt(position) == '-') {
+                int end = readNumberEnd(text, position + 1);
+                if (end > 0) {
+                    long number = Long.parseLong(text.substring(position + 1, end));
+                    if (number > 0) {
+                        result.add(toDocNo(node.prefix, number));
+                        return end;
+                    }
+                }
+            }
+        }
+        return start;
+    }
+
+    private int readNumberEnd(String text, int start) {
+        int length = text.length();
+        int position = start;
+        while (position < length && isAsciiDigit(text.charAt(position))) {
+            position++;
+            if (position - start > MAX_DIGITS) {
+                return -1;
+            }
+        }
+        if (position == start) {
+            return -1;
+        }
+        if (position < length && isAsciiAlphanumeric(text.charAt(position))) {
+            return -1;
+        }
+        return position;
+    }
+
+    private static int letterIndex(char value) {
+        if (value >= 'A' && value <= 'Z') {
+            return value - 'A';
+        }
+        if (value >= 'a' && value <= 'z') {
+            return value - 'a';
+        }
+        return -1;
+    }
+
+    private static boolean isAsciiDigit(char value) {
+        return value >= '0' && value <= '9';
+    }
+
+    private static boolean isAsciiAlphanumeric(char value) {
+        return isAsciiDigit(value) || letterIndex(value) >= 0;
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[26];
+        private String prefix;
+    }
+}
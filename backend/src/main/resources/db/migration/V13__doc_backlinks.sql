@@ -0,0 +1,17 @@
+CREATE TABLE doc_backlinks (
+    id                 BIGINT AUTO_INCREMENT PRIMARY KEY,
+    team_id            BIGINT NOT NULL,
+    source_ref_type    VARCHAR(30) NOT NULL,
+    source_ref_id      BIGINT NOT NULL,
+    source_comment_id  BIGINT,
+    target_ref_type    VARCHAR(30) NOT NULL,
+    target_ref_id      BIGINT NOT NULL,
+    target_doc_no      VARCHAR(20) NOT NULL,
+    created_at         DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_dbl_team FOREIGN KEY (team_id) REFERENCES teams(id),
+
+    INDEX idx_dbl_target (team_id, target_ref_type, target_ref_id),
+    INDEX idx_dbl_source (source_ref_type, source_ref_id),
+    INDEX idx_dbl_source_comment (source_comment_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,5 @@
+-- 미읽음 카운트 집계(user_id, is_read = 0 GROUP BY ref_type)를 인덱스만으로 처리한다.
+-- 기존 idx_notif_user_read 는 새 인덱스의 선두 컬럼과 같아 대체한다(fk_notif_user 도 새 인덱스를 사용).
+ALTER TABLE notifications
+    ADD INDEX idx_notif_user_read_ref (user_id, is_read, ref_type),
+    DROP INDEX idx_notif_user_read;
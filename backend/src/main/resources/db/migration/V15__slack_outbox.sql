@@ -0,0 +1,19 @@
+-- Slack 발송 outbox: 알림 트랜잭션과 함께 커밋되고, 워커 풀이 비동기로 발송한다.
+CREATE TABLE slack_outbox (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    notification_id  BIGINT,
+    channel          VARCHAR(100) NOT NULL,
+    payload_json     TEXT NOT NULL,
+    status           ENUM('PENDING', 'SENDING', 'SENT', 'FAILED', 'DEAD_LETTER') NOT NULL DEFAULT 'PENDING',
+    attempt_count    INT NOT NULL DEFAULT 0,
+    last_error       VARCHAR(1000),
+    next_attempt_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until     DATETIME,
+    sent_at          DATETIME,
+    created_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    INDEX idx_so_status_next (status, next_attempt_at),
+    INDEX idx_so_status_locked (status, locked_until),
+    INDEX idx_so_notification (notification_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,3 @@
+-- 여러 알림을 한 메시지로 묶어 보낸 outbox 행은 포함된 알림 id 목록(콤마 구분)을 함께 저장한다.
+ALTER TABLE slack_outbox
+    ADD COLUMN notification_ids TEXT AFTER notification_id;
@@ -0,0 +1,6 @@
+-- 같은 대상·유형의 알림을 짧은 시간 안에 하나로 합치기 위한 컬럼.
+-- coalesced_count: 합쳐진 이벤트 수, digest_pending: Slack 요약(digest) 발송 대기 여부
+ALTER TABLE notifications
+    ADD COLUMN coalesced_count INT NOT NULL DEFAULT 1 AFTER slack_sent,
+    ADD COLUMN digest_pending TINYINT(1) NOT NULL DEFAULT 0 AFTER coalesced_count,
+    ADD INDEX idx_notif_digest_pending (digest_pending, id);
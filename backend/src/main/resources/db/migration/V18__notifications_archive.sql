@@ -0,0 +1,23 @@
+-- 알림 보존 정책: 읽은 지 오래된 알림은 notifications_archive 로 옮겨 hot 테이블을 작게 유지한다.
+-- (MySQL 파티셔닝은 PK/FK 제약과 맞지 않아 hot/archive 분리 방식을 사용한다)
+CREATE TABLE notifications_archive (
+    id               BIGINT PRIMARY KEY,
+    user_id          BIGINT NOT NULL,
+    type             VARCHAR(30) NOT NULL,
+    title            VARCHAR(200) NOT NULL,
+    message          TEXT,
+    ref_type         VARCHAR(50),
+    ref_id           BIGINT,
+    is_read          TINYINT(1) NOT NULL DEFAULT 1,
+    slack_sent       TINYINT(1) NOT NULL DEFAULT 0,
+    coalesced_count  INT NOT NULL DEFAULT 1,
+    created_at       DATETIME NOT NULL,
+    archived_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_notif_arch_user_id (user_id, id),
+    INDEX idx_notif_arch_created (created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 이동 대상(읽음 + 오래된 알림) 스캔용
+ALTER TABLE notifications
+    ADD INDEX idx_notif_read_created (is_read, created_at);
@@ -0,0 +1,4 @@
+-- 커서(beforeId) 기반 무한 스크롤: user_id(+is_read) 범위 안에서 id 역순으로 바로 읽는다.
+ALTER TABLE notifications
+    ADD INDEX idx_notif_user_read_id (user_id, is_read, id),
+    ADD INDEX idx_notif_user_id (user_id, id);
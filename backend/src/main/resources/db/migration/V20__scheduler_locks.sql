@@ -0,0 +1,13 @@
+-- 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하기 위한 DB 임대(lease) 잠금.
+-- 마지막 실행의 소요 시간/처리 건수도 함께 남긴다.
+CREATE TABLE scheduler_locks (
+    name                   VARCHAR(100) PRIMARY KEY,
+    locked_by              VARCHAR(200) NOT NULL DEFAULT '',
+    locked_at              DATETIME(3),
+    locked_until           DATETIME(3) NOT NULL,
+    last_started_at        DATETIME(3),
+    last_finished_at       DATETIME(3),
+    last_duration_ms       BIGINT,
+    last_item_count        INT,
+    last_error             VARCHAR(1000)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
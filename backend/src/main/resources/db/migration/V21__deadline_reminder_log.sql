@@ -0,0 +1,11 @@
+-- 마감 리마인더 발송 이력. 인스턴스마다 메모리 타이머를 돌리므로
+-- (대상, 마감일, 오프셋) 단위로 먼저 INSERT 에 성공한 인스턴스만 알림을 보낸다.
+CREATE TABLE deadline_reminder_log (
+    ref_type      VARCHAR(30) NOT NULL,
+    ref_id        BIGINT      NOT NULL,
+    deadline      DATE        NOT NULL,
+    offset_code   VARCHAR(10) NOT NULL,
+    created_at    DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (ref_type, ref_id, deadline, offset_code),
+    INDEX idx_drl_deadline (deadline)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,9 @@
+-- 재시도 워커가 선점한 delivery 의 임대 만료 시각. 워커가 죽으면 만료 후 다른 워커가 다시 가져간다.
+ALTER TABLE github_webhook_deliveries
+    ADD COLUMN lease_until DATETIME(3) NULL AFTER next_retry_at,
+    ADD INDEX idx_ghwd_status_lease (status, lease_until);
+
+-- 이전 버전에서 PROCESSING 으로 멈춘 건은 바로 회수 대상이 되도록 한다.
+UPDATE github_webhook_deliveries
+SET lease_until = NOW(3)
+WHERE status = 'PROCESSING';
@@ -0,0 +1,4 @@
+-- SUCCESS delivery 의 원본 payload 를 추출 필드만 남긴 형태로 줄였는지 표시한다.
+ALTER TABLE github_webhook_deliveries
+    ADD COLUMN payload_compacted TINYINT(1) NOT NULL DEFAULT 0 AFTER payload_json,
+    ADD INDEX idx_ghwd_status_processed (status, processed_at);
@@ -0,0 +1,14 @@
+-- 로그아웃 등으로 폐기한 access token(jti). 토큰 exp 이후에는 의미가 없으므로 expires_at 기준으로 정리한다.
+CREATE TABLE auth_revoked_access_tokens (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    jti         CHAR(36) NOT NULL,
+    user_id     BIGINT NOT NULL,
+    expires_at  DATETIME NOT NULL,
+    created_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_auth_revoked_access_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+
+    UNIQUE KEY uq_auth_revoked_access_tokens_jti (jti),
+    INDEX idx_auth_revoked_access_tokens_expires_at (expires_at),
+    INDEX idx_auth_revoked_access_tokens_created_at (created_at)
+);
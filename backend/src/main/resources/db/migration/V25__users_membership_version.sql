@@ -0,0 +1,3 @@
+-- 팀 가입/제거/역할 변경 때마다 올린다. access token 의 팀 클레임이 최신인지 이 값으로 확인한다.
+ALTER TABLE users
+    ADD COLUMN membership_version BIGINT NOT NULL DEFAULT 0 AFTER last_login_at;
@@ -0,0 +1,6 @@
+-- 사용자별 일괄 폐기(user_id, revoked_at IS NULL)와 폐기 행 정리(revoked_at)를 인덱스로 처리한다.
+-- FK 는 새 복합 인덱스의 user_id 접두로 계속 지원된다.
+ALTER TABLE auth_refresh_tokens
+    ADD INDEX idx_auth_refresh_tokens_user_revoked (user_id, revoked_at),
+    ADD INDEX idx_auth_refresh_tokens_revoked_at (revoked_at),
+    DROP INDEX idx_auth_refresh_tokens_user_id;
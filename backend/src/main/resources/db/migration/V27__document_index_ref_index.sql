@@ -0,0 +1,3 @@
+-- 팀 컨텍스트 없이 문서(ref_type, ref_id)로 소속 팀을 찾는 조회용.
+ALTER TABLE document_index
+    ADD INDEX idx_di_ref (ref_type, ref_id);
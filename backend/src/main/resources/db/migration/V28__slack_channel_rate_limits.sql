@@ -0,0 +1,5 @@
+-- Slack 채널별 발송 속도 제한 상태(GCRA). 모든 인스턴스가 같은 행을 조건부 UPDATE 해 채널 한도를 클러스터 전체로 지킨다.
+CREATE TABLE slack_channel_rate_limits (
+    channel         VARCHAR(100) NOT NULL PRIMARY KEY,
+    theoretical_at  DATETIME(6) NOT NULL
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
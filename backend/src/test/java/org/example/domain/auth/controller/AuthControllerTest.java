@@ -89,7 +89,7 @@ class AuthControllerTest {
                 new AuthUserResponse(1L, "홍길동", "hong@example.com", "DEVELOPER", "U12345"),
                 List.of(new AuthTeamResponse(10L, "개발팀", "업무 포털", "OWNER", "ABCDEFGH"))
         );
-        when(authService.login(eq(request))).thenReturn(new AuthLoginResult(response, "refresh-token-value"));
+        when(authService.login(eq(request), eq("127.0.0.1"))).thenReturn(new AuthLoginResult(response, "refresh-token-value"));
 
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -101,7 +101,7 @@ class AuthControllerTest {
                 .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString(REFRESH_COOKIE_NAME + "=")))
                 .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("HttpOnly")));
 
-        verify(authService).login(eq(request));
+        verify(authService).login(eq(request), eq("127.0.0.1"));
     }
 
     @Test
@@ -164,13 +164,14 @@ class AuthControllerTest {
     }
 
     @Test
-    @DisplayName("로그아웃은 refresh token을 무효화하고 쿠키를 제거한다")
+    @DisplayName("로그아웃은 refresh token과 access token을 무효화하고 쿠키를 제거한다")
     void logoutSuccess() throws Exception {
         mockMvc.perform(post("/api/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer access-token")
                         .cookie(new Cookie(REFRESH_COOKIE_NAME, "refresh-cookie-value")))
                 .andExpect(status().isNoContent())
                 .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("Max-Age=0")));
 
-        verify(authService).logout("refresh-cookie-value");
+        verify(authService).logout("refresh-cookie-value", "Bearer access-token");
     }
 }
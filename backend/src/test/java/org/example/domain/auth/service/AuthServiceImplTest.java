@@ -12,30 +12,42 @@ import org.example.domain.team.repository.TeamRepository;
 import org.example.domain.team.repository.UserTeamRepository;
 import org.example.domain.user.entity.PortalUser;
 import org.example.domain.user.repository.PortalUserRepository;
+import org.example.global.security.AccessTokenRevocationList;
+import org.example.global.security.AuthenticatedUser;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.LoginThrottle;
+import org.example.global.security.PasswordHashingService;
+import org.example.global.security.TeamClaims;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,7 +65,10 @@ class AuthServiceImplTest {
     private UserTeamRepository userTeamRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private LoginThrottle loginThrottle;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -61,6 +76,12 @@ class AuthServiceImplTest {
     @Mock
     private AuthRefreshTokenRepository authRefreshTokenRepository;
 
+    @Mock
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -70,7 +91,7 @@ class AuthServiceImplTest {
         SignupRequest request = new SignupRequest("홍길동", "Test@Example.com", null, "password123");
 
         when(portalUserRepository.existsByEmail("test@example.com")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("encoded-password");
+        when(passwordHashingService.encode("password123")).thenReturn("encoded-password");
         when(portalUserRepository.save(any(PortalUser.class))).thenAnswer(invocation -> {
             PortalUser user = invocation.getArgument(0);
             user.setId(10L);
@@ -83,6 +104,11 @@ class AuthServiceImplTest {
         assertEquals("test@example.com", response.email());
         verify(teamRepository, never()).save(any());
         verify(userTeamRepository, never()).save(any());
+        InOrder order = inOrder(passwordHashingService, transactionManager, portalUserRepository);
+        order.verify(passwordHashingService).encode("password123");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(portalUserRepository).save(any(PortalUser.class));
+        order.verify(transactionManager).commit(any());
     }
 
     @Test
@@ -101,21 +127,25 @@ class AuthServiceImplTest {
     void loginSuccess() {
         PortalUser user = activeUser(1L, "test@example.com");
         user.setPasswordHash("encoded-password");
+        user.setMembershipVersion(4L);
 
         when(portalUserRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("password123", "encoded-password")).thenReturn(true);
-        when(portalUserRepository.save(any(PortalUser.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(passwordHashingService.matches("password123", "encoded-password")).thenReturn(true);
         when(userTeamRepository.findByUserId(1L)).thenReturn(List.of());
-        when(jwtTokenProvider.createAccessToken(1L, "test@example.com", "DEVELOPER")).thenReturn("jwt-token");
-        when(authRefreshTokenRepository.findByUserIdAndRevokedAtIsNull(1L)).thenReturn(List.of());
+        when(jwtTokenProvider.createAccessToken(1L, "test@example.com", "DEVELOPER", new TeamClaims(4L, Map.of())))
+                .thenReturn("jwt-token");
         when(authRefreshTokenRepository.save(any(AuthRefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        AuthLoginResult result = authService.login(new LoginRequest("Test@Example.com", "password123"));
+        AuthLoginResult result = authService.login(new LoginRequest("Test@Example.com", "password123"), "127.0.0.1");
 
         assertEquals("jwt-token", result.response().accessToken());
         assertEquals(1L, result.response().user().id());
         assertNotNull(result.refreshToken());
         assertNotNull(user.getLastLoginAt());
+        verify(portalUserRepository).updateLastLoginAt(1L, user.getLastLoginAt());
+        verify(authRefreshTokenRepository).revokeAllByUserId(eq(1L), any(LocalDateTime.class));
+        verify(transactionManager).commit(any());
+        verify(portalUserRepository, never()).save(any(PortalUser.class));
     }
 
     @Test
@@ -125,15 +155,48 @@ class AuthServiceImplTest {
         user.setPasswordHash("encoded-password");
 
         when(portalUserRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("wrong-password", "encoded-password")).thenReturn(false);
+        when(passwordHashingService.matches("wrong-password", "encoded-password")).thenReturn(false);
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
-                () -> authService.login(new LoginRequest("test@example.com", "wrong-password"))
+                () -> authService.login(new LoginRequest("test@example.com", "wrong-password"), "127.0.0.1")
         );
 
         assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
-        verify(jwtTokenProvider, never()).createAccessToken(any(), anyString(), anyString());
+        verify(jwtTokenProvider, never()).createAccessToken(any(), anyString(), anyString(), any());
+        verify(loginThrottle).recordFailure("login:1");
+    }
+
+    @Test
+    @DisplayName("login 없는 이메일이면 401 이고 계정 실패로 기록하지 않는다")
+    void loginUnknownEmailNotRecorded() {
+        when(portalUserRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> authService.login(new LoginRequest("ghost@example.com", "password123"), "127.0.0.1")
+        );
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
+        verify(loginThrottle).checkAttempt(null, "127.0.0.1");
+        verify(loginThrottle, never()).recordFailure(any());
+        verify(passwordHashingService, never()).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("login 시도 한도를 넘으면 비밀번호 해시 없이 429를 반환한다")
+    void loginThrottledBeforeHashing() {
+        when(portalUserRepository.findByEmail("test@example.com")).thenReturn(Optional.of(activeUser(1L, "test@example.com")));
+        doThrow(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "시도가 너무 많습니다. 잠시 후 다시 시도해주세요."))
+                .when(loginThrottle).checkAttempt("login:1", "127.0.0.1");
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> authService.login(new LoginRequest("test@example.com", "password123"), "127.0.0.1")
+        );
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+        verify(passwordHashingService, never()).matches(any(), any());
     }
 
     @Test
@@ -164,48 +227,71 @@ class AuthServiceImplTest {
     }
 
     @Test
-    @DisplayName("refresh 성공 시 access token을 재발급하고 refresh token을 회전한다")
+    @DisplayName("refresh 성공 시 조건부 UPDATE 한 번으로 refresh token을 회전하고 access token을 재발급한다")
     void refreshSuccess() {
         String refreshToken = "refresh-token";
         String tokenHash = sha256(refreshToken);
-
         PortalUser user = activeUser(7L, "refresh@example.com");
-        AuthRefreshToken storedToken = new AuthRefreshToken();
-        storedToken.setId(100L);
-        storedToken.setUserId(7L);
-        storedToken.setTokenHash(tokenHash);
-        storedToken.setExpiresAt(LocalDateTime.now().plusDays(1));
-
-        when(authRefreshTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash)).thenReturn(Optional.of(storedToken));
-        when(portalUserRepository.findById(7L)).thenReturn(Optional.of(user));
-        when(authRefreshTokenRepository.findByUserIdAndRevokedAtIsNull(7L)).thenReturn(List.of());
-        when(authRefreshTokenRepository.save(any(AuthRefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(jwtTokenProvider.createAccessToken(7L, "refresh@example.com", "DEVELOPER")).thenReturn("new-access-token");
+
+        when(authRefreshTokenRepository.rotate(eq(tokenHash), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(authRefreshTokenRepository.findUserByTokenHash(anyString())).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.createAccessToken(7L, "refresh@example.com", "DEVELOPER", null)).thenReturn("new-access-token");
 
         AuthRefreshResult result = authService.refresh(refreshToken);
 
         assertEquals("new-access-token", result.accessToken());
         assertNotNull(result.refreshToken());
-        assertNotNull(storedToken.getRevokedAt());
+        verify(authRefreshTokenRepository).rotate(eq(tokenHash), eq(sha256(result.refreshToken())), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(authRefreshTokenRepository).findUserByTokenHash(sha256(result.refreshToken()));
+        verify(authRefreshTokenRepository, never()).save(any(AuthRefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("refresh 시 만료·폐기됐거나 이미 회전된 토큰이면 401")
+    void refreshRejectsStaleToken() {
+        when(authRefreshTokenRepository.rotate(eq(sha256("used-token")), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> authService.refresh("used-token"));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+        verify(authRefreshTokenRepository, never()).findUserByTokenHash(anyString());
+        verify(jwtTokenProvider, never()).createAccessToken(anyLong(), anyString(), anyString(), any());
     }
 
     @Test
-    @DisplayName("logout은 현재 refresh token을 무효화한다")
+    @DisplayName("logout은 현재 refresh token을 조회 없이 UPDATE 로 무효화한다")
     void logoutRevokesToken() {
         String refreshToken = "refresh-token";
-        String tokenHash = sha256(refreshToken);
 
-        AuthRefreshToken storedToken = new AuthRefreshToken();
-        storedToken.setId(22L);
-        storedToken.setUserId(3L);
-        storedToken.setTokenHash(tokenHash);
-        storedToken.setExpiresAt(LocalDateTime.now().plusDays(1));
+        authService.logout(refreshToken, null);
+
+        verify(authRefreshTokenRepository).revokeByTokenHash(eq(sha256(refreshToken)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("logout은 Authorization 헤더의 access token도 폐기한다")
+    void logoutRevokesAccessToken() {
+        AuthenticatedUser principal = new AuthenticatedUser(3L, "user@test.com", "DEVELOPER", "jti-1", Instant.now().plusSeconds(600), null);
+        when(jwtTokenProvider.authenticate("access-token")).thenReturn(principal);
+
+        authService.logout(null, "Bearer access-token");
+
+        verify(accessTokenRevocationList).revoke(principal);
+    }
 
-        when(authRefreshTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash)).thenReturn(Optional.of(storedToken));
+    @Test
+    @DisplayName("logout 시 access token이 이미 유효하지 않으면 폐기 없이 refresh token만 무효화한다")
+    void logoutWithInvalidAccessToken() {
+        String refreshToken = "refresh-token";
+        when(jwtTokenProvider.authenticate("expired-token"))
+                .thenThrow(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."));
 
-        authService.logout(refreshToken);
+        authService.logout(refreshToken, "Bearer expired-token");
 
-        assertNotNull(storedToken.getRevokedAt());
+        verify(accessTokenRevocationList, never()).revoke(any());
+        verify(authRefreshTokenRepository).revokeByTokenHash(eq(sha256(refreshToken)), any(LocalDateTime.class));
     }
 
     private PortalUser activeUser(Long id, String email) {
@@ -5,6 +5,8 @@ import org.example.domain.comment.dto.CommentListResponse;
 import org.example.domain.comment.dto.CommentUpdateRequest;
 import org.example.domain.comment.entity.Comment;
 import org.example.domain.comment.repository.CommentRepository;
+import org.example.domain.documentIndex.repository.DocumentIndexRepository;
+import org.example.domain.documentIndex.service.DocumentBacklinkService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +39,12 @@ class CommentServiceImplTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private DocumentIndexRepository documentIndexRepository;
+
+    @Mock
+    private DocumentBacklinkService documentBacklinkService;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -96,6 +104,21 @@ class CommentServiceImplTest {
         assertThat(saved.getAuthorId()).isEqualTo(7L);
     }
 
+    @Test
+    @DisplayName("생성 시 참조는 요청 팀이 아니라 댓글이 달린 문서의 팀으로 저장한다")
+    void createSyncsBacklinksWithDocumentTeam() {
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment row = invocation.getArgument(0);
+            row.setId(100L);
+            return row;
+        });
+        when(documentIndexRepository.findTeamIdByRefTypeAndRefId("TECH_TASK", 33L)).thenReturn(Optional.of(5L));
+
+        commentService.create(new CommentCreateRequest("TECH_TASK", 33L, "DF-101 재현됨", 7L));
+
+        verify(documentBacklinkService).syncCommentLinks(100L, "TECH_TASK", 33L, 5L, "DF-101 재현됨");
+    }
+
     @Test
     @DisplayName("수정 시 content를 업데이트한다")
     void update() {
@@ -0,0 +1,102 @@
+package org.example.domain.documentIndex.service;
+
+import org.example.domain.documentIndex.entity.DocumentBacklink;
+import org.example.domain.documentIndex.entity.DocumentIndex;
+import org.example.domain.documentIndex.repository.DocumentBacklinkRepository;
+import org.example.domain.documentIndex.repository.DocumentIndexRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentBacklinkServiceTest {
+
+    @Mock
+    private DocumentBacklinkRepository documentBacklinkRepository;
+
+    @Mock
+    private DocumentIndexRepository documentIndexRepository;
+
+    @InjectMocks
+    private DocumentBacklinkService documentBacklinkService;
+
+    @Captor
+    private ArgumentCaptor<List<DocumentBacklink>> rowsCaptor;
+
+    @Captor
+    private ArgumentCaptor<java.util.Collection<String>> docNosCaptor;
+
+    @Test
+    @DisplayName("문서 본문의 문서번호를 한 번에 조회해 자기 자신을 제외한 참조를 저장한다")
+    void syncDocumentLinksResolvesInBulk() {
+        when(documentIndexRepository.findByTeamIdAndDocNoIn(any(), anyCollection())).thenReturn(List.of(
+                index("TECH_TASK", 44L, "TK-044"),
+                index("WORK_REQUEST", 12L, "WR-012")
+        ));
+
+        documentBacklinkService.syncDocumentLinks("work_request", 12L, 10L, "WR-012 설명", "TK-44, DF-9 참고");
+
+        verify(documentBacklinkRepository).deleteDocumentLinks("WORK_REQUEST", 12L);
+        verify(documentIndexRepository).findByTeamIdAndDocNoIn(org.mockito.ArgumentMatchers.eq(10L), docNosCaptor.capture());
+        assertThat(docNosCaptor.getValue()).containsExactly("WR-012", "TK-044", "DF-009");
+
+        verify(documentBacklinkRepository).saveAll(rowsCaptor.capture());
+        List<DocumentBacklink> rows = rowsCaptor.getValue();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getSourceRefType()).isEqualTo("WORK_REQUEST");
+        assertThat(rows.get(0).getSourceRefId()).isEqualTo(12L);
+        assertThat(rows.get(0).getSourceCommentId()).isNull();
+        assertThat(rows.get(0).getTargetRefType()).isEqualTo("TECH_TASK");
+        assertThat(rows.get(0).getTargetRefId()).isEqualTo(44L);
+        assertThat(rows.get(0).getTargetDocNo()).isEqualTo("TK-044");
+    }
+
+    @Test
+    @DisplayName("댓글 참조는 댓글 id 기준으로 교체한다")
+    void syncCommentLinks() {
+        when(documentIndexRepository.findByTeamIdAndDocNoIn(any(), anyCollection()))
+                .thenReturn(List.of(index("DEFECT", 101L, "DF-101")));
+
+        documentBacklinkService.syncCommentLinks(5L, "TECH_TASK", 44L, 10L, "DF-101 재현됨");
+
+        verify(documentBacklinkRepository).deleteCommentLinks(5L);
+        verify(documentBacklinkRepository).saveAll(rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue().get(0).getSourceCommentId()).isEqualTo(5L);
+        assertThat(rowsCaptor.getValue().get(0).getTargetRefId()).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("본문에 문서번호가 없으면 조회 없이 기존 참조만 정리한다")
+    void syncWithoutDocNos() {
+        documentBacklinkService.syncDocumentLinks("DEFECT", 3L, 10L, "문서번호 없음", null);
+
+        verify(documentBacklinkRepository).deleteDocumentLinks("DEFECT", 3L);
+        verify(documentIndexRepository, never()).findByTeamIdAndDocNoIn(anyLong(), anyCollection());
+        verify(documentBacklinkRepository, never()).saveAll(any());
+    }
+
+    private DocumentIndex index(String refType, Long refId, String docNo) {
+        DocumentIndex row = new DocumentIndex();
+        row.setTeamId(10L);
+        row.setRefType(refType);
+        row.setRefId(refId);
+        row.setDocNo(docNo);
+        row.setTitle(docNo + " 제목");
+        return row;
+    }
+}
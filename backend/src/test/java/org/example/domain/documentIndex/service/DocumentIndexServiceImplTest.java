@@ -0,0 +1,202 @@
+package org.example.domain.documentIndex.service;
+
+import org.example.domain.documentIndex.dto.DocumentBacklinkResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveRequest;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveRequest.RefKey;
+import org.example.domain.documentIndex.dto.DocumentIndexResolveResponse;
+import org.example.domain.documentIndex.dto.DocumentIndexSearchResponse;
+import org.example.domain.documentIndex.entity.DocumentIndex;
+import org.example.domain.documentIndex.repository.DocumentBacklinkRepository;
+import org.example.domain.documentIndex.repository.DocumentBacklinkRepository.BacklinkProjection;
+import org.example.domain.documentIndex.repository.DocumentIndexRepository;
+import org.example.domain.documentIndex.repository.DocumentIndexRepository.FacetCountProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentIndexServiceImplTest {
+
+    @Mock
+    private DocumentIndexRepository documentIndexRepository;
+
+    @Mock
+    private DocumentBacklinkRepository documentBacklinkRepository;
+
+    @Spy
+    private DocumentIndexLookupCache documentIndexLookupCache = new DocumentIndexLookupCache();
+
+    @InjectMocks
+    private DocumentIndexServiceImpl documentIndexService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("검색 시 목록과 refType/status 패싯 카운트를 함께 반환한다")
+    void searchReturnsFacets() {
+        DocumentIndex row = new DocumentIndex();
+        row.setRefType("DEFECT");
+        row.setRefId(7L);
+        row.setDocNo("DF-007");
+        row.setTitle("로그인 오류");
+        row.setStatus("접수");
+
+        when(documentIndexRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(row), PageRequest.of(0, 20), 1));
+        when(documentIndexRepository.countFacets(10L, "로그인")).thenReturn(List.of(
+                facet("DEFECT", "접수", 3),
+                facet("DEFECT", "완료", 2),
+                facet("WORK_REQUEST", "접수", 4),
+                facet("MEETING_NOTE", null, 1)
+        ));
+
+        DocumentIndexSearchResponse response = documentIndexService.search(" 로그인 ", List.of("defect"), 10L, 0, 20);
+
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.content().get(0).docNo()).isEqualTo("DF-007");
+        assertThat(response.totalElements()).isEqualTo(1L);
+
+        assertThat(response.facets().refTypes())
+                .containsEntry("DEFECT", 5L)
+                .containsEntry("WORK_REQUEST", 4L)
+                .containsEntry("MEETING_NOTE", 1L)
+                .containsEntry("TECH_TASK", 0L)
+                .hasSize(8);
+        assertThat(response.facets().statuses())
+                .containsEntry("접수", 3L)
+                .containsEntry("완료", 2L)
+                .hasSize(2);
+
+        verify(documentIndexRepository).countFacets(eq(10L), eq("로그인"));
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 types 값이면 400 예외를 던진다")
+    void searchWithInvalidType() {
+        assertThatThrownBy(() -> documentIndexService.search(null, List.of("UNKNOWN"), 10L, 0, 20))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> {
+                    ResponseStatusException statusEx = (ResponseStatusException) ex;
+                    assertThat(statusEx.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                });
+    }
+
+    @Test
+    @DisplayName("역참조 조회 시 출처 문서 정보를 함께 반환하고 삭제된 출처는 제외한다")
+    void findBacklinks() {
+        BacklinkProjection fromComment = mock(BacklinkProjection.class);
+        when(fromComment.getSourceRefType()).thenReturn("TECH_TASK");
+        when(fromComment.getSourceRefId()).thenReturn(44L);
+        when(fromComment.getSourceCommentId()).thenReturn(5L);
+        when(fromComment.getSourceDocNo()).thenReturn("TK-044");
+        when(fromComment.getSourceTitle()).thenReturn("캐시 개선");
+        when(fromComment.getSourceStatus()).thenReturn("진행중");
+        BacklinkProjection stale = mock(BacklinkProjection.class);
+        when(stale.getSourceDocNo()).thenReturn(null);
+
+        when(documentBacklinkRepository.findBacklinks(10L, "DEFECT", 101L)).thenReturn(List.of(fromComment, stale));
+
+        List<DocumentBacklinkResponse> result = documentIndexService.findBacklinks("defect", 101L, 10L);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).docNo()).isEqualTo("TK-044");
+        assertThat(result.get(0).commentId()).isEqualTo(5L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("문서번호와 ref 쌍을 한 번에 조회하고 이후 요청은 캐시로 응답한다")
+    void resolveUsesSingleQueryAndCache() {
+        DocumentIndex defect = new DocumentIndex();
+        defect.setRefType("DEFECT");
+        defect.setRefId(7L);
+        defect.setDocNo("DF-007");
+        defect.setTitle("로그인 오류");
+        defect.setStatus("접수");
+        DocumentIndex task = new DocumentIndex();
+        task.setRefType("TECH_TASK");
+        task.setRefId(44L);
+        task.setDocNo("TK-044");
+        task.setTitle("캐시 개선");
+        task.setStatus("진행중");
+
+        when(documentIndexRepository.findAll(any(Specification.class))).thenReturn(List.of(defect, task));
+
+        DocumentIndexResolveRequest request = new DocumentIndexResolveRequest(
+                10L,
+                List.of("df-007", "DF-007", "WR-999"),
+                List.of(new RefKey("tech_task", 44L))
+        );
+        DocumentIndexResolveResponse first = documentIndexService.resolve(request);
+
+        assertThat(first.items()).extracting("docNo").containsExactly("DF-007", "TK-044");
+        assertThat(first.missingDocNos()).containsExactly("WR-999");
+        assertThat(first.missingRefs()).isEmpty();
+
+        DocumentIndexResolveResponse second = documentIndexService.resolve(new DocumentIndexResolveRequest(
+                10L,
+                List.of("DF-007"),
+                List.of(new RefKey("TECH_TASK", 44L))
+        ));
+
+        assertThat(second.items()).extracting("title").containsExactly("로그인 오류", "캐시 개선");
+        verify(documentIndexRepository, times(1)).findAll(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 키가 상한을 넘으면 400 예외가 발생한다")
+    void resolveRejectsTooManyKeys() {
+        List<String> docNos = new ArrayList<>();
+        for (int i = 1; i <= DocumentIndexServiceImpl.MAX_RESOLVE_KEYS + 1; i++) {
+            docNos.add(String.format("WR-%03d", i));
+        }
+
+        assertThatThrownBy(() -> documentIndexService.resolve(new DocumentIndexResolveRequest(10L, docNos, Collections.emptyList())))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> {
+                    ResponseStatusException statusEx = (ResponseStatusException) ex;
+                    assertThat(statusEx.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                });
+    }
+
+    private FacetCountProjection facet(String refType, String status, long count) {
+        return new FacetCountProjection() {
+            @Override
+            public String getRefType() {
+                return refType;
+            }
+
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getDocumentCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -10,6 +10,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -26,6 +28,9 @@ class DocumentIndexSyncServiceTest {
     @Mock
     private DocumentIndexRepository documentIndexRepository;
 
+    @Mock
+    private DocumentIndexLookupCache documentIndexLookupCache;
+
     @InjectMocks
     private DocumentIndexSyncService documentIndexSyncService;
 
@@ -78,6 +83,41 @@ class DocumentIndexSyncServiceTest {
         assertThat(saved.getStatus()).isEqualTo("완료");
     }
 
+    @Test
+    @DisplayName("upsert 는 커밋 이후에 조회 캐시를 비운다")
+    void upsertEvictsLookupAfterCommit() {
+        when(documentIndexRepository.findByTeamIdAndRefTypeAndRefId(10L, "WORK_REQUEST", 5L))
+                .thenReturn(Optional.empty());
+        when(documentIndexRepository.save(any(DocumentIndex.class))).thenAnswer(i -> i.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            documentIndexSyncService.upsert("WORK_REQUEST", 5L, 10L, "WR-005", "업무요청 제목", "접수대기");
+
+            verify(documentIndexLookupCache, never()).evict(any(), any(), any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(documentIndexLookupCache).evict(10L, "WORK_REQUEST", 5L, "WR-005");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("delete 가 롤백되면 조회 캐시를 비우지 않는다")
+    void deleteSkipsEvictOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            documentIndexSyncService.delete("WORK_REQUEST", 5L, 10L);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            verify(documentIndexLookupCache, never()).evict(any(), any(), any(), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     @DisplayName("upsert 시 status가 null이면 null로 저장한다")
     void upsertWithNullStatus() {
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.domain.notification.dto.NotificationCreateRequest;
 import org.example.domain.notification.dto.NotificationDetailResponse;
 import org.example.domain.notification.dto.NotificationListResponse;
+import org.example.domain.notification.dto.NotificationScrollResponse;
 import org.example.domain.notification.dto.NotificationUnreadCountsResponse;
 import org.example.domain.notification.dto.NotificationUpdateRequest;
+import org.example.domain.notification.realtime.NotificationRealtimeService;
 import org.example.domain.notification.service.NotificationService;
 import org.example.global.security.JwtTokenProvider;
 import org.example.global.team.TeamRequestContext;
@@ -49,6 +51,9 @@ class NotificationControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private NotificationRealtimeService notificationRealtimeService;
+
     @AfterEach
     void tearDown() {
         TeamRequestContext.clear();
@@ -95,6 +100,26 @@ class NotificationControllerTest {
         verify(notificationService).findPage(2L, false, 1, 5);
     }
 
+    @Test
+    @DisplayName("커서 조회는 인증 사용자 기준으로 다음 커서를 반환한다")
+    void getNotificationScroll() throws Exception {
+        when(jwtTokenProvider.extractUserId("valid-token")).thenReturn(2L);
+        when(notificationService.findScroll(2L, true, 100L, 2))
+                .thenReturn(new NotificationScrollResponse(List.of(listResponse(99L), listResponse(97L)), 97L, true));
+
+        mockMvc.perform(get("/api/notifications/scroll")
+                        .header("Authorization", "Bearer valid-token")
+                        .param("read", "true")
+                        .param("beforeId", "100")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextBeforeId").value(97))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(notificationService).findScroll(2L, true, 100L, 2);
+    }
+
     @Test
     @DisplayName("미읽음 카운트 조회는 인증 사용자 기준으로 반환한다")
     void getUnreadCountsByContextUser() throws Exception {
@@ -190,6 +215,7 @@ class NotificationControllerTest {
                 .andExpect(status().isNoContent());
 
         verify(notificationService).updateAllReadState(2L, true);
+        verify(notificationRealtimeService).publishUnreadCountsAfterCommit(2L);
     }
 
     @Test
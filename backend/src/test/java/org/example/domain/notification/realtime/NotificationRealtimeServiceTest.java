@@ -0,0 +1,88 @@
+package org.example.domain.notification.realtime;
+
+import org.example.domain.notification.dto.NotificationDetailResponse;
+import org.example.domain.notification.dto.NotificationUnreadCountsResponse;
+import org.example.domain.notification.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRealtimeServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private SimpUserRegistry simpUserRegistry;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private NotificationRealtimeService notificationRealtimeService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 생성된 알림은 커밋 이후 사용자 큐로 전송된다")
+    void publishCreatedAfterCommit() {
+        NotificationDetailResponse detail = new NotificationDetailResponse(
+                31L, 3L, "담당자배정", "업무요청 배정", null, "WORK_REQUEST", 1L, false, false, LocalDateTime.now()
+        );
+        NotificationUnreadCountsResponse counts = new NotificationUnreadCountsResponse(4, 4, 0, 0, 0, 0, 0);
+        when(simpUserRegistry.getUser("3")).thenReturn(mock(SimpUser.class));
+        when(notificationService.findById(31L)).thenReturn(detail);
+        when(notificationService.refreshUnreadCounts(3L)).thenReturn(counts);
+
+        TransactionSynchronizationManager.initSynchronization();
+        notificationRealtimeService.publishCreatedAfterCommit(3L, 31L);
+
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        ArgumentCaptor<NotificationPushMessage> captor = ArgumentCaptor.forClass(NotificationPushMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("3"), eq("/queue/notifications"), captor.capture());
+        assertThat(captor.getValue().event()).isEqualTo("CREATED");
+        assertThat(captor.getValue().notification().id()).isEqualTo(31L);
+        assertThat(captor.getValue().unreadCounts().total()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("접속 중인 세션이 없으면 조회와 전송을 생략한다")
+    void skipWhenUserOffline() {
+        when(simpUserRegistry.getUser("3")).thenReturn(null);
+
+        notificationRealtimeService.publishUnreadCountsAfterCommit(3L);
+
+        verifyNoInteractions(notificationService, messagingTemplate);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.domain.notification.service;
+
+import org.example.domain.notification.repository.NotificationArchiveRepository;
+import org.example.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationArchiverTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationArchiveRepository notificationArchiveRepository;
+
+    private NotificationArchiver notificationArchiver;
+
+    @BeforeEach
+    void setUp() {
+        notificationArchiver = new NotificationArchiver(notificationRepository, notificationArchiveRepository, 90, 2);
+    }
+
+    @Test
+    @DisplayName("보존 기간 기준 시각은 읽음 보존 일수만큼 이전이다")
+    void cutoff() {
+        LocalDateTime now = LocalDateTime.of(2026, 4, 1, 3, 30);
+
+        assertThat(notificationArchiver.cutoff(now)).isEqualTo(now.minusDays(90));
+    }
+
+    @Test
+    @DisplayName("잠근 청크를 archive 로 복사한 뒤 hot 테이블에서 삭제한다")
+    void archiveChunkCopiesThenDeletes() {
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(notificationRepository.lockArchivableIds(cutoff, 2)).thenReturn(List.of(1L, 2L));
+        when(notificationRepository.deleteByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        int moved = notificationArchiver.archiveChunk(cutoff);
+
+        assertThat(moved).isEqualTo(2);
+        verify(notificationArchiveRepository).copyFromNotifications(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("이동 대상이 없으면 아무것도 하지 않는다")
+    void archiveChunkNoop() {
+        when(notificationRepository.lockArchivableIds(any(), any(Integer.class))).thenReturn(List.of());
+
+        assertThat(notificationArchiver.archiveChunk(LocalDateTime.now())).isZero();
+        verify(notificationArchiveRepository, never()).copyFromNotifications(any());
+    }
+}
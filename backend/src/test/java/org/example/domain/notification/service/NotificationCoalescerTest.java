@@ -0,0 +1,134 @@
+package org.example.domain.notification.service;
+
+import org.example.domain.notification.dto.NotificationCommand;
+import org.example.domain.notification.entity.Notification;
+import org.example.domain.notification.repository.NotificationRepository;
+import org.example.global.slack.SlackNotificationItem;
+import org.example.global.slack.SlackNotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-02T01:00:00Z"), ZONE);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SlackNotificationService slackNotificationService;
+
+    @Test
+    @DisplayName("창 안의 미읽음 알림이 있으면 변경 요약으로 병합하고 digest 대기로 표시한다")
+    void mergeIntoRecentUnread() {
+        NotificationCoalescer coalescer = coalescer(true);
+        Notification existing = notification(5L, "DF-001 상태가 '진행중'(으)로 변경되었습니다.", 1);
+        when(notificationRepository.findCoalesceTargetsForUpdate(
+                eq(3L), eq("상태변경"), eq("DEFECT"), eq(1L), eq(LocalDateTime.now(CLOCK).minusMinutes(10)), any()
+        )).thenReturn(List.of(existing));
+
+        Long mergedId = coalescer.tryMerge(command("DF-001 상태가 '완료'(으)로 변경되었습니다."));
+
+        assertThat(mergedId).isEqualTo(5L);
+        assertThat(existing.getCoalescedCount()).isEqualTo(2);
+        assertThat(existing.getMessage()).isEqualTo(
+                "DF-001 상태가 '완료'(으)로 변경되었습니다.\nDF-001 상태가 '진행중'(으)로 변경되었습니다.");
+        assertThat(existing.getDigestPending()).isTrue();
+    }
+
+    @Test
+    @DisplayName("병합 대상이 없거나 대상 유형이 아니면 null 을 돌려준다")
+    void noMergeWithoutTarget() {
+        NotificationCoalescer coalescer = coalescer(true);
+        when(notificationRepository.findCoalesceTargetsForUpdate(any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        assertThat(coalescer.tryMerge(command("변경"))).isNull();
+        assertThat(coalescer.tryMerge(new NotificationCommand(3L, "멘션", "멘션", "본문", "DEFECT", 1L))).isNull();
+        assertThat(coalescer.supports(new NotificationCommand(3L, "상태변경", "t", "m", null, null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("요약은 최근 5줄만 남기고 나머지는 건수로 표시한다")
+    void summaryKeepsRecentLines() {
+        String message = "변경 1";
+        for (int i = 2; i <= 7; i++) {
+            message = NotificationCoalescer.mergeMessage(message, "변경 " + i, i);
+        }
+
+        assertThat(message.split("\n")).containsExactly("변경 7", "변경 6", "변경 5", "변경 4", "변경 3", "… 외 2건");
+    }
+
+    @Test
+    @DisplayName("digest 가 켜져 있으면 대기 중인 병합 알림을 Slack 메시지 하나로 적재한다")
+    void flushDigest() {
+        NotificationCoalescer coalescer = coalescer(true);
+        List<Notification> pending = List.of(notification(5L, "요약", 3));
+        when(notificationRepository.findByDigestPendingTrueOrderByIdAsc(any())).thenReturn(pending);
+
+        int flushed = coalescer.flushDigest();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SlackNotificationItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(slackNotificationService).sendAll(captor.capture());
+        assertThat(flushed).isEqualTo(1);
+        assertThat(captor.getValue().get(0).title()).isEqualTo("결함 상태 변경 (3건)");
+        verify(notificationRepository).clearDigestPending(List.of(5L));
+    }
+
+    @Test
+    @DisplayName("digest 가 꺼져 있으면 병합하지 않아 변경이 개별 알림으로 Slack 에 나가고, digest 발송도 하지 않는다")
+    void digestDisabled() {
+        NotificationCoalescer coalescer = coalescer(false);
+
+        assertThat(coalescer.supports(command("변경"))).isFalse();
+        assertThat(coalescer.tryMerge(command("변경"))).isNull();
+        assertThat(coalescer.flushDigest()).isZero();
+        verify(notificationRepository, never()).findCoalesceTargetsForUpdate(any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(slackNotificationService);
+        verify(notificationRepository, never()).findByDigestPendingTrueOrderByIdAsc(any());
+    }
+
+    private NotificationCoalescer coalescer(boolean digestEnabled) {
+        return new NotificationCoalescer(notificationRepository, slackNotificationService, true, 10, "상태변경, 배포실패", digestEnabled, CLOCK);
+    }
+
+    private NotificationCommand command(String message) {
+        return new NotificationCommand(3L, "상태변경", "결함 상태 변경", message, "DEFECT", 1L);
+    }
+
+    private Notification notification(Long id, String message, int coalescedCount) {
+        Notification notification = new Notification();
+        notification.setId(id);
+        notification.setUserId(3L);
+        notification.setType("상태변경");
+        notification.setTitle("결함 상태 변경");
+        notification.setMessage(message);
+        notification.setRefType("DEFECT");
+        notification.setRefId(1L);
+        notification.setIsRead(false);
+        notification.setCoalescedCount(coalescedCount);
+        notification.setDigestPending(false);
+        return notification;
+    }
+}
@@ -1,8 +1,11 @@
 package org.example.domain.notification.service;
 
+import org.example.domain.notification.dto.NotificationCommand;
 import org.example.domain.notification.dto.NotificationCreateRequest;
-import org.example.domain.user.entity.UserPreference;
-import org.example.domain.user.repository.UserPreferenceRepository;
+import org.example.domain.notification.realtime.NotificationRealtimeService;
+import org.example.domain.user.service.UserNotificationFlags;
+import org.example.domain.user.service.UserNotificationPreferenceCache;
+import org.example.global.slack.SlackNotificationItem;
 import org.example.global.slack.SlackNotificationService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +15,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,22 +32,25 @@ class NotificationEventServiceTest {
     private NotificationService notificationService;
 
     @Mock
-    private UserPreferenceRepository userPreferenceRepository;
+    private UserNotificationPreferenceCache userNotificationPreferenceCache;
 
     @Mock
     private SlackNotificationService slackNotificationService;
 
+    @Mock
+    private NotificationRealtimeService notificationRealtimeService;
+
+    @Mock
+    private NotificationCoalescer notificationCoalescer;
+
     @InjectMocks
     private NotificationEventService notificationEventService;
 
     @Test
     @DisplayName("알림 설정이 비활성이면 이벤트 알림을 생성하지 않는다")
     void skipNotificationWhenPreferenceDisabled() {
-        UserPreference preference = new UserPreference();
-        preference.setUserId(3L);
-        preference.setNotifyAssign(false);
-
-        when(userPreferenceRepository.findById(3L)).thenReturn(Optional.of(preference));
+        when(userNotificationPreferenceCache.get(3L))
+                .thenReturn(new UserNotificationFlags(false, true, true, true, true, true));
 
         notificationEventService.create(
                 3L,
@@ -58,11 +67,8 @@ class NotificationEventServiceTest {
     @Test
     @DisplayName("알림 설정이 활성일 때 이벤트 알림을 생성한다")
     void createNotificationWhenPreferenceEnabled() {
-        UserPreference preference = new UserPreference();
-        preference.setUserId(3L);
-        preference.setNotifyAssign(true);
-
-        when(userPreferenceRepository.findById(3L)).thenReturn(Optional.of(preference));
+        when(userNotificationPreferenceCache.get(3L)).thenReturn(UserNotificationFlags.ALL_ENABLED);
+        when(notificationService.create(org.mockito.ArgumentMatchers.any(NotificationCreateRequest.class))).thenReturn(31L);
 
         notificationEventService.create(
                 3L,
@@ -75,6 +81,7 @@ class NotificationEventServiceTest {
 
         ArgumentCaptor<NotificationCreateRequest> captor = ArgumentCaptor.forClass(NotificationCreateRequest.class);
         verify(notificationService).create(captor.capture());
+        verify(notificationRealtimeService).publishCreatedAfterCommit(3L, 31L);
 
         NotificationCreateRequest request = captor.getValue();
         assertThat(request.userId()).isEqualTo(3L);
@@ -85,7 +92,7 @@ class NotificationEventServiceTest {
     @Test
     @DisplayName("사용자 환경설정이 없으면 기존 동작대로 알림을 생성한다")
     void createNotificationWhenPreferenceMissing() {
-        when(userPreferenceRepository.findById(7L)).thenReturn(Optional.empty());
+        when(userNotificationPreferenceCache.get(7L)).thenReturn(UserNotificationFlags.ALL_ENABLED);
 
         notificationEventService.create(
                 7L,
@@ -98,4 +105,78 @@ class NotificationEventServiceTest {
 
         verify(notificationService).create(org.mockito.ArgumentMatchers.any(NotificationCreateRequest.class));
     }
+
+    @Test
+    @DisplayName("여러 사용자의 수신 여부를 캐시 일괄 조회로 판단한다")
+    void resolveEnabledInBulk() {
+        when(userNotificationPreferenceCache.getAll(List.of(3L, 4L))).thenReturn(Map.of(
+                3L, new UserNotificationFlags(true, true, false, true, true, true),
+                4L, UserNotificationFlags.ALL_ENABLED
+        ));
+
+        Map<Long, Boolean> result = notificationEventService.isEnabled(List.of(3L, 4L), "마감임박");
+
+        assertThat(result).containsEntry(3L, false).containsEntry(4L, true);
+        verify(userNotificationPreferenceCache, never()).get(3L);
+    }
+
+    @Test
+    @DisplayName("일괄 생성은 중복 수신자를 제거하고 수신 거부 사용자를 걸러낸 뒤 한 번에 저장한다")
+    void createAllDeduplicatesAndFilters() {
+        when(userNotificationPreferenceCache.getAll(List.of(3L, 4L))).thenReturn(Map.of(
+                3L, UserNotificationFlags.ALL_ENABLED,
+                4L, new UserNotificationFlags(true, true, true, false, true, true)
+        ));
+        when(notificationService.createAll(org.mockito.ArgumentMatchers.anyList())).thenReturn(List.of(51L));
+
+        notificationEventService.createAll(List.of(
+                new NotificationCommand(3L, "상태변경", "결함 상태 변경", "DF-001", "DEFECT", 1L),
+                new NotificationCommand(3L, "상태변경", "결함 상태 변경", "DF-001", "DEFECT", 1L),
+                new NotificationCommand(4L, "상태변경", "결함 상태 변경", "DF-001", "DEFECT", 1L),
+                new NotificationCommand(null, "상태변경", "결함 상태 변경", "DF-001", "DEFECT", 1L)
+        ));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationCreateRequest>> requestCaptor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createAll(requestCaptor.capture());
+        assertThat(requestCaptor.getValue()).extracting(NotificationCreateRequest::userId).containsExactly(3L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SlackNotificationItem>> slackCaptor = ArgumentCaptor.forClass(List.class);
+        verify(slackNotificationService).sendAll(slackCaptor.capture());
+        assertThat(slackCaptor.getValue()).extracting(SlackNotificationItem::notificationId).containsExactly(51L);
+        verify(notificationRealtimeService).publishCreatedAfterCommit(3L, 51L);
+    }
+
+    @Test
+    @DisplayName("createAllOrThrow 는 저장 실패를 호출자에게 전달하고 createAll 은 삼킨다")
+    void createAllOrThrowPropagatesFailure() {
+        List<NotificationCommand> commands = List.of(
+                new NotificationCommand(3L, "마감임박", "마감 1일 전 알림", "WR-001", "WORK_REQUEST", 1L));
+        when(userNotificationPreferenceCache.getAll(List.of(3L))).thenReturn(Map.of(3L, UserNotificationFlags.ALL_ENABLED));
+        when(notificationService.createAll(org.mockito.ArgumentMatchers.anyList()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> notificationEventService.createAllOrThrow(commands))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> notificationEventService.createAll(commands)).doesNotThrowAnyException();
+        verify(slackNotificationService, never()).sendAll(org.mockito.ArgumentMatchers.anyList());
+    }
+
+    @Test
+    @DisplayName("창 안의 같은 대상 알림에 병합되면 새 알림과 Slack 메시지를 만들지 않는다")
+    void mergeIntoRecentNotification() {
+        NotificationCommand command = new NotificationCommand(3L, "상태변경", "결함 상태 변경", "DF-001 완료", "DEFECT", 1L);
+        when(userNotificationPreferenceCache.get(3L)).thenReturn(UserNotificationFlags.ALL_ENABLED);
+        when(notificationCoalescer.supports(command)).thenReturn(true);
+        when(notificationCoalescer.tryMerge(command)).thenReturn(77L);
+
+        notificationEventService.create(3L, "상태변경", "결함 상태 변경", "DF-001 완료", "DEFECT", 1L);
+
+        verify(notificationService, never()).create(org.mockito.ArgumentMatchers.any(NotificationCreateRequest.class));
+        verify(slackNotificationService, never()).send(
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(),
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
+        verify(notificationRealtimeService).publishUpdatedAfterCommit(3L, 77L);
+    }
 }
@@ -2,10 +2,15 @@ package org.example.domain.notification.service;
 
 import org.example.domain.notification.dto.NotificationCreateRequest;
 import org.example.domain.notification.dto.NotificationListResponse;
+import org.example.domain.notification.dto.NotificationScrollResponse;
 import org.example.domain.notification.dto.NotificationUnreadCountsResponse;
 import org.example.domain.notification.dto.NotificationUpdateRequest;
 import org.example.domain.notification.entity.Notification;
+import org.example.domain.notification.entity.NotificationArchive;
+import org.example.domain.notification.repository.NotificationArchiveRepository;
+import org.example.domain.notification.repository.NotificationBatchInsertRepository;
 import org.example.domain.notification.repository.NotificationRepository;
+import org.example.domain.notification.repository.NotificationRepository.UnreadCountProjection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +18,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -28,7 +35,11 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +49,15 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationBatchInsertRepository notificationBatchInsertRepository;
+
+    @Mock
+    private NotificationArchiveRepository notificationArchiveRepository;
+
+    @Spy
+    private NotificationUnreadCounter notificationUnreadCounter = new NotificationUnreadCounter(100, 300);
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -70,6 +90,113 @@ class NotificationServiceImplTest {
         assertThat(page.getContent().get(0).title()).isEqualTo("상태 변경");
     }
 
+    @Test
+    @DisplayName("목록 조회 시 hot/보관 알림을 id 역순으로 병합해 페이징한다")
+    void findPageMergesArchiveById() {
+        // 오래된 미읽음(3)은 hot 에 남고 그보다 새로운 읽음(5, 4)은 보관된 상황
+        when(notificationArchiveRepository.countByOptionalUserId(2L)).thenReturn(3L);
+        when(notificationRepository.countByOptionalFilters(2L, null)).thenReturn(2L);
+        when(notificationRepository.findIds(eq(2L), eq(null), any(Limit.class))).thenReturn(List.of(9L, 3L));
+        when(notificationArchiveRepository.findIds(eq(2L), any(Limit.class))).thenReturn(List.of(5L, 4L, 1L));
+        when(notificationRepository.findAllById(List.of(9L))).thenReturn(List.of(sampleEntity(9L)));
+        when(notificationArchiveRepository.findAllById(List.of(5L, 4L))).thenReturn(List.of(archived(4L), archived(5L)));
+        when(notificationRepository.findAllById(List.of(3L))).thenReturn(List.of(sampleEntity(3L)));
+        when(notificationArchiveRepository.findAllById(List.of(1L))).thenReturn(List.of(archived(1L)));
+
+        Page<NotificationListResponse> first = notificationService.findPage(2L, null, 0, 3);
+        Page<NotificationListResponse> second = notificationService.findPage(2L, null, 1, 3);
+
+        assertThat(first.getContent()).extracting(NotificationListResponse::id).containsExactly(9L, 5L, 4L);
+        assertThat(first.getTotalElements()).isEqualTo(5L);
+        assertThat(second.getContent()).extracting(NotificationListResponse::id).containsExactly(3L, 1L);
+        verify(notificationRepository).findIds(2L, null, Limit.of(3));
+        verify(notificationRepository).findIds(2L, null, Limit.of(5));
+    }
+
+    @Test
+    @DisplayName("보관된 알림이 없으면 hot 테이블 페이지 조회만 한다")
+    void findPageWithoutArchive() {
+        when(notificationArchiveRepository.countByOptionalUserId(2L)).thenReturn(0L);
+        when(notificationRepository.findByUserIdOrderByIdDesc(eq(2L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sampleEntity(9L))));
+
+        assertThat(notificationService.findPage(2L, null, 0, 3).getContent())
+                .extracting(NotificationListResponse::id).containsExactly(9L);
+        verify(notificationRepository, never()).findIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관된 알림을 미읽음으로 바꾸면 같은 id 로 hot 테이블에 되돌리고, 읽음 처리는 그대로 둔다")
+    void updateReadStateOfArchived() {
+        NotificationArchive archived = archived(5L);
+        when(notificationRepository.findById(5L)).thenReturn(Optional.empty());
+        when(notificationArchiveRepository.findById(5L)).thenReturn(Optional.of(archived));
+
+        notificationService.updateReadState(5L, true);
+        verify(notificationArchiveRepository, never()).restoreAsUnread(anyLong());
+
+        notificationService.updateReadState(5L, false);
+        verify(notificationArchiveRepository).restoreAsUnread(5L);
+        verify(notificationArchiveRepository).delete(archived);
+    }
+
+    @Test
+    @DisplayName("미읽음 목록은 보관 테이블을 조회하지 않는다")
+    void findUnreadPageSkipsArchive() {
+        when(notificationRepository.findByUserIdAndIsReadOrderByIdDesc(eq(2L), eq(false), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sampleEntity(1L))));
+
+        notificationService.findPage(2L, false, 0, 20);
+
+        verify(notificationArchiveRepository, never()).countByOptionalUserId(any());
+    }
+
+    @Test
+    @DisplayName("커서 조회는 hot/보관 결과를 id 역순으로 병합하고 다음 커서를 돌려준다")
+    void findScrollMergesHotAndArchive() {
+        when(notificationRepository.findByUserIdAndIdLessThanOrderByIdDesc(2L, 100L, Limit.of(4)))
+                .thenReturn(List.of(sampleEntity(90L), sampleEntity(70L)));
+        when(notificationArchiveRepository.findByUserIdAndIdLessThanOrderByIdDesc(2L, 100L, Limit.of(4)))
+                .thenReturn(List.of(archived(80L), archived(60L), archived(50L)));
+
+        NotificationScrollResponse response = notificationService.findScroll(2L, null, 100L, 3);
+
+        assertThat(response.items()).extracting(NotificationListResponse::id).containsExactly(90L, 80L, 70L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextBeforeId()).isEqualTo(70L);
+    }
+
+    @Test
+    @DisplayName("미읽음 커서 조회는 보관 테이블을 보지 않고 마지막 페이지면 커서가 없다")
+    void findScrollUnreadLastPage() {
+        when(notificationRepository.findByUserIdAndIsReadAndIdLessThanOrderByIdDesc(2L, false, Long.MAX_VALUE, Limit.of(21)))
+                .thenReturn(List.of(sampleEntity(3L)));
+
+        NotificationScrollResponse response = notificationService.findScroll(2L, false, null, 20);
+
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextBeforeId()).isNull();
+        verify(notificationArchiveRepository, never()).findByUserIdAndIdLessThanOrderByIdDesc(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 조회 size 가 범위를 벗어나면 400 예외")
+    void findScrollBadSize() {
+        assertThatThrownBy(() -> notificationService.findScroll(2L, null, null, 101))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    @DisplayName("단건 조회 시 hot 테이블에 없으면 보관 테이블에서 찾는다")
+    void findByIdFallsBackToArchive() {
+        when(notificationRepository.findById(5L)).thenReturn(Optional.empty());
+        when(notificationArchiveRepository.findById(5L)).thenReturn(Optional.of(archived(5L)));
+
+        assertThat(notificationService.findById(5L).isRead()).isTrue();
+    }
+
     @Test
     @DisplayName("생성 시 필수값을 검증하고 문자열을 정리해 저장한다")
     void create() {
@@ -152,15 +279,17 @@ class NotificationServiceImplTest {
     }
 
     @Test
-    @DisplayName("미읽음 카운트 조회 시 전체/도메인별 카운트를 반환한다")
+    @DisplayName("미읽음 카운트 조회 시 refType 그룹 집계 1회로 전체/도메인별 카운트를 반환한다")
     void findUnreadCounts() {
-        when(notificationRepository.countByUserIdAndIsReadFalse(2L)).thenReturn(12L);
-        when(notificationRepository.countByUserIdAndIsReadFalseAndRefType(2L, "WORK_REQUEST")).thenReturn(5L);
-        when(notificationRepository.countByUserIdAndIsReadFalseAndRefType(2L, "TECH_TASK")).thenReturn(1L);
-        when(notificationRepository.countByUserIdAndIsReadFalseAndRefType(2L, "TEST_SCENARIO")).thenReturn(3L);
-        when(notificationRepository.countByUserIdAndIsReadFalseAndRefType(2L, "DEFECT")).thenReturn(2L);
-        when(notificationRepository.countByUserIdAndIsReadFalseAndRefType(2L, "DEPLOYMENT")).thenReturn(1L);
-        when(notificationRepository.countByUserIdAndIsReadFalseAndRefType(2L, "PROJECT_IDEA")).thenReturn(0L);
+        List<UnreadCountProjection> rows = List.of(
+                unread("WORK_REQUEST", 5L),
+                unread("TECH_TASK", 1L),
+                unread("TEST_SCENARIO", 3L),
+                unread("DEFECT", 2L),
+                unread("DEPLOYMENT", 1L),
+                unread(null, 0L)
+        );
+        when(notificationRepository.countUnreadGroupByRefType(2L)).thenReturn(rows);
 
         NotificationUnreadCountsResponse response = notificationService.findUnreadCounts(2L);
 
@@ -173,6 +302,48 @@ class NotificationServiceImplTest {
         assertThat(response.idea()).isEqualTo(0L);
     }
 
+    @Test
+    @DisplayName("캐시된 미읽음 카운트는 읽음/삭제/전체 읽음 시 재집계 없이 증감된다")
+    void unreadCountsAdjustedWithoutRequery() {
+        List<UnreadCountProjection> rows = List.of(unread("WORK_REQUEST", 2L), unread("DEFECT", 1L));
+        when(notificationRepository.countUnreadGroupByRefType(2L)).thenReturn(rows);
+        Notification workRequest = sampleEntity(5L);
+        Notification defect = sampleEntity(6L);
+        defect.setRefType("DEFECT");
+        when(notificationRepository.findById(5L)).thenReturn(Optional.of(workRequest));
+        when(notificationRepository.findById(6L)).thenReturn(Optional.of(defect));
+
+        assertThat(notificationService.findUnreadCounts(2L).total()).isEqualTo(3L);
+
+        notificationService.updateReadState(5L, true);
+        notificationService.delete(6L);
+        NotificationUnreadCountsResponse adjusted = notificationService.findUnreadCounts(2L);
+
+        assertThat(adjusted.total()).isEqualTo(1L);
+        assertThat(adjusted.workRequest()).isEqualTo(1L);
+        assertThat(adjusted.defect()).isEqualTo(0L);
+
+        notificationService.updateAllReadState(2L, true);
+        assertThat(notificationService.findUnreadCounts(2L).total()).isZero();
+
+        verify(notificationRepository, times(1)).countUnreadGroupByRefType(2L);
+    }
+
+    @Test
+    @DisplayName("refreshUnreadCounts 는 캐시가 있어도 DB 에서 다시 집계하고 캐시를 그 값으로 맞춘다")
+    void refreshUnreadCountsBypassesCache() {
+        List<UnreadCountProjection> cached = List.of(unread("WORK_REQUEST", 2L));
+        List<UnreadCountProjection> current = List.of(unread("WORK_REQUEST", 5L));
+        when(notificationRepository.countUnreadGroupByRefType(2L)).thenReturn(cached, current);
+
+        assertThat(notificationService.findUnreadCounts(2L).total()).isEqualTo(2L);
+        // 다른 인스턴스에서 알림이 생겨 DB 값이 바뀐 상황
+        assertThat(notificationService.refreshUnreadCounts(2L).total()).isEqualTo(5L);
+        assertThat(notificationService.findUnreadCounts(2L).total()).isEqualTo(5L);
+
+        verify(notificationRepository, times(2)).countUnreadGroupByRefType(2L);
+    }
+
     @Test
     @DisplayName("삭제 시 대상을 조회한 뒤 삭제한다")
     void delete() {
@@ -184,6 +355,32 @@ class NotificationServiceImplTest {
         verify(notificationRepository).delete(entity);
     }
 
+    @Test
+    @DisplayName("일괄 생성은 배치 insert 로 저장하고 미읽음 카운터를 사용자·분류별로 합산해 증가시킨다")
+    void createAllUsesBatchInsert() {
+        List<NotificationCreateRequest> requests = List.of(
+                new NotificationCreateRequest(2L, " 멘션 ", " 제목 ", " ", "WORK_REQUEST", 11L, false),
+                new NotificationCreateRequest(2L, "멘션", "제목", "본문", "WORK_REQUEST", 12L, false),
+                new NotificationCreateRequest(3L, "멘션", "제목", "본문", null, null, false)
+        );
+        when(notificationBatchInsertRepository.insertAll(any())).thenReturn(List.of(101L, 102L, 103L));
+
+        List<Long> ids = notificationService.createAll(requests);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationBatchInsertRepository).insertAll(captor.capture());
+        Notification first = captor.getValue().get(0);
+
+        assertThat(ids).containsExactly(101L, 102L, 103L);
+        assertThat(first.getType()).isEqualTo("멘션");
+        assertThat(first.getTitle()).isEqualTo("제목");
+        assertThat(first.getMessage()).isNull();
+        verify(notificationUnreadCounter).adjust(2L, "WORK_REQUEST", 2L);
+        verify(notificationUnreadCounter).adjust(3L, "", 1L);
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
     @Test
     @DisplayName("생성 시 userId가 없으면 400 예외")
     void createBadRequest() {
@@ -203,6 +400,28 @@ class NotificationServiceImplTest {
                 );
     }
 
+    private UnreadCountProjection unread(String refType, long count) {
+        UnreadCountProjection projection = mock(UnreadCountProjection.class);
+        when(projection.getRefType()).thenReturn(refType);
+        when(projection.getUnreadCount()).thenReturn(count);
+        return projection;
+    }
+
+    private NotificationArchive archived(Long id) {
+        NotificationArchive archive = new NotificationArchive();
+        archive.setId(id);
+        archive.setUserId(2L);
+        archive.setType("상태변경");
+        archive.setTitle("상태 변경");
+        archive.setRefType("WORK_REQUEST");
+        archive.setRefId(11L);
+        archive.setIsRead(true);
+        archive.setSlackSent(true);
+        archive.setCoalescedCount(1);
+        archive.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        return archive;
+    }
+
     private Notification sampleEntity(Long id) {
         Notification entity = new Notification();
         entity.setId(id);
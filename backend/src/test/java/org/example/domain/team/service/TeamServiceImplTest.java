@@ -12,6 +12,7 @@ import org.example.domain.team.repository.UserTeamRepository;
 import org.example.domain.user.entity.PortalUser;
 import org.example.domain.user.repository.PortalUserRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.team.TeamMembershipCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +55,9 @@ class TeamServiceImplTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private TeamMembershipCache teamMembershipCache;
+
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -163,6 +167,8 @@ class TeamServiceImplTest {
         assertEquals(1L, captor.getValue().getUserId());
         assertEquals(20L, captor.getValue().getTeamId());
         assertEquals("MEMBER", captor.getValue().getTeamRole());
+        verify(portalUserRepository).incrementMembershipVersion(1L);
+        verify(teamMembershipCache).invalidate(1L, 20L);
     }
 
     @Test
@@ -293,6 +299,8 @@ class TeamServiceImplTest {
         teamService.updateTeamMemberRole(AUTH_HEADER, 77L, 2L, new TeamMemberRoleUpdateRequest("admin"));
 
         assertEquals("ADMIN", target.getTeamRole());
+        verify(portalUserRepository).incrementMembershipVersion(2L);
+        verify(teamMembershipCache).invalidate(2L, 77L);
     }
 
     @Test
@@ -379,6 +387,8 @@ class TeamServiceImplTest {
         teamService.removeTeamMember(AUTH_HEADER, 77L, 2L);
 
         verify(userTeamRepository).deleteByUserIdAndTeamId(2L, 77L);
+        verify(portalUserRepository).incrementMembershipVersion(2L);
+        verify(teamMembershipCache).invalidate(2L, 77L);
     }
 
     @Test
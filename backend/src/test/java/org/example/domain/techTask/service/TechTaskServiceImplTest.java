@@ -49,6 +49,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -278,14 +279,13 @@ class TechTaskServiceImplTest {
 
         techTaskService.updateStatus(7L, new TechTaskStatusUpdateRequest("완료", "done"));
 
-        verify(notificationEventService).create(
-                eq(20L),
-                eq("상태변경"),
-                eq("기술과제 상태 변경"),
-                contains("완료"),
-                eq("TECH_TASK"),
-                eq(7L)
-        );
+        verify(notificationEventService).createAll(argThat(commands -> commands.stream().anyMatch(command ->
+                Long.valueOf(20L).equals(command.userId())
+                        && "상태변경".equals(command.type())
+                        && "기술과제 상태 변경".equals(command.title())
+                        && command.message().contains("완료")
+                        && "TECH_TASK".equals(command.refType())
+                        && Long.valueOf(7L).equals(command.refId()))));
     }
 
     @Test
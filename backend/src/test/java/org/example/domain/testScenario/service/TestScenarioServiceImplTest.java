@@ -41,6 +41,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -222,14 +223,13 @@ class TestScenarioServiceImplTest {
 
         testScenarioService.update(7L, request);
 
-        verify(notificationEventService).create(
-                eq(30L),   // createdBy
-                eq("상태변경"),
-                eq("테스트 시나리오 상태 변경"),
-                contains("완료"),
-                eq("TEST_SCENARIO"),
-                eq(7L)
-        );
+        verify(notificationEventService).createAll(argThat(commands -> commands.stream().anyMatch(command ->
+                Long.valueOf(30L).equals(command.userId())
+                        && "상태변경".equals(command.type())
+                        && "테스트 시나리오 상태 변경".equals(command.title())
+                        && command.message().contains("완료")
+                        && "TEST_SCENARIO".equals(command.refType())
+                        && Long.valueOf(7L).equals(command.refId()))));
     }
 
     @Test
@@ -0,0 +1,112 @@
+package org.example.domain.user.service;
+
+import org.example.domain.user.repository.UserPreferenceRepository;
+import org.example.domain.user.repository.UserPreferenceRepository.NotificationFlagsProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserNotificationPreferenceCacheTest {
+
+    @Mock
+    private UserPreferenceRepository userPreferenceRepository;
+
+    private MutableClock clock;
+    private UserNotificationPreferenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        cache = new UserNotificationPreferenceCache(userPreferenceRepository, 100, 60, clock);
+    }
+
+    @Test
+    @DisplayName("미스가 난 사용자만 한 번에 조회하고 환경설정이 없으면 모두 허용한다")
+    void bulkLoadsMissesOnce() {
+        List<NotificationFlagsProjection> rows = List.of(flags(1L, false));
+        when(userPreferenceRepository.findNotificationFlagsByUserIdIn(anyCollection())).thenReturn(rows);
+
+        Map<Long, UserNotificationFlags> result = cache.getAll(List.of(1L, 2L, 1L));
+
+        assertThat(result.get(1L).assign()).isFalse();
+        assertThat(result.get(1L).comment()).isTrue();
+        assertThat(result.get(2L)).isEqualTo(UserNotificationFlags.ALL_ENABLED);
+
+        cache.get(1L);
+        cache.get(2L);
+        verify(userPreferenceRepository, times(1)).findNotificationFlagsByUserIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("무효화 또는 TTL 경과 후에는 다시 조회한다")
+    void reloadsAfterInvalidateOrExpiry() {
+        List<NotificationFlagsProjection> rows = List.of(flags(1L, true));
+        when(userPreferenceRepository.findNotificationFlagsByUserIdIn(anyCollection())).thenReturn(rows);
+
+        cache.get(1L);
+        cache.invalidate(1L);
+        cache.get(1L);
+        clock.advance(Duration.ofSeconds(61));
+        cache.get(1L);
+
+        verify(userPreferenceRepository, times(3)).findNotificationFlagsByUserIdIn(List.of(1L));
+    }
+
+    private NotificationFlagsProjection flags(Long userId, boolean assign) {
+        NotificationFlagsProjection row = mock(NotificationFlagsProjection.class);
+        when(row.getUserId()).thenReturn(userId);
+        when(row.getNotifyAssign()).thenReturn(assign);
+        when(row.getNotifyComment()).thenReturn(true);
+        when(row.getNotifyDeadline()).thenReturn(true);
+        when(row.getNotifyStatus()).thenReturn(true);
+        when(row.getNotifyDeploy()).thenReturn(true);
+        when(row.getNotifyMention()).thenReturn(true);
+        return row;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.example.domain.user.entity.UserPreference;
 import org.example.domain.user.repository.PortalUserRepository;
 import org.example.domain.user.repository.UserPreferenceRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.LoginThrottle;
+import org.example.global.security.PasswordHashingService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,13 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -40,11 +42,17 @@ class UserSettingsServiceImplTest {
     private UserPreferenceRepository userPreferenceRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private LoginThrottle loginThrottle;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserNotificationPreferenceCache userNotificationPreferenceCache;
+
     @InjectMocks
     private UserSettingsServiceImpl userSettingsService;
 
@@ -91,7 +99,7 @@ class UserSettingsServiceImplTest {
 
         when(jwtTokenProvider.extractUserId("token-value")).thenReturn(1L);
         when(portalUserRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("wrong-password", "encoded-old")).thenReturn(false);
+        when(passwordHashingService.matches("wrong-password", "encoded-old")).thenReturn(false);
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -102,7 +110,31 @@ class UserSettingsServiceImplTest {
         );
 
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
-        verify(passwordEncoder, never()).encode(anyString());
+        verify(passwordHashingService, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경은 확인한 현재 해시일 때만 조건부로 교체하고, 그 사이 바뀌었으면 409를 반환한다")
+    void changeMyPasswordUpdatesConditionally() {
+        PortalUser user = activeUser(1L, "tester@example.com");
+        user.setPasswordHash("encoded-old");
+
+        when(jwtTokenProvider.extractUserId("token-value")).thenReturn(1L);
+        when(portalUserRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("OldPassword1", "encoded-old")).thenReturn(true);
+        when(passwordHashingService.matches("NewPassword1", "encoded-old")).thenReturn(false);
+        when(passwordHashingService.encode("NewPassword1")).thenReturn("encoded-new");
+        when(portalUserRepository.updatePasswordHash(1L, "encoded-old", "encoded-new")).thenReturn(1, 0);
+        UserPasswordUpdateRequest request = new UserPasswordUpdateRequest("OldPassword1", "NewPassword1");
+
+        userSettingsService.changeMyPassword(AUTHORIZATION_HEADER, request);
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> userSettingsService.changeMyPassword(AUTHORIZATION_HEADER, request)
+        );
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        verify(portalUserRepository, never()).save(any(PortalUser.class));
     }
 
     @Test
@@ -130,6 +162,28 @@ class UserSettingsServiceImplTest {
         verify(userPreferenceRepository, never()).save(preference);
     }
 
+    @Test
+    @DisplayName("환경설정 저장 시 알림 수신 설정 캐시를 무효화한다")
+    void updateMyPreferencesInvalidatesNotificationPreferenceCache() {
+        PortalUser user = activeUser(1L, "tester@example.com");
+        UserPreference preference = new UserPreference();
+        preference.setUserId(1L);
+
+        UserPreferencesUpdateRequest request = new UserPreferencesUpdateRequest(
+                new UserPreferencesUpdateRequest.Notification(true, false, true, true, true, false),
+                new UserPreferencesUpdateRequest.Display("/dashboard", 20)
+        );
+
+        when(jwtTokenProvider.extractUserId("token-value")).thenReturn(1L);
+        when(portalUserRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userPreferenceRepository.findById(1L)).thenReturn(Optional.of(preference));
+        when(userPreferenceRepository.save(any(UserPreference.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userSettingsService.updateMyPreferences(AUTHORIZATION_HEADER, request);
+
+        verify(userNotificationPreferenceCache).invalidate(1L);
+    }
+
     private PortalUser activeUser(Long id, String email) {
         PortalUser user = new PortalUser();
         user.setId(id);
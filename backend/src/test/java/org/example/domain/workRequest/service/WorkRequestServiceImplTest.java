@@ -37,6 +37,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -262,14 +263,13 @@ class WorkRequestServiceImplTest {
 
         workRequestService.update(7L, request);
 
-        verify(notificationEventService).create(
-                eq(20L),
-                eq("상태변경"),
-                eq("업무요청 상태 변경"),
-                contains("완료"),
-                eq("WORK_REQUEST"),
-                eq(7L)
-        );
+        verify(notificationEventService).createAll(argThat(commands -> commands.stream().anyMatch(command ->
+                Long.valueOf(20L).equals(command.userId())
+                        && "상태변경".equals(command.type())
+                        && "업무요청 상태 변경".equals(command.title())
+                        && command.message().contains("완료")
+                        && "WORK_REQUEST".equals(command.refType())
+                        && Long.valueOf(7L).equals(command.refId()))));
     }
 
     @Test
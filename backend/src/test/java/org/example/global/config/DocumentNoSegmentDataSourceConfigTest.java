@@ -0,0 +1,50 @@
+package org.example.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentNoSegmentDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(DocumentNoSegmentDataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:mysql://localhost:3306/test",
+                    "spring.datasource.hikari.connection-timeout=1234",
+                    "spring.datasource.hikari.maximum-pool-size=10"
+            );
+
+    @Test
+    @DisplayName("블록 할당 접두어가 없으면 전용 풀을 만들지 않고 기본 풀만 쓴다")
+    void noSegmentPoolByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(DocumentNoSegmentDataSourceConfig.SEGMENT_DATA_SOURCE);
+            assertThat(context).hasSingleBean(DataSource.class);
+        });
+    }
+
+    @Test
+    @DisplayName("블록 할당 접두어가 있으면 hikari 설정을 따르는 전용 풀을 만들고 기본 풀은 primary 로 유지한다")
+    void segmentPoolFollowsHikariSettings() {
+        contextRunner.withPropertyValues("app.document-no.segment-prefixes=WR", "app.document-no.segment-pool-size=3")
+                .run(context -> {
+                    HikariDataSource primary = (HikariDataSource) context.getBean(DataSource.class);
+                    HikariDataSource segment = context.getBean(DocumentNoSegmentDataSourceConfig.SEGMENT_DATA_SOURCE, HikariDataSource.class);
+
+                    assertThat(primary).isNotSameAs(segment);
+                    assertThat(primary.getMaximumPoolSize()).isEqualTo(10);
+                    assertThat(primary.getConnectionTimeout()).isEqualTo(1234);
+                    assertThat(segment.getPoolName()).isEqualTo("document-no-segment");
+                    assertThat(segment.getMaximumPoolSize()).isEqualTo(3);
+                    assertThat(segment.getConnectionTimeout()).isEqualTo(1234);
+                });
+    }
+}
@@ -1,9 +1,9 @@
 package org.example.global.config;
 
-import org.example.domain.team.repository.UserTeamRepository;
 import org.example.domain.workRequest.entity.WorkRequest;
 import org.example.domain.workRequest.repository.WorkRequestRepository;
 import org.example.global.security.JwtTokenProvider;
+import org.example.global.team.TeamMembershipCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +31,7 @@ class WebSocketFlowSecurityInterceptorTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private UserTeamRepository userTeamRepository;
+    private TeamMembershipCache teamMembershipCache;
 
     @Mock
     private WorkRequestRepository workRequestRepository;
@@ -57,6 +57,46 @@ class WebSocketFlowSecurityInterceptorTest {
 
         assertThat(sessionAttributes.get("wsUserId")).isEqualTo(2L);
         assertThat(sessionAttributes.get("wsTeamId")).isEqualTo(10L);
+        assertThat(StompHeaderAccessor.wrap(connectMessage).getUser()).isEqualTo(new WebSocketUserPrincipal(2L));
+    }
+
+    @Test
+    @DisplayName("CONNECT 인증 사용자는 개인 알림 큐를 구독할 수 있다")
+    void subscribeUserQueueAllowsAuthenticatedSession() {
+        Message<byte[]> subscribeMessage = buildMessage(
+                StompCommand.SUBSCRIBE,
+                "/user/queue/notifications",
+                null,
+                null,
+                new HashMap<>()
+        );
+        StompHeaderAccessor.getAccessor(subscribeMessage, StompHeaderAccessor.class).setUser(new WebSocketUserPrincipal(2L));
+
+        assertThat(interceptor.preSend(subscribeMessage, null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 세션의 개인 큐 구독과 큐 직접 구독은 거부한다")
+    void subscribeUserQueueRejectsAnonymousOrDirectQueue() {
+        Message<byte[]> anonymous = buildMessage(
+                StompCommand.SUBSCRIBE,
+                "/user/queue/notifications",
+                null,
+                null,
+                new HashMap<>()
+        );
+        Message<byte[]> direct = buildMessage(
+                StompCommand.SUBSCRIBE,
+                "/queue/notifications-usersession-2",
+                null,
+                null,
+                new HashMap<>()
+        );
+
+        assertThatThrownBy(() -> interceptor.preSend(anonymous, null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> interceptor.preSend(direct, null))
+                .isInstanceOf(MessageDeliveryException.class);
     }
 
     @Test
@@ -70,7 +110,7 @@ class WebSocketFlowSecurityInterceptorTest {
         workRequest.setId(15L);
         workRequest.setTeamId(10L);
         when(workRequestRepository.findById(15L)).thenReturn(Optional.of(workRequest));
-        when(userTeamRepository.existsByUserIdAndTeamId(2L, 10L)).thenReturn(true);
+        when(teamMembershipCache.isMember(2L, 10L)).thenReturn(true);
 
         Message<byte[]> subscribeMessage = buildMessage(
                 StompCommand.SUBSCRIBE,
@@ -118,6 +158,7 @@ class WebSocketFlowSecurityInterceptorTest {
     ) {
         StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
         accessor.setSessionId("session-1");
+        accessor.setLeaveMutable(true);
         accessor.setSessionAttributes(sessionAttributes);
         if (destination != null) {
             accessor.setDestination(destination);
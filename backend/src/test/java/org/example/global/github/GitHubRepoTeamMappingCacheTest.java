@@ -0,0 +1,119 @@
+package org.example.global.github;
+
+import org.example.global.github.entity.GitHubRepoTeamMapping;
+import org.example.global.github.repository.GitHubRepoTeamMappingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GitHubRepoTeamMappingCacheTest {
+
+    @Mock
+    private GitHubRepoTeamMappingRepository gitHubRepoTeamMappingRepository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+
+    private GitHubRepoTeamMappingCache cache() {
+        return new GitHubRepoTeamMappingCache(gitHubRepoTeamMappingRepository, 60, clock);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 저장소는 단건 조회 없이 팀을 돌려준다")
+    void hitFromSnapshot() {
+        when(gitHubRepoTeamMappingRepository.findByActiveTrue()).thenReturn(List.of(mapping(201L, "acme/repo")));
+        GitHubRepoTeamMappingCache cache = cache();
+
+        assertThat(cache.findTeamId("acme/repo")).isEqualTo(201L);
+        assertThat(cache.findTeamId(" acme/repo ")).isEqualTo(201L);
+
+        verify(gitHubRepoTeamMappingRepository, times(1)).findByActiveTrue();
+        verify(gitHubRepoTeamMappingRepository, never()).findByRepositoryFullNameAndActiveTrue(any());
+    }
+
+    @Test
+    @DisplayName("미매핑 저장소는 다음 갱신까지 다시 조회하지 않는다")
+    void remembersUnmappedUntilRefresh() {
+        when(gitHubRepoTeamMappingRepository.findByActiveTrue()).thenReturn(List.of());
+        when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/other")).thenReturn(Optional.empty());
+        GitHubRepoTeamMappingCache cache = cache();
+
+        assertThat(cache.findTeamId("acme/other")).isNull();
+        assertThat(cache.findTeamId("acme/other")).isNull();
+        verify(gitHubRepoTeamMappingRepository, times(1)).findByRepositoryFullNameAndActiveTrue("acme/other");
+
+        clock.advance(Duration.ofSeconds(61));
+        assertThat(cache.findTeamId("acme/other")).isNull();
+        verify(gitHubRepoTeamMappingRepository, times(2)).findByActiveTrue();
+        verify(gitHubRepoTeamMappingRepository, times(2)).findByRepositoryFullNameAndActiveTrue("acme/other");
+    }
+
+    @Test
+    @DisplayName("갱신 이후 추가된 매핑은 단건 조회로 바로 반영하고 스냅샷을 다시 읽는다")
+    void picksUpNewMappingImmediately() {
+        when(gitHubRepoTeamMappingRepository.findByActiveTrue())
+                .thenReturn(List.of())
+                .thenReturn(List.of(mapping(202L, "acme/new")));
+        when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/new"))
+                .thenReturn(Optional.of(mapping(202L, "acme/new")));
+        GitHubRepoTeamMappingCache cache = cache();
+
+        assertThat(cache.findTeamId("acme/new")).isEqualTo(202L);
+        assertThat(cache.findTeamId("acme/new")).isEqualTo(202L);
+
+        verify(gitHubRepoTeamMappingRepository, times(2)).findByActiveTrue();
+        verify(gitHubRepoTeamMappingRepository, times(1)).findByRepositoryFullNameAndActiveTrue("acme/new");
+    }
+
+    private GitHubRepoTeamMapping mapping(Long teamId, String repository) {
+        GitHubRepoTeamMapping mapping = new GitHubRepoTeamMapping();
+        mapping.setTeamId(teamId);
+        mapping.setRepositoryFullName(repository);
+        mapping.setActive(true);
+        return mapping;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
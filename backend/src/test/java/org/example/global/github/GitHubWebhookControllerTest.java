@@ -24,7 +24,7 @@ class GitHubWebhookControllerTest {
     private GitHubWebhookSignatureVerifier signatureVerifier;
 
     @MockBean
-    private GitHubWebhookService gitHubWebhookService;
+    private GitHubWebhookDispatcher gitHubWebhookDispatcher;
 
     @Test
     @DisplayName("서명 검증 실패면 401을 반환한다")
@@ -39,7 +39,7 @@ class GitHubWebhookControllerTest {
                         .content(payload))
                 .andExpect(status().isUnauthorized());
 
-        verifyNoInteractions(gitHubWebhookService);
+        verifyNoInteractions(gitHubWebhookDispatcher);
     }
 
     @Test
@@ -55,11 +55,11 @@ class GitHubWebhookControllerTest {
                         .content(payload))
                 .andExpect(status().isBadRequest());
 
-        verifyNoInteractions(gitHubWebhookService);
+        verifyNoInteractions(gitHubWebhookDispatcher);
     }
 
     @Test
-    @DisplayName("서명 검증 성공이면 이벤트를 서비스로 전달하고 200을 반환한다")
+    @DisplayName("서명 검증 성공이면 이벤트를 워커에 넘기고 바로 202를 반환한다")
     void acceptWhenSignatureValid() throws Exception {
         String payload = "{\"action\":\"opened\"}";
         when(signatureVerifier.isValid(payload, "sha256=valid")).thenReturn(true);
@@ -70,8 +70,8 @@ class GitHubWebhookControllerTest {
                         .header("X-GitHub-Event", "pull_request")
                         .header("X-Hub-Signature-256", "sha256=valid")
                         .content(payload))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted());
 
-        verify(gitHubWebhookService).handleEvent("delivery-1", "pull_request", payload);
+        verify(gitHubWebhookDispatcher).receive("delivery-1", "pull_request", payload);
     }
 }
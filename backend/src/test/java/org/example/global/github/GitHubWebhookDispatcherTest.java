@@ -0,0 +1,113 @@
+package org.example.global.github;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GitHubWebhookDispatcherTest {
+
+    @Mock
+    private GitHubWebhookService gitHubWebhookService;
+
+    private GitHubWebhookDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 delivery 를 워커에서 처리하고 처리 건수를 집계한다")
+    void processesOnWorker() {
+        dispatcher = new GitHubWebhookDispatcher(gitHubWebhookService, 1, 10, 60, 100);
+        when(gitHubWebhookService.receive("d-1", "pull_request", "{}")).thenReturn(1L);
+        when(gitHubWebhookService.processReceived(1L)).thenReturn(GitHubWebhookProcessResult.PROCESSED);
+
+        dispatcher.receive("d-1", "pull_request", "{}");
+        dispatcher.shutdown();
+
+        verify(gitHubWebhookService).processReceived(1L);
+        GitHubWebhookWorkerStats stats = dispatcher.stats();
+        assertThat(stats.accepted()).isEqualTo(1);
+        assertThat(stats.succeeded()).isEqualTo(1);
+        assertThat(stats.queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 워커가 먼저 선점한 건은 실패가 아니라 건너뜀으로 집계한다")
+    void countsLostClaimAsSkipped() {
+        dispatcher = new GitHubWebhookDispatcher(gitHubWebhookService, 1, 10, 60, 100);
+        when(gitHubWebhookService.processReceived(1L)).thenReturn(GitHubWebhookProcessResult.SKIPPED);
+        when(gitHubWebhookService.processReceived(2L)).thenReturn(GitHubWebhookProcessResult.FAILED);
+
+        dispatcher.enqueue(1L);
+        dispatcher.enqueue(2L);
+        dispatcher.shutdown();
+
+        GitHubWebhookWorkerStats stats = dispatcher.stats();
+        assertThat(stats.skipped()).isEqualTo(1);
+        assertThat(stats.failed()).isEqualTo(1);
+        assertThat(stats.succeeded()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 처리된 delivery 면 큐에 넣지 않는다")
+    void skipsWhenNotProcessable() {
+        dispatcher = new GitHubWebhookDispatcher(gitHubWebhookService, 1, 10, 60, 100);
+        when(gitHubWebhookService.receive("d-1", "pull_request", "{}")).thenReturn(null);
+
+        dispatcher.receive("d-1", "pull_request", "{}");
+        dispatcher.shutdown();
+
+        verify(gitHubWebhookService, never()).processReceived(any());
+        assertThat(dispatcher.stats().accepted()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 거절 건수를 남기고 sweep 에서 다시 넣는다")
+    void rejectsWhenQueueFullAndSweepsLater() throws InterruptedException {
+        dispatcher = new GitHubWebhookDispatcher(gitHubWebhookService, 1, 1, 60, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gitHubWebhookService.processReceived(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return GitHubWebhookProcessResult.PROCESSED;
+        });
+        when(gitHubWebhookService.processReceived(2L)).thenReturn(GitHubWebhookProcessResult.PROCESSED);
+        when(gitHubWebhookService.processReceived(3L)).thenReturn(GitHubWebhookProcessResult.PROCESSED);
+
+        assertThat(dispatcher.enqueue(1L)).isTrue();
+        verify(gitHubWebhookService, timeout(1000)).processReceived(1L);
+        assertThat(dispatcher.enqueue(2L)).isTrue();
+        assertThat(dispatcher.enqueue(3L)).isFalse();
+        assertThat(dispatcher.stats().rejected()).isEqualTo(1);
+        assertThat(dispatcher.stats().queueDepth()).isEqualTo(1);
+
+        release.countDown();
+        verify(gitHubWebhookService, timeout(1000)).processReceived(2L);
+        when(gitHubWebhookService.findStaleReceivedIds(any(LocalDateTime.class), anyInt())).thenReturn(List.of(3L));
+        dispatcher.sweepStaleReceived();
+
+        verify(gitHubWebhookService, timeout(1000)).processReceived(3L);
+        verify(gitHubWebhookService).findStaleReceivedIds(any(LocalDateTime.class), eq(1));
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.global.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.global.github.entity.GitHubWebhookDeliveryStatus;
+import org.example.global.github.repository.GitHubWebhookDeliveryRepository;
+import org.example.global.github.repository.GitHubWebhookDeliveryRepository.PayloadProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GitHubWebhookRetentionTest {
+
+    private static final String PULL_REQUEST_PAYLOAD = """
+            {
+              "action":"closed",
+              "repository":{"full_name":"acme/repo","description":"%s"},
+              "sender":{"login":"octo"},
+              "pull_request":{
+                "number":77,
+                "html_url":"https://github.com/acme/repo/pull/77",
+                "title":"로그인 버그 수정",
+                "merged":true,
+                "body":"closes WR-015",
+                "head":{"ref":"feature/WR-015","sha":"abc"}
+              }
+            }
+            """.formatted("x".repeat(2000));
+
+    @Mock
+    private GitHubWebhookDeliveryRepository gitHubWebhookDeliveryRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GitHubWebhookRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        retention = new GitHubWebhookRetention(gitHubWebhookDeliveryRepository, objectMapper, 24, 30, 2);
+    }
+
+    @Test
+    @DisplayName("압축하면 처리에 쓰는 필드만 남긴다")
+    void compactKeepsExtractedFields() throws Exception {
+        JsonNode compacted = objectMapper.readTree(retention.compact(PULL_REQUEST_PAYLOAD));
+
+        assertThat(compacted.path("action").asText()).isEqualTo("closed");
+        assertThat(compacted.path("repository").path("full_name").asText()).isEqualTo("acme/repo");
+        assertThat(compacted.path("pull_request").path("number").asLong()).isEqualTo(77L);
+        assertThat(compacted.path("pull_request").path("merged").asBoolean()).isTrue();
+        assertThat(compacted.path("pull_request").path("head").path("ref").asText()).isEqualTo("feature/WR-015");
+        assertThat(compacted.has("sender")).isFalse();
+        assertThat(compacted.path("repository").has("description")).isFalse();
+        assertThat(compacted.path("pull_request").has("body")).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 이 아닌 payload 는 빈 객체로 줄인다")
+    void compactInvalidPayload() {
+        assertThat(retention.compact("not-json")).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("SUCCESS 청크를 압축하고 줄어든 바이트 수를 돌려준다")
+    void compactChunkReportsReclaimedBytes() {
+        LocalDateTime before = LocalDateTime.of(2026, 3, 1, 4, 0);
+        when(gitHubWebhookDeliveryRepository.findCompactable(eq(GitHubWebhookDeliveryStatus.SUCCESS), eq(before), any()))
+                .thenReturn(List.of(payload(1L, PULL_REQUEST_PAYLOAD)));
+
+        GitHubWebhookRetention.ChunkResult result = retention.compactChunk(before);
+
+        ArgumentCaptor<String> compacted = ArgumentCaptor.forClass(String.class);
+        verify(gitHubWebhookDeliveryRepository).compactPayload(eq(1L), compacted.capture());
+        assertThat(result.rows()).isEqualTo(1);
+        assertThat(result.reclaimedBytes()).isGreaterThan(2000L);
+        assertThat(compacted.getValue()).doesNotContain("description");
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 SUCCESS 만 삭제하고 삭제한 payload 크기를 돌려준다")
+    void purgeChunkDeletesSuccessOnly() {
+        LocalDateTime before = LocalDateTime.of(2026, 2, 1, 4, 0);
+        when(gitHubWebhookDeliveryRepository.findIdsByStatusAndProcessedAtBefore(eq(GitHubWebhookDeliveryStatus.SUCCESS), eq(before), any()))
+                .thenReturn(List.of(1L, 2L));
+        when(gitHubWebhookDeliveryRepository.sumPayloadBytes(List.of(1L, 2L))).thenReturn(512L);
+        when(gitHubWebhookDeliveryRepository.deleteByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        GitHubWebhookRetention.ChunkResult result = retention.purgeChunk(before);
+
+        assertThat(result.rows()).isEqualTo(2);
+        assertThat(result.reclaimedBytes()).isEqualTo(512L);
+        verify(gitHubWebhookDeliveryRepository, never())
+                .findIdsByStatusAndProcessedAtBefore(eq(GitHubWebhookDeliveryStatus.DEAD_LETTER), any(), any());
+    }
+
+    @Test
+    @DisplayName("삭제 대상이 없으면 아무것도 하지 않는다")
+    void purgeChunkNoop() {
+        when(gitHubWebhookDeliveryRepository.findIdsByStatusAndProcessedAtBefore(any(), any(), any())).thenReturn(List.of());
+
+        assertThat(retention.purgeChunk(LocalDateTime.now()).rows()).isZero();
+        verify(gitHubWebhookDeliveryRepository, never()).deleteByIdIn(any());
+    }
+
+    private PayloadProjection payload(Long id, String payloadJson) {
+        return new PayloadProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getPayloadJson() {
+                return payloadJson;
+            }
+        };
+    }
+}
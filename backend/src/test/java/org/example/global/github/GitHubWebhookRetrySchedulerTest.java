@@ -0,0 +1,44 @@
+package org.example.global.github;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GitHubWebhookRetrySchedulerTest {
+
+    @Mock
+    private GitHubWebhookService gitHubWebhookService;
+
+    private GitHubWebhookRetryScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("워커마다 선점할 대상이 없을 때까지 배치를 반복한다")
+    void drainsUntilNothingClaimed() {
+        scheduler = new GitHubWebhookRetryScheduler(gitHubWebhookService, 2);
+        AtomicInteger remainingBatches = new AtomicInteger(3);
+        when(gitHubWebhookService.retryFailedDeliveries())
+                .thenAnswer(invocation -> remainingBatches.getAndDecrement() > 0 ? 5 : 0);
+
+        scheduler.retryFailedDeliveries();
+
+        assertThat(remainingBatches.get()).isNegative();
+        // 배치 3개 + 워커 2개가 각각 빈 선점으로 종료
+        verify(gitHubWebhookService, atLeast(5)).retryFailedDeliveries();
+    }
+}
@@ -23,6 +23,7 @@ import org.example.global.github.entity.GitHubRepoTeamMapping;
 import org.example.global.github.entity.GitHubWebhookDelivery;
 import org.example.global.github.entity.GitHubWebhookDeliveryStatus;
 import org.example.global.github.repository.GitHubRepoTeamMappingRepository;
+import org.example.global.github.repository.GitHubWebhookDeliveryClaimRepository;
 import org.example.global.github.repository.GitHubWebhookDeliveryRepository;
 import org.example.global.team.TeamRequestContext;
 import org.junit.jupiter.api.AfterEach;
@@ -33,22 +34,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -93,6 +95,9 @@ class GitHubWebhookServiceTest {
     @Mock
     private GitHubWebhookDeliveryRepository gitHubWebhookDeliveryRepository;
 
+    @Mock
+    private GitHubWebhookDeliveryClaimRepository gitHubWebhookDeliveryClaimRepository;
+
     private GitHubWebhookService gitHubWebhookService;
 
     private Map<String, GitHubWebhookDelivery> deliveryStore;
@@ -117,6 +122,14 @@ class GitHubWebhookServiceTest {
             return entity;
         });
 
+        lenient().when(gitHubWebhookDeliveryRepository.findById(any(Long.class))).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return deliveryStore.values().stream()
+                    .filter(item -> id.equals(item.getId()))
+                    .findFirst();
+        });
+        lenient().when(gitHubWebhookDeliveryClaimRepository.claim(any(Long.class), eq(60L))).thenReturn(true);
+
         gitHubWebhookService = new GitHubWebhookService(
                 new ObjectMapper(),
                 workRequestRepository,
@@ -129,11 +142,13 @@ class GitHubWebhookServiceTest {
                 defectService,
                 deploymentService,
                 activityLogService,
-                gitHubRepoTeamMappingRepository,
+                new GitHubRepoTeamMappingCache(gitHubRepoTeamMappingRepository, 60),
                 gitHubWebhookDeliveryRepository,
+                gitHubWebhookDeliveryClaimRepository,
                 3,
                 10,
                 1,
+                60,
                 60
         );
     }
@@ -147,8 +162,7 @@ class GitHubWebhookServiceTest {
     @DisplayName("PR opened 이벤트는 repo-team 매핑이 일치할 때만 PR 링크를 자동 생성한다")
     void createPrLinkOnOpenedEventWhenMapped() {
         TechTask techTask = techTask(15L, 100L, "TK-015", "접수대기");
-        when(techTaskRepository.findByTaskNo("TK-15")).thenReturn(Optional.empty());
-        when(techTaskRepository.findByTaskNo("TK-015")).thenReturn(Optional.of(techTask));
+        when(techTaskRepository.findByTaskNoIn(anyCollection())).thenReturn(List.of(techTask));
         when(techTaskPrLinkRepository.findByTechTaskIdAndPrNo(15L, "42")).thenReturn(Optional.empty());
         when(techTaskPrLinkRepository.findByTechTaskIdAndPrUrl(15L, "https://github.com/acme/repo/pull/42"))
                 .thenReturn(Optional.empty());
@@ -169,7 +183,7 @@ class GitHubWebhookServiceTest {
                 }
                 """;
 
-        gitHubWebhookService.handleEvent("delivery-1", "pull_request", payload);
+        deliver("delivery-1", "pull_request", payload);
 
         ArgumentCaptor<TechTaskPrLink> linkCaptor = ArgumentCaptor.forClass(TechTaskPrLink.class);
         verify(techTaskPrLinkRepository).save(linkCaptor.capture());
@@ -189,8 +203,7 @@ class GitHubWebhookServiceTest {
     @DisplayName("같은 delivery id가 다시 오면 멱등 처리되어 중복 동작하지 않는다")
     void skipDuplicateDelivery() {
         TechTask techTask = techTask(15L, 100L, "TK-015", "접수대기");
-        when(techTaskRepository.findByTaskNo("TK-15")).thenReturn(Optional.empty());
-        when(techTaskRepository.findByTaskNo("TK-015")).thenReturn(Optional.of(techTask));
+        when(techTaskRepository.findByTaskNoIn(anyCollection())).thenReturn(List.of(techTask));
         when(techTaskPrLinkRepository.findByTechTaskIdAndPrNo(15L, "42")).thenReturn(Optional.empty());
         when(techTaskPrLinkRepository.findByTechTaskIdAndPrUrl(15L, "https://github.com/acme/repo/pull/42"))
                 .thenReturn(Optional.empty());
@@ -210,8 +223,8 @@ class GitHubWebhookServiceTest {
                 }
                 """;
 
-        gitHubWebhookService.handleEvent("delivery-dup", "pull_request", payload);
-        gitHubWebhookService.handleEvent("delivery-dup", "pull_request", payload);
+        deliver("delivery-dup", "pull_request", payload);
+        deliver("delivery-dup", "pull_request", payload);
 
         verify(techTaskPrLinkRepository, times(1)).save(any(TechTaskPrLink.class));
     }
@@ -220,8 +233,7 @@ class GitHubWebhookServiceTest {
     @DisplayName("repo-team 매핑과 팀이 불일치하면 PR 링크를 생성하지 않는다")
     void skipWhenRepoTeamMismatch() {
         TechTask techTask = techTask(15L, 100L, "TK-015", "접수대기");
-        when(techTaskRepository.findByTaskNo("TK-15")).thenReturn(Optional.empty());
-        when(techTaskRepository.findByTaskNo("TK-015")).thenReturn(Optional.of(techTask));
+        when(techTaskRepository.findByTaskNoIn(anyCollection())).thenReturn(List.of(techTask));
         when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/repo"))
                 .thenReturn(Optional.of(mapping(999L, "acme/repo")));
 
@@ -238,7 +250,7 @@ class GitHubWebhookServiceTest {
                 }
                 """;
 
-        gitHubWebhookService.handleEvent("delivery-mismatch", "pull_request", payload);
+        deliver("delivery-mismatch", "pull_request", payload);
 
         verify(techTaskPrLinkRepository, never()).save(any(TechTaskPrLink.class));
     }
@@ -250,9 +262,9 @@ class GitHubWebhookServiceTest {
         Defect defect = defect(21L, 202L, "DF-007", "수정중");
         TechTask techTask = techTask(31L, 201L, "TK-001", "테스트중");
 
-        when(workRequestRepository.findByRequestNo("WR-015")).thenReturn(Optional.of(workRequest));
-        when(defectRepository.findByDefectNo("DF-007")).thenReturn(Optional.of(defect));
-        when(techTaskRepository.findByTaskNo("TK-001")).thenReturn(Optional.of(techTask));
+        when(workRequestRepository.findByRequestNoIn(anyCollection())).thenReturn(List.of(workRequest));
+        when(defectRepository.findByDefectNoIn(anyCollection())).thenReturn(List.of(defect));
+        when(techTaskRepository.findByTaskNoIn(anyCollection())).thenReturn(List.of(techTask));
         when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/repo"))
                 .thenReturn(Optional.of(mapping(201L, "acme/repo")));
 
@@ -269,7 +281,7 @@ class GitHubWebhookServiceTest {
                 }
                 """;
 
-        gitHubWebhookService.handleEvent("delivery-merged", "pull_request", payload);
+        deliver("delivery-merged", "pull_request", payload);
 
         verify(workRequestService).updateStatus(eq(11L), any(WorkRequestStatusUpdateRequest.class));
         verify(techTaskService).updateStatus(eq(31L), any(TechTaskStatusUpdateRequest.class));
@@ -280,38 +292,21 @@ class GitHubWebhookServiceTest {
     @Test
     @DisplayName("처리 실패 시 FAILED로 저장하고 스케줄러 재시도로 성공하면 SUCCESS로 전환한다")
     void retryFailedDelivery() {
-        when(gitHubWebhookDeliveryRepository.findById(any(Long.class))).thenAnswer(invocation -> {
-            Long id = invocation.getArgument(0);
+        when(gitHubWebhookDeliveryClaimRepository.claimRetryBatch(any(LocalDateTime.class), eq(10), eq(60L))).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(0);
             return deliveryStore.values().stream()
-                    .filter(item -> item != null && id.equals(item.getId()))
-                    .findFirst();
-        });
-        when(gitHubWebhookDeliveryRepository.findByStatusAndNextRetryAtLessThanEqualOrderByNextRetryAtAscIdAsc(
-                eq(GitHubWebhookDeliveryStatus.FAILED),
-                any(LocalDateTime.class),
-                any(Pageable.class)
-        )).thenAnswer(invocation -> {
-            LocalDateTime now = invocation.getArgument(1);
-            Pageable pageable = invocation.getArgument(2);
-
-            List<GitHubWebhookDelivery> candidates = deliveryStore.values().stream()
                     .filter(item -> item != null)
                     .filter(item -> item.getStatus() == GitHubWebhookDeliveryStatus.FAILED)
                     .filter(item -> item.getNextRetryAt() != null && !item.getNextRetryAt().isAfter(now))
                     .sorted(Comparator
                             .comparing(GitHubWebhookDelivery::getNextRetryAt)
                             .thenComparing(GitHubWebhookDelivery::getId))
+                    .map(GitHubWebhookDelivery::getId)
                     .toList();
-
-            int limit = pageable.getPageSize();
-            if (limit <= 0 || candidates.size() <= limit) {
-                return candidates;
-            }
-            return new ArrayList<>(candidates.subList(0, limit));
         });
 
         WorkRequest workRequest = workRequest(11L, 201L, "WR-015", "개발중");
-        when(workRequestRepository.findByRequestNo("WR-015")).thenReturn(Optional.of(workRequest));
+        when(workRequestRepository.findByRequestNoIn(anyCollection())).thenReturn(List.of(workRequest));
         when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/repo"))
                 .thenReturn(Optional.of(mapping(201L, "acme/repo")));
 
@@ -333,7 +328,7 @@ class GitHubWebhookServiceTest {
                 }
                 """;
 
-        gitHubWebhookService.handleEvent("delivery-retry", "pull_request", payload);
+        deliver("delivery-retry", "pull_request", payload);
 
         GitHubWebhookDelivery failed = deliveryStore.get("delivery-retry");
         assertThat(failed.getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.FAILED);
@@ -341,7 +336,7 @@ class GitHubWebhookServiceTest {
         assertThat(failed.getNextRetryAt()).isNotNull();
 
         failed.setNextRetryAt(LocalDateTime.now().minusSeconds(1));
-        gitHubWebhookService.retryFailedDeliveries();
+        assertThat(gitHubWebhookService.retryFailedDeliveries()).isEqualTo(1);
 
         GitHubWebhookDelivery success = deliveryStore.get("delivery-retry");
         assertThat(success.getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.SUCCESS);
@@ -349,6 +344,120 @@ class GitHubWebhookServiceTest {
         verify(workRequestService, times(2)).updateStatus(eq(11L), any(WorkRequestStatusUpdateRequest.class));
     }
 
+    @Test
+    @DisplayName("receive 는 delivery 를 RECEIVED 로 저장만 하고 도메인 처리는 하지 않는다")
+    void receiveStoresWithoutProcessing() {
+        String payload = """
+                {"action":"opened","repository":{"full_name":"acme/repo"},"pull_request":{"number":42}}
+                """;
+
+        Long id = gitHubWebhookService.receive("delivery-9", "pull_request", payload);
+
+        assertThat(id).isNotNull();
+        assertThat(deliveryStore.get("delivery-9").getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.RECEIVED);
+        verify(gitHubRepoTeamMappingRepository, never()).findByRepositoryFullNameAndActiveTrue(any());
+        assertThat(gitHubWebhookService.receive("delivery-9", "pull_request", payload)).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("다른 워커가 먼저 선점한 delivery 는 다시 처리하지 않는다")
+    void processReceivedSkipsWhenClaimedByOther() {
+        Long id = gitHubWebhookService.receive("delivery-11", "pull_request", "{\"action\":\"opened\"}");
+        when(gitHubWebhookDeliveryClaimRepository.claim(id, 60L)).thenReturn(false);
+
+        GitHubWebhookProcessResult result = gitHubWebhookService.processReceived(id);
+
+        assertThat(result).isEqualTo(GitHubWebhookProcessResult.SKIPPED);
+        verify(gitHubWebhookDeliveryRepository, never()).findById(id);
+        assertThat(deliveryStore.get("delivery-11").getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.RECEIVED);
+    }
+
+    @Test
+    @DisplayName("선점에 성공하면 저장된 payload 로 처리하고 SUCCESS 로 전환한다")
+    void processReceivedAfterClaim() {
+        String payload = """
+                {"action":"opened","repository":{"full_name":"acme/unmapped"},"pull_request":{"number":42}}
+                """;
+        Long id = gitHubWebhookService.receive("delivery-10", "pull_request", payload);
+        when(gitHubWebhookDeliveryClaimRepository.claim(id, 60L)).thenReturn(true);
+        when(gitHubWebhookDeliveryRepository.findById(id)).thenReturn(Optional.of(deliveryStore.get("delivery-10")));
+        when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/unmapped")).thenReturn(Optional.empty());
+
+        GitHubWebhookProcessResult result = gitHubWebhookService.processReceived(id);
+
+        assertThat(result).isEqualTo(GitHubWebhookProcessResult.PROCESSED);
+        GitHubWebhookDelivery delivery = deliveryStore.get("delivery-10");
+        assertThat(delivery.getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.SUCCESS);
+        assertThat(delivery.getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임대 만료로 다시 선점된 건이 최대 시도 횟수에 도달했으면 처리하지 않고 DEAD_LETTER 로 전환한다")
+    void deadLetterWhenLeaseExpiredTooOften() {
+        Long id = gitHubWebhookService.receive("delivery-12", "pull_request", "{\"action\":\"opened\"}");
+        GitHubWebhookDelivery stuck = deliveryStore.get("delivery-12");
+        stuck.setStatus(GitHubWebhookDeliveryStatus.PROCESSING);
+        stuck.setAttemptCount(3);
+        when(gitHubWebhookDeliveryClaimRepository.claimRetryBatch(any(LocalDateTime.class), eq(10), eq(60L))).thenReturn(List.of(id));
+        when(gitHubWebhookDeliveryRepository.findById(id)).thenReturn(Optional.of(stuck));
+
+        int claimed = gitHubWebhookService.retryFailedDeliveries();
+
+        assertThat(claimed).isEqualTo(1);
+        assertThat(stuck.getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.DEAD_LETTER);
+        assertThat(stuck.getAttemptCount()).isEqualTo(3);
+        verify(gitHubRepoTeamMappingRepository, never()).findByRepositoryFullNameAndActiveTrue(any());
+    }
+
+    @Test
+    @DisplayName("문서번호는 유형별로 한 번에 조회하고 번호로 못 찾은 건만 id 로 폴백한다")
+    void resolveDocNosInBatch() {
+        WorkRequest first = workRequest(11L, 201L, "WR-015", "개발중");
+        WorkRequest second = workRequest(12L, 201L, "WR-016", "개발중");
+        WorkRequest byId = workRequest(40L, 201L, "WR-2026-040", "개발중");
+        when(workRequestRepository.findByRequestNoIn(anyCollection())).thenReturn(List.of(first, second));
+        when(workRequestRepository.findAllById(anyCollection())).thenReturn(List.of(byId));
+        when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/repo"))
+                .thenReturn(Optional.of(mapping(201L, "acme/repo")));
+
+        String payload = """
+                {
+                  "action":"closed",
+                  "repository":{"full_name":"acme/repo"},
+                  "pull_request":{
+                    "number":78,
+                    "merged":true,
+                    "title":"일괄 수정",
+                    "body":"closes WR-015, closes WR-16, fixes WR-40"
+                  }
+                }
+                """;
+
+        deliver("delivery-batch", "pull_request", payload);
+
+        verify(workRequestRepository).findByRequestNoIn(anyCollection());
+        verify(workRequestRepository).findAllById(Set.of(40L));
+        verify(workRequestService).updateStatus(eq(11L), any(WorkRequestStatusUpdateRequest.class));
+        verify(workRequestService).updateStatus(eq(12L), any(WorkRequestStatusUpdateRequest.class));
+        verify(workRequestService).updateStatus(eq(40L), any(WorkRequestStatusUpdateRequest.class));
+    }
+
+    @Test
+    @DisplayName("repo-team 매핑은 전체 스냅샷으로 캐시해 delivery 마다 조회하지 않는다")
+    void cacheRepoTeamMapping() {
+        when(gitHubRepoTeamMappingRepository.findByActiveTrue()).thenReturn(List.of(mapping(201L, "acme/repo")));
+        String payload = """
+                {"action":"edited","repository":{"full_name":"acme/repo"},"pull_request":{"number":1}}
+                """;
+
+        deliver("delivery-cache-1", "pull_request", payload);
+        deliver("delivery-cache-2", "pull_request", payload);
+
+        verify(gitHubRepoTeamMappingRepository, times(1)).findByActiveTrue();
+        verify(gitHubRepoTeamMappingRepository, never()).findByRepositoryFullNameAndActiveTrue(any());
+        assertThat(deliveryStore.get("delivery-cache-2").getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.SUCCESS);
+    }
+
     @Test
     @DisplayName("키워드 없는 문서번호는 merged 이벤트에서 상태 전환하지 않는다")
     void doesNotCompleteWithoutKeyword() {
@@ -367,7 +476,7 @@ class GitHubWebhookServiceTest {
                 }
                 """;
 
-        gitHubWebhookService.handleEvent("delivery-no-keyword", "pull_request", payload);
+        deliver("delivery-no-keyword", "pull_request", payload);
 
         verify(workRequestService, never()).updateStatus(any(), any());
         verify(defectService, never()).updateStatus(any(), any());
@@ -375,6 +484,68 @@ class GitHubWebhookServiceTest {
         verify(deploymentService, never()).updateStatus(any(), any());
     }
 
+    @Test
+    @DisplayName("push 이벤트는 전체 커밋의 close 대상을 한 번에 조회하고 문서마다 한 번만 완료 처리한다")
+    void completeDocsOnPushEvent() {
+        TechTask techTask = techTask(31L, 201L, "TK-123", "개발중");
+        Defect defect = defect(21L, 201L, "DF-045", "수정중");
+        when(techTaskRepository.findByTaskNoIn(anyCollection())).thenReturn(List.of(techTask));
+        when(defectRepository.findByDefectNoIn(anyCollection())).thenReturn(List.of(defect));
+        when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/repo"))
+                .thenReturn(Optional.of(mapping(201L, "acme/repo")));
+
+        String payload = """
+                {
+                  "ref":"refs/heads/main",
+                  "repository":{"full_name":"acme/repo","default_branch":"main"},
+                  "commits":[
+                    {"id":"aaaaaaa1111","message":"로그인 수정 closes TK-123"},
+                    {"id":"bbbbbbb2222","message":"후속 수정\\n\\nfixes TK-0123, fixes DF-45"},
+                    {"id":"ccccccc3333","message":"wip TK-7"}
+                  ]
+                }
+                """;
+
+        deliver("delivery-push", "push", payload);
+
+        verify(techTaskRepository).findByTaskNoIn(anyCollection());
+        verify(defectRepository).findByDefectNoIn(anyCollection());
+        ArgumentCaptor<TechTaskStatusUpdateRequest> request = ArgumentCaptor.forClass(TechTaskStatusUpdateRequest.class);
+        verify(techTaskService).updateStatus(eq(31L), request.capture());
+        assertThat(request.getValue().status()).isEqualTo("완료");
+        assertThat(request.getValue().statusNote()).contains("aaaaaaa", "bbbbbbb", "acme/repo main");
+        verify(defectService).updateStatus(eq(21L), any(DefectStatusUpdateRequest.class));
+        assertThat(deliveryStore.get("delivery-push").getStatus()).isEqualTo(GitHubWebhookDeliveryStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("기본 브랜치가 아닌 push 는 상태를 바꾸지 않는다")
+    void ignorePushToNonDefaultBranch() {
+        when(gitHubRepoTeamMappingRepository.findByRepositoryFullNameAndActiveTrue("acme/repo"))
+                .thenReturn(Optional.of(mapping(201L, "acme/repo")));
+
+        String payload = """
+                {
+                  "ref":"refs/heads/feature/TK-123",
+                  "repository":{"full_name":"acme/repo","default_branch":"main"},
+                  "commits":[{"id":"aaaaaaa1111","message":"closes TK-123"}]
+                }
+                """;
+
+        deliver("delivery-push-branch", "push", payload);
+
+        verify(techTaskRepository, never()).findByTaskNoIn(anyCollection());
+        verify(techTaskService, never()).updateStatus(any(), any());
+    }
+
+    // 디스패처와 같은 경로로 처리한다: 요청 스레드의 receive 뒤 워커의 processReceived.
+    private void deliver(String deliveryId, String eventType, String payload) {
+        Long id = gitHubWebhookService.receive(deliveryId, eventType, payload);
+        if (id != null) {
+            gitHubWebhookService.processReceived(id);
+        }
+    }
+
     private WorkRequest workRequest(Long id, Long teamId, String no, String status) {
         WorkRequest entity = new WorkRequest();
         entity.setId(id);
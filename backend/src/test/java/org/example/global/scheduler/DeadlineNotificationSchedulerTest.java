@@ -0,0 +1,131 @@
+package org.example.global.scheduler;
+
+import org.example.domain.defect.repository.DefectRepository;
+import org.example.domain.deployment.repository.DeploymentRepository;
+import org.example.domain.techTask.repository.TechTaskRepository;
+import org.example.domain.testScenario.repository.TestScenarioRepository;
+import org.example.domain.workRequest.entity.WorkRequest;
+import org.example.domain.workRequest.repository.WorkRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DeadlineNotificationSchedulerTest {
+
+    @Mock
+    private WorkRequestRepository workRequestRepository;
+
+    @Mock
+    private TechTaskRepository techTaskRepository;
+
+    @Mock
+    private TestScenarioRepository testScenarioRepository;
+
+    @Mock
+    private DefectRepository defectRepository;
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Mock
+    private DeadlineReminderEngine deadlineReminderEngine;
+
+    private DeadlineNotificationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new DeadlineNotificationScheduler(
+                workRequestRepository,
+                techTaskRepository,
+                testScenarioRepository,
+                defectRepository,
+                deploymentRepository,
+                deadlineReminderEngine,
+                2
+        );
+        when(deadlineReminderEngine.isEnabled()).thenReturn(true);
+        when(deadlineReminderEngine.today()).thenReturn(LocalDate.of(2026, 3, 2));
+        when(deadlineReminderEngine.horizonEnd()).thenReturn(LocalDate.of(2026, 3, 9));
+        when(deadlineReminderEngine.currentGeneration()).thenReturn(42L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("리마인더가 꺼져 있으면 도메인 조회를 하지 않는다")
+    void skipWhenDisabled() {
+        when(deadlineReminderEngine.isEnabled()).thenReturn(false);
+
+        scheduler.reloadHourly();
+
+        verify(workRequestRepository, never()).findActiveByDeadlineBetween(any(), any(), anyList(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("기간 내 항목을 도메인별 id 순 청크로 끝까지 읽어 엔진에 예약하고 보이지 않은 예약을 정리한다")
+    void reloadsInChunks() {
+        List<WorkRequest> firstChunk = List.of(workRequest(1L, 10L), workRequest(2L, null));
+        List<WorkRequest> secondChunk = List.of(workRequest(5L, 11L));
+        when(workRequestRepository.findActiveByDeadlineBetween(eq(LocalDate.of(2026, 3, 2)), eq(LocalDate.of(2026, 3, 9)), anyList(), eq(0L), any()))
+                .thenReturn(firstChunk);
+        when(workRequestRepository.findActiveByDeadlineBetween(any(), any(), anyList(), eq(2L), any())).thenReturn(secondChunk);
+
+        int loaded = scheduler.reload();
+
+        ArgumentCaptor<DeadlineReminderItem> captor = ArgumentCaptor.forClass(DeadlineReminderItem.class);
+        verify(deadlineReminderEngine, times(3)).schedule(captor.capture());
+        assertThat(loaded).isEqualTo(3);
+        assertThat(captor.getAllValues()).extracting(DeadlineReminderItem::refId).containsExactlyInAnyOrder(1L, 2L, 5L);
+        verify(workRequestRepository, never()).findActiveByDeadlineBetween(any(), any(), anyList(), eq(5L), any());
+        verify(deploymentRepository).findActiveByScheduledAtBetween(any(), any(), anyList(), eq(0L), any());
+        verify(deadlineReminderEngine).retainOnly(eq(Set.of("WORK_REQUEST:1", "WORK_REQUEST:2", "WORK_REQUEST:5")), eq(42L));
+    }
+
+    @Test
+    @DisplayName("도메인 조회가 실패하면 기존 예약을 정리하지 않는다")
+    void keepsEntriesWhenScanFails() {
+        when(defectRepository.findActiveByDeadlineBetween(any(), any(), anyList(), anyLong(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        scheduler.reload();
+
+        verify(deadlineReminderEngine, never()).retainOnly(any(), anyLong());
+    }
+
+    private WorkRequest workRequest(Long id, Long assigneeId) {
+        WorkRequest workRequest = new WorkRequest();
+        workRequest.setId(id);
+        workRequest.setRequestNo("WR-00" + id);
+        workRequest.setTitle("업무 " + id);
+        workRequest.setAssigneeId(assigneeId);
+        workRequest.setDeadline(LocalDate.of(2026, 3, 5));
+        workRequest.setStatus("개발중");
+        return workRequest;
+    }
+}
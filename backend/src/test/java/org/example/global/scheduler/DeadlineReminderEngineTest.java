@@ -0,0 +1,233 @@
+package org.example.global.scheduler;
+
+import org.example.domain.notification.dto.NotificationCommand;
+import org.example.domain.notification.service.NotificationEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DeadlineReminderEngineTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private NotificationEventService notificationEventService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeadlineReminderEngine engine;
+
+    // 발송 시점에 다시 읽는 DB 행. 기본값은 마지막으로 예약한 항목과 같다.
+    private final Map<Long, DeadlineReminderEngine.RefState> rows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(LocalDateTime.of(2026, 3, 2, 8, 0).atZone(ZONE).toInstant(), ZONE);
+        engine = new DeadlineReminderEngine(notificationEventService, jdbcTemplate, transactionManager, true,
+                "D-7,D-3,D-1,H-2", "09:00", "18:00", 7, 0, clock);
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE"), anyString(), any(), any(), anyString())).thenReturn(1);
+        when(jdbcTemplate.query(startsWith("SELECT id"), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            List<DeadlineReminderEngine.RefState> found = new ArrayList<>();
+            for (Object arg : Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length)) {
+                List<Object> ids = arg instanceof Object[] array ? Arrays.asList(array) : List.of(arg);
+                ids.stream().map(rows::get).filter(row -> row != null).forEach(found::add);
+            }
+            return found;
+        });
+    }
+
+    @Test
+    @DisplayName("마감일 기준으로 아직 지나지 않은 오프셋만 예약한다")
+    void schedulesFutureOffsets() {
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "개발중"));
+
+        assertThat(engine.pendingReminders())
+                .extracting(reminder -> reminder.offset().code())
+                .containsExactly("D-3", "D-1", "H-2");
+        assertThat(engine.pendingReminders().get(2).fireAtMillis())
+                .isEqualTo(LocalDateTime.of(2026, 3, 5, 16, 0).atZone(ZONE).toInstant().toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("마감이 바뀌면 이전 예약은 발송하지 않고 새 예약만 발송한다")
+    void dropsStaleRemindersAfterReschedule() {
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "개발중"));
+        List<DeadlineReminderEngine.Reminder> stale = engine.pendingReminders();
+        schedule(item(1L, LocalDate.of(2026, 3, 3), "개발중"));
+        List<DeadlineReminderEngine.Reminder> current = engine.pendingReminders().stream()
+                .filter(reminder -> !stale.contains(reminder))
+                .toList();
+
+        assertThat(engine.fire(stale)).isZero();
+        assertThat(engine.fire(current)).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationEventService).createAllOrThrow(captor.capture());
+        assertThat(captor.getValue()).extracting(NotificationCommand::title)
+                .containsExactly("마감 1일 전 알림", "마감 2시간 전 알림");
+        assertThat(captor.getValue().get(0).message()).isEqualTo("WR-001 '업무' 마감일이 1일 후입니다.");
+    }
+
+    @Test
+    @DisplayName("종료 상태로 바뀌면 예약을 취소한다")
+    void cancelsWhenClosed() {
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "개발중"));
+        List<DeadlineReminderEngine.Reminder> pending = engine.pendingReminders();
+
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "완료"));
+
+        assertThat(engine.scheduledCount()).isZero();
+        assertThat(engine.fire(pending)).isZero();
+        verify(notificationEventService, never()).createAllOrThrow(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 발송 이력을 남겼으면 보내지 않는다")
+    void skipWhenClaimedByOtherInstance() {
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE"), anyString(), any(), any(), anyString())).thenReturn(0);
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "개발중"));
+
+        assertThat(engine.fire(engine.pendingReminders())).isZero();
+        verify(notificationEventService, never()).createAllOrThrow(anyList());
+    }
+
+    @Test
+    @DisplayName("알림 저장이 실패하면 발송 이력을 롤백하고 잠시 뒤 다시 예약한다")
+    void rollsBackClaimAndRetriesWhenNotificationFails() {
+        schedule(item(1L, LocalDate.of(2026, 3, 3), "개발중"));
+        List<DeadlineReminderEngine.Reminder> due = engine.pendingReminders();
+        doThrow(new IllegalStateException("db down")).when(notificationEventService).createAllOrThrow(anyList());
+
+        assertThat(engine.fire(due)).isZero();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(engine.pendingReminders()).hasSize(due.size() * 2);
+    }
+
+    @Test
+    @DisplayName("같은 내용으로 다시 예약하면 큐에 중복으로 넣지 않는다")
+    void ignoresUnchangedItem() {
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "개발중"));
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "개발중"));
+
+        assertThat(engine.pendingReminders()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("재적재에서 보이지 않은 예약만 정리하고 그 사이 새로 예약된 항목은 남긴다")
+    void retainOnlySeenOrNewer() {
+        schedule(item(1L, LocalDate.of(2026, 3, 5), "개발중"));
+        schedule(item(2L, LocalDate.of(2026, 3, 6), "개발중"));
+        long since = engine.currentGeneration();
+        schedule(item(3L, LocalDate.of(2026, 3, 7), "개발중"));
+
+        int removed = engine.retainOnly(Set.of(DeadlineReminderEngine.key("WORK_REQUEST", 1L)), since);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(engine.scheduledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 오프셋 설정은 기동 시 거부한다")
+    void rejectsInvalidOffset() {
+        assertThatThrownBy(() -> DeadlineReminderEngine.ReminderOffset.parseAll("D-3,W-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(DeadlineReminderEngine.ReminderOffset.parseAll("d-3, h-2"))
+                .extracting(DeadlineReminderEngine.ReminderOffset::code)
+                .containsExactly("D-3", "H-2");
+    }
+
+    @Test
+    @DisplayName("발송 시점에 담당자가 바뀌었으면 이전 담당자에게 보내지 않고 새 담당자로 다시 예약한다")
+    void reschedulesWhenAssigneeChangedElsewhere() {
+        schedule(item(1L, LocalDate.of(2026, 3, 3), "개발중"));
+        List<DeadlineReminderEngine.Reminder> stale = engine.pendingReminders();
+        rows.put(1L, new DeadlineReminderEngine.RefState(1L, 20L, LocalDate.of(2026, 3, 3), "개발중"));
+
+        assertThat(engine.fire(stale)).isZero();
+        verify(jdbcTemplate, never()).update(startsWith("INSERT IGNORE"), anyString(), any(), any(), anyString());
+
+        List<DeadlineReminderEngine.Reminder> current = engine.pendingReminders().stream()
+                .filter(reminder -> !stale.contains(reminder))
+                .toList();
+        assertThat(engine.fire(current)).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationEventService).createAllOrThrow(captor.capture());
+        assertThat(captor.getValue()).extracting(NotificationCommand::userId).containsOnly(20L);
+    }
+
+    @Test
+    @DisplayName("발송 시점에 다른 인스턴스에서 종료되었으면 보내지 않고 예약을 취소한다")
+    void cancelsWhenClosedElsewhere() {
+        schedule(item(1L, LocalDate.of(2026, 3, 3), "개발중"));
+        rows.put(1L, new DeadlineReminderEngine.RefState(1L, 10L, LocalDate.of(2026, 3, 3), "완료"));
+
+        assertThat(engine.fire(engine.pendingReminders())).isZero();
+
+        assertThat(engine.scheduledCount()).isZero();
+        verify(jdbcTemplate, never()).update(startsWith("INSERT IGNORE"), anyString(), any(), any(), anyString());
+        verify(notificationEventService, never()).createAllOrThrow(anyList());
+    }
+
+    @Test
+    @DisplayName("발송 시점에 삭제되었으면 예약을 취소한다")
+    void cancelsWhenDeletedElsewhere() {
+        schedule(item(1L, LocalDate.of(2026, 3, 3), "개발중"));
+        rows.clear();
+
+        assertThat(engine.fire(engine.pendingReminders())).isZero();
+
+        assertThat(engine.scheduledCount()).isZero();
+        verify(notificationEventService, never()).createAllOrThrow(anyList());
+    }
+
+    private void schedule(DeadlineReminderItem item) {
+        rows.put(item.refId(), new DeadlineReminderEngine.RefState(item.refId(), item.userId(), item.deadline(), item.status()));
+        engine.schedule(item);
+    }
+
+    private DeadlineReminderItem item(Long id, LocalDate deadline, String status) {
+        return new DeadlineReminderItem("WORK_REQUEST", id, "WR-00" + id, "업무", 10L, deadline, status);
+    }
+}
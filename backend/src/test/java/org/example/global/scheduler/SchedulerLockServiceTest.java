@@ -0,0 +1,82 @@
+package org.example.global.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SchedulerLockServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SchedulerLockService schedulerLockService;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLockService = new SchedulerLockService(jdbcTemplate, "node-a");
+    }
+
+    @Test
+    @DisplayName("임대를 얻으면 작업을 실행하고 처리 건수와 함께 잠금을 해제한다")
+    void runWhenAcquired() {
+        when(jdbcTemplate.update(contains("SET locked_by"), eq("node-a"), eq(1800L), eq("job"))).thenReturn(1);
+
+        boolean ran = schedulerLockService.runExclusively("job", Duration.ofMinutes(30), Duration.ofMinutes(5), () -> 7);
+
+        assertThat(ran).isTrue();
+        verify(jdbcTemplate).update(contains("GREATEST"), eq(300L), any(Long.class), eq(7), isNull(), eq("job"), eq("node-a"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대 중이면 작업을 실행하지 않는다")
+    void skipWhenHeldByOther() {
+        when(jdbcTemplate.update(contains("SET locked_by"), eq("node-a"), eq(60L), eq("job"))).thenReturn(0);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        boolean ran = schedulerLockService.runExclusively("job", Duration.ofMinutes(1), Duration.ZERO, () -> {
+            executed.set(true);
+            return 1;
+        });
+
+        assertThat(ran).isFalse();
+        assertThat(executed).isFalse();
+        verify(jdbcTemplate, never()).update(contains("GREATEST"), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 오류를 기록하며 잠금을 해제한다")
+    void releaseOnFailure() {
+        when(jdbcTemplate.update(contains("SET locked_by"), eq("node-a"), eq(60L), eq("job"))).thenReturn(1);
+
+        assertThatThrownBy(() -> schedulerLockService.runExclusively("job", Duration.ofMinutes(1), Duration.ZERO, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(jdbcTemplate).update(contains("GREATEST"), eq(0L), any(Long.class), eq(0),
+                startsWith("IllegalStateException"), eq("job"), eq("node-a"));
+        verify(jdbcTemplate).update(startsWith("INSERT IGNORE"), anyString());
+    }
+}
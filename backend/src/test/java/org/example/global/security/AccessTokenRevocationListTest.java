@@ -0,0 +1,215 @@
+package org.example.global.security;
+
+import org.example.domain.auth.repository.AuthRevokedAccessTokenRepository;
+import org.example.domain.auth.repository.AuthRevokedAccessTokenRepository.RevokedTokenProjection;
+import org.example.global.scheduler.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+
+    @Mock
+    private AuthRevokedAccessTokenRepository authRevokedAccessTokenRepository;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    private MutableClock clock;
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        revocationList = new AccessTokenRevocationList(authRevokedAccessTokenRepository, schedulerLockService, 100, 600_000L, clock);
+    }
+
+    @Test
+    @DisplayName("기동 시 한 번 적재하고 이후 확인은 DB 를 조회하지 않는다")
+    void loadsOnStartup() {
+        when(authRevokedAccessTokenRepository.findActiveAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "revoked-jti", NOW.plusSeconds(600))));
+
+        revocationList.loadOnStartup();
+
+        assertThat(revocationList.isRevoked("revoked-jti")).isTrue();
+        assertThat(revocationList.isRevoked("other-jti")).isFalse();
+        assertThat(revocationList.isRevoked("revoked-jti")).isTrue();
+
+        verify(authRevokedAccessTokenRepository, times(1)).findActiveAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에서 폐기하면 갱신을 기다리지 않고 바로 거부한다")
+    void revokeAppliesLocally() {
+        when(authRevokedAccessTokenRepository.findActiveAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        AuthenticatedUser user = new AuthenticatedUser(1L, "user@example.com", "USER", "jti-1", NOW.plusSeconds(600), null);
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked("jti-1")).isFalse();
+        assertThat(revocationList.revoke(user)).isTrue();
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        verify(authRevokedAccessTokenRepository).insertIgnore("jti-1", 1L, LocalDateTime.of(2026, 3, 1, 0, 10));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 요청 스레드에서 DB 를 읽지 않고 503 으로 거절한다")
+    void rejectsBeforeLoaded() {
+        when(authRevokedAccessTokenRepository.findActiveAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("db down"));
+        revocationList.loadOnStartup();
+
+        assertThatThrownBy(() -> revocationList.isRevoked("jti-1"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        verify(authRevokedAccessTokenRepository, times(1)).findActiveAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("jti 가 없거나 이미 만료된 토큰은 기록하지 않는다")
+    void skipsUnrevocableTokens() {
+        assertThat(revocationList.revoke(new AuthenticatedUser(1L, "a@example.com", "USER", null, NOW.plusSeconds(600), null))).isFalse();
+        assertThat(revocationList.revoke(new AuthenticatedUser(1L, "a@example.com", "USER", "jti-1", NOW.minusSeconds(1), null))).isFalse();
+        assertThat(revocationList.revoke(null)).isFalse();
+
+        verify(authRevokedAccessTokenRepository, never()).insertIgnore(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 최근 추가분만 겹치는 구간으로 읽어 다른 인스턴스의 폐기를 반영한다")
+    void incrementalRefresh() {
+        when(authRevokedAccessTokenRepository.findActiveAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        revocationList.refresh();
+
+        clock.advance(Duration.ofSeconds(5));
+        when(authRevokedAccessTokenRepository.findActiveCreatedWithin(66L, LocalDateTime.of(2026, 3, 1, 0, 0, 5)))
+                .thenReturn(List.of(row(7L, "remote-jti", NOW.plusSeconds(900))));
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked("remote-jti")).isTrue();
+        verify(authRevokedAccessTokenRepository, times(1)).findActiveAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("재구성 주기가 지나면 만료되지 않은 행으로 새로 만든다")
+    void rebuildsAfterInterval() {
+        when(authRevokedAccessTokenRepository.findActiveAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "old-jti", NOW.plusSeconds(60))))
+                .thenReturn(List.of(row(2L, "new-jti", NOW.plusSeconds(1200))));
+        revocationList.refresh();
+        assertThat(revocationList.isRevoked("old-jti")).isTrue();
+
+        clock.advance(Duration.ofMinutes(10));
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked("old-jti")).isFalse();
+        assertThat(revocationList.isRevoked("new-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 행 정리는 배치가 가득 차는 동안 반복한다")
+    void purgeLoopsUntilDrained() {
+        when(authRevokedAccessTokenRepository.deleteExpired(any(LocalDateTime.class), anyInt())).thenReturn(1000, 1000, 10);
+
+        assertThat(revocationList.purge()).isEqualTo(2010);
+        verify(authRevokedAccessTokenRepository, times(3)).deleteExpired(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("bloom filter 는 넣은 값을 놓치지 않고 오탐률이 설정 근처에 머문다")
+    void bloomFilterHasNoFalseNegatives() {
+        JtiBloomFilter bloomFilter = JtiBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("revoked-" + i)).isTrue();
+            if (bloomFilter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private RevokedTokenProjection row(Long id, String jti, Instant expiresAt) {
+        return new RevokedTokenRow(id, jti, LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+    }
+
+    private record RevokedTokenRow(Long id, String jti, LocalDateTime expiresAt) implements RevokedTokenProjection {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getJti() {
+            return jti;
+        }
+
+        @Override
+        public LocalDateTime getExpiresAt() {
+            return expiresAt;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
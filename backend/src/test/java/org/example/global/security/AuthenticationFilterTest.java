@@ -0,0 +1,77 @@
+package org.example.global.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @InjectMocks
+    private AuthenticationFilter authenticationFilter;
+
+    @AfterEach
+    void tearDown() {
+        RequestPrincipal.clear();
+    }
+
+    @Test
+    @DisplayName("Bearer 토큰을 검증해 요청 동안 principal 로 두고 끝나면 비운다")
+    void setsPrincipalDuringRequest() throws Exception {
+        AuthenticatedUser user = new AuthenticatedUser(1L, "user@example.com", "USER", "jti-1", Instant.now().plusSeconds(60), null);
+        when(jwtTokenProvider.authenticate("token")).thenReturn(user);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        AtomicReference<Long> seenUserId = new AtomicReference<>();
+
+        authenticationFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seenUserId.set(RequestPrincipal.currentUserId()));
+
+        assertThat(seenUserId.get()).isEqualTo(1L);
+        assertThat(RequestPrincipal.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 principal 없이 통과시킨다")
+    void passesThroughInvalidToken() throws Exception {
+        when(jwtTokenProvider.authenticate("bad"))
+                .thenThrow(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer bad");
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        authenticationFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            chained.set(true);
+            assertThat(RequestPrincipal.get()).isNull();
+        });
+
+        assertThat(chained.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더가 없으면 토큰 검증을 하지 않는다")
+    void skipsWithoutHeader() throws Exception {
+        authenticationFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (req, res) -> assertThat(RequestPrincipal.get()).isNull());
+
+        verifyNoInteractions(jwtTokenProvider);
+    }
+}
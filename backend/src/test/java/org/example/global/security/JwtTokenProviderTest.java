@@ -0,0 +1,185 @@
+package org.example.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-signing-0123456789";
+
+    @Mock
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    private MutableClock clock;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 100, accessTokenRevocationList, clock);
+    }
+
+    @Test
+    @DisplayName("검증한 토큰은 만료 전까지 캐시된 클레임을 그대로 돌려준다")
+    void returnsCachedClaims() {
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "USER");
+
+        AuthenticatedUser first = jwtTokenProvider.authenticate(token);
+        AuthenticatedUser second = jwtTokenProvider.authenticate(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.userId()).isEqualTo(1L);
+        assertThat(first.email()).isEqualTo("user@example.com");
+        assertThat(first.role()).isEqualTo("USER");
+        assertThat(first.expiresAt()).isEqualTo(Instant.parse("2026-03-01T00:30:00Z"));
+        assertThat(first.tokenId()).isNotBlank();
+        assertThat(jwtTokenProvider.extractUserId(token)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이라도 폐기되면 401")
+    void rejectsRevokedCachedToken() {
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "USER");
+        AuthenticatedUser user = jwtTokenProvider.authenticate(token);
+
+        when(accessTokenRevocationList.isRevoked(user.tokenId())).thenReturn(true);
+
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("팀 클레임을 실어 발급하면 검증 후 팀 역할과 버전을 그대로 돌려준다")
+    void roundTripsTeamClaims() {
+        String token = jwtTokenProvider.createAccessToken(
+                1L, "user@example.com", "USER", new TeamClaims(7L, Map.of(10L, "OWNER", 20L, "MEMBER"))
+        );
+
+        TeamClaims teams = jwtTokenProvider.authenticate(token).teams();
+
+        assertThat(teams.version()).isEqualTo(7L);
+        assertThat(teams.roles()).containsExactlyInAnyOrderEntriesOf(Map.of(10L, "OWNER", 20L, "MEMBER"));
+        assertThat(teams.isMember(10L)).isTrue();
+        assertThat(teams.isMember(30L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("팀 클레임 없이 발급한 토큰은 teams 가 null")
+    void tokenWithoutTeamClaims() {
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "USER");
+
+        assertThat(jwtTokenProvider.authenticate(token).teams()).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰마다 다른 jti 를 발급한다")
+    void issuesDistinctTokenIds() {
+        String first = jwtTokenProvider.createAccessToken(1L, "user@example.com", "USER");
+        String second = jwtTokenProvider.createAccessToken(1L, "user@example.com", "USER");
+
+        assertThat(jwtTokenProvider.authenticate(first).tokenId())
+                .isNotEqualTo(jwtTokenProvider.authenticate(second).tokenId());
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 exp 가 지나면 다시 검증해 401")
+    void rejectsCachedTokenAfterExpiry() {
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "USER");
+        jwtTokenProvider.authenticate(token);
+
+        clock.advance(Duration.ofMinutes(31));
+
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시에 들어가지 않고 401")
+    void rejectsTamperedToken() {
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "USER");
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(tampered))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(tampered))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 401")
+    void rejectsForeignSignature() {
+        JwtTokenProvider other = new JwtTokenProvider(SECRET + "-other", 1800, 100, accessTokenRevocationList, clock);
+        String token = other.createAccessToken(1L, "user@example.com", "USER");
+
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(token))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 401")
+    void rejectsBlankToken() {
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(" "))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("캐시 상한을 넘어도 새 토큰은 정상 검증된다")
+    void boundedCache() {
+        JwtTokenProvider small = new JwtTokenProvider(SECRET, 1800, 2, accessTokenRevocationList, clock);
+
+        for (long userId = 1; userId <= 5; userId++) {
+            String token = small.createAccessToken(userId, "u" + userId + "@example.com", "USER");
+            assertThat(small.authenticate(token).userId()).isEqualTo(userId);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private MutableClock clock;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-03-02T00:00:00Z"));
+        loginThrottle = new LoginThrottle(3, 900, 5, 60, 1000, clock);
+    }
+
+    @Test
+    @DisplayName("계정 실패가 한도에 닿으면 구간이 끝날 때까지 429")
+    void locksAccountAfterFailures() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.checkAttempt("login:1", null);
+            loginThrottle.recordFailure("login:1");
+        }
+
+        assertThatThrownBy(() -> loginThrottle.checkAttempt("login:1", null))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThatCode(() -> loginThrottle.checkAttempt("login:2", null)).doesNotThrowAnyException();
+
+        clock.advance(Duration.ofMinutes(15));
+        assertThatCode(() -> loginThrottle.checkAttempt("login:1", null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("상한을 넘어도 최근 쓴 잠금 구간은 지우지 않고 가장 오래된 항목만 밀어낸다")
+    void keepsRecentLockoutWhenFull() {
+        LoginThrottle throttle = new LoginThrottle(3, 900, 0, 60, 2, clock);
+        throttle.recordFailure("login:2");
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("login:1");
+        }
+
+        throttle.recordFailure("login:3");
+
+        assertThatThrownBy(() -> throttle.checkAttempt("login:1", null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("성공하면 계정 실패 횟수를 초기화한다")
+    void successResetsFailures() {
+        loginThrottle.recordFailure("login:1");
+        loginThrottle.recordFailure("login:1");
+        loginThrottle.recordSuccess("login:1");
+        loginThrottle.recordFailure("login:1");
+
+        assertThatCode(() -> loginThrottle.checkAttempt("login:1", null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("IP 한도가 0이면 IP 로는 제한하지 않는다")
+    void ipLimitDisabledByDefault() {
+        LoginThrottle throttle = new LoginThrottle(3, 900, 0, 60, 1000, clock);
+
+        for (int i = 0; i < 100; i++) {
+            throttle.checkAttempt("login:" + (100 + i), "10.0.0.1");
+        }
+
+        assertThatCode(() -> throttle.checkAttempt("login:99", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("IP 시도는 성공·실패와 무관하게 세고, 구간이 지나면 다시 허용한다")
+    void limitsAttemptsPerIp() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.checkAttempt("login:" + (100 + i), "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> loginThrottle.checkAttempt("login:98", "10.0.0.1"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatCode(() -> loginThrottle.checkAttempt("login:98", "10.0.0.2")).doesNotThrowAnyException();
+
+        clock.advance(Duration.ofSeconds(60));
+        loginThrottle.removeExpired();
+        assertThatCode(() -> loginThrottle.checkAttempt("login:98", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.global.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시하고 완료 건수와 해시 시간을 집계한다")
+    void hashesOnDedicatedThread() {
+        passwordHashingService = new PasswordHashingService(new ThreadRecordingEncoder(), 1, 4, 1000, System::nanoTime);
+
+        String encoded = passwordHashingService.encode("secret");
+
+        assertThat(encoded).startsWith("password-hash-").endsWith(":secret");
+        assertThat(passwordHashingService.matches("secret", "secret")).isTrue();
+        PasswordHashingStats stats = passwordHashingService.stats();
+        assertThat(stats.threads()).isEqualTo(1);
+        assertThat(stats.completed()).isEqualTo(2);
+        assertThat(stats.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 503")
+    void rejectsWhenQueueFull() throws Exception {
+        passwordHashingService = new PasswordHashingService(new BlockingEncoder(release), 1, 1, 5000, System::nanoTime);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordHashingService.matches("a", "a"));
+        CompletableFuture<Boolean> queued = null;
+        try {
+            waitUntil(() -> passwordHashingService.stats().active() == 1);
+            queued = CompletableFuture.supplyAsync(() -> passwordHashingService.matches("b", "b"));
+            waitUntil(() -> passwordHashingService.stats().queued() == 1);
+
+            assertThatThrownBy(() -> passwordHashingService.matches("c", "c"))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(passwordHashingService.stats().rejected()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 503 으로 돌려보내고 시간 초과로 집계한다")
+    void timesOutWhenWaitingTooLong() {
+        passwordHashingService = new PasswordHashingService(new BlockingEncoder(release), 1, 4, 50, System::nanoTime);
+
+        assertThatThrownBy(() -> passwordHashingService.matches("a", "a"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(passwordHashingService.stats().timedOut()).isEqualTo(1);
+    }
+
+    private void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 기다리다 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class ThreadRecordingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.contentEquals(rawPassword);
+        }
+    }
+
+    private static final class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch release;
+
+        private BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.contentEquals(rawPassword);
+        }
+
+        private void await() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
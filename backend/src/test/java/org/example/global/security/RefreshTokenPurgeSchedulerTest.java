@@ -0,0 +1,73 @@
+package org.example.global.security;
+
+import org.example.domain.auth.repository.AuthRefreshTokenRepository;
+import org.example.global.scheduler.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPurgeSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Mock
+    private AuthRefreshTokenRepository authRefreshTokenRepository;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    private RefreshTokenPurgeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneOffset.UTC);
+        scheduler = new RefreshTokenPurgeScheduler(authRefreshTokenRepository, schedulerLockService, 100, 3, 24, clock);
+    }
+
+    @Test
+    @DisplayName("만료 행은 현재 시각, 폐기 행은 보존 기간 이전 기준으로 배치가 가득 찬 동안 반복 삭제한다")
+    void drainsExpiredAndRevokedRows() {
+        when(authRefreshTokenRepository.deleteExpired(NOW, 100)).thenReturn(100, 40);
+        when(authRefreshTokenRepository.deleteRevoked(NOW.minusHours(24), 100)).thenReturn(5);
+
+        assertThat(scheduler.purge()).isEqualTo(145);
+        verify(authRefreshTokenRepository, times(2)).deleteExpired(NOW, 100);
+        verify(authRefreshTokenRepository, times(1)).deleteRevoked(NOW.minusHours(24), 100);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 삭제하는 청크 수는 상한을 넘지 않는다")
+    void stopsAtMaxChunks() {
+        when(authRefreshTokenRepository.deleteExpired(any(LocalDateTime.class), anyInt())).thenReturn(100);
+        when(authRefreshTokenRepository.deleteRevoked(any(LocalDateTime.class), anyInt())).thenReturn(0);
+
+        assertThat(scheduler.purge()).isEqualTo(300);
+        verify(authRefreshTokenRepository, times(3)).deleteExpired(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("만료 행 삭제가 실패해도 폐기 행 정리는 진행한다")
+    void continuesAfterFailure() {
+        when(authRefreshTokenRepository.deleteExpired(any(LocalDateTime.class), anyInt()))
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+        when(authRefreshTokenRepository.deleteRevoked(any(LocalDateTime.class), anyInt())).thenReturn(7);
+
+        assertThat(scheduler.purge()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.global.slack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.example.domain.notification.repository.NotificationRepository;
+import org.example.global.slack.entity.SlackOutboxMessage;
+import org.example.global.slack.entity.SlackOutboxStatus;
+import org.example.global.slack.repository.SlackOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlackOutboxDispatcherTest {
+
+    @Mock
+    private SlackOutboxRepository slackOutboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SlackRateLimiter slackRateLimiter;
+
+    private HttpServer slackStub;
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private final List<String> receivedAuthorizations = new CopyOnWriteArrayList<>();
+    private volatile int stubStatus = 200;
+    private volatile String stubBody = "{\"ok\":true}";
+    private volatile String stubRetryAfter;
+
+    private SlackOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        slackStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        slackStub.createContext("/api/chat.postMessage", exchange -> {
+            receivedAuthorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (stubRetryAfter != null) {
+                exchange.getResponseHeaders().add("Retry-After", stubRetryAfter);
+            }
+            byte[] response = stubBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(stubStatus, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        slackStub.start();
+
+        dispatcher = new SlackOutboxDispatcher(
+                slackOutboxRepository,
+                notificationRepository,
+                slackRateLimiter,
+                new ObjectMapper(),
+                "http://127.0.0.1:" + slackStub.getAddress().getPort() + "/api/chat.postMessage",
+                "xoxb-test",
+                2,
+                10,
+                3,
+                10,
+                1800,
+                120,
+                1000,
+                2000
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        slackStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("선점한 outbox 건을 워커가 발송하고 SENT 및 알림 slackSent 를 기록한다")
+    void dispatchDueSendsClaimedMessage() {
+        SlackOutboxMessage message = message(1L, 31L, 1);
+        when(slackOutboxRepository.findDispatchableIds(anyList(), eq(SlackOutboxStatus.SENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(1L));
+        when(slackOutboxRepository.claim(eq(1L), anyList(), eq(SlackOutboxStatus.SENDING), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(slackOutboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        int dispatched = dispatcher.dispatchDue();
+
+        assertThat(dispatched).isEqualTo(1);
+        verify(notificationRepository, timeout(3000)).markSlackSent(31L);
+        assertThat(message.getStatus()).isEqualTo(SlackOutboxStatus.SENT);
+        assertThat(message.getSentAt()).isNotNull();
+        assertThat(receivedAuthorizations).containsExactly("Bearer xoxb-test");
+        assertThat(receivedBodies).containsExactly("{\"channel\":\"C1\",\"text\":\"hello\"}");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 선점한 건은 발송하지 않는다")
+    void dispatchDueSkipsLostClaim() {
+        when(slackOutboxRepository.findDispatchableIds(anyList(), eq(SlackOutboxStatus.SENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(1L));
+        when(slackOutboxRepository.claim(eq(1L), anyList(), eq(SlackOutboxStatus.SENDING), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        assertThat(dispatcher.dispatchDue()).isZero();
+        verify(slackOutboxRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("429 응답은 Retry-After 이후로 재시도를 예약한다")
+    void rateLimitedResponseSchedulesRetry() {
+        stubStatus = 429;
+        stubBody = "{\"ok\":false,\"error\":\"ratelimited\"}";
+        stubRetryAfter = "30";
+        SlackOutboxMessage message = message(2L, null, 1);
+        when(slackOutboxRepository.findById(2L)).thenReturn(Optional.of(message));
+
+        dispatcher.deliver(2L);
+
+        ArgumentCaptor<SlackOutboxMessage> captor = ArgumentCaptor.forClass(SlackOutboxMessage.class);
+        verify(slackOutboxRepository).save(captor.capture());
+        SlackOutboxMessage saved = captor.getValue();
+        assertThat(saved.getStatus()).isEqualTo(SlackOutboxStatus.FAILED);
+        assertThat(saved.getLastError()).isEqualTo("HTTP 429");
+        assertThat(saved.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(25));
+        verify(notificationRepository, never()).markSlackSent(anyLong());
+        verify(slackRateLimiter).penalize("C1", 30L);
+    }
+
+    @Test
+    @DisplayName("채널 한도에 걸리면 대기하지 않고 선점을 풀어 토큰이 생길 시각으로 재예약한다")
+    void rateLimitedChannelReleasesClaim() {
+        SlackOutboxMessage message = message(5L, 50L, 2);
+        message.setLockedUntil(LocalDateTime.now().plusSeconds(120));
+        when(slackOutboxRepository.findById(5L)).thenReturn(Optional.of(message));
+        when(slackRateLimiter.tryAcquire("C1")).thenReturn(1500L);
+
+        dispatcher.deliver(5L);
+
+        assertThat(receivedBodies).isEmpty();
+        assertThat(message.getStatus()).isEqualTo(SlackOutboxStatus.PENDING);
+        assertThat(message.getAttemptCount()).isEqualTo(1);
+        assertThat(message.getLockedUntil()).isNull();
+        assertThat(message.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(1));
+        verify(slackOutboxRepository).save(message);
+    }
+
+    @Test
+    @DisplayName("재시도해도 성공할 수 없는 Slack 오류는 DEAD_LETTER 로 기록한다")
+    void permanentErrorGoesToDeadLetter() {
+        stubBody = "{\"ok\":false,\"error\":\"channel_not_found\"}";
+        SlackOutboxMessage message = message(3L, 40L, 1);
+        when(slackOutboxRepository.findById(3L)).thenReturn(Optional.of(message));
+
+        dispatcher.deliver(3L);
+
+        assertThat(message.getStatus()).isEqualTo(SlackOutboxStatus.DEAD_LETTER);
+        assertThat(message.getLastError()).isEqualTo("channel_not_found");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 일시 오류도 DEAD_LETTER 로 기록한다")
+    void transientErrorAfterMaxAttemptsGoesToDeadLetter() {
+        stubStatus = 503;
+        stubBody = "{}";
+        SlackOutboxMessage message = message(4L, null, 3);
+        when(slackOutboxRepository.findById(4L)).thenReturn(Optional.of(message));
+
+        dispatcher.deliver(4L);
+
+        assertThat(message.getStatus()).isEqualTo(SlackOutboxStatus.DEAD_LETTER);
+        assertThat(message.getLastError()).isEqualTo("HTTP 503");
+    }
+
+    private SlackOutboxMessage message(Long id, Long notificationId, int attemptCount) {
+        SlackOutboxMessage message = new SlackOutboxMessage();
+        message.setId(id);
+        message.setNotificationId(notificationId);
+        message.setChannel("C1");
+        message.setPayloadJson("{\"channel\":\"C1\",\"text\":\"hello\"}");
+        message.setStatus(SlackOutboxStatus.SENDING);
+        message.setAttemptCount(attemptCount);
+        message.setNextAttemptAt(LocalDateTime.now());
+        return message;
+    }
+}
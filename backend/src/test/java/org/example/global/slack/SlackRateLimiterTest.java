@@ -0,0 +1,68 @@
+package org.example.global.slack;
+
+import org.example.global.slack.repository.SlackChannelRateLimitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlackRateLimiterTest {
+
+    @Mock
+    private SlackChannelRateLimitRepository slackChannelRateLimitRepository;
+
+    private SlackRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // 초당 1건, 버스트 3 → 간격 1초, 허용 범위 2초
+        rateLimiter = new SlackRateLimiter(slackChannelRateLimitRepository, 1.0, 3);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 로 토큰을 얻으면 대기 없이 통과한다")
+    void acquiresWithSingleUpdate() {
+        when(slackChannelRateLimitRepository.tryAcquire("C1", 1_000_000L, 2_000_000L)).thenReturn(1);
+
+        assertThat(rateLimiter.tryAcquire("C1")).isZero();
+        verify(slackChannelRateLimitRepository, never()).findMicrosUntilTheoretical("C1");
+    }
+
+    @Test
+    @DisplayName("한도에 걸리면 허용 범위를 뺀 남은 시간을 밀리초로 돌려준다")
+    void returnsRemainingWait() {
+        when(slackChannelRateLimitRepository.tryAcquire("C1", 1_000_000L, 2_000_000L)).thenReturn(0);
+        when(slackChannelRateLimitRepository.findMicrosUntilTheoretical("C1")).thenReturn(Optional.of(2_750_000L));
+
+        assertThat(rateLimiter.tryAcquire("C1")).isEqualTo(751L);
+    }
+
+    @Test
+    @DisplayName("처음 보는 채널은 행을 만든 뒤 다시 시도한다")
+    void createsRowForNewChannel() {
+        when(slackChannelRateLimitRepository.tryAcquire("C2", 1_000_000L, 2_000_000L)).thenReturn(0, 1);
+        when(slackChannelRateLimitRepository.findMicrosUntilTheoretical("C2")).thenReturn(Optional.empty());
+
+        assertThat(rateLimiter.tryAcquire("C2")).isZero();
+        verify(slackChannelRateLimitRepository).insertIgnore("C2");
+    }
+
+    @Test
+    @DisplayName("429 Retry-After 를 받으면 그 시간 동안 토큰이 나가지 않도록 이론 시각을 미룬다")
+    void penalizeDelaysChannel() {
+        rateLimiter.penalize("C1", 5);
+
+        verify(slackChannelRateLimitRepository).insertIgnore("C1");
+        verify(slackChannelRateLimitRepository).delay("C1", 7_000_000L);
+    }
+}
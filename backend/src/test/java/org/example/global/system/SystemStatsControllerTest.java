@@ -0,0 +1,80 @@
+package org.example.global.system;
+
+import org.example.global.github.GitHubWebhookDispatcher;
+import org.example.global.github.GitHubWebhookWorkerStats;
+import org.example.global.security.AuthenticatedUser;
+import org.example.global.security.PasswordHashingService;
+import org.example.global.security.PasswordHashingStats;
+import org.example.global.security.RequestPrincipal;
+import org.example.global.team.TeamMembershipCache;
+import org.example.global.team.TeamMembershipCacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = SystemStatsController.class, properties = "app.system.admin-user-ids=1, 2")
+class SystemStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GitHubWebhookDispatcher gitHubWebhookDispatcher;
+
+    @MockBean
+    private TeamMembershipCache teamMembershipCache;
+
+    @MockBean
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        RequestPrincipal.clear();
+    }
+
+    @Test
+    @DisplayName("운영 관리자로 등록된 사용자는 인스턴스 구성요소 상태를 조회한다")
+    void returnsStatsForAdmin() throws Exception {
+        RequestPrincipal.set(principal(2L, "DEVELOPER"));
+        when(gitHubWebhookDispatcher.stats()).thenReturn(new GitHubWebhookWorkerStats(2, 1, 10, 0, 7, 1, 2, 3, 40, 120));
+        when(teamMembershipCache.stats()).thenReturn(new TeamMembershipCacheStats(5, 90, 10, 0.9));
+        when(passwordHashingService.stats()).thenReturn(new PasswordHashingStats(4, 1, 0, 30, 2, 0, 1.5, 12.0, 80.0));
+
+        mockMvc.perform(get("/api/system/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.githubWebhookWorker.queueDepth").value(2))
+                .andExpect(jsonPath("$.githubWebhookWorker.succeeded").value(7))
+                .andExpect(jsonPath("$.githubWebhookWorker.skipped").value(2))
+                .andExpect(jsonPath("$.teamMembershipCache.hits").value(90))
+                .andExpect(jsonPath("$.teamMembershipCache.hitRate").value(0.9))
+                .andExpect(jsonPath("$.passwordHashing.completed").value(30))
+                .andExpect(jsonPath("$.passwordHashing.rejected").value(2));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 사용자는 PM 이라도 403")
+    void rejectsNonAdminEvenIfPm() throws Exception {
+        RequestPrincipal.set(principal(3L, "PM"));
+
+        mockMvc.perform(get("/api/system/stats"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(gitHubWebhookDispatcher, teamMembershipCache, passwordHashingService);
+    }
+
+    private AuthenticatedUser principal(Long userId, String role) {
+        return new AuthenticatedUser(userId, "user@example.com", role, "jti-1", Instant.now().plusSeconds(600), null);
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.global.team;
+
+import org.example.global.security.AuthenticatedUser;
+import org.example.global.security.JwtTokenProvider;
+import org.example.global.security.RequestPrincipal;
+import org.example.global.security.TeamClaims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamAccessInterceptorTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private TeamMembershipCache teamMembershipCache;
+
+    @InjectMocks
+    private TeamAccessInterceptor teamAccessInterceptor;
+
+    @AfterEach
+    void tearDown() {
+        RequestPrincipal.clear();
+        TeamRequestContext.clear();
+    }
+
+    @Test
+    @DisplayName("토큰 팀 클레임의 버전이 최신이면 멤버십 조회 없이 허용한다")
+    void authorizesFromTokenClaims() {
+        RequestPrincipal.set(principal(new TeamClaims(3L, Map.of(10L, "MEMBER"))));
+        when(teamMembershipCache.membershipVersion(1L)).thenReturn(3L);
+
+        boolean allowed = teamAccessInterceptor.preHandle(request(10L), new MockHttpServletResponse(), new Object());
+
+        assertThat(allowed).isTrue();
+        verify(teamMembershipCache, never()).isMember(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 팀 클레임에 없는 팀이면 403")
+    void rejectsTeamMissingFromClaims() {
+        RequestPrincipal.set(principal(new TeamClaims(3L, Map.of(10L, "MEMBER"))));
+        when(teamMembershipCache.membershipVersion(1L)).thenReturn(3L);
+
+        assertThatThrownBy(() -> teamAccessInterceptor.preHandle(request(20L), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("토큰의 멤버십 버전이 현재보다 낮으면 401 로 토큰 갱신을 요구한다")
+    void requiresRefreshWhenTokenVersionIsOlder() {
+        RequestPrincipal.set(principal(new TeamClaims(3L, Map.of(10L, "MEMBER"))));
+        when(teamMembershipCache.membershipVersion(1L)).thenReturn(4L);
+
+        assertThatThrownBy(() -> teamAccessInterceptor.preHandle(request(10L), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(teamMembershipCache, never()).reloadMembershipVersion(anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 버전이 캐시보다 높으면 DB 에서 다시 읽어 맞으면 허용한다")
+    void reloadsVersionWhenTokenIsNewer() {
+        RequestPrincipal.set(principal(new TeamClaims(5L, Map.of(10L, "MEMBER"))));
+        when(teamMembershipCache.membershipVersion(1L)).thenReturn(4L);
+        when(teamMembershipCache.reloadMembershipVersion(1L)).thenReturn(5L);
+
+        assertThat(teamAccessInterceptor.preHandle(request(10L), new MockHttpServletResponse(), new Object())).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 에서 다시 읽어도 토큰 버전과 다르면 401")
+    void rejectsWhenReloadedVersionDiffers() {
+        RequestPrincipal.set(principal(new TeamClaims(5L, Map.of(10L, "MEMBER"))));
+        when(teamMembershipCache.membershipVersion(1L)).thenReturn(-1L);
+        when(teamMembershipCache.reloadMembershipVersion(1L)).thenReturn(-1L);
+
+        assertThatThrownBy(() -> teamAccessInterceptor.preHandle(request(10L), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("팀 클레임이 없는 토큰은 멤버십 캐시로 확인한다")
+    void fallsBackToMembershipCache() {
+        RequestPrincipal.set(principal(null));
+        when(teamMembershipCache.isMember(1L, 10L)).thenReturn(true);
+
+        assertThat(teamAccessInterceptor.preHandle(request(10L), new MockHttpServletResponse(), new Object())).isTrue();
+        verify(teamMembershipCache, never()).membershipVersion(anyLong());
+    }
+
+    private AuthenticatedUser principal(TeamClaims teams) {
+        return new AuthenticatedUser(1L, "user@example.com", "DEVELOPER", "jti-1", Instant.now().plusSeconds(600), teams);
+    }
+
+    private MockHttpServletRequest request(Long teamId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/work-requests");
+        request.addHeader("Authorization", "Bearer token");
+        request.addHeader("X-Team-Id", String.valueOf(teamId));
+        return request;
+    }
+}
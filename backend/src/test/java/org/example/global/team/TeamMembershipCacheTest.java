@@ -0,0 +1,164 @@
+package org.example.global.team;
+
+import org.example.domain.team.repository.UserTeamRepository;
+import org.example.domain.user.repository.PortalUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamMembershipCacheTest {
+
+    @Mock
+    private UserTeamRepository userTeamRepository;
+
+    @Mock
+    private PortalUserRepository portalUserRepository;
+
+    private MutableClock clock;
+    private TeamMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+        cache = new TeamMembershipCache(userTeamRepository, portalUserRepository, 100, 30, clock);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 같은 (userId, teamId) 를 다시 조회하지 않고 적중률에 반영한다")
+    void cachesWithinTtl() {
+        when(userTeamRepository.existsByUserIdAndTeamId(1L, 10L)).thenReturn(true);
+
+        assertThat(cache.isMember(1L, 10L)).isTrue();
+        assertThat(cache.isMember(1L, 10L)).isTrue();
+        assertThat(cache.isMember(1L, 10L)).isTrue();
+
+        verify(userTeamRepository, times(1)).existsByUserIdAndTeamId(1L, 10L);
+        TeamMembershipCacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 조회한다")
+    void reloadsAfterTtl() {
+        when(userTeamRepository.existsByUserIdAndTeamId(1L, 10L)).thenReturn(true, false);
+
+        assertThat(cache.isMember(1L, 10L)).isTrue();
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(cache.isMember(1L, 10L)).isFalse();
+        verify(userTeamRepository, times(2)).existsByUserIdAndTeamId(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("비멤버 결과도 캐시하되 가입 후 무효화하면 바로 멤버로 본다")
+    void invalidateAfterJoin() {
+        when(userTeamRepository.existsByUserIdAndTeamId(1L, 10L)).thenReturn(false, true);
+
+        assertThat(cache.isMember(1L, 10L)).isFalse();
+        assertThat(cache.isMember(1L, 10L)).isFalse();
+        cache.invalidate(1L, 10L);
+
+        assertThat(cache.isMember(1L, 10L)).isTrue();
+        verify(userTeamRepository, times(2)).existsByUserIdAndTeamId(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화가 일어나면 그 결과는 캐시에 넣지 않는다")
+    void skipsCachingWhenInvalidatedDuringLoad() {
+        when(userTeamRepository.existsByUserIdAndTeamId(1L, 10L)).thenAnswer(invocation -> {
+            cache.invalidate(1L, 10L);
+            return true;
+        });
+
+        assertThat(cache.isMember(1L, 10L)).isTrue();
+        assertThat(cache.isMember(1L, 10L)).isTrue();
+
+        verify(userTeamRepository, times(2)).existsByUserIdAndTeamId(1L, 10L);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("멤버십 버전도 TTL 동안 캐시하고, 멤버십 무효화 때 함께 지운다")
+    void cachesMembershipVersion() {
+        when(portalUserRepository.findMembershipVersionById(1L)).thenReturn(Optional.of(3L), Optional.of(4L));
+
+        assertThat(cache.membershipVersion(1L)).isEqualTo(3L);
+        assertThat(cache.membershipVersion(1L)).isEqualTo(3L);
+        cache.invalidate(1L, 10L);
+
+        assertThat(cache.membershipVersion(1L)).isEqualTo(4L);
+        verify(portalUserRepository, times(2)).findMembershipVersionById(1L);
+    }
+
+    @Test
+    @DisplayName("멤버십 버전을 다시 읽으면 TTL 과 무관하게 DB 값으로 캐시를 바꾼다")
+    void reloadsMembershipVersion() {
+        when(portalUserRepository.findMembershipVersionById(1L)).thenReturn(Optional.of(3L), Optional.of(4L));
+
+        assertThat(cache.membershipVersion(1L)).isEqualTo(3L);
+        assertThat(cache.reloadMembershipVersion(1L)).isEqualTo(4L);
+        assertThat(cache.membershipVersion(1L)).isEqualTo(4L);
+        verify(portalUserRepository, times(2)).findMembershipVersionById(1L);
+    }
+
+    @Test
+    @DisplayName("없는 사용자의 멤버십 버전은 -1")
+    void missingUserVersion() {
+        when(portalUserRepository.findMembershipVersionById(9L)).thenReturn(Optional.empty());
+
+        assertThat(cache.membershipVersion(9L)).isEqualTo(-1L);
+        assertThat(cache.membershipVersion(null)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("userId 나 teamId 가 없으면 조회 없이 비멤버")
+    void nullIds() {
+        assertThat(cache.isMember(null, 10L)).isFalse();
+        assertThat(cache.isMember(1L, null)).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
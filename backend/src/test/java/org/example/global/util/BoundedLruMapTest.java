@@ -0,0 +1,54 @@
+package org.example.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedLruMapTest {
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 쓰지 않은 항목 하나만 밀어낸다")
+    void evictsLeastRecentlyUsedOneAtATime() {
+        BoundedLruMap<String, Integer> map = new BoundedLruMap<>(3);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.get("a");
+
+        map.put("d", 4);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get("b")).isNull();
+        assertThat(map.get("a")).isEqualTo(1);
+        assertThat(map.get("c")).isEqualTo(3);
+        assertThat(map.get("d")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("compute 로 새 키를 넣어도 상한을 지킨다")
+    void computeRespectsLimit() {
+        BoundedLruMap<String, Integer> map = new BoundedLruMap<>(2);
+        map.compute("a", (key, value) -> 1);
+        map.compute("b", (key, value) -> 1);
+        map.compute("a", (key, value) -> value + 1);
+
+        map.compute("c", (key, value) -> 1);
+
+        assertThat(map.get("a")).isEqualTo(2);
+        assertThat(map.get("b")).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 항목만 지우고 지운 개수를 돌려준다")
+    void removeIfReturnsRemovedCount() {
+        BoundedLruMap<String, Integer> map = new BoundedLruMap<>(10);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        assertThat(map.removeIf(value -> value >= 2)).isEqualTo(2);
+        assertThat(map.get("a")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채번 잠금 모델 시뮬레이션. MySQL 이 아니라 InMemoryDocumentSequences 의 행 잠금 흉내 위에서 돌리며,
+ * 생성 트랜잭션마다 채번 뒤 나머지 작업은 CALLER_WORK_MILLIS 만큼 sleep 으로 대신한다.
+ * gapless 는 커밋까지 시퀀스 행 잠금을 잡아 직렬화되고, 블록 할당은 예약 순간에만 잠근다는 상대 비교만 보여 준다.
+ * 출력 수치는 실제 DB 의 문서 생성 처리량이 아니다.
+ * 실행: gradle benchmark
+ */
+@Tag("benchmark")
+class DocumentNoGeneratorBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int CREATIONS_PER_THREAD = 50;
+    private static final long CALLER_WORK_MILLIS = 2L;
+
+    @Test
+    @DisplayName("시뮬레이션에서 블록 할당은 gapless 보다 시퀀스 잠금 대기가 짧다")
+    void compareThroughput() throws Exception {
+        double gapless = run("");
+        double segment = run("WR");
+
+        System.out.printf("document-no 채번 잠금 시뮬레이션 (in-memory, threads=%d, creations=%d, callerWork=%dms)%n",
+                THREADS, THREADS * CREATIONS_PER_THREAD, CALLER_WORK_MILLIS);
+        System.out.printf("  gapless : %8.1f ops/s (simulated)%n", gapless);
+        System.out.printf("  segment : %8.1f ops/s (simulated, x%.1f)%n", segment, segment / gapless);
+
+        assertThat(segment).isGreaterThan(gapless * 2);
+    }
+
+    private double run(String segmentPrefixes) throws Exception {
+        InMemoryDocumentSequences sequences = new InMemoryDocumentSequences();
+        DocumentNoGenerator generator = new DocumentNoGenerator(
+                sequences.jdbcTemplate, sequences.transactionManager,
+                sequences.jdbcTemplate, sequences.separateTransactionManager, 50, segmentPrefixes);
+        TransactionTemplate caller = new TransactionTemplate(sequences.transactionManager);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CREATIONS_PER_THREAD; i++) {
+                        caller.executeWithoutResult(status -> {
+                            issued.add(generator.next("WR"));
+                            sleep(CALLER_WORK_MILLIS);
+                        });
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            assertThat(issued).hasSize(THREADS * CREATIONS_PER_THREAD);
+            return issued.size() / elapsedSeconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentNoGeneratorTest {
+
+    private final InMemoryDocumentSequences sequences = new InMemoryDocumentSequences();
+
+    private DocumentNoGenerator generator(int blockSize, String segmentPrefixes) {
+        return new DocumentNoGenerator(sequences.jdbcTemplate, sequences.transactionManager,
+                sequences.jdbcTemplate, sequences.separateTransactionManager, blockSize, segmentPrefixes);
+    }
+
+    @Test
+    @DisplayName("블록을 한 번 예약하고 메모리 카운터로 연속 번호를 발급한다")
+    void issuesFromReservedBlock() {
+        DocumentNoGenerator generator = generator(20, "wr");
+
+        assertThat(generator.next("wr")).isEqualTo("WR-001");
+        assertThat(generator.next("WR")).isEqualTo("WR-002");
+        assertThat(generator.next("WR")).isEqualTo("WR-003");
+        assertThat(sequences.lastSeq("WR")).isEqualTo(20);
+        assertThat(sequences.isLocked("WR")).isFalse();
+    }
+
+    @Test
+    @DisplayName("블록을 다 쓰면 다음 블록을 예약한다")
+    void reservesNextBlockWhenExhausted() {
+        DocumentNoGenerator generator = generator(2, "TK");
+
+        List<String> issued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            issued.add(generator.next("TK"));
+        }
+
+        assertThat(issued).containsExactly("TK-001", "TK-002", "TK-003", "TK-004", "TK-005");
+        assertThat(sequences.lastSeq("TK")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("인스턴스마다 다른 블록을 받아 번호가 겹치지 않는다")
+    void separateBlocksPerInstance() {
+        DocumentNoGenerator first = generator(2, "DF");
+        DocumentNoGenerator second = generator(2, "DF");
+
+        assertThat(first.next("DF")).isEqualTo("DF-001");
+        assertThat(second.next("DF")).isEqualTo("DF-003");
+        assertThat(first.next("DF")).isEqualTo("DF-002");
+        assertThat(first.next("DF")).isEqualTo("DF-005");
+    }
+
+    @Test
+    @DisplayName("호출자 트랜잭션 안에서도 블록 예약은 독립 트랜잭션으로 끝나 시퀀스 행 잠금을 남기지 않는다")
+    void segmentReservationDoesNotHoldCallerLock() {
+        DocumentNoGenerator generator = generator(10, "DP");
+        TransactionTemplate caller = new TransactionTemplate(sequences.transactionManager);
+
+        caller.executeWithoutResult(status -> {
+            assertThat(generator.next("DP")).isEqualTo("DP-001");
+            assertThat(sequences.isLocked("DP")).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("segment 로 지정하지 않은 접두어는 호출자 트랜잭션 안에서 한 건씩 채번하고 커밋까지 잠금을 유지한다")
+    void gaplessByDefault() {
+        DocumentNoGenerator generator = generator(10, "wr, TS");
+        TransactionTemplate caller = new TransactionTemplate(sequences.transactionManager);
+
+        caller.executeWithoutResult(status -> {
+            assertThat(generator.next("DP")).isEqualTo("DP-001");
+            assertThat(generator.next("DP")).isEqualTo("DP-002");
+            assertThat(sequences.lastSeq("DP")).isEqualTo(2);
+            assertThat(sequences.isLocked("DP")).isTrue();
+        });
+
+        assertThat(sequences.isLocked("DP")).isFalse();
+        assertThat(generator.next("WR")).isEqualTo("WR-001");
+        assertThat(sequences.lastSeq("WR")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("동시에 채번해도 번호가 중복되지 않는다")
+    void concurrentIssuesAreUnique() throws Exception {
+        DocumentNoGenerator generator = generator(7, "WR");
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        issued.add(generator.next("WR"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued).hasSize(1600);
+        Set<Integer> numbers = new HashSet<>();
+        issued.forEach(docNo -> numbers.add(Integer.parseInt(docNo.substring(3))));
+        assertThat(numbers).allMatch(number -> number >= 1 && number <= sequences.lastSeq("WR"));
+    }
+
+    @Test
+    @DisplayName("접두어가 비었거나 5자를 넘으면 예외")
+    void rejectsInvalidPrefix() {
+        DocumentNoGenerator generator = generator(10, "");
+
+        assertThatThrownBy(() -> generator.next(" ")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> generator.next("ABCDEF")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
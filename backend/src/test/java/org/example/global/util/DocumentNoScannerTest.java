@@ -0,0 +1,42 @@
+package org.example.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentNoScannerTest {
+
+    private final DocumentNoScanner scanner = new DocumentNoScanner(List.of("WR", "TK", "DF"));
+
+    @Test
+    @DisplayName("여러 본문에서 등록된 접두어의 문서번호를 정규화해 순서대로 추출한다")
+    void scanExtractsCanonicalDocNos() {
+        Set<String> docNos = scanner.scan(
+                "WR-012 관련해서 tk-44를 먼저 처리하고",
+                null,
+                "DF-101, WR-12 재확인"
+        );
+
+        assertThat(docNos).containsExactly("WR-012", "TK-044", "DF-101");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 접두어나 단어 중간에 붙은 번호는 무시한다")
+    void scanIgnoresUnknownPrefixAndEmbeddedTokens() {
+        Set<String> docNos = scanner.scan("XX-001 AWR-002 WR-0 WR- WR-1234567890 TK-7a DF-3");
+
+        assertThat(docNos).containsExactly("DF-003");
+    }
+
+    @Test
+    @DisplayName("접두어가 비어 있으면 생성할 수 없다")
+    void rejectsBlankPrefix() {
+        assertThatThrownBy(() -> new DocumentNoScanner(List.of(" ")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
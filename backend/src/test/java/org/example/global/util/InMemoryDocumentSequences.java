@@ -0,0 +1,118 @@
+package org.example.global.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * document_sequences 테이블과 트랜잭션을 흉내 내는 테스트용 저장소.
+ * SELECT ... FOR UPDATE 는 행 잠금을 잡고, 잠금은 그 잠금을 잡은 트랜잭션이 커밋·롤백될 때 풀린다.
+ */
+final class InMemoryDocumentSequences {
+
+    private final Map<String, Integer> rows = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> rowLocks = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<List<ReentrantLock>>> transactions = ThreadLocal.withInitial(ArrayDeque::new);
+
+    final JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+        @Override
+        public int update(String sql, Object... args) {
+            String prefix = (String) args[args.length - 1];
+            if (sql.startsWith("INSERT IGNORE")) {
+                return rows.putIfAbsent(prefix, 0) == null ? 1 : 0;
+            }
+            if (!rowLock(prefix).isHeldByCurrentThread()) {
+                throw new IllegalStateException("row is not locked: " + prefix);
+            }
+            rows.put(prefix, (Integer) args[0]);
+            return 1;
+        }
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            String prefix = (String) args[0];
+            ReentrantLock lock = rowLock(prefix);
+            if (!lock.isHeldByCurrentThread()) {
+                Deque<List<ReentrantLock>> stack = transactions.get();
+                if (stack.isEmpty()) {
+                    throw new IllegalStateException("FOR UPDATE outside of transaction");
+                }
+                lock.lock();
+                stack.peek().add(lock);
+            }
+            return requiredType.cast(rows.get(prefix));
+        }
+    };
+
+    final PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            Deque<List<ReentrantLock>> stack = transactions.get();
+            int propagation = definition == null
+                    ? TransactionDefinition.PROPAGATION_REQUIRED
+                    : definition.getPropagationBehavior();
+            if (propagation == TransactionDefinition.PROPAGATION_REQUIRED && !stack.isEmpty()) {
+                return new SimpleTransactionStatus(false);
+            }
+            stack.push(new ArrayList<>());
+            return new SimpleTransactionStatus(true);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            end(status);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            end(status);
+        }
+
+        private void end(TransactionStatus status) {
+            if (status.isNewTransaction()) {
+                transactions.get().pop().forEach(ReentrantLock::unlock);
+            }
+        }
+    };
+
+    // 별도 DataSource 의 트랜잭션처럼 호출자 트랜잭션과 무관하게 항상 새로 시작한다.
+    final PlatformTransactionManager separateTransactionManager = new PlatformTransactionManager() {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            transactions.get().push(new ArrayList<>());
+            return new SimpleTransactionStatus(true);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            transactions.get().pop().forEach(ReentrantLock::unlock);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            transactions.get().pop().forEach(ReentrantLock::unlock);
+        }
+    };
+
+    int lastSeq(String prefix) {
+        return rows.getOrDefault(prefix, 0);
+    }
+
+    boolean isLocked(String prefix) {
+        return rowLock(prefix).isLocked();
+    }
+
+    private ReentrantLock rowLock(String prefix) {
+        return rowLocks.computeIfAbsent(prefix, ignored -> new ReentrantLock());
+    }
+}
@@ -32,6 +32,7 @@ CREATE TABLE users (
     slack_user_id VARCHAR(50),
     is_active     TINYINT(1) NOT NULL DEFAULT 1,
     last_login_at DATETIME,
+    membership_version BIGINT NOT NULL DEFAULT 0, -- 팀 멤버십 변경 시 증가, access token 팀 클레임 검증용
     created_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     UNIQUE KEY uq_users_slack_user_id (slack_user_id)
@@ -62,6 +63,7 @@ CREATE TABLE user_preferences (
 -- =====================================================
 -- 2-2. 인증 Refresh 토큰 (Auth Refresh Tokens)
 -- =====================================================
+-- 회전은 행을 새로 만들지 않고 token_hash/expires_at 을 갱신한다. 만료·폐기 행은 주기적으로 삭제한다.
 CREATE TABLE auth_refresh_tokens (
     id          BIGINT AUTO_INCREMENT PRIMARY KEY,
     user_id     BIGINT NOT NULL,
@@ -73,8 +75,23 @@ CREATE TABLE auth_refresh_tokens (
 
     CONSTRAINT fk_auth_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     UNIQUE KEY uq_auth_refresh_tokens_token_hash (token_hash),
-    INDEX idx_auth_refresh_tokens_user_id (user_id),
-    INDEX idx_auth_refresh_tokens_expires_at (expires_at)
+    INDEX idx_auth_refresh_tokens_user_revoked (user_id, revoked_at),
+    INDEX idx_auth_refresh_tokens_expires_at (expires_at),
+    INDEX idx_auth_refresh_tokens_revoked_at (revoked_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 로그아웃으로 폐기한 access token. 인스턴스는 메모리(bloom filter + 정확 집합)로 복제해 요청마다 조회하지 않는다.
+CREATE TABLE auth_revoked_access_tokens (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    jti         CHAR(36) NOT NULL,
+    user_id     BIGINT NOT NULL,
+    expires_at  DATETIME NOT NULL,
+    created_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_auth_revoked_access_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY uq_auth_revoked_access_tokens_jti (jti),
+    INDEX idx_auth_revoked_access_tokens_expires_at (expires_at),
+    INDEX idx_auth_revoked_access_tokens_created_at (created_at)
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
 
 -- teams.created_by FK는 users 생성 이후에 연결
@@ -684,6 +701,8 @@ CREATE TABLE flow_ui_states (
 
 -- =====================================================
 -- 21. 문서번호 채번 (Document Sequences)
+-- last_seq 는 마지막으로 발급(예약)한 번호. 기본은 한 건씩 채번하고, app.document-no.segment-prefixes 접두어는
+-- 인스턴스가 block-size 개씩 블록으로 예약해 발급하므로 실제 발급된 마지막 번호보다 클 수 있다.
 -- 문서번호 형식: PREFIX-001 (예: WR-001)
 -- =====================================================
 CREATE TABLE document_sequences (